@@ -0,0 +1,75 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 스칼라 커널과 Vector API 커널의 1:N 내적 처리량을 비교하는 JMH 벤치마크
+ * 실행: gradle jmh -PjmhArgs="DotProductKernelBenchmark"
+ *
+ * @since 2025-06-03
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class DotProductKernelBenchmark {
+
+	@Param({"1536"})
+	private int dimension;
+
+	@Param({"10000"})
+	private int rows;
+
+	private float[] data;
+	private float[] query;
+	private DotProductKernel scalar;
+	private DotProductKernel vector;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		data = new float[rows * dimension];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (float) random.nextDouble(-1, 1);
+		}
+		query = new float[dimension];
+		for (int i = 0; i < dimension; i++) {
+			query[i] = (float) random.nextDouble(-1, 1);
+		}
+		scalar = new ScalarDotProductKernel();
+		vector = new VectorDotProductKernel();
+	}
+
+	@Benchmark
+	public float scalarKernel() {
+		return scan(scalar);
+	}
+
+	@Benchmark
+	public float vectorKernel() {
+		return scan(vector);
+	}
+
+	private float scan(DotProductKernel kernel) {
+		float best = Float.NEGATIVE_INFINITY;
+		for (int row = 0; row < rows; row++) {
+			best = Math.max(best, kernel.dot(query, 0, data, row * dimension, dimension));
+		}
+		return best;
+	}
+}
@@ -0,0 +1,23 @@
+package com.likelion.backendplus4.talkpick.backend.chat.application.port.in;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+
+/**
+ * Redis Stream에 기록된 채팅 메시지를 DB에 영구 저장하는 유스케이스입니다.
+ *
+ * @since 2025-06-06
+ */
+public interface ChatMessagePersistUseCase {
+
+    /**
+     * 채팅 메시지 묶음을 하나의 트랜잭션으로 저장합니다.
+     * 스트림 엔트리 ID가 이미 저장된 메시지는 건너뛰므로 같은 묶음을 다시 전달해도 중복 저장되지 않습니다.
+     *
+     * @param messages 스트림 엔트리 ID가 채워진 채팅 메시지 목록
+     * @return 새로 저장된 메시지 수
+     * @since 2025-06-06
+     */
+    int persist(List<ChatMessage> messages);
+}
@@ -6,4 +6,12 @@ public interface ChatRankingUseCase {
     PopularNewsResponse getTopNewsByCategory(String category);
 
     PopularNewsResponse getTopNewsAll();
-}
\ No newline at end of file
+
+    /**
+     * 카테고리별/전체 인기 채팅방 순위를 다시 계산해 메모리 스냅샷을 갱신하고,
+     * 순서가 바뀐 순위만 구독자에게 전송합니다.
+     *
+     * @since 2025-06-06
+     */
+    void refreshRanking();
+}
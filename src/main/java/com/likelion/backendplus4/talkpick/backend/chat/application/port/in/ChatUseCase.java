@@ -4,6 +4,7 @@ package com.likelion.backendplus4.talkpick.backend.chat.application.port.in;
 import java.time.LocalDateTime;
 
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCatchUpResponse;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatMessageResponse;
 import com.likelion.backendplus4.talkpick.backend.common.response.SliceResponse;
 
@@ -44,5 +45,16 @@ public interface ChatUseCase {
      */
     SliceResponse<ChatMessageResponse> loadOlderMessages(String articleId, LocalDateTime before, int limit);
 
+    /**
+     * 재연결한 클라이언트가 마지막으로 받은 스트림 엔트리 ID 이후의 메시지만 조회합니다.
+     * 해당 엔트리가 이미 잘려 나갔거나 놓친 메시지가 한 페이지보다 많으면 최신 메시지 한 페이지 전체를 반환합니다.
+     *
+     * @param articleId    게시글 식별자
+     * @param lastStreamId 마지막으로 받은 메시지의 스트림 엔트리 ID
+     * @return 놓친 메시지 응답 (차분 또는 전체 페이지)
+     * @since 2025-06-06
+     */
+    ChatCatchUpResponse catchUp(String articleId, String lastStreamId);
+
     int getInitialCount(String articleId);
 }
@@ -0,0 +1,21 @@
+package com.likelion.backendplus4.talkpick.backend.chat.application.port.out;
+
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+
+/**
+ * 전송된 채팅 메시지를 최근 메시지 캐시와 스트림에 함께 기록하는 Port
+ *
+ * @since 2025-06-06
+ */
+public interface ChatMessageAppendPort {
+
+	/**
+	 * 채팅 메시지를 최근 메시지 캐시, 채팅방 스트림, DB 저장용 스트림에 원자적으로 기록합니다.
+	 *
+	 * @param message      기록할 채팅 메시지 도메인 객체
+	 * @param maxCacheSize 최근 메시지 캐시에 유지할 최대 메시지 개수
+	 * @return 채팅방 스트림 엔트리 ID
+	 * @since 2025-06-06
+	 */
+	String append(ChatMessage message, int maxCacheSize);
+}
@@ -1,22 +1,15 @@
 package com.likelion.backendplus4.talkpick.backend.chat.application.port.out;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Slice;
 
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
 
 public interface ChatMessageCachePort {
 
-	/**
-	 * Redis 리스트에 채팅 메시지를 저장하고, 지정된 최대 캐시 크기를 유지하며 TTL을 설정합니다.
-	 * 또한, 최대 크기를 초과하는 경우 다음 페이지 존재 여부 플래그를 갱신합니다.
-	 *
-	 * @param message       캐싱할 채팅 메시지 도메인 객체
-	 * @param maxCacheSize  캐시할 최대 메시지 개수
-	 * @author 박찬병
-	 * @since 2025-05-25
-	 */
-	void cache(ChatMessage message, int maxCacheSize);
-
 	/**
 	 * 최근 캐싱된 채팅 메시지를 조회한다.
 	 *
@@ -49,4 +42,16 @@ public interface ChatMessageCachePort {
 	 * @since 2025-05-25
 	 */
 	boolean getHasNextFlag(String articleId);
+
+	/**
+	 * 캐시에 남아 있는 범위 안에서 지정된 시각 이전의 채팅 메시지를 최신순으로 조회합니다.
+	 * 캐시만으로 요청한 페이지를 채울 수 없고 DB에 더 오래된 메시지가 있을 수 있으면 빈 Optional을 반환합니다.
+	 *
+	 * @param articleId 게시글 식별자
+	 * @param before    이 시각 이전의 메시지들을 조회
+	 * @param limit     조회할 메시지 개수
+	 * @return 캐시로 응답할 수 있으면 메시지 슬라이스, 아니면 빈 Optional
+	 * @since 2025-06-06
+	 */
+	Optional<Slice<ChatMessage>> findMessagesBefore(String articleId, LocalDateTime before, int limit);
 }
@@ -1,7 +1,9 @@
 package com.likelion.backendplus4.talkpick.backend.chat.application.port.out;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -39,4 +41,21 @@ public interface ChatMessageDbPort {
 	 * @since 2025-05-26
 	 */
 	Slice<ChatMessage> findBeforeMessages(String articleId, LocalDateTime before, PageRequest of);
+
+	/**
+	 * 이미 저장된 스트림 엔트리 ID를 조회합니다.
+	 *
+	 * @param streamIds 확인할 Redis Stream 엔트리 ID 목록
+	 * @return 그중 DB에 이미 저장된 ID 집합
+	 * @since 2025-06-06
+	 */
+	Set<String> findExistingStreamIds(Collection<String> streamIds);
+
+	/**
+	 * 채팅 메시지를 JDBC 배치로 한 번에 저장합니다.
+	 *
+	 * @param messages 저장할 채팅 메시지 목록
+	 * @since 2025-06-06
+	 */
+	void saveAll(List<ChatMessage> messages);
 }
@@ -1,19 +1,26 @@
 package com.likelion.backendplus4.talkpick.backend.chat.application.port.out;
 
+import java.util.List;
+import java.util.Optional;
+
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
 
 /**
- * 메시지를 XADD 하는 책임만을 가진 Port
+ * 채팅방 스트림에서 마지막으로 받은 메시지 이후의 메시지를 조회하는 Port
+ *
+ * @since 2025-06-06
  */
 public interface ChatMessageStreamPort {
 
 	/**
-	 * 채팅 메시지를 Redis Stream에 저장합니다.
+	 * 마지막으로 받은 스트림 엔트리 ID 이후의 메시지를 최신순으로 조회합니다.
+	 * 해당 엔트리가 이미 잘려 나갔거나, 새 메시지가 limit개를 넘으면 빈 Optional을 반환합니다.
 	 *
-	 * @param message 저장할 채팅 메시지 도메인 객체
-	 * @author 박찬병
-	 * @since 2025-05-22
+	 * @param articleId    게시글 식별자
+	 * @param lastStreamId 클라이언트가 마지막으로 받은 스트림 엔트리 ID
+	 * @param limit        차분으로 돌려줄 최대 메시지 개수
+	 * @return 이후 메시지 목록, 차분으로 응답할 수 없으면 빈 Optional
+	 * @since 2025-06-06
 	 */
-	void cacheToStream(ChatMessage message);
-
+	Optional<List<ChatMessage>> findMessagesAfter(String articleId, String lastStreamId, int limit);
 }
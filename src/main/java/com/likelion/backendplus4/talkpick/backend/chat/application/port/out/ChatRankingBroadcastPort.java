@@ -0,0 +1,24 @@
+package com.likelion.backendplus4.talkpick.backend.chat.application.port.out;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.RoomRankDto;
+import com.likelion.backendplus4.talkpick.backend.news.info.application.dto.PopularNewsResponse;
+
+/**
+ * 인기 채팅방 순위 변경을 구독자에게 전송하는 Port
+ *
+ * @since 2025-06-06
+ */
+public interface ChatRankingBroadcastPort {
+
+	/**
+	 * 카테고리(또는 전체)의 인기 채팅방 순위를 전송합니다.
+	 *
+	 * @param category 카테고리명, 전체 순위는 "all"
+	 * @param rooms    참여자 수 내림차순 채팅방 목록
+	 * @param topNews  1위 채팅방의 뉴스 정보, 채팅방이 없으면 null
+	 * @since 2025-06-06
+	 */
+	void broadcastRanking(String category, List<RoomRankDto> rooms, PopularNewsResponse topNews);
+}
@@ -1,9 +1,41 @@
 package com.likelion.backendplus4.talkpick.backend.chat.application.port.out;
 
+import java.time.Duration;
+import java.util.List;
+
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.RoomRankDto;
 
 public interface ChatRankingPort {
     RoomRankDto getTopNewsByCategory(String category);
 
     RoomRankDto getTopNewsAll();
-}
\ No newline at end of file
+
+    /**
+     * 카테고리에서 참여자 수가 많은 채팅방을 최대 limit개 조회합니다.
+     *
+     * @param category 조회할 카테고리명
+     * @param limit    조회할 채팅방 수
+     * @return 참여자 수 내림차순 채팅방 목록
+     * @since 2025-06-06
+     */
+    List<RoomRankDto> getTopRoomsByCategory(String category, int limit);
+
+    /**
+     * 전체 카테고리에서 참여자 수가 많은 채팅방을 최대 limit개 조회합니다.
+     *
+     * @param limit 조회할 채팅방 수
+     * @return 참여자 수 내림차순 채팅방 목록
+     * @since 2025-06-06
+     */
+    List<RoomRankDto> getTopRoomsAll(int limit);
+
+    /**
+     * 인기 순위 변경 브로드캐스트를 담당할 리스를 획득하거나 연장합니다.
+     * 여러 서버가 같은 브로커를 공유하므로 리스를 가진 서버 하나만 순위 변경을 전송합니다.
+     *
+     * @param ttl 리스 유효 시간
+     * @return 이 서버가 리스를 가지고 있으면 true
+     * @since 2025-06-06
+     */
+    boolean tryAcquireBroadcastLease(Duration ttl);
+}
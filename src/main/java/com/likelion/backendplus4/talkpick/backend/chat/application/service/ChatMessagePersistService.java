@@ -0,0 +1,53 @@
+package com.likelion.backendplus4.talkpick.backend.chat.application.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.in.ChatMessagePersistUseCase;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageDbPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis Stream에서 읽은 채팅 메시지를 chat_message 테이블에 배치 저장하는 서비스입니다.
+ * 스트림 엔트리 ID를 기준으로 중복을 걸러, ACK 전에 장애가 나서 같은 엔트리가 다시 전달되어도 한 번만 저장합니다.
+ *
+ * @since 2025-06-06
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatMessagePersistService implements ChatMessagePersistUseCase {
+
+    private final ChatMessageDbPort dbPort;
+
+    /**
+     * 채팅 메시지 묶음을 하나의 트랜잭션으로 저장합니다.
+     * 묶음 안의 중복과 이미 저장된 스트림 엔트리 ID를 제외한 메시지만 저장합니다.
+     *
+     * @param messages 스트림 엔트리 ID가 채워진 채팅 메시지 목록
+     * @return 새로 저장된 메시지 수
+     * @since 2025-06-06
+     */
+    @Override
+    @Transactional
+    public int persist(List<ChatMessage> messages) {
+        Map<String, ChatMessage> byStreamId = new LinkedHashMap<>();
+        messages.forEach(message -> byStreamId.putIfAbsent(message.getStreamId(), message));
+
+        Set<String> existing = dbPort.findExistingStreamIds(byStreamId.keySet());
+        List<ChatMessage> newMessages = byStreamId.values().stream()
+                .filter(message -> !existing.contains(message.getStreamId()))
+                .toList();
+
+        if (!newMessages.isEmpty()) {
+            dbPort.saveAll(newMessages);
+        }
+        return newMessages.size();
+    }
+}
@@ -2,64 +2,176 @@ package com.likelion.backendplus4.talkpick.backend.chat.application.service;
 
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.in.ChatRankingUseCase;
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatNewsProviderPort;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatRankingBroadcastPort;
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatRankingPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.CategoryType;
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.RoomRankDto;
 import com.likelion.backendplus4.talkpick.backend.news.info.application.dto.PopularNewsResponse;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 채팅방 순위를 짧은 주기로 다시 계산해 메모리 스냅샷으로 제공하는 서비스
+ * <p>
+ * ChatRankingTicker가 주기(chat.rank.tick-interval)마다 refreshRanking을 호출하면 카테고리별/전체 상위 N개
+ * 채팅방을 순위 ZSET에서 읽어 스냅샷을 교체하고, 채팅방 순서가 바뀐 경우에만 /topic/chat.rank.{category}로 전송한다.
+ * REST 조회는 Redis나 뉴스 조회 없이 마지막 스냅샷을 그대로 반환한다.
+ * 뉴스 정보는 1위 채팅방이 바뀔 때만 다시 조회한다.
+ *
+ * @since 2025-06-03
+ * @modified 2025-06-06 6시간 캐시(chatTopNews) 대신 순위 티커의 메모리 스냅샷 제공으로 변경
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatRankingService implements ChatRankingUseCase {
 
+    private static final String ALL_CATEGORY = "all";
+
     private final ChatRankingPort chatRankingPort;
     private final ChatNewsProviderPort chatNewsProviderPort;
+    private final ChatRankingBroadcastPort chatRankingBroadcastPort;
+    private final int topN;
+    private final Duration broadcastLeaseTtl;
+    private final Map<String, RankingSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public ChatRankingService(ChatRankingPort chatRankingPort,
+                              ChatNewsProviderPort chatNewsProviderPort,
+                              ChatRankingBroadcastPort chatRankingBroadcastPort,
+                              @Value("${chat.rank.top-n:10}") int topN,
+                              @Value("${chat.rank.broadcast-lease-ttl:PT10S}") Duration broadcastLeaseTtl) {
+        this.chatRankingPort = chatRankingPort;
+        this.chatNewsProviderPort = chatNewsProviderPort;
+        this.chatRankingBroadcastPort = chatRankingBroadcastPort;
+        this.topN = topN;
+        this.broadcastLeaseTtl = broadcastLeaseTtl;
+    }
 
     /**
      * 특정 카테고리에서 가장 인기있는 뉴스 채팅방을 조회합니다.
      * <p>
-     * 1. 카테고리별 채팅방 키 패턴 생성
-     * 2. Redis Lua 스크립트를 통한 원자적 조회 수행
-     * 3. 가장 높은 참여자 수를 가진 채팅방 반환
+     * 1. 순위 티커가 갱신한 카테고리 스냅샷 조회
+     * 2. 스냅샷이 아직 없으면 한 번 계산해 저장
+     * 3. 가장 높은 참여자 수를 가진 채팅방의 뉴스 반환
      *
      * @param category 조회할 뉴스 카테고리 (예: "politics", "sports", "entertainment")
      * @return 해당 카테고리의 최고 인기 채팅방 정보, 없으면 null
      * @author 양병학
      * @since 2025-06-03 최초 작성
+     * @modified 2025-06-06 캐시 대신 순위 티커의 메모리 스냅샷 반환으로 변경
      */
     @Override
-    @Cacheable(value = "chatTopNews", key = "#category")
     public PopularNewsResponse getTopNewsByCategory(String category) {
-        RoomRankDto rankDto = chatRankingPort.getTopNewsByCategory(category);
-
-        PopularNewsResponse response = (null == rankDto)
-                ? null
-                : chatNewsProviderPort.getNewsById(rankDto.articleId());
-
-        return response;
+        return findSnapshot(category).topNews();
     }
 
     /**
      * 전체 카테고리에서 가장 인기있는 뉴스 채팅방을 조회합니다.
      * <p>
-     * 1. 모든 카테고리의 채팅방 데이터 조회
-     * 2. Redis Lua 스크립트를 통한 전체 랭킹 계산
-     * 3. 전체에서 가장 높은 참여자 수를 가진 채팅방 반환
+     * 1. 순위 티커가 갱신한 전체 스냅샷 조회
+     * 2. 스냅샷이 아직 없으면 한 번 계산해 저장
+     * 3. 전체에서 가장 높은 참여자 수를 가진 채팅방의 뉴스 반환
      *
      * @return 전체 카테고리 중 최고 인기 채팅방 정보, 없으면 null
      * @author 양병학
      * @since 2025-06-03 최초 작성
+     * @modified 2025-06-06 캐시 대신 순위 티커의 메모리 스냅샷 반환으로 변경
      */
     @Override
-    @Cacheable(value = "chatTopNews", key = "'all'")
     public PopularNewsResponse getTopNewsAll() {
-        RoomRankDto rankDto = chatRankingPort.getTopNewsAll();
+        return findSnapshot(ALL_CATEGORY).topNews();
+    }
+
+    /**
+     * 카테고리별/전체 인기 채팅방 순위를 다시 계산합니다.
+     * <p>
+     * 모든 서버가 자신의 스냅샷을 갱신하지만, 브로커를 공유하므로 브로드캐스트 리스를 가진 서버만
+     * 채팅방 순서가 바뀐 순위를 전송합니다. 한 카테고리의 실패가 다른 카테고리 갱신을 막지 않습니다.
+     *
+     * @since 2025-06-06
+     */
+    @Override
+    public void refreshRanking() {
+        boolean broadcaster = chatRankingPort.tryAcquireBroadcastLease(broadcastLeaseTtl);
+        for (String category : rankingCategories()) {
+            try {
+                RankingSnapshot previous = snapshots.get(category);
+                RankingSnapshot current = refreshSnapshot(category, previous);
+                if (broadcaster && (null == previous || !previous.hasSameOrder(current))) {
+                    chatRankingBroadcastPort.broadcastRanking(category, current.rooms(), current.topNews());
+                }
+            } catch (RuntimeException e) {
+                log.warn("{} 인기 채팅방 순위 갱신에 실패했습니다.", category, e);
+            }
+        }
+    }
+
+    private RankingSnapshot findSnapshot(String category) {
+        RankingSnapshot snapshot = snapshots.get(category);
+        return (null == snapshot) ? refreshSnapshot(category, null) : snapshot;
+    }
+
+    private RankingSnapshot refreshSnapshot(String category, RankingSnapshot previous) {
+        List<RoomRankDto> rooms = ALL_CATEGORY.equals(category)
+                ? chatRankingPort.getTopRoomsAll(topN)
+                : chatRankingPort.getTopRoomsByCategory(category, topN);
+
+        RankingSnapshot snapshot = new RankingSnapshot(rooms, resolveTopNews(rooms, previous));
+        snapshots.put(category, snapshot);
+        return snapshot;
+    }
+
+    private PopularNewsResponse resolveTopNews(List<RoomRankDto> rooms, RankingSnapshot previous) {
+        if (rooms.isEmpty()) {
+            return null;
+        }
+        String topArticleId = rooms.getFirst().articleId();
+        if (null != previous && null != previous.topNews() && topArticleId.equals(previous.topArticleId())) {
+            return previous.topNews();
+        }
+        return chatNewsProviderPort.getNewsById(topArticleId);
+    }
+
+    private Set<String> rankingCategories() {
+        Set<String> categories = new LinkedHashSet<>();
+        for (CategoryType type : CategoryType.values()) {
+            categories.add(type.getValue());
+        }
+        categories.add(ALL_CATEGORY);
+        categories.addAll(snapshots.keySet());
+        return categories;
+    }
+
+    /**
+     * 한 카테고리의 상위 채팅방 목록과 1위 채팅방의 뉴스 정보
+     */
+    private record RankingSnapshot(List<RoomRankDto> rooms, PopularNewsResponse topNews) {
 
-        PopularNewsResponse response = (null == rankDto)
-                ? null
-                : chatNewsProviderPort.getNewsById(rankDto.articleId());
+        private String topArticleId() {
+            return rooms.isEmpty() ? null : rooms.getFirst().articleId();
+        }
 
-        return response;
+        private boolean hasSameOrder(RankingSnapshot other) {
+            if (rooms.size() != other.rooms().size()) {
+                return false;
+            }
+            for (int i = 0; i < rooms.size(); i++) {
+                RoomRankDto room = rooms.get(i);
+                RoomRankDto otherRoom = other.rooms().get(i);
+                if (!Objects.equals(room.category(), otherRoom.category())
+                        || !Objects.equals(room.articleId(), otherRoom.articleId())) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Set;
 
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.in.ChatUseCase;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageAppendPort;
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageBrokerPort;
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageCachePort;
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageDbPort;
@@ -13,6 +14,7 @@ import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.Chat
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatSessionPort;
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.MessageType;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCatchUpResponse;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.support.mapper.SliceResponseChatMapper;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatMessageResponse;
 import com.likelion.backendplus4.talkpick.backend.common.response.SliceResponse;
@@ -36,6 +38,7 @@ public class ChatService implements ChatUseCase {
 
     private final ChatMessageBrokerPort brokerPort;
     private final ChatMessageCachePort cachePort;
+    private final ChatMessageAppendPort appendPort;
     private final ChatMessageStreamPort streamPort;
     private final ChatSessionPort chatSessionPort;
     private final ChatMessageDbPort dbPort;
@@ -61,7 +64,8 @@ public class ChatService implements ChatUseCase {
     }
 
     /**
-     * 지정된 기준 ID(beforeId) 이전의 채팅 메시지를 DB에서 조회하여 반환합니다.
+     * 지정된 기준 시각(before) 이전의 채팅 메시지를 조회하여 반환합니다.
+     * 캐시에 남아 있는 범위로 응답할 수 있으면 캐시에서, 아니면 DB에서 조회합니다.
      *
      * @param articleId 게시글 식별자
      * @param before  이 시간 이전의 메시지들을 조회
@@ -69,18 +73,20 @@ public class ChatService implements ChatUseCase {
      * @return 채팅 메시지 슬라이스 응답 (메시지 목록과 다음 페이지 여부)
      * @author 박찬병
      * @since 2025-05-25
+     * @modified 2025-06-06 캐시(스트림) 우선 조회 후 DB 대체 조회
      */
     @Override
     public SliceResponse<ChatMessageResponse> loadOlderMessages(String articleId, LocalDateTime before, int limit) {
-        Slice<ChatMessage> chatMessage = dbPort.findBeforeMessages(articleId, before, PageRequest.of(DEFAULT_PAGE_NUMBER, limit));
+        Slice<ChatMessage> chatMessage = cachePort.findMessagesBefore(articleId, before, limit)
+            .orElseGet(() -> dbPort.findBeforeMessages(articleId, before, PageRequest.of(DEFAULT_PAGE_NUMBER, limit)));
         return SliceResponseChatMapper.toSliceResponse(chatMessage.stream().toList(), chatMessage.hasNext());
     }
 
     /**
      * 사용자가 채팅 메시지를 보낼 때 호출됩니다.
      * - 메시지 타입이 CHAT 인 경우
-     *   - Redis 캐시에 저장
-     *   - Redis 스트림에 저장
+     *   - Redis 캐시와 스트림에 한 번의 왕복으로 저장
+     *   - 재연결 시 이어 받을 수 있도록 채팅방 스트림 엔트리 ID를 함께 발행
      * - RabbitMQ에 발행
      *
      * @param message 채팅 메시지
@@ -89,14 +95,36 @@ public class ChatService implements ChatUseCase {
      * @modified 2025-05-30
      * 2025-05-29 내부 메서드 이름 변경
      * 2025-05-30 메시지 타입 추가
+     * 2025-06-06 캐시/스트림 기록을 단일 Lua 스크립트 호출로 통합, 스트림 엔트리 ID 포함
      */
     @Override
     public void sendMessage(ChatMessage message) {
+        ChatMessage delivered = message;
         if (SAVABLE_TYPES.contains(message.getMessageType())) {
-            cachePort.cache(message, MAX_CACHE_SIZE);
-            streamPort.cacheToStream(message);
+            String streamId = appendPort.append(message, MAX_CACHE_SIZE);
+            delivered = message.toBuilder().streamId(streamId).build();
         }
-        brokerPort.deliverChatToArticle(message.getArticleId(), message);
+        brokerPort.deliverChatToArticle(delivered.getArticleId(), delivered);
+    }
+
+    /**
+     * 마지막으로 받은 스트림 엔트리 ID 이후의 메시지만 조회하고,
+     * 차분을 만들 수 없으면 최신 메시지 한 페이지 전체로 대체합니다.
+     *
+     * @param articleId    게시글 식별자
+     * @param lastStreamId 마지막으로 받은 메시지의 스트림 엔트리 ID
+     * @return 놓친 메시지 응답 (차분 또는 전체 페이지)
+     * @since 2025-06-06
+     */
+    @Override
+    public ChatCatchUpResponse catchUp(String articleId, String lastStreamId) {
+        return streamPort.findMessagesAfter(articleId, lastStreamId, MAX_CACHE_SIZE)
+            .map(messages -> new ChatCatchUpResponse(false,
+                SliceResponseChatMapper.toSliceResponse(messages, false).items(), false))
+            .orElseGet(() -> {
+                SliceResponse<ChatMessageResponse> page = getChatMessage(articleId);
+                return new ChatCatchUpResponse(true, page.items(), page.hasNext());
+            });
     }
 
     /**
@@ -5,9 +5,11 @@ import java.time.LocalDateTime;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class ChatMessage {
     private final Long chatId;
     private final String articleId;
@@ -15,5 +17,6 @@ public class ChatMessage {
     private final String content;
     private final LocalDateTime timestamp;
     private final MessageType messageType;
+    private final String streamId;
 
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter;
+
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCountResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * 채팅방 인원 수 브로드캐스트를 채팅방별로 모아 주기마다 한 번만 전송하는 발행기
+ * <p>
+ * 입장/퇴장/인원 수 조회가 일어나면 채팅방을 dirty로 표시만 하고, 주기(chat.count.publish-interval)마다
+ * dirty 채팅방의 최신 인원 수를 읽어 .count 토픽으로 한 번만 전송한다.
+ * N명이 한꺼번에 입장할 때 N번의 브로드캐스트(구독자 기준 O(N²) 프레임)가 주기당 1번으로 줄어든다.
+ * <p>
+ * 같은 주기 안에서 합쳐진 브로드캐스트 수는 chat_count_broadcasts{result="suppressed"}로,
+ * 실제 전송 수는 chat_count_broadcasts{result="sent"}로 기록한다.
+ *
+ * @since 2025-06-06
+ */
+@Slf4j
+@Component
+public class ChatCountPublisher {
+
+    private static final String CHAT_TOPIC_PREFIX = "/topic/chat.";
+    private static final String BROADCAST_METRIC = "chat_count_broadcasts";
+
+    private final SimpMessagingTemplate wsTemplate;
+    private final Map<String, IntSupplier> dirtyRooms = new ConcurrentHashMap<>();
+    private final Counter sentBroadcasts;
+    private final Counter suppressedBroadcasts;
+
+    public ChatCountPublisher(SimpMessagingTemplate wsTemplate, MeterRegistry meterRegistry) {
+        this.wsTemplate = wsTemplate;
+        this.sentBroadcasts = broadcastCounter(meterRegistry, "sent");
+        this.suppressedBroadcasts = broadcastCounter(meterRegistry, "suppressed");
+    }
+
+    /**
+     * 채팅방을 dirty로 표시한다. 이미 전송 대기 중이면 이전 요청과 합쳐진다.
+     *
+     * @param roomAddress  인원 수 토픽 주소에 쓰이는 채팅방 식별자 (category:articleId)
+     * @param countReader  전송 시점에 최신 인원 수를 읽는 함수
+     * @since 2025-06-06
+     */
+    public void markDirty(String roomAddress, IntSupplier countReader) {
+        if (dirtyRooms.put(roomAddress, countReader) != null) {
+            suppressedBroadcasts.increment();
+        }
+    }
+
+    /**
+     * dirty 채팅방마다 최신 인원 수를 읽어 한 번씩 전송한다.
+     * 전송 중 다시 dirty가 된 채팅방은 다음 주기에 전송된다.
+     *
+     * @since 2025-06-06
+     */
+    @Scheduled(fixedDelayString = "${chat.count.publish-interval:PT0.25S}")
+    public void flush() {
+        for (String roomAddress : dirtyRooms.keySet()) {
+            IntSupplier countReader = dirtyRooms.remove(roomAddress);
+            if (countReader == null) {
+                continue;
+            }
+            try {
+                String destination = CHAT_TOPIC_PREFIX + roomAddress + ".count";
+                wsTemplate.convertAndSend(destination, new ChatCountResponse(countReader.getAsInt()));
+                sentBroadcasts.increment();
+            } catch (RuntimeException e) {
+                log.warn("채팅방 {} 인원 수 전송에 실패했습니다.", roomAddress, e);
+            }
+        }
+    }
+
+    private static Counter broadcastCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(BROADCAST_METRIC)
+            .description("채팅방 인원 수 브로드캐스트 전송/생략 수")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
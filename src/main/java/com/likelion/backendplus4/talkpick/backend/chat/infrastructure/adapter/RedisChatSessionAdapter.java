@@ -1,17 +1,17 @@
 package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter;
 
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatSessionPort;
-import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCountResponse;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.CategoryType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * 인메모리 기반으로 채팅 세션을 관리하는 어댑터 클래스
@@ -21,8 +21,18 @@ import java.util.concurrent.ConcurrentHashMap;
  * 내부적으로 두 개의 맵을 사용하여 세션을 관리한다:<br/>
  * - sessions: 뉴스(articleId) 기준으로 연결된 세션 ID들을 저장하여 채팅방 인원수를 추적<br/>
  * - reverse: 세션 ID 기준으로 어떤 뉴스에 연결되어 있는지 역추적하여 빠르게 제거 처리 가능
+ * <p>
+ * 인원 수 브로드캐스트는 즉시 전송하지 않고 ChatCountPublisher에 채팅방을 dirty로 표시해 주기마다 한 번만 전송한다.
+ * <p>
+ * 입장/퇴장 시 세션 집합(SADD/SREM)과 인기 순위 ZSET(chat:rank:{category}, chat:rank-all)의 점수(세션 집합 크기)를
+ * Lua 스크립트 한 번으로 함께 처리하므로, 인기 채팅방 조회가 전체 채팅방 키를 훑지 않아도 된다.
+ * 카테고리는 클라이언트가 보낸 STOMP 헤더 값이므로 CategoryType에 없는 값이면 세션을 등록하지 않는다.
  *
  * @since 2025-05-24
+ * @modified 2025-06-06
+ * 2025-06-06 - 인원 수 브로드캐스트를 ChatCountPublisher로 모아서 전송
+ * 2025-06-06 - 입장/퇴장 시 인기 순위 ZSET 갱신
+ * 2025-06-06 - 카테고리 검증, 전체 순위 키를 카테고리 키와 겹치지 않는 chat:rank-all로 변경
  */
 @Slf4j
 @Component
@@ -31,15 +41,18 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RedisChatSessionAdapter implements ChatSessionPort {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final SimpMessagingTemplate wsTemplate;
+    private final ChatCountPublisher countPublisher;
 
-    private static final String CHAT_TOPIC_PREFIX = "/topic/chat.";
     private static final String SESSION_KEY_PREFIX = "chat:room:";    // e.g. chat:room:123 -> Set<sessionId>
     private static final String REVERSE_KEY = "chat:reverse";
+    private static final String RANK_KEY_PREFIX = "chat:rank:";
+    private static final String RANK_ALL_KEY = "chat:rank-all";
+    private static final DefaultRedisScript<Long> JOIN_SCRIPT = createScript("lua/chat-session-join.lua");
+    private static final DefaultRedisScript<Long> LEAVE_SCRIPT = createScript("lua/chat-session-leave.lua");
 
     /**
      * 사용자가 특정 뉴스 채팅방에 입장했을 때 세션을 등록하고,
-     * 전체 접속 인원 수를 해당 뉴스의 .count 토픽으로 실시간 전송한다.
+     * 전체 접속 인원 수를 해당 뉴스의 .count 토픽으로 전송하도록 표시한다.
      *
      * @param articleId 뉴스 식별자
      * @param sessionId 사용자의 웹소켓 세션 ID
@@ -47,22 +60,28 @@ public class RedisChatSessionAdapter implements ChatSessionPort {
      * @since 2025-05-24
      * @modified 2025-06-03 이해창
      * - 채팅방 구독 시 해당 뉴스의 category 정보를 담아 redis에 저장하도록 수정
+     * 2025-06-06 - 인원 수를 즉시 두 번 전송하던 것을 dirty 표시로 변경
+     * 2025-06-06 - 세션 등록과 인기 순위 갱신을 Lua 스크립트로 원자적으로 처리
+     * 2025-06-06 - CategoryType에 없는 카테고리는 등록하지 않음 (순위·리스 키 오염 방지)
      */
     @Override
     public void addSession(String articleId, String category ,String sessionId) {
-        String roomKey = SESSION_KEY_PREFIX + category + ":" +articleId;
-        redisTemplate.opsForSet().add(roomKey, sessionId);
-        redisTemplate.opsForHash().put(REVERSE_KEY, sessionId, category + ":" +articleId);
-        int count = getSessionCount(category + ":" +articleId);
+        if (!CategoryType.isValid(category)) {
+            log.warn("유효하지 않은 카테고리 {} 로 세션 {} 의 채팅방 입장을 무시합니다.", category, sessionId);
+            return;
+        }
+        String categoryArticleId = category + ":" + articleId;
+        redisTemplate.execute(JOIN_SCRIPT, rankingKeys(categoryArticleId, category),
+            sessionId, categoryArticleId, articleId);
 
-        log.info("세션 {} 가 {} 채팅방에 입장하였습니다, 인원수 {}", sessionId, articleId, count);
+        log.info("세션 {} 가 {} 채팅방에 입장하였습니다", sessionId, articleId);
 
-        sendCountToClients(category + ":" +articleId, count);
+        markCountDirty(category + ":" +articleId);
     }
 
     /**
      * 사용자가 채팅방에서 퇴장하거나 연결이 종료되었을 때 세션을 제거하고,
-     * 남은 접속 인원 수를 .count 토픽으로 실시간 전송한다.
+     * 남은 접속 인원 수를 .count 토픽으로 전송하도록 표시한다.
      * 모든 사용자가 퇴장하면 해당 채팅방에 대한 메모리 정보도 제거한다.
      *
      * @param sessionId 사용자의 웹소켓 세션 ID
@@ -70,6 +89,8 @@ public class RedisChatSessionAdapter implements ChatSessionPort {
      * @since 2025-05-24
      * @modified 2025-06-03 이해창
      * - 채팅방 퇴장 시에도 category를 포함하는 것을 명시하기 위해 변수명 수정
+     * 2025-06-06 - 인원 수 즉시 전송을 dirty 표시로 변경
+     * 2025-06-06 - 세션 제거와 인기 순위 갱신을 Lua 스크립트로 원자적으로 처리 (빈 집합은 Redis가 자동 삭제)
      */
     @Override
     public void removeSession(String sessionId) {
@@ -77,19 +98,19 @@ public class RedisChatSessionAdapter implements ChatSessionPort {
         if (categoryArticleId == null) {
             return;
         }
-        String roomKey = SESSION_KEY_PREFIX + categoryArticleId;
-        redisTemplate.opsForSet().remove(roomKey, sessionId);
-        redisTemplate.opsForHash().delete(REVERSE_KEY, sessionId);
+        int separator = categoryArticleId.indexOf(':');
+        String category = categoryArticleId.substring(0, separator);
+        String articleId = categoryArticleId.substring(separator + 1);
 
-        Long size = redisTemplate.opsForSet().size(roomKey);
+        Long size = redisTemplate.execute(LEAVE_SCRIPT, rankingKeys(categoryArticleId, category),
+            sessionId, categoryArticleId, articleId);
         int count = size != null ? size.intValue() : 0;
         if (count == 0) {
-            redisTemplate.delete(roomKey);
             log.info("채팅방 {} 가 비어 있어 채팅방 맵에서 삭제되었습니다.", categoryArticleId);
         }
 
         log.info("세션 {} 가 {} 채팅방에서 퇴장하였습니다, 인원수 {}", sessionId, categoryArticleId, count);
-        sendCountToClients(categoryArticleId, count);
+        markCountDirty(categoryArticleId);
 
     }
 
@@ -103,19 +124,35 @@ public class RedisChatSessionAdapter implements ChatSessionPort {
      * @modified 2025-06-03 이해창
      * 2025-06-03 - articleId 에 category 정보를 포함하도록 수정
      * 2025-06-01 - 접속 세션 수를 즉시 발행 하여 구독자들이 세션수를 받을 수 있도록 수정
+     * 2025-06-06 - 즉시 발행 대신 다음 발행 주기에 전송되도록 dirty 표시
      */
     @Override
     public int getSessionCount(String articleId) {
         String roomKey = SESSION_KEY_PREFIX + articleId;
-        Long count = redisTemplate.opsForSet().size(roomKey);
         String publishAddress = roomKey.split(":")[2] + ":" + roomKey.split(":")[3];
-        sendCountToClients(publishAddress, count != null ? count.intValue() : 0);
-        return count != null ? count.intValue() : 0;
+        markCountDirty(publishAddress);
+        return readCount(roomKey);
+    }
+
+    private void markCountDirty(String categoryArticleId) {
+        String roomKey = SESSION_KEY_PREFIX + categoryArticleId;
+        countPublisher.markDirty(categoryArticleId, () -> readCount(roomKey));
+    }
+
+    private List<String> rankingKeys(String categoryArticleId, String category) {
+        return List.of(SESSION_KEY_PREFIX + categoryArticleId, REVERSE_KEY,
+            RANK_KEY_PREFIX + category.toLowerCase(Locale.ROOT), RANK_ALL_KEY);
     }
 
-    private void sendCountToClients(String articleId, int count) {
-        String destination = CHAT_TOPIC_PREFIX + articleId + ".count";
-        ChatCountResponse response = new ChatCountResponse(count);
-        wsTemplate.convertAndSend(destination, response);
+    private static DefaultRedisScript<Long> createScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private int readCount(String roomKey) {
+        Long count = redisTemplate.opsForSet().size(roomKey);
+        return count != null ? count.intValue() : 0;
     }
 }
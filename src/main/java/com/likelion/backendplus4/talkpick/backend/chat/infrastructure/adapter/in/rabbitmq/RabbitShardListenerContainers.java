@@ -0,0 +1,246 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.adapter.MessageListenerAdapter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq.RedisShardNodeMembership.ShardNodeSlot;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.rabbitmq.ChatShardRouting;
+import com.rabbitmq.client.Channel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 샤드 큐(chat.queue.shard.{n})마다 소비자 하나짜리 리스너 컨테이너를 띄우는 컴포넌트입니다.
+ *
+ * 샤드마다 별도 컨테이너(스레드)가 메시지를 순서대로 처리하므로 같은 채팅방의 메시지 순서는 유지되면서,
+ * 서로 다른 샤드는 병렬로 처리됩니다. 큐는 single-active-consumer로 선언되어 서버 간에도 샤드당 활성 소비자는 하나이며,
+ * 이 서버의 담당 샤드(shard % 노드 수 == 노드 위치)에는 높은 x-priority를 주어
+ * 여러 서버가 샤드를 나눠 맡도록 합니다(우선순위 기반 활성 소비자 전환은 RabbitMQ 3.12 이상).
+ * 노드 위치와 수는 기본적으로 Redis 서버 목록(RedisShardNodeMembership)에서 주기적으로 구하고,
+ * 서버가 늘거나 줄어 담당이 바뀐 샤드의 컨테이너만 새 우선순위로 다시 시작합니다.
+ * chat.broker.node-count를 1 이상으로 지정하면 node-index/node-count를 고정으로 사용하며,
+ * node-index가 범위를 벗어나면 시작하지 않고, 살아 있는 서버 수와 다르면 경고합니다.
+ *
+ * 샤드별 처리 시간은 chat_shard_consume{shard}로, 큐 적체는 chat_shard_queue_depth{shard}로,
+ * 소비자 수는 chat_shard_consumers{shard}로 기록합니다.
+ * rate(chat_shard_consume_seconds_sum[1m])이 1에 가까우면 해당 샤드 소비자가 포화된 것입니다.
+ *
+ * @since 2025-06-06
+ * @modified 2025-06-06 노드 위치·수를 Redis 서버 목록에서 자동으로 구함, 고정 설정 검증
+ */
+@Slf4j
+@Component
+public class RabbitShardListenerContainers {
+
+	private static final String LISTENER_METHOD = "receiveMessage";
+	private static final int PREFERRED_PRIORITY = 10;
+	private static final int STANDBY_PRIORITY = 0;
+
+	private final ConnectionFactory connectionFactory;
+	private final RabbitAdmin rabbitAdmin;
+	private final Jackson2JsonMessageConverter messageConverter;
+	private final RabbitMessageListener messageListener;
+	private final MeterRegistry meterRegistry;
+	private final RedisShardNodeMembership membership;
+	private final int shardCount;
+	private final int prefetch;
+	private final ShardNodeSlot fixedSlot;
+
+	private final List<SimpleMessageListenerContainer> containers = new ArrayList<>();
+	private ShardNodeSlot slot = new ShardNodeSlot(0, 1);
+	private int lastLiveCount;
+	private final List<AtomicLong> queueDepths = new ArrayList<>();
+	private final List<AtomicLong> consumerCounts = new ArrayList<>();
+
+	public RabbitShardListenerContainers(
+		ConnectionFactory connectionFactory,
+		RabbitAdmin rabbitAdmin,
+		Jackson2JsonMessageConverter messageConverter,
+		RabbitMessageListener messageListener,
+		MeterRegistry meterRegistry,
+		RedisShardNodeMembership membership,
+		@Value("${chat.broker.shard-count:8}") int shardCount,
+		@Value("${chat.broker.prefetch:50}") int prefetch,
+		@Value("${chat.broker.node-index:0}") int nodeIndex,
+		@Value("${chat.broker.node-count:0}") int nodeCount) {
+		if (nodeCount < 0 || (nodeCount > 0 && (nodeIndex < 0 || nodeIndex >= nodeCount))) {
+			throw new IllegalArgumentException(
+				"chat.broker.node-index는 0 이상 node-count 미만이어야 합니다: node-index=" + nodeIndex + ", node-count=" + nodeCount);
+		}
+		this.connectionFactory = connectionFactory;
+		this.rabbitAdmin = rabbitAdmin;
+		this.messageConverter = messageConverter;
+		this.messageListener = messageListener;
+		this.meterRegistry = meterRegistry;
+		this.membership = membership;
+		this.shardCount = shardCount;
+		this.prefetch = prefetch;
+		this.fixedSlot = nodeCount > 0 ? new ShardNodeSlot(nodeIndex, nodeCount) : null;
+
+		for (int shard = 0; shard < shardCount; shard++) {
+			queueDepths.add(registerGauge("chat_shard_queue_depth", "샤드 큐에 쌓인 메시지 수", shard));
+			consumerCounts.add(registerGauge("chat_shard_consumers", "샤드 큐에 연결된 소비자 수", shard));
+		}
+	}
+
+	/**
+	 * 애플리케이션 준비가 끝나면 샤드마다 리스너 컨테이너를 시작합니다.
+	 *
+	 * @since 2025-06-06
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() {
+		slot = resolveSlot(slot);
+		for (int shard = 0; shard < shardCount; shard++) {
+			SimpleMessageListenerContainer container = createContainer(shard, slot);
+			container.start();
+			containers.add(container);
+		}
+		log.info("채팅 샤드 리스너 {}개를 시작했습니다. (prefetch={}, node={}/{})", shardCount, prefetch, slot.index(),
+			slot.count());
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		containers.forEach(SimpleMessageListenerContainer::destroy);
+		containers.clear();
+		try {
+			membership.leave();
+		} catch (RuntimeException e) {
+			log.warn("채팅 샤드 서버 목록에서 이 서버를 제거하지 못했습니다.", e);
+		}
+	}
+
+	/**
+	 * 서버 목록에 heartbeat를 기록하고, 노드 위치나 수가 바뀌었으면 담당이 바뀐 샤드의 컨테이너만 새 우선순위로 다시 시작합니다.
+	 *
+	 * @since 2025-06-06
+	 */
+	@Scheduled(fixedDelayString = "${chat.broker.node-heartbeat-interval:PT10S}")
+	public synchronized void rebalance() {
+		ShardNodeSlot previous = slot;
+		slot = resolveSlot(previous);
+		if (containers.isEmpty() || previous.equals(slot)) {
+			return;
+		}
+		int restarted = 0;
+		for (int shard = 0; shard < shardCount; shard++) {
+			if (priorityOf(shard, previous) == priorityOf(shard, slot)) {
+				continue;
+			}
+			containers.get(shard).destroy();
+			SimpleMessageListenerContainer container = createContainer(shard, slot);
+			container.start();
+			containers.set(shard, container);
+			restarted++;
+		}
+		log.info("채팅 샤드 담당을 다시 나눴습니다. (node={}/{} -> {}/{}, 다시 시작한 샤드 {}개)", previous.index(),
+			previous.count(), slot.index(), slot.count(), restarted);
+	}
+
+	/**
+	 * 샤드 큐의 적체 메시지 수와 소비자 수를 주기적으로 조회해 게이지에 반영합니다.
+	 *
+	 * @since 2025-06-06
+	 */
+	@Scheduled(fixedDelayString = "${chat.broker.metrics-interval:PT15S}")
+	public void refreshQueueMetrics() {
+		for (int shard = 0; shard < shardCount; shard++) {
+			try {
+				QueueInformation info = rabbitAdmin.getQueueInfo(ChatShardRouting.queueName(shard));
+				if (null != info) {
+					queueDepths.get(shard).set(info.getMessageCount());
+					consumerCounts.get(shard).set(info.getConsumerCount());
+				}
+			} catch (RuntimeException e) {
+				log.warn("채팅 샤드 큐 {} 상태 조회에 실패했습니다.", shard, e);
+			}
+		}
+	}
+
+	/**
+	 * 고정 설정이 있으면 그대로 쓰고 살아 있는 서버 수와 다르면(수가 바뀔 때마다 한 번) 경고하며, 없으면 서버 목록에서 구합니다.
+	 * Redis를 조회하지 못하면 이전 값을 유지합니다.
+	 */
+	private ShardNodeSlot resolveSlot(ShardNodeSlot previous) {
+		ShardNodeSlot live;
+		try {
+			live = membership.heartbeat();
+		} catch (RuntimeException e) {
+			log.warn("채팅 샤드 서버 목록을 갱신하지 못해 이전 담당을 유지합니다. (node={}/{})", previous.index(),
+				previous.count(), e);
+			return null == fixedSlot ? previous : fixedSlot;
+		}
+		if (null == fixedSlot) {
+			return live;
+		}
+		if (live.count() != fixedSlot.count() && live.count() != lastLiveCount) {
+			log.warn("chat.broker.node-count={} 이지만 살아 있는 서버는 {}대입니다. 샤드가 일부 서버에 몰리거나 비어 있을 수 있습니다.",
+				fixedSlot.count(), live.count());
+		}
+		lastLiveCount = live.count();
+		return fixedSlot;
+	}
+
+	private SimpleMessageListenerContainer createContainer(int shard, ShardNodeSlot slot) {
+		MessageListenerAdapter listenerAdapter = new MessageListenerAdapter(messageListener, messageConverter);
+		listenerAdapter.setDefaultListenerMethod(LISTENER_METHOD);
+		Timer consumeTimer = Timer.builder("chat_shard_consume")
+			.description("샤드 큐 메시지 한 건을 WebSocket으로 전달하는 데 걸린 시간")
+			.tag("shard", String.valueOf(shard))
+			.register(meterRegistry);
+
+		SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+		container.setQueueNames(ChatShardRouting.queueName(shard));
+		container.setConcurrentConsumers(1);
+		container.setPrefetchCount(prefetch);
+		container.setConsumerArguments(Map.of("x-priority", priorityOf(shard, slot)));
+		container.setMessageListener((ChannelAwareMessageListener) (message, channel) ->
+			consume(listenerAdapter, consumeTimer, message, channel));
+		container.afterPropertiesSet();
+		return container;
+	}
+
+	private void consume(MessageListenerAdapter listenerAdapter, Timer consumeTimer, Message message, Channel channel)
+		throws Exception {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			listenerAdapter.onMessage(message, channel);
+		} finally {
+			sample.stop(consumeTimer);
+		}
+	}
+
+	static int priorityOf(int shard, ShardNodeSlot slot) {
+		return shard % slot.count() == slot.index() ? PREFERRED_PRIORITY : STANDBY_PRIORITY;
+	}
+
+	private AtomicLong registerGauge(String name, String description, int shard) {
+		AtomicLong value = new AtomicLong();
+		Gauge.builder(name, value, AtomicLong::get)
+			.description(description)
+			.tag("shard", String.valueOf(shard))
+			.register(meterRegistry);
+		return value;
+	}
+}
@@ -0,0 +1,72 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 샤드 큐를 나눠 맡을 서버 목록을 Redis Sorted Set(chat:broker:nodes)으로 관리하는 컴포넌트입니다.
+ *
+ * 서버마다 임의의 노드 ID를 멤버로, 마지막 heartbeat 시각을 점수로 기록하고 ttl이 지난 멤버는 제거합니다.
+ * 살아 있는 노드 ID를 정렬한 순서가 모든 서버에서 같으므로, 각 서버는 그 안의 자기 위치와 전체 수로
+ * 별도 설정 없이 담당 샤드를 정할 수 있습니다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+public class RedisShardNodeMembership {
+
+	private static final String KEY = "chat:broker:nodes";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration ttl;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public RedisShardNodeMembership(RedisTemplate<String, String> redisTemplate,
+		@Value("${chat.broker.node-ttl:PT30S}") Duration ttl) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * 이 서버의 heartbeat를 기록하고 만료된 서버를 제거한 뒤, 살아 있는 서버 중 이 서버의 위치와 전체 수를 반환합니다.
+	 *
+	 * @return 이 서버의 노드 위치와 살아 있는 노드 수
+	 * @since 2025-06-06
+	 */
+	public ShardNodeSlot heartbeat() {
+		long now = System.currentTimeMillis();
+		redisTemplate.opsForZSet().add(KEY, nodeId, now);
+		redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, now - ttl.toMillis());
+
+		Set<String> members = redisTemplate.opsForZSet().range(KEY, 0, -1);
+		List<String> nodeIds = new ArrayList<>(null == members ? Set.of() : members);
+		if (!nodeIds.contains(nodeId)) {
+			nodeIds.add(nodeId);
+		}
+		Collections.sort(nodeIds);
+		return new ShardNodeSlot(nodeIds.indexOf(nodeId), nodeIds.size());
+	}
+
+	/**
+	 * 종료 시 목록에서 이 서버를 바로 제거해, 남은 서버가 ttl을 기다리지 않고 샤드를 다시 나누도록 합니다.
+	 *
+	 * @since 2025-06-06
+	 */
+	public void leave() {
+		redisTemplate.opsForZSet().remove(KEY, nodeId);
+	}
+
+	/**
+	 * 살아 있는 서버 중 이 서버의 위치(0부터)와 전체 서버 수
+	 */
+	public record ShardNodeSlot(int index, int count) {
+	}
+}
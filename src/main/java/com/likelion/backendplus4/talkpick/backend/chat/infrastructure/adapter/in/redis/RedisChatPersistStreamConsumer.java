@@ -0,0 +1,337 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.redis;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.in.ChatMessagePersistUseCase;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 저장용 전역 채팅 스트림을 소비자 그룹으로 읽어 chat_message 테이블에 배치 저장하는 워커입니다.
+ *
+ * 노드마다 같은 그룹의 서로 다른 소비자로 XREADGROUP을 호출하므로 엔트리는 한 노드에만 전달되고,
+ * 트랜잭션 커밋 후에만 XACK 합니다. 커밋 전에 노드가 죽으면 엔트리는 대기 목록에 남아
+ * 주기적인 XAUTOCLAIM으로 다른 소비자에게 넘어가며, 스트림 엔트리 ID 기준 중복 검사로 두 번 저장되지 않습니다.
+ *
+ * @since 2025-06-06
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.persist", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RedisChatPersistStreamConsumer {
+
+	private static final String GROUP = "chat-persister";
+	private static final String PAYLOAD_FIELD = "payload";
+	private static final String INITIAL_CLAIM_CURSOR = "0-0";
+	private static final Duration FAILURE_BACKOFF = Duration.ofSeconds(1);
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final ChatMessagePersistUseCase persistUseCase;
+	private final DefaultRedisScript<List<Object>> autoClaimScript;
+	private final String streamKey;
+	private final String consumerName;
+	private final int batchSize;
+	private final Duration blockTimeout;
+	private final Duration claimMinIdle;
+	private final Duration claimInterval;
+
+	private final Counter persistedMessages;
+	private final Counter duplicateMessages;
+	private final Counter reclaimedMessages;
+	private final Counter failedMessages;
+	private final Timer batchTimer;
+	private final AtomicLong pendingMessages = new AtomicLong();
+	private final AtomicLong groupLag = new AtomicLong(-1);
+
+	private volatile boolean running;
+	private Thread worker;
+	private String claimCursor = INITIAL_CLAIM_CURSOR;
+
+	public RedisChatPersistStreamConsumer(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		ChatMessagePersistUseCase persistUseCase,
+		MeterRegistry meterRegistry,
+		@Value("${chat.persist.stream-key:chat:stream:persist}") String streamKey,
+		@Value("${chat.persist.batch-size:200}") int batchSize,
+		@Value("${chat.persist.block-timeout:2s}") Duration blockTimeout,
+		@Value("${chat.persist.claim-min-idle:60s}") Duration claimMinIdle,
+		@Value("${chat.persist.claim-interval:30s}") Duration claimInterval) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.persistUseCase = persistUseCase;
+		this.streamKey = streamKey;
+		this.consumerName = ManagementFactory.getRuntimeMXBean().getName();
+		this.batchSize = batchSize;
+		this.blockTimeout = blockTimeout;
+		this.claimMinIdle = claimMinIdle;
+		this.claimInterval = claimInterval;
+		this.autoClaimScript = createAutoClaimScript();
+
+		this.persistedMessages = Counter.builder("chat_persist_messages")
+			.description("chat_message 테이블에 새로 저장된 메시지 수")
+			.register(meterRegistry);
+		this.duplicateMessages = Counter.builder("chat_persist_duplicates")
+			.description("이미 저장되어 건너뛴 재전달 메시지 수")
+			.register(meterRegistry);
+		this.reclaimedMessages = Counter.builder("chat_persist_reclaimed")
+			.description("XAUTOCLAIM으로 넘겨받은 대기 메시지 수")
+			.register(meterRegistry);
+		this.failedMessages = Counter.builder("chat_persist_failures")
+			.description("저장에 실패해 대기 목록에 남긴 메시지 수")
+			.register(meterRegistry);
+		this.batchTimer = Timer.builder("chat_persist_batch")
+			.description("메시지 묶음 저장 트랜잭션 소요 시간")
+			.register(meterRegistry);
+		Gauge.builder("chat_persist_pending", pendingMessages, AtomicLong::get)
+			.description("ACK 되지 않은 대기 메시지 수")
+			.register(meterRegistry);
+		Gauge.builder("chat_persist_lag", groupLag, AtomicLong::get)
+			.description("소비자 그룹에 아직 전달되지 않은 메시지 수 (Redis 7 미만이면 -1)")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 애플리케이션 기동이 끝나면 소비 스레드를 시작합니다.
+	 *
+	 * @since 2025-06-06
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		running = true;
+		worker = Thread.ofPlatform()
+			.name("chat-persister")
+			.daemon()
+			.start(this::pollLoop);
+	}
+
+	/**
+	 * 진행 중인 묶음의 저장과 ACK가 끝날 때까지 기다린 뒤 소비를 멈춥니다.
+	 *
+	 * @since 2025-06-06
+	 */
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (worker == null) {
+			return;
+		}
+		try {
+			worker.join(SHUTDOWN_TIMEOUT.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void pollLoop() {
+		boolean groupReady = false;
+		long nextClaimAt = 0;
+		while (running) {
+			try {
+				if (!groupReady) {
+					ensureGroup();
+					groupReady = true;
+				}
+				if (System.nanoTime() - nextClaimAt >= 0) {
+					reclaimStaleEntries();
+					refreshBacklogMetrics();
+					nextClaimAt = System.nanoTime() + claimInterval.toNanos();
+				}
+				process(readNewEntries());
+			} catch (RuntimeException e) {
+				log.warn("채팅 저장 스트림 처리 실패, {} 후 다시 시도합니다.", FAILURE_BACKOFF, e);
+				sleepQuietly(FAILURE_BACKOFF);
+			}
+		}
+	}
+
+	/**
+	 * 소비자 그룹이 없으면 스트림과 함께 생성합니다. 이미 있으면 무시합니다.
+	 */
+	private void ensureGroup() {
+		try {
+			redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+				.xGroupCreate(streamKey.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+		} catch (DataAccessException e) {
+			String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+			if (message == null || !message.contains("BUSYGROUP")) {
+				throw e;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<StreamEntry> readNewEntries() {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+			Consumer.from(GROUP, consumerName),
+			StreamReadOptions.empty().count(batchSize).block(blockTimeout),
+			StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+		if (records == null) {
+			return List.of();
+		}
+		return records.stream()
+			.map(record -> new StreamEntry(record.getId().getValue(), (String) record.getValue().get(PAYLOAD_FIELD)))
+			.toList();
+	}
+
+	/**
+	 * 최소 유휴 시간이 지난 다른 소비자(또는 재시작 전 자신)의 대기 엔트리를 넘겨받아 처리합니다.
+	 * 커서를 이어 가며 호출할 때마다 대기 목록의 다음 구간을 확인합니다.
+	 */
+	private void reclaimStaleEntries() {
+		List<Object> result = redisTemplate.execute(autoClaimScript, List.of(streamKey),
+			GROUP, consumerName, String.valueOf(claimMinIdle.toMillis()), claimCursor, String.valueOf(batchSize));
+		if (result == null || result.isEmpty()) {
+			return;
+		}
+		claimCursor = (String) result.get(0);
+		List<StreamEntry> entries = new ArrayList<>();
+		for (int i = 1; i + 1 < result.size(); i += 2) {
+			entries.add(new StreamEntry((String) result.get(i), (String) result.get(i + 1)));
+		}
+		if (!entries.isEmpty()) {
+			reclaimedMessages.increment(entries.size());
+			log.info("오래 처리되지 않은 채팅 저장 엔트리 {}건을 넘겨받았습니다.", entries.size());
+			process(entries);
+		}
+	}
+
+	/**
+	 * 엔트리를 묶음으로 저장하고 커밋된 엔트리만 ACK 합니다.
+	 * 묶음 저장이 실패하면 한 건씩 다시 저장해 문제가 되는 메시지만 대기 목록에 남깁니다.
+	 * 역직렬화할 수 없는 엔트리는 다시 시도해도 실패하므로 로그를 남기고 ACK 합니다.
+	 */
+	private void process(List<StreamEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		List<String> ackIds = new ArrayList<>(entries.size());
+		List<ChatMessage> messages = new ArrayList<>(entries.size());
+		for (StreamEntry entry : entries) {
+			ChatMessage message = parse(entry);
+			if (message == null) {
+				ackIds.add(entry.id());
+			} else {
+				messages.add(message);
+			}
+		}
+
+		if (!messages.isEmpty()) {
+			try {
+				persist(messages);
+				messages.forEach(message -> ackIds.add(message.getStreamId()));
+			} catch (RuntimeException e) {
+				log.warn("채팅 메시지 {}건 묶음 저장 실패, 한 건씩 다시 저장합니다.", messages.size(), e);
+				ackIds.addAll(persistIndividually(messages));
+			}
+		}
+
+		if (!ackIds.isEmpty()) {
+			redisTemplate.opsForStream().acknowledge(streamKey, GROUP, ackIds.toArray(String[]::new));
+		}
+	}
+
+	private void persist(List<ChatMessage> messages) {
+		long start = System.nanoTime();
+		int inserted = persistUseCase.persist(messages);
+		batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		persistedMessages.increment(inserted);
+		duplicateMessages.increment(messages.size() - inserted);
+	}
+
+	private List<String> persistIndividually(List<ChatMessage> messages) {
+		List<String> committed = new ArrayList<>(messages.size());
+		for (ChatMessage message : messages) {
+			try {
+				persist(List.of(message));
+				committed.add(message.getStreamId());
+			} catch (RuntimeException e) {
+				failedMessages.increment();
+				log.error("채팅 메시지 저장 실패, 대기 목록에 남깁니다. streamId={}", message.getStreamId(), e);
+			}
+		}
+		return committed;
+	}
+
+	private ChatMessage parse(StreamEntry entry) {
+		if (entry.payload() == null || entry.payload().isEmpty()) {
+			log.warn("내용이 없는 채팅 저장 엔트리를 건너뜁니다. streamId={}", entry.id());
+			return null;
+		}
+		try {
+			return objectMapper.readValue(entry.payload(), ChatMessage.class)
+				.toBuilder()
+				.streamId(entry.id())
+				.build();
+		} catch (JsonProcessingException e) {
+			log.error("채팅 저장 엔트리 역직렬화 실패, 건너뜁니다. streamId={}", entry.id(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * 대기 메시지 수와 그룹 지연(XINFO GROUPS의 lag, Redis 7 이상)을 갱신합니다.
+	 */
+	private void refreshBacklogMetrics() {
+		PendingMessagesSummary summary = redisTemplate.opsForStream().pending(streamKey, GROUP);
+		pendingMessages.set(summary == null ? 0 : summary.getTotalPendingMessages());
+		redisTemplate.opsForStream().groups(streamKey).stream()
+			.filter(group -> GROUP.equals(group.groupName()))
+			.findFirst()
+			.map(group -> group.getRaw().get("lag"))
+			.ifPresent(lag -> groupLag.set(lag instanceof Number number ? number.longValue() : -1));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static DefaultRedisScript<List<Object>> createAutoClaimScript() {
+		DefaultRedisScript<List<Object>> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/chat-stream-autoclaim.lua"));
+		script.setResultType((Class<List<Object>>) (Class<?>) List.class);
+		return script;
+	}
+
+	private static void sleepQuietly(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record StreamEntry(String id, String payload) {
+	}
+}
@@ -4,195 +4,139 @@ import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.Chat
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.RoomRankDto;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
-
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 채팅방 인기 순위 ZSET에서 참여자 수가 많은 채팅방을 조회하는 어댑터
+ * <p>
+ * 순위 ZSET(chat:rank:{category}, chat:rank-all)은 RedisChatSessionAdapter가 입장/퇴장 시 세션 집합 크기로 갱신하므로,
+ * 조회는 ZREVRANGE 한 번으로 끝나고 채팅방 수에 비례해 Redis를 막지 않는다.
+ *
+ * @since 2025-06-03
+ * @modified 2025-06-06 KEYS/SCARD Lua 스크립트 대신 순위 ZSET 조회로 변경
+ * @modified 2025-06-06 전체 순위·리스 키를 chat:rank:{category} 형식과 겹치지 않는 chat:rank-all, chat:rank-lease로 변경
+ */
 @Component
 @RequiredArgsConstructor
 public class RedisChatRankingAdapter implements ChatRankingPort {
 
+    private static final String RANK_KEY_PREFIX = "chat:rank:";
+    private static final String RANK_ALL_KEY = "chat:rank-all";
+    private static final String BROADCAST_LEASE_KEY = "chat:rank-lease";
+    private static final DefaultRedisScript<Long> LEASE_SCRIPT = createLeaseScript();
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final String leaseToken = UUID.randomUUID().toString();
 
     /**
      * Redis에서 특정 카테고리의 최고 인기 뉴스를 조회합니다.
-     * <p>
-     * 1. 카테고리 패턴 문자열 생성
-     * 2. Lua 스크립트 실행으로 원자적 조회
-     * 3. 결과 파싱하여 RoomRankDto 객체 반환
      *
      * @param category 조회할 카테고리명
-     * @return 카테고리별 최고 인기 채팅방 정보
+     * @return 카테고리별 최고 인기 채팅방 정보, 없으면 null
      * @author 양병학
      * @since 2025-06-03 최초 작성
+     * @modified 2025-06-06 카테고리 순위 ZSET의 1위 조회로 변경
      */
     @Override
     public RoomRankDto getTopNewsByCategory(String category) {
-        String pattern = buildCategoryPattern(category);
-        List<Object> result = executeTopNewsByCategoryScript(pattern);
-        return parseTopNewsByCategoryResult(category, result);
+        return firstOrNull(getTopRoomsByCategory(category, 1));
     }
 
     /**
      * Redis에서 전체 카테고리의 최고 인기 뉴스를 조회합니다.
-     * <p>
-     * 1. 전체 카테고리 대상 Lua 스크립트 실행
-     * 2. 모든 채팅방 중 최고 참여자 수 채팅방 조회
-     * 3. 결과 파싱하여 RoomRankDto 객체 반환
      *
-     * @return 전체 카테고리 중 최고 인기 채팅방 정보
+     * @return 전체 카테고리 중 최고 인기 채팅방 정보, 없으면 null
      * @author 양병학
      * @since 2025-06-03 최초 작성
+     * @modified 2025-06-06 전체 순위 ZSET의 1위 조회로 변경
      */
     @Override
     public RoomRankDto getTopNewsAll() {
-        List<Object> result = executeTopNewsAllScript();
-        return parseTopNewsAllResult(result);
+        return firstOrNull(getTopRoomsAll(1));
     }
 
     /**
-     * 카테고리별 Redis 키 패턴을 생성합니다.
+     * 카테고리 순위 ZSET(멤버: articleId)에서 상위 채팅방을 조회합니다.
      *
-     * @param category 카테고리명
-     * @return Redis 키 패턴 (예: "chat:room:politics:*")
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
-     */
-    private String buildCategoryPattern(String category) {
-        return "chat:room:" + category + ":*";
-    }
-
-    /**
-     * 카테고리별 최고 인기 뉴스 조회 Lua 스크립트를 실행합니다.
-     *
-     * @param pattern Redis 키 패턴
-     * @return 스크립트 실행 결과 리스트
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
-     */
-    private List<Object> executeTopNewsByCategoryScript(String pattern) {
-        DefaultRedisScript<List> script = createTopNewsByCategoryScript();
-        return (List<Object>) redisTemplate.execute(script, Collections.emptyList(), pattern);
-    }
-
-    /**
-     * 전체 카테고리 최고 인기 뉴스 조회 Lua 스크립트를 실행합니다.
-     *
-     * @return 스크립트 실행 결과 리스트
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
+     * @param category 조회할 카테고리명
+     * @param limit    조회할 채팅방 수
+     * @return 참여자 수 내림차순 채팅방 목록
+     * @since 2025-06-06
      */
-    private List<Object> executeTopNewsAllScript() {
-        DefaultRedisScript<List> script = createTopNewsAllScript();
-        return (List<Object>) redisTemplate.execute(script, Collections.emptyList());
+    @Override
+    public List<RoomRankDto> getTopRoomsByCategory(String category, int limit) {
+        return readTop(RANK_KEY_PREFIX + category, limit).stream()
+            .map(tuple -> new RoomRankDto(category, tuple.getValue(), toCount(tuple)))
+            .toList();
     }
 
     /**
-     * 카테고리별 최고 인기 뉴스 조회용 Redis Lua 스크립트를 생성합니다.
+     * 전체 순위 ZSET(멤버: category:articleId)에서 상위 채팅방을 조회합니다.
      *
-     * @return 설정된 Lua 스크립트 객체
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
+     * @param limit 조회할 채팅방 수
+     * @return 참여자 수 내림차순 채팅방 목록
+     * @since 2025-06-06
      */
-    private DefaultRedisScript<List> createTopNewsByCategoryScript() {
-        DefaultRedisScript<List> script = new DefaultRedisScript<>();
-        script.setLocation(new ClassPathResource("lua/get-top-news-by-category.lua"));
-        script.setResultType(List.class);
-        return script;
+    @Override
+    public List<RoomRankDto> getTopRoomsAll(int limit) {
+        return readTop(RANK_ALL_KEY, limit).stream()
+            .map(this::toRoomRankFromAllMember)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
     /**
-     * 전체 카테고리 최고 인기 뉴스 조회용 Redis Lua 스크립트를 생성합니다.
+     * 순위 브로드캐스트 리스를 SET NX PX로 획득하고, 이미 이 서버의 토큰이면 만료 시간만 연장합니다.
      *
-     * @return 설정된 Lua 스크립트 객체
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
+     * @param ttl 리스 유효 시간
+     * @return 이 서버가 리스를 가지고 있으면 true
+     * @since 2025-06-06
      */
-    private DefaultRedisScript<List> createTopNewsAllScript() {
-        DefaultRedisScript<List> script = new DefaultRedisScript<>();
-        script.setLocation(new ClassPathResource("lua/get-top-news-all.lua"));
-        script.setResultType(List.class);
-        return script;
+    @Override
+    public boolean tryAcquireBroadcastLease(Duration ttl) {
+        Long acquired = redisTemplate.execute(LEASE_SCRIPT, List.of(BROADCAST_LEASE_KEY),
+            leaseToken, String.valueOf(ttl.toMillis()));
+        return Long.valueOf(1).equals(acquired);
     }
 
     /**
-     * 카테고리별 조회 결과를 RoomRankDto 객체로 파싱합니다.
-     *
-     * @param category 카테고리명
-     * @param result   Redis 스크립트 실행 결과
-     * @return 파싱된 RoomRankDto 객체, 빈 결과면 null
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
+     * ZREVRANGE key 0 limit-1 WITHSCORES로 점수가 높은 멤버를 조회합니다.
      */
-    private RoomRankDto parseTopNewsByCategoryResult(String category, List<Object> result) {
-        if (isEmptyResult(result)) {
-            return null;
-        }
-
-        String articleId = extractStringValue(result, 0);
-        Integer count = extractIntValue(result, 1);
-
-        return new RoomRankDto(category, articleId, count);
+    private Set<TypedTuple<String>> readTop(String key, int limit) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+        return null == tuples ? Set.of() : tuples;
     }
 
-    /**
-     * 전체 카테고리 조회 결과를 RoomRankDto 객체로 파싱합니다.
-     *
-     * @param result Redis 스크립트 실행 결과
-     * @return 파싱된 RoomRankDto 객체, 빈 결과면 null
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
-     */
-    private RoomRankDto parseTopNewsAllResult(List<Object> result) {
-        if (isEmptyResult(result)) {
+    private RoomRankDto toRoomRankFromAllMember(TypedTuple<String> tuple) {
+        String member = tuple.getValue();
+        int separator = null == member ? -1 : member.indexOf(':');
+        if (separator < 0) {
             return null;
         }
-
-        String category = extractStringValue(result, 0);
-        String articleId = extractStringValue(result, 1);
-        Integer count = extractIntValue(result, 2);
-
-        return new RoomRankDto(category, articleId, count);
+        return new RoomRankDto(member.substring(0, separator), member.substring(separator + 1), toCount(tuple));
     }
 
-    /**
-     * 결과가 비어있는지 확인합니다.
-     *
-     * @param result 확인할 결과 리스트
-     * @return 비어있으면 true, 그렇지 않으면 false
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
-     */
-    private boolean isEmptyResult(List<Object> result) {
-        return null == result || result.isEmpty();
+    private int toCount(TypedTuple<String> tuple) {
+        return null == tuple.getScore() ? 0 : tuple.getScore().intValue();
     }
 
-    /**
-     * 결과 리스트에서 지정된 인덱스의 값을 문자열로 추출합니다.
-     *
-     * @param result 결과 리스트
-     * @param index  추출할 인덱스
-     * @return 문자열로 변환된 값
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
-     */
-    private String extractStringValue(List<Object> result, int index) {
-        return result.get(index).toString();
+    private RoomRankDto firstOrNull(List<RoomRankDto> ranks) {
+        return ranks.isEmpty() ? null : ranks.getFirst();
     }
 
-    /**
-     * 결과 리스트에서 지정된 인덱스의 값을 정수로 추출합니다.
-     *
-     * @param result 결과 리스트
-     * @param index  추출할 인덱스
-     * @return 정수로 변환된 값
-     * @author 양병학
-     * @since 2025-06-03 최초 작성
-     */
-    private Integer extractIntValue(List<Object> result, int index) {
-        return Integer.parseInt(result.get(index).toString());
+    private static DefaultRedisScript<Long> createLeaseScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("lua/chat-rank-lease.lua"));
+        script.setResultType(Long.class);
+        return script;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.jpa;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -59,4 +62,33 @@ public class ChatJpaAdapter implements ChatMessageDbPort {
 			articleId, before, of);
 		return entitySlice.map(ChatMessageMapper::toDomainFromEntity);
 	}
+
+	/**
+	 * 이미 저장된 스트림 엔트리 ID를 조회합니다.
+	 *
+	 * @param streamIds 확인할 Redis Stream 엔트리 ID 목록
+	 * @return 그중 DB에 이미 저장된 ID 집합
+	 * @since 2025-06-06
+	 */
+	@Override
+	public Set<String> findExistingStreamIds(Collection<String> streamIds) {
+		if (streamIds.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(repository.findStreamIdsIn(streamIds));
+	}
+
+	/**
+	 * 채팅 메시지를 JDBC 배치로 한 번에 저장합니다.
+	 * ID는 pooled-lo 시퀀스에서 미리 할당되므로 INSERT가 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+	 *
+	 * @param messages 저장할 채팅 메시지 목록
+	 * @since 2025-06-06
+	 */
+	@Override
+	public void saveAll(List<ChatMessage> messages) {
+		repository.saveAll(messages.stream()
+			.map(ChatMessageMapper::toEntity)
+			.toList());
+	}
 }
@@ -43,4 +43,6 @@ public class ChatMessageEntity {
 	private String content;
 	@Column(name = "timestamp")
 	private LocalDateTime timestamp;
+	@Column(name = "stream_id", unique = true)
+	private String streamId;
 }
@@ -1,10 +1,14 @@
 package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.jpa.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.jpa.entity.ChatMessageEntity;
 
@@ -21,4 +25,7 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity,
 		Pageable pageable
 	);
 
+	@Query("select m.streamId from ChatMessageEntity m where m.streamId in :streamIds")
+	List<String> findStreamIdsIn(@Param("streamIds") Collection<String> streamIds);
+
 }
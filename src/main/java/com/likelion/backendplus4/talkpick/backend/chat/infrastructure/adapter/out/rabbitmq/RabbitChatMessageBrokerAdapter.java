@@ -1,26 +1,37 @@
 package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.rabbitmq;
 
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageBrokerPort;
 import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatMessageResponse;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.support.mapper.ChatMessageResponseMapper;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.rabbitmq.ChatShardRouting;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * 채팅 메시지를 샤드 큐로 발행해 RabbitMessageListener가 WebSocket(STOMP 릴레이)으로 전달하도록 하는 어댑터입니다.
+ * chat.delivery.mode=amqp(기본값)일 때 사용됩니다.
+ *
+ * @since 2025-05-18
+ */
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.delivery", name = "mode", havingValue = "amqp", matchIfMissing = true)
 public class RabbitChatMessageBrokerAdapter implements ChatMessageBrokerPort {
 
-	private static final String CHAT_EXCHANGE = "chat.exchange";
-	private static final String ARTICLE_ROUTING_KEY = "chat.article.";
-
 	private final RabbitTemplate rabbitTemplate;
+	private final int shardCount;
+
+	public RabbitChatMessageBrokerAdapter(RabbitTemplate rabbitTemplate,
+		@Value("${chat.broker.shard-count:8}") int shardCount) {
+		this.rabbitTemplate = rabbitTemplate;
+		this.shardCount = shardCount;
+	}
 
 	/**
-	 * 주어진 기사(articleId)에 해당하는 라우팅 키로
+	 * 주어진 기사(articleId)가 속한 샤드의 라우팅 키로
 	 * 채팅 메시지를 AMQP 교환기(RabbitMQ)로 발행합니다.
 	 *
 	 * @param articleId 기사 ID
@@ -30,13 +41,14 @@ public class RabbitChatMessageBrokerAdapter implements ChatMessageBrokerPort {
 	 * @modified 2025.05.29 박찬병
 	 * 2025.05.27 - 폴더 위치 이동
 	 * 2025.05.29 - 메서드 이름 및 articleId 도 받아오도록 변경
+	 * 2025.06.06 - 단일 큐 대신 articleId 해시로 고른 샤드 큐로 발행
 	 */
 	@Override
 	public void deliverChatToArticle(String articleId, ChatMessage message) {
 		ChatMessageResponse chatResponse = ChatMessageResponseMapper.toResponseFromDomain(message);
 		rabbitTemplate.convertAndSend(
-			CHAT_EXCHANGE,
-			ARTICLE_ROUTING_KEY + articleId,
+			ChatShardRouting.SHARD_EXCHANGE_NAME,
+			ChatShardRouting.routingKey(ChatShardRouting.shardOf(articleId, shardCount)),
 			chatResponse
 		);
 	}
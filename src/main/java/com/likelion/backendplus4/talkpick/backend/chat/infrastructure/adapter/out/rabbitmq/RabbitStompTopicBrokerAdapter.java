@@ -0,0 +1,68 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.rabbitmq;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageBrokerPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.ChatException;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.error.ChatErrorCode;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatMessageResponse;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.support.mapper.ChatMessageResponseMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지를 STOMP 릴레이가 구독하는 amq.topic 교환기로 바로 발행하는 어댑터입니다.
+ *
+ * RabbitMQ STOMP 플러그인은 /topic/chat.{articleId} 구독을 amq.topic의 chat.{articleId} 라우팅 키 바인딩으로 만들므로,
+ * 여기에 한 번 직렬화한 JSON을 발행하면 샤드 큐 → 리스너 → SimpMessagingTemplate → STOMP 릴레이를 거치지 않고
+ * 구독자에게 바로 전달됩니다(브로커 왕복 2회 → 1회, JSON 직렬화 2회 → 1회).
+ *
+ * chat.delivery.mode=direct일 때 사용됩니다. 채팅 메시지가 필요한 다른 AMQP 소비자는
+ * amq.topic에 chat.* 라우팅 키로 자신의 큐를 바인딩하면 같은 메시지를 받을 수 있습니다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.delivery", name = "mode", havingValue = "direct")
+public class RabbitStompTopicBrokerAdapter implements ChatMessageBrokerPort {
+
+	private static final String STOMP_TOPIC_EXCHANGE = "amq.topic";
+	private static final String CHAT_ROUTING_KEY_PREFIX = "chat.";
+
+	private final RabbitTemplate rabbitTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 채팅 메시지를 응답 형식의 JSON으로 한 번 직렬화해 amq.topic의 chat.{articleId} 라우팅 키로 발행합니다.
+	 *
+	 * @param articleId 기사 ID
+	 * @param message   클라이언트에서 전송된 ChatMessage
+	 * @since 2025-06-06
+	 */
+	@Override
+	public void deliverChatToArticle(String articleId, ChatMessage message) {
+		ChatMessageResponse chatResponse = ChatMessageResponseMapper.toResponseFromDomain(message);
+		rabbitTemplate.send(STOMP_TOPIC_EXCHANGE, CHAT_ROUTING_KEY_PREFIX + articleId, toFrame(chatResponse));
+	}
+
+	private Message toFrame(ChatMessageResponse chatResponse) {
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setContentEncoding("UTF-8");
+		properties.setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT);
+		try {
+			return new Message(objectMapper.writeValueAsBytes(chatResponse), properties);
+		} catch (JsonProcessingException e) {
+			throw new ChatException(ChatErrorCode.MESSAGE_PARSE_ERROR);
+		}
+	}
+}
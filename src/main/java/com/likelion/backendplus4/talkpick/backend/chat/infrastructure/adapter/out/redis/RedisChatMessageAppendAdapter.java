@@ -0,0 +1,109 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.redis;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageAppendPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.ChatException;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.error.ChatErrorCode;
+
+/**
+ * 채팅 메시지 전송 시 Redis 쓰기를 Lua 스크립트 한 번으로 처리하는 어댑터입니다.
+ *
+ * 최근 메시지 리스트(LPUSH/LTRIM/EXPIRE, hasNext 플래그), 채팅방 스트림(XADD/MAXLEN/EXPIRE),
+ * DB 저장용 전역 스트림(XADD/MAXLEN ~)을 하나의 EVALSHA로 원자적으로 기록하므로
+ * 메시지당 7~8번이던 왕복이 1번으로 줄고, 메시지 JSON 직렬화도 한 번만 수행합니다.
+ * 스크립트가 여러 키를 다루므로 Redis Cluster에서는 같은 슬롯에 있어야 하며, 현재는 단일 Redis 구성을 전제로 합니다.
+ * 스트림 기반 이력 캐시로 전환한 뒤 chat.history.write-list를 끄면 최근 메시지 리스트는 더 이상 기록하지 않습니다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+public class RedisChatMessageAppendAdapter implements ChatMessageAppendPort {
+
+	private static final String LIST_KEY_PREFIX = "chat:list:";
+	private static final String MESSAGE_KEY_SUFFIX = ":messages";
+	private static final String HAS_NEXT_KEY_SUFFIX = ":hasNext";
+	private static final String STREAM_KEY_PREFIX = "chat:stream:";
+	private static final Duration CACHE_TTL = Duration.ofDays(3);
+	private static final Duration STREAM_TTL = Duration.ofDays(3);
+	private static final long MAX_STREAM_SIZE = 1000L;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final DefaultRedisScript<String> appendScript;
+	private final String persistStreamKey;
+	private final long persistStreamMaxLength;
+	private final boolean writeList;
+
+	public RedisChatMessageAppendAdapter(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+		@Value("${chat.persist.stream-key:chat:stream:persist}") String persistStreamKey,
+		@Value("${chat.persist.stream-max-length:100000}") long persistStreamMaxLength,
+		@Value("${chat.history.write-list:true}") boolean writeList) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.persistStreamKey = persistStreamKey;
+		this.persistStreamMaxLength = persistStreamMaxLength;
+		this.writeList = writeList;
+		this.appendScript = createAppendScript();
+	}
+
+	/**
+	 * 채팅 메시지를 한 번 직렬화한 뒤 Lua 스크립트로 리스트와 두 스트림에 함께 기록합니다.
+	 *
+	 * @param message      기록할 채팅 메시지 도메인 객체
+	 * @param maxCacheSize 최근 메시지 리스트에 유지할 최대 메시지 개수
+	 * @return 채팅방 스트림 엔트리 ID
+	 * @since 2025-06-06
+	 */
+	@Override
+	public String append(ChatMessage message, int maxCacheSize) {
+		String articleId = message.getArticleId();
+		List<String> keys = List.of(
+			LIST_KEY_PREFIX + articleId + MESSAGE_KEY_SUFFIX,
+			LIST_KEY_PREFIX + articleId + HAS_NEXT_KEY_SUFFIX,
+			STREAM_KEY_PREFIX + articleId,
+			persistStreamKey);
+
+		return redisTemplate.execute(appendScript, keys,
+			toJson(message),
+			String.valueOf(maxCacheSize),
+			String.valueOf(CACHE_TTL.toSeconds()),
+			String.valueOf(MAX_STREAM_SIZE),
+			String.valueOf(STREAM_TTL.toSeconds()),
+			String.valueOf(persistStreamMaxLength),
+			writeList ? "1" : "0");
+	}
+
+	/**
+	 * 채팅 메시지를 JSON 문자열로 변환한다.
+	 *
+	 * @param message 변환할 채팅 메시지
+	 * @return JSON 문자열
+	 * @throws ChatException JSON 변환 실패 시 발생
+	 * @since 2025-06-06
+	 */
+	private String toJson(ChatMessage message) {
+		try {
+			return objectMapper.writeValueAsString(message);
+		} catch (JsonProcessingException e) {
+			throw new ChatException(ChatErrorCode.MESSAGE_PARSE_ERROR);
+		}
+	}
+
+	private static DefaultRedisScript<String> createAppendScript() {
+		DefaultRedisScript<String> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/chat-append.lua"));
+		script.setResultType(String.class);
+		return script;
+	}
+}
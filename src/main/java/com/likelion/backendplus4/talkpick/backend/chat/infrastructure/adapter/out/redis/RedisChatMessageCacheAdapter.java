@@ -1,9 +1,13 @@
 package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.redis;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -19,10 +23,13 @@ import lombok.RequiredArgsConstructor;
 /**
  * Redis 기반으로 채팅 메시지를 캐싱하는 어댑터.
  * - 최근 100개 메시지만 유지하며, TTL은 3일로 설정된다.
+ * - 전송된 메시지 한 건의 기록은 RedisChatMessageAppendAdapter가 스트림 기록과 함께 Lua 스크립트로 처리한다.
  *
  * @since 2025-05-22
+ * @modified 2025-06-06 단건 캐싱을 RedisChatMessageAppendAdapter로 이전, chat.history.mode=list일 때만 사용
  */
 @Component
+@ConditionalOnProperty(prefix = "chat.history", name = "mode", havingValue = "list", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisChatMessageCacheAdapter implements ChatMessageCachePort {
 
@@ -35,33 +42,6 @@ public class RedisChatMessageCacheAdapter implements ChatMessageCachePort {
 	private final RedisTemplate<String, String> redisTemplate;
 	private final ObjectMapper objectMapper;
 
-	/**
-	 * Redis 리스트에 채팅 메시지를 저장하고, 지정된 최대 캐시 크기를 유지하며 TTL을 설정합니다.
-	 * 또한, 최대 크기를 초과하는 경우 다음 페이지 존재 여부 플래그를 갱신합니다.
-	 *
-	 * @param message       캐싱할 채팅 메시지 도메인 객체
-	 * @param maxCacheSize  캐시할 최대 메시지 개수
-	 * @author 박찬병
-	 * @since 2025-05-25
-	 */
-	@Override
-	public void cache(ChatMessage message, int maxCacheSize) {
-		String key = buildKey(message.getArticleId(), MESSAGE_KEY_SUFFIX);
-		String json = toJson(message);
-
-		Long currentSize = redisTemplate.opsForList().leftPush(key, json);
-
-		redisTemplate.opsForList().trim(key, 0, maxCacheSize - 1);
-		redisTemplate.expire(key, CACHE_TTL);
-
-		String flagKey = buildKey(message.getArticleId(), HAS_NEXT_KEY_SUFFIX);
-		boolean existingHasNext = Boolean.parseBoolean(redisTemplate.opsForValue().get(flagKey));
-
-		if (!existingHasNext && null != currentSize && currentSize > maxCacheSize) {
-			updateHasNextFlag(message.getArticleId(), true);
-		}
-	}
-
 	/**
 	 * 지정된 채팅방(articleId)에 대해 최신 메시지 목록을 Redis 캐시에 저장하고,
 	 * 추가 메시지 존재 여부(hasNext) 플래그를 업데이트한다.
@@ -124,6 +104,20 @@ public class RedisChatMessageCacheAdapter implements ChatMessageCachePort {
 		return Boolean.parseBoolean(redisTemplate.opsForValue().get(flagKey));
 	}
 
+	/**
+	 * 리스트 캐시는 이전 페이지 조회에 사용하지 않으므로 항상 DB에서 조회하도록 빈 Optional을 반환한다.
+	 *
+	 * @param articleId 게시글 식별자
+	 * @param before    이 시각 이전의 메시지들을 조회
+	 * @param limit     조회할 메시지 개수
+	 * @return 빈 Optional
+	 * @since 2025-06-06
+	 */
+	@Override
+	public Optional<Slice<ChatMessage>> findMessagesBefore(String articleId, LocalDateTime before, int limit) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Redis 캐시 키를 생성한다.
 	 *
@@ -0,0 +1,88 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.redis;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageStreamPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.ChatException;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.error.ChatErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 스트림(chat:stream:{articleId})을 XRANGE로 읽어 재연결한 클라이언트가 놓친 메시지만 돌려주는 어댑터입니다.
+ *
+ * 마지막으로 받은 엔트리부터 조회해 그 엔트리가 아직 스트림에 남아 있으면 이후 메시지도 빠짐없이 남아 있는 것이므로
+ * (MAXLEN 트리밍은 오래된 쪽부터 지움) 바로 뒤 엔트리들만 반환하고, 없으면 전체 페이지로 대체하도록 빈 Optional을 반환합니다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisChatStreamCatchUpAdapter implements ChatMessageStreamPort {
+
+	private static final String STREAM_KEY_PREFIX = "chat:stream:";
+	private static final String PAYLOAD_FIELD = "payload";
+	private static final Pattern STREAM_ID_PATTERN = Pattern.compile("\\d+-\\d+");
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 마지막으로 받은 스트림 엔트리 ID 이후의 메시지를 최신순으로 조회합니다.
+	 *
+	 * @param articleId    게시글 식별자
+	 * @param lastStreamId 클라이언트가 마지막으로 받은 스트림 엔트리 ID
+	 * @param limit        차분으로 돌려줄 최대 메시지 개수
+	 * @return 이후 메시지 목록, 차분으로 응답할 수 없으면 빈 Optional
+	 * @since 2025-06-06
+	 */
+	@Override
+	public Optional<List<ChatMessage>> findMessagesAfter(String articleId, String lastStreamId, int limit) {
+		if (null == lastStreamId || !STREAM_ID_PATTERN.matcher(lastStreamId).matches()) {
+			return Optional.empty();
+		}
+
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+			STREAM_KEY_PREFIX + articleId,
+			Range.rightUnbounded(Range.Bound.inclusive(lastStreamId)),
+			Limit.limit().count(limit + 2));
+
+		if (null == records || records.isEmpty() || !lastStreamId.equals(records.getFirst().getId().getValue())) {
+			return Optional.empty();
+		}
+		if (records.size() > limit + 1) {
+			return Optional.empty();
+		}
+
+		return Optional.of(records.subList(1, records.size()).reversed().stream()
+			.map(this::toMessage)
+			.filter(Objects::nonNull)
+			.toList());
+	}
+
+	private ChatMessage toMessage(MapRecord<String, Object, Object> record) {
+		Object payload = record.getValue().get(PAYLOAD_FIELD);
+		if (null == payload) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(payload.toString(), ChatMessage.class).toBuilder()
+				.streamId(record.getId().getValue())
+				.build();
+		} catch (JsonProcessingException e) {
+			throw new ChatException(ChatErrorCode.MESSAGE_PARSE_ERROR);
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.redis;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageCachePort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.ChatException;
+import com.likelion.backendplus4.talkpick.backend.chat.exception.error.ChatErrorCode;
+
+/**
+ * 채팅방 스트림(chat:stream:{articleId})을 최근 메시지 캐시로 사용하는 어댑터.
+ * - 별도의 리스트와 hasNext 플래그 키 없이 XREVRANGE로 최근 메시지를 조회한다.
+ * - hasNext는 스트림 길이와 잘림 여부(max-deleted-entry-id)로 계산하며, Redis 7 이상이 필요하다.
+ * - 이전 페이지도 스트림에 남아 있는 범위에서는 엔트리 ID로 조회하고, 부족할 때만 DB로 넘긴다.
+ *
+ * chat.history.mode=stream일 때 사용된다. 전환 중에는 chat.history.write-list=true로 리스트 기록을 유지해
+ * 언제든 list 모드로 되돌릴 수 있게 하고, 안정화 후 write-list를 끄면 리스트 키는 TTL(3일) 후 사라진다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+@ConditionalOnProperty(prefix = "chat.history", name = "mode", havingValue = "stream")
+public class RedisStreamChatMessageCacheAdapter implements ChatMessageCachePort {
+
+	private static final String STREAM_KEY_PREFIX = "chat:stream:";
+	private static final String PAYLOAD_FIELD = "payload";
+	private static final Duration STREAM_TTL = Duration.ofDays(3);
+	private static final int DEFAULT_MAX_CACHE_SIZE = 100;
+	/** 메시지 timestamp(애플리케이션 시계)와 엔트리 ID(Redis 시계)의 차이를 흡수하기 위한 조회 여유 시간 */
+	private static final Duration CLOCK_SKEW_TOLERANCE = Duration.ofSeconds(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final DefaultRedisScript<List<Object>> stateScript;
+	private final DefaultRedisScript<Long> seedScript;
+
+	public RedisStreamChatMessageCacheAdapter(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.stateScript = createScript("lua/chat-stream-state.lua", listResultType());
+		this.seedScript = createScript("lua/chat-stream-seed.lua", Long.class);
+	}
+
+	/**
+	 * 비어 있는 채팅방 스트림을 DB에서 읽은 최근 메시지로 채운다.
+	 * 그 사이 새 메시지가 기록되어 스트림이 생겼다면 덮어쓰지 않는다.
+	 *
+	 * @param articleId      채팅방 식별자
+	 * @param recentMessages DB에서 읽은 최신순 채팅 메시지 목록
+	 * @param hasNext        DB에 더 오래된 메시지가 있는지 여부
+	 * @since 2025-06-06
+	 */
+	@Override
+	public void cacheMessages(String articleId, List<ChatMessage> recentMessages, boolean hasNext) {
+		if (null == recentMessages || recentMessages.isEmpty()) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(STREAM_TTL.toSeconds()));
+		args.add(hasNext ? "1" : "0");
+		long lastMillis = 0;
+		long sequence = 0;
+		for (ChatMessage message : recentMessages.reversed()) {
+			long millis = toEpochMillis(message.getTimestamp());
+			if (millis <= lastMillis) {
+				sequence++;
+			} else {
+				lastMillis = millis;
+				sequence = 0;
+			}
+			args.add(lastMillis + "-" + sequence);
+			args.add(toJson(message));
+		}
+
+		redisTemplate.execute(seedScript, List.of(buildKey(articleId)), args.toArray());
+	}
+
+	/**
+	 * 채팅방 스트림에서 최근 메시지를 최신순으로 조회한다.
+	 *
+	 * @param articleId    채팅방 식별자
+	 * @param maxCacheSize 조회할 최대 메시지 개수
+	 * @return 최근 채팅 메시지 목록
+	 * @since 2025-06-06
+	 */
+	@Override
+	public List<ChatMessage> getRecentMessages(String articleId, int maxCacheSize) {
+		return readReverse(buildKey(articleId), Range.unbounded(), maxCacheSize).stream()
+			.map(this::toMessage)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	/**
+	 * 최근 메시지 한 페이지 이후에도 메시지가 더 있는지 스트림 길이와 잘림 여부로 계산한다.
+	 *
+	 * @param articleId 채팅방 식별자
+	 * @return 추가 메시지가 더 있는지 여부
+	 * @since 2025-06-06
+	 */
+	@Override
+	public boolean getHasNextFlag(String articleId) {
+		StreamState state = readState(buildKey(articleId));
+		return state.length() > DEFAULT_MAX_CACHE_SIZE || state.truncated();
+	}
+
+	/**
+	 * 스트림에 남아 있는 범위에서 지정된 시각 이전의 메시지를 최신순으로 조회한다.
+	 * 엔트리 ID의 밀리초 부분으로 조회 범위를 정한 뒤 메시지 timestamp로 다시 거른다.
+	 * 요청한 개수를 채우지 못했고 스트림이 잘려 있으면 DB 조회를 위해 빈 Optional을 반환한다.
+	 *
+	 * @param articleId 채팅방 식별자
+	 * @param before    이 시각 이전의 메시지들을 조회
+	 * @param limit     조회할 메시지 개수
+	 * @return 스트림으로 응답할 수 있으면 메시지 슬라이스, 아니면 빈 Optional
+	 * @since 2025-06-06
+	 */
+	@Override
+	public Optional<Slice<ChatMessage>> findMessagesBefore(String articleId, LocalDateTime before, int limit) {
+		String key = buildKey(articleId);
+		StreamState state = readState(key);
+		if (state.length() == 0) {
+			return Optional.empty();
+		}
+
+		List<ChatMessage> messages = new ArrayList<>(limit + 1);
+		String upperId = toEpochMillis(before.plus(CLOCK_SKEW_TOLERANCE)) + "-0";
+		Range<String> range = Range.leftUnbounded(Range.Bound.inclusive(upperId));
+		while (messages.size() <= limit) {
+			List<MapRecord<String, Object, Object>> records = readReverse(key, range, limit + 1);
+			for (MapRecord<String, Object, Object> record : records) {
+				ChatMessage message = toMessage(record);
+				if (message != null && message.getTimestamp().isBefore(before) && messages.size() <= limit) {
+					messages.add(message);
+				}
+			}
+			if (records.size() <= limit) {
+				break;
+			}
+			range = Range.leftUnbounded(Range.Bound.exclusive(records.getLast().getId().getValue()));
+		}
+
+		if (messages.size() > limit) {
+			return Optional.of(new SliceImpl<>(messages.subList(0, limit), Pageable.unpaged(), true));
+		}
+		if (state.truncated()) {
+			return Optional.empty();
+		}
+		return Optional.of(new SliceImpl<>(messages, Pageable.unpaged(), false));
+	}
+
+	private List<MapRecord<String, Object, Object>> readReverse(String key, Range<String> range, int count) {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+			.reverseRange(key, range, Limit.limit().count(count));
+		return null == records ? List.of() : records;
+	}
+
+	private StreamState readState(String key) {
+		List<Object> result = redisTemplate.execute(stateScript, List.of(key));
+		if (null == result || result.size() < 2) {
+			return new StreamState(0, false);
+		}
+		return new StreamState(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue() == 1);
+	}
+
+	private ChatMessage toMessage(MapRecord<String, Object, Object> record) {
+		Object payload = record.getValue().get(PAYLOAD_FIELD);
+		if (null == payload) {
+			return null;
+		}
+		return fromJson(payload.toString()).toBuilder()
+			.streamId(record.getId().getValue())
+			.build();
+	}
+
+	private String buildKey(String articleId) {
+		return STREAM_KEY_PREFIX + articleId;
+	}
+
+	private static long toEpochMillis(LocalDateTime timestamp) {
+		return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private String toJson(ChatMessage message) {
+		try {
+			return objectMapper.writeValueAsString(message);
+		} catch (JsonProcessingException e) {
+			throw new ChatException(ChatErrorCode.MESSAGE_PARSE_ERROR);
+		}
+	}
+
+	private ChatMessage fromJson(String json) {
+		try {
+			return objectMapper.readValue(json, ChatMessage.class);
+		} catch (JsonProcessingException e) {
+			throw new ChatException(ChatErrorCode.MESSAGE_PARSE_ERROR);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Class<List<Object>> listResultType() {
+		return (Class<List<Object>>) (Class<?>) List.class;
+	}
+
+	private static <T> DefaultRedisScript<T> createScript(String location, Class<T> resultType) {
+		DefaultRedisScript<T> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(resultType);
+		return script;
+	}
+
+	/**
+	 * 채팅방 스트림의 길이와, DB에 스트림보다 오래된 메시지가 남아 있는지(잘림 여부)를 나타낸다.
+	 */
+	private record StreamState(long length, boolean truncated) {
+	}
+}
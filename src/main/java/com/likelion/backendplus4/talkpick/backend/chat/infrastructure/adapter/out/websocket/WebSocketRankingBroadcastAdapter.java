@@ -0,0 +1,39 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.websocket;
+
+import java.util.List;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatRankingBroadcastPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.RoomRankDto;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatRankingResponse;
+import com.likelion.backendplus4.talkpick.backend.news.info.application.dto.PopularNewsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 채팅방 순위를 /topic/chat.rank.{category} 토픽으로 브로드캐스트하는 어댑터
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketRankingBroadcastAdapter implements ChatRankingBroadcastPort {
+
+	private static final String RANK_TOPIC_PREFIX = "/topic/chat.rank.";
+	private final SimpMessagingTemplate wsTemplate;
+
+	/**
+	 * 인기 채팅방 순위를 카테고리별 순위 토픽으로 전송합니다.
+	 *
+	 * @param category 카테고리명, 전체 순위는 "all"
+	 * @param rooms    참여자 수 내림차순 채팅방 목록
+	 * @param topNews  1위 채팅방의 뉴스 정보, 채팅방이 없으면 null
+	 * @since 2025-06-06
+	 */
+	@Override
+	public void broadcastRanking(String category, List<RoomRankDto> rooms, PopularNewsResponse topNews) {
+		wsTemplate.convertAndSend(RANK_TOPIC_PREFIX + category, new ChatRankingResponse(category, rooms, topNews));
+	}
+}
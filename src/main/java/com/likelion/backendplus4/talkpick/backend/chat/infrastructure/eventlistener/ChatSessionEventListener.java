@@ -1,6 +1,11 @@
 package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.eventlistener;
 
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatSessionPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +28,10 @@ import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 @RequiredArgsConstructor
 public class ChatSessionEventListener {
 
+    private static final Pattern CHAT_ROOM_TOPIC = Pattern.compile("/topic/chat\\.([^.]+)");
+
     private final ChatSessionPort chatSessionPort;
+    private final Map<String, String> roomSubscriptionIds = new ConcurrentHashMap<>();
 
     /**
      * 사용자의 웹소켓 구독 요청을 처리하고 세션 정보를 등록한다.
@@ -31,34 +39,55 @@ public class ChatSessionEventListener {
      * @param event 세션 구독 이벤트
      * @author 이해창
      * @since 2025-05-26
-     * @modified 2025-06-03 이해창
-     *  - 채팅방 구독 시 카테고리 정보 추가
+     * @modified 2025-06-06
+     * 2025-06-03 이해창 - 채팅방 구독 시 카테고리 정보 추가
+     * 2025-06-06 - 채팅방 토픽 구독만 세션으로 등록 (/app 경로의 일회성 구독 제외)
+     * 2025-06-06 - 채팅방 구독 ID를 기록해 해당 구독 해제 시에만 세션 제거
+     * 2025-06-06 - '/topic/chat.{articleId}' 형식만 채팅방으로 인식 (인원 수, 인기 순위 토픽 제외)
      */
     @EventListener
     public void handleSessionSubscribe(SessionSubscribeEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
         String destination = accessor.getDestination();
-        if (destination != null && !destination.endsWith(".count")) {
-            String articleId = destination.substring(destination.lastIndexOf(".") + 1);
-            String category = accessor.getFirstNativeHeader("category");
-            String sessionId = accessor.getSessionId();
-            System.out.println("Category: " + category + "ArticleId: "+ articleId);
-            chatSessionPort.addSession(articleId, category, sessionId);
+        if (destination == null) {
+            return;
         }
+        Matcher matcher = CHAT_ROOM_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+        String articleId = matcher.group(1);
+        String category = accessor.getFirstNativeHeader("category");
+        String sessionId = accessor.getSessionId();
+        log.debug("채팅방 구독: category={}, articleId={}", category, articleId);
+        roomSubscriptionIds.put(sessionId, accessor.getSubscriptionId());
+        chatSessionPort.addSession(articleId, category, sessionId);
     }
 
     /**
      * 사용자의 웹소켓 구독 해제를 처리하고 세션 정보를 제거한다.
+     * <p>
+     * 인원 수 토픽이나 일회성 구독의 해제로 채팅방 세션이 지워지지 않도록,
+     * 채팅방 구독 시 기록한 구독 ID와 일치하는 구독이 해제될 때만 세션을 제거한다.
+     * </p>
      *
      * @param event 세션 구독 해제 이벤트
      * @author 이해창
      * @since 2025-05-26
+     * @modified 2025-06-06
+     * 2025-06-06 - 채팅방 구독 ID와 일치하는 구독 해제만 세션 제거
      */
     @EventListener
     public void handleSessionUnsubscribe(SessionUnsubscribeEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = accessor.getSessionId();
-        chatSessionPort.removeSession(sessionId);
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        if (roomSubscriptionIds.remove(sessionId, subscriptionId)) {
+            chatSessionPort.removeSession(sessionId);
+        }
     }
 
     /**
@@ -67,11 +96,16 @@ public class ChatSessionEventListener {
      * @param event 세션 종료 이벤트
      * @author 이해창
      * @since 2025-05-26
+     * @modified 2025-06-06
+     * 2025-06-06 - 기록한 채팅방 구독 ID 정리
      */
     @EventListener
     public void handleDisconnect(SessionDisconnectEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = accessor.getSessionId();
+        if (sessionId != null) {
+            roomSubscriptionIds.remove(sessionId);
+        }
         chatSessionPort.removeSession(sessionId);
     }
 
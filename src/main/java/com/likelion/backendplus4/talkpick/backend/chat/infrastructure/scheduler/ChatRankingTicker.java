@@ -0,0 +1,25 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.in.ChatRankingUseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 채팅방 순위를 고정 지연 주기(chat.rank.tick-interval)로 다시 계산하는 스케줄러 클래스
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRankingTicker {
+
+	private final ChatRankingUseCase chatRankingUseCase;
+
+	@Scheduled(fixedDelayString = "${chat.rank.tick-interval:PT2S}")
+	public void tick() {
+		chatRankingUseCase.refreshRanking();
+	}
+}
@@ -30,4 +30,22 @@ public class ChatMessageMapper {
 			.messageType(MessageType.CHAT)
 			.build();
 	}
+
+	/**
+	 * ChatMessage 도메인 객체를 저장용 ChatMessageEntity로 변환합니다.
+	 * ID는 pooled-lo 시퀀스에서 할당되므로 비워 둡니다.
+	 *
+	 * @param chatMessage 변환할 ChatMessage 도메인 객체
+	 * @return 변환된 ChatMessageEntity 엔티티 객체
+	 * @since 2025-06-06
+	 */
+	public static ChatMessageEntity toEntity(ChatMessage chatMessage) {
+		return ChatMessageEntity.builder()
+			.articleId(chatMessage.getArticleId())
+			.sender(chatMessage.getSender())
+			.content(chatMessage.getContent())
+			.timestamp(chatMessage.getTimestamp())
+			.streamId(chatMessage.getStreamId())
+			.build();
+	}
 }
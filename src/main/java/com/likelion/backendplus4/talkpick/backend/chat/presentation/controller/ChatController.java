@@ -3,9 +3,11 @@ package com.likelion.backendplus4.talkpick.backend.chat.presentation.controller;
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.in.ChatUseCase;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.support.mapper.ChatMessageRequestMapper;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.request.ChatMessageRequest;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCatchUpResponse;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCountResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
@@ -45,4 +47,22 @@ public class ChatController {
         chatUseCase.getInitialCount(articleId);
     }
 
+    /**
+     * 재연결한 클라이언트가 '/app/chat.catchUp.{articleId}'를 구독하면 놓친 메시지를 구독 응답으로 한 번 전송한다.
+     * <p>
+     * lastStreamId 헤더에 마지막으로 받은 메시지의 스트림 엔트리 ID를 담아 구독하며,
+     * 응답을 받은 뒤 구독을 해제해도 된다. (채팅방 세션은 '/topic/chat.{articleId}' 구독 해제 시에만 정리됨)
+     * </p>
+     *
+     * @param articleId    채팅 대상 뉴스 식별자
+     * @param lastStreamId 마지막으로 받은 메시지의 스트림 엔트리 ID
+     * @return 놓친 메시지 응답 (차분 또는 전체 페이지)
+     * @since 2025-06-06
+     */
+    @SubscribeMapping("/chat.catchUp.{articleId}")
+    public ChatCatchUpResponse catchUp(@DestinationVariable String articleId,
+        @Header(name = "lastStreamId", required = false) String lastStreamId) {
+        return chatUseCase.catchUp(articleId, lastStreamId);
+    }
+
 }
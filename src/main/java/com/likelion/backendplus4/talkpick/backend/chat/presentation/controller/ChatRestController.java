@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.likelion.backendplus4.talkpick.backend.chat.application.port.in.ChatUseCase;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.docs.ChatRestControllerDocs;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCatchUpResponse;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatMessageResponse;
 import com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse;
 import com.likelion.backendplus4.talkpick.backend.common.response.SliceResponse;
@@ -56,4 +57,20 @@ public class ChatRestController implements ChatRestControllerDocs {
 		return ApiResponse.success(chatMessage);
 	}
 
+	/**
+	 * 재연결 시 마지막으로 받은 메시지 이후의 메시지만 조회
+	 *
+	 * @param articleId    채팅방 식별자
+	 * @param lastStreamId 마지막으로 받은 메시지의 스트림 엔트리 ID
+	 * @return 놓친 메시지 리스트 + reset flag (true면 최신 페이지 전체)
+	 */
+	@Override
+	@GetMapping("/{articleId}/messages/since")
+	public ResponseEntity<ApiResponse<ChatCatchUpResponse>> catchUpMessages(
+		@PathVariable String articleId,
+		@RequestParam String lastStreamId
+	) {
+		return ApiResponse.success(chatUseCase.catchUp(articleId, lastStreamId));
+	}
+
 }
@@ -1,5 +1,6 @@
 package com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.docs;
 
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCatchUpResponse;
 import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatMessageResponse;
 import com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse;
 import com.likelion.backendplus4.talkpick.backend.common.response.SliceResponse;
@@ -66,4 +67,28 @@ public interface ChatRestControllerDocs {
 		)
 		@RequestParam(defaultValue = "100") int limit
 	);
-}
\ No newline at end of file
+
+	@Operation(
+		summary = "재연결 시 놓친 채팅 메시지 조회",
+		description = "마지막으로 받은 메시지의 스트림 엔트리 ID(`lastStreamId`) 이후의 메시지만 최신순으로 조회합니다. "
+			+ "해당 엔트리가 이미 잘려 나갔거나 놓친 메시지가 한 페이지보다 많으면 `reset=true`와 함께 최신 메시지 한 페이지 전체를 반환합니다.",
+		security = @SecurityRequirement(name = "BearerAuth")
+	)
+	ResponseEntity<ApiResponse<ChatCatchUpResponse>> catchUpMessages(
+		@Parameter(
+			in = ParameterIn.PATH,
+			description = "채팅방 식별자",
+			required = true,
+			example = "article123"
+		)
+		@PathVariable String articleId,
+
+		@Parameter(
+			in = ParameterIn.QUERY,
+			description = "마지막으로 받은 메시지의 스트림 엔트리 ID",
+			required = true,
+			example = "1749196800000-0"
+		)
+		@RequestParam String lastStreamId
+	);
+}
@@ -0,0 +1,16 @@
+package com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 재연결 시 놓친 메시지 응답
+ * reset이 false이면 items는 마지막으로 받은 메시지 이후의 메시지만 담고,
+ * true이면 차분을 만들 수 없어 최신 메시지 한 페이지 전체를 담는다.
+ *
+ * @since 2025-06-06
+ */
+public record ChatCatchUpResponse(
+	boolean reset,
+	List<ChatMessageResponse> items,
+	boolean hasNext) {
+}
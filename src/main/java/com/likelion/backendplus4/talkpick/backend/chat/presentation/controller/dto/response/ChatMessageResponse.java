@@ -7,6 +7,7 @@ public record ChatMessageResponse(
 	String articleId,
 	String sender,
 	String content,
-	String timestamp
+	String timestamp,
+	String streamId
 ) {
 }
@@ -0,0 +1,17 @@
+package com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.RoomRankDto;
+import com.likelion.backendplus4.talkpick.backend.news.info.application.dto.PopularNewsResponse;
+
+/**
+ * /topic/chat.rank.{category}로 전송되는 인기 채팅방 순위 응답
+ *
+ * @since 2025-06-06
+ */
+public record ChatRankingResponse(
+	String category,
+	List<RoomRankDto> rooms,
+	PopularNewsResponse topNews) {
+}
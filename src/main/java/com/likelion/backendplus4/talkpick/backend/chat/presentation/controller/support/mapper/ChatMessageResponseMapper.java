@@ -16,6 +16,7 @@ public class ChatMessageResponseMapper {
 			.content(message.getContent())
 			.sender(message.getSender())
 			.timestamp(message.getTimestamp().format(ISO_FORMATTER))
+			.streamId(message.getStreamId())
 			.build();
 	}
 }
@@ -1,5 +1,7 @@
 package com.likelion.backendplus4.talkpick.backend.common.aop.logging;
 
+import java.util.concurrent.CompletionStage;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -28,6 +30,7 @@ public class LogJsonAspect {
 
 	/**
 	 * LogJson 애노테이션이 적용된 메서드의 입력값과 반환값을 JSON 문자열로 변환하여 로그로 출력한다.
+	 * 비동기 메서드가 CompletionStage를 반환하면 완료된 값을 로그로 출력하며, 취소가 전파되도록 반환값은 원래 객체를 그대로 돌려준다.
 	 *
 	 * @param pjp 실행 중인 JoinPoint
 	 * @param logJson LogJson 애노테이션 정보
@@ -35,6 +38,7 @@ public class LogJsonAspect {
 	 * @throws Throwable 실행 중 발생한 예외
 	 * @author 정안식
 	 * @since 2025-05-10
+	 * @modified 2025-06-06 CompletionStage 반환값은 완료 시점에 기록
 	 */
 	@Around("@annotation(logJson)")
 	public Object logJson(ProceedingJoinPoint pjp, LogJson logJson) throws Throwable {
@@ -46,6 +50,14 @@ public class LogJsonAspect {
 
 		Object result = pjp.proceed();
 
+		if (result instanceof CompletionStage<?> stage) {
+			stage.whenComplete((value, e) -> {
+				if (e == null) {
+					logJsonSafely(logLevel, "{}-{} 메서드 [JSON 반환값] - {}", className, method, value);
+				}
+			});
+			return result;
+		}
 		logJsonSafely(logLevel, "{}-{} 메서드 [JSON 반환값] - {}", className, method, result);
 
 		return result;
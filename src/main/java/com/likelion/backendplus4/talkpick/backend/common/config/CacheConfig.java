@@ -29,6 +29,18 @@ public class CacheConfig {
     @Value("${cache.expire-after-write:6h}")
     private Duration expireAfterWrite;
 
+    @Value("${cache.similar-news.maximum-size:10000}")
+    private int similarNewsMaximumSize;
+
+    @Value("${cache.similar-news.expire-after-write:1h}")
+    private Duration similarNewsExpireAfterWrite;
+
+    @Value("${cache.news-search.maximum-size:5000}")
+    private int newsSearchMaximumSize;
+
+    @Value("${cache.news-search.expire-after-write:30s}")
+    private Duration newsSearchExpireAfterWrite;
+
     public CacheConfig(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
     }
@@ -42,10 +54,22 @@ public class CacheConfig {
                 .recordStats());
 
         cacheManager.setCacheNames(List.of(
-                "popularNews",
-                "chatTopNews"
+                "popularNews"
         ));
 
+        cacheManager.registerCustomCache("similarNews", Caffeine.newBuilder()
+                .maximumSize(similarNewsMaximumSize)
+                .expireAfterWrite(similarNewsExpireAfterWrite)
+                .recordStats()
+                .build());
+
+        // Caffeine의 W-TinyLFU 정책이 접근 빈도를 비교해 신규 항목 입장을 결정하므로 일회성 검색어가 인기 검색어를 밀어내지 않는다.
+        cacheManager.registerCustomCache("newsSearch", Caffeine.newBuilder()
+                .maximumSize(newsSearchMaximumSize)
+                .expireAfterWrite(newsSearchExpireAfterWrite)
+                .recordStats()
+                .build());
+
         return cacheManager;
     }
 
@@ -0,0 +1,34 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.likelion.backendplus4.talkpick.backend.common.decorator.logging.MdcTaskDecorator;
+
+/**
+ * 검색 요청 처리 중 병렬로 실행할 작업(임베딩 호출, 보조 검색)용 스레드 풀 설정 클래스
+ * MDC를 전파해 요청 추적 로그가 작업 스레드에서도 이어지도록 한다.
+ *
+ * @since 2025-06-05
+ */
+@Configuration
+public class SearchExecutorConfig {
+
+	@Bean(name = "searchExecutor", destroyMethod = "shutdown")
+	public ThreadPoolTaskExecutor searchExecutor(
+		MdcTaskDecorator mdcTaskDecorator,
+		@Value("${news.search.executor.core-size:8}") int coreSize,
+		@Value("${news.search.executor.max-size:32}") int maxSize,
+		@Value("${news.search.executor.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("search-");
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setTaskDecorator(mdcTaskDecorator);
+		executor.initialize();
+		return executor;
+	}
+}
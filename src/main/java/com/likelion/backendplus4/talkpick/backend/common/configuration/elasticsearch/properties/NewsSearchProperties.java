@@ -0,0 +1,235 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexOptions;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexType;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * news.search.* 설정 값을 보관하는 프로퍼티 클래스.
+ *
+ * @since 2025-06-02
+ */
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "news.search")
+@Setter
+public class NewsSearchProperties {
+
+	private final Text text = new Text();
+
+	private final Hybrid hybrid = new Hybrid();
+
+	private final Similar similar = new Similar();
+
+	private final Suggest suggest = new Suggest();
+
+	private final Precompute precompute = new Precompute();
+
+	private final Reindex reindex = new Reindex();
+
+	private final Vector vector = new Vector();
+
+	private final Async async = new Async();
+
+	/**
+	 * 검색어 기반 뉴스 검색 설정
+	 */
+	@Getter
+	@Setter
+	public static class Text {
+		/** 정확한 총 개수를 셀 최대 히트 수 (초과 시 총 개수는 하한값으로 응답) */
+		private int trackTotalHitsUpTo = 10_000;
+
+		/** 정렬 마지막 동점 처리 필드 (keyword 타입, 동적 매핑 인덱스에서는 newsId가 text이므로 하위 필드 사용) */
+		private String tiebreakerField = "newsId.keyword";
+
+		/** 커서 조회용 point-in-time 유지 시간 */
+		private Duration pointInTimeKeepAlive = Duration.ofMinutes(1);
+	}
+
+	/**
+	 * 유사 뉴스 검색(summaryVector 기반) 설정
+	 */
+	@Getter
+	@Setter
+	public static class Similar {
+		/** 검색 방식 (KNN: HNSW 근사 검색, SCRIPT: script_score 전수 비교) */
+		private SimilarSearchMode mode = SimilarSearchMode.KNN;
+
+		/** kNN 검색 시 반환할 최근접 이웃 수 (페이지 범위가 더 크면 페이지 범위를 따른다) */
+		private int k = 50;
+
+		/** kNN 검색 시 샤드별로 탐색할 후보 수 */
+		private int numCandidates = 200;
+
+		/** 원본 기사와 같은 카테고리로 후보를 제한할지 여부 */
+		private boolean sameCategory = false;
+
+		/** 현재 시각 기준 후보 기사의 최대 경과 시간 (null이면 제한 없음) */
+		private Duration maxAge;
+	}
+
+	/**
+	 * BM25 + 벡터 하이브리드 검색 설정
+	 */
+	@Getter
+	@Setter
+	public static class Hybrid {
+		/** 각 검색에서 RRF 결합에 사용할 상위 결과 수 (요청 페이지 범위가 더 크면 페이지 범위를 따른다) */
+		private int rankWindowSize = 50;
+
+		/** RRF 순위 상수 k (점수 = Σ 1 / (k + 순위)) */
+		private int rankConstant = 60;
+
+		/** kNN 검색 시 샤드별로 탐색할 후보 수 */
+		private int numCandidates = 200;
+
+		/** 검색어 임베딩 대기 시간 (초과 시 BM25 결과만 반환) */
+		private Duration embeddingTimeout = Duration.ofMillis(300);
+	}
+
+	/**
+	 * 검색어 자동완성 설정
+	 */
+	@Getter
+	@Setter
+	public static class Suggest {
+		/** 로컬 접두사 인덱스에 넣을 최근 기사 제목 수 (index.max_result_window 이하) */
+		private int titleLimit = 10_000;
+
+		/** 로컬 접두사 인덱스에 넣을 인기 검색어 수 (Redis에는 이 수만큼만 유지) */
+		private int popularQueryLimit = 1_000;
+
+		/** 자동완성 후보가 되기 위한 인기 검색어의 최소 검색 횟수 (오타·개인 정보가 담긴 일회성 검색어 제외) */
+		private long popularQueryMinCount = 3;
+
+		/** 한 번에 반환할 최대 후보 수 */
+		private int maxSize = 10;
+
+		/** 로컬 인덱스에 후보가 없을 때 Elasticsearch 제목 접두사 검색으로 보완할지 여부 */
+		private boolean fallbackEnabled = true;
+
+		/** 보완 검색 시 마지막 토큰을 확장할 최대 용어 수 */
+		private int fallbackMaxExpansions = 20;
+	}
+
+	/**
+	 * 유사 뉴스 사전 계산 배치 설정
+	 */
+	@Getter
+	@Setter
+	public static class Precompute {
+		/** 배치 실행 및 사전 계산 목록 우선 조회 여부 */
+		private boolean enabled = false;
+
+		/** 기사별로 저장할 이웃 수 */
+		private int k = 50;
+
+		/** 계산 대상이 되는 최근 기사 등록 기간 (목록 보관 기간으로도 사용) */
+		private Duration window = Duration.ofDays(30);
+
+		/** 요약 벡터 차원 수 */
+		private int dimension = 1536;
+
+		/** MySQL에서 한 번에 읽어올 기사 수 */
+		private int fetchSize = 1000;
+
+		/** 한 번에 계산하고 저장할 질의 기사 수 */
+		private int chunkSize = 1024;
+
+		/** 이웃 계산에 사용할 ForkJoinPool 병렬도 */
+		private int parallelism = Runtime.getRuntime().availableProcessors();
+
+		/** 다중 노드 중복 실행 방지 잠금 유지 시간 */
+		private Duration lockTtl = Duration.ofMinutes(30);
+	}
+
+	/**
+	 * MySQL → Elasticsearch 재색인 설정
+	 */
+	@Getter
+	@Setter
+	public static class Reindex {
+		/** 한 번의 트랜잭션·커서로 읽을 기사 ID 범위 크기 */
+		private int rangeSize = 10_000;
+
+		/** 커서가 DB에서 한 번에 받아올 행 수 */
+		private int fetchSize = 500;
+
+		/** 벌크 요청 하나에 담을 최대 문서 수 */
+		private int bulkMaxOperations = 1_000;
+
+		/** 벌크 요청 하나의 최대 크기 */
+		private DataSize bulkMaxSize = DataSize.ofMegabytes(5);
+
+		/** 동시에 보낼 수 있는 최대 벌크 요청 수 (가득 차면 읽기가 블로킹된다) */
+		private int maxConcurrentRequests = 2;
+
+		/** 크기 기준을 채우지 못한 요청을 보내는 주기 */
+		private Duration flushInterval = Duration.ofSeconds(1);
+
+		/** 429로 거절된 문서의 최대 재시도 횟수 */
+		private int maxRetries = 3;
+
+		/** 재시도 첫 대기 시간 (재시도마다 두 배) */
+		private Duration retryBackoff = Duration.ofMillis(500);
+
+		/** 다중 노드 중복 실행 방지 잠금 유지 시간 (범위마다 연장하므로 범위 하나를 처리하는 시간보다 길게) */
+		private Duration lockTtl = Duration.ofMinutes(10);
+	}
+
+	/**
+	 * 새 버전 인덱스를 만들 때 적용할 summaryVector 매핑 설정
+	 * 기존 인덱스에는 적용되지 않으며, 인덱스 교체(재색인) 후 반영된다.
+	 */
+	@Getter
+	@Setter
+	public static class Vector {
+		/** 양자화 방식 */
+		private VectorIndexType type = VectorIndexType.INT8_HNSW;
+
+		/** HNSW 노드당 최대 연결 수 */
+		private int m = 16;
+
+		/** HNSW 그래프 구성 시 탐색할 후보 수 */
+		private int efConstruction = 100;
+
+		/** 색인할 차원 수 (1536 미만이면 앞쪽 차원만 남기고 다시 정규화) */
+		private int dims = 1536;
+
+		public VectorIndexOptions toOptions() {
+			return VectorIndexOptions.builder()
+				.type(type)
+				.m(m)
+				.efConstruction(efConstruction)
+				.dims(dims)
+				.build();
+		}
+	}
+
+	/**
+	 * 비동기 검색 요청 설정
+	 */
+	@Getter
+	@Setter
+	public static class Async {
+		/** Elasticsearch 검색 요청 하나의 최대 대기 시간 (초과 시 요청을 취소하고 504로 응답) */
+		private Duration requestTimeout = Duration.ofSeconds(2);
+	}
+
+	/**
+	 * 유사 뉴스 검색 방식
+	 */
+	public enum SimilarSearchMode {
+		KNN,
+		SCRIPT
+	}
+}
@@ -0,0 +1,38 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.rabbitmq;
+
+/**
+ * 채팅 메시지를 articleId 해시로 샤드 큐에 나누기 위한 이름 규칙과 샤드 계산을 모은 클래스.
+ * <p>
+ * 발행자와 소비자가 같은 규칙을 써야 같은 채팅방의 메시지가 항상 같은 큐로 들어가 순서가 유지된다.
+ * String.hashCode는 JVM 간에 같은 값을 보장하므로 모든 서버가 같은 샤드를 계산한다.
+ *
+ * @since 2025-06-06
+ */
+public final class ChatShardRouting {
+
+    public static final String SHARD_EXCHANGE_NAME = "chat.shard.exchange";
+    private static final String SHARD_QUEUE_PREFIX = "chat.queue.shard.";
+
+    private ChatShardRouting() {
+    }
+
+    /**
+     * articleId가 속한 샤드 번호를 계산합니다.
+     *
+     * @param articleId  채팅방(기사) 식별자
+     * @param shardCount 전체 샤드 수
+     * @return 0 이상 shardCount 미만의 샤드 번호
+     * @since 2025-06-06
+     */
+    public static int shardOf(String articleId, int shardCount) {
+        return Math.floorMod(articleId.hashCode(), shardCount);
+    }
+
+    public static String routingKey(int shard) {
+        return String.valueOf(shard);
+    }
+
+    public static String queueName(int shard) {
+        return SHARD_QUEUE_PREFIX + shard;
+    }
+}
@@ -12,14 +12,17 @@ import org.springframework.beans.factory.annotation.Value;
 
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * RabbitMQ 기반 채팅 인프라를 설정하는 Configuration 클래스.
  * TopicExchange, Queue, Binding, 및 RabbitTemplate을 빈으로 등록합니다.
  *
  * @since 2025-05-18
- * @modified 2025-05-20
+ * @modified 2025-06-06
  * 2025.05.20 - 폴더 위치 이동
+ * 2025.06.06 - articleId 해시 기반 샤드 큐(chat.queue.shard.{n}) 토폴로지 추가
  */
 @Configuration
 public class RabbitMQConfig {
@@ -32,6 +35,7 @@ public class RabbitMQConfig {
     private final String rabbitPassword;
     private final String rabbitHost;
     private final int rabbitPort;
+    private final int shardCount;
 
     private static final String CHAT_EXCHANGE_NAME = "chat.exchange";
     private static final String CHAT_QUEUE_NAME = "chat.queue.default";
@@ -41,12 +45,14 @@ public class RabbitMQConfig {
             @Value("${spring.rabbitmq.username}") String rabbitUser,
             @Value("${spring.rabbitmq.password}") String rabbitPassword,
             @Value("${spring.rabbitmq.host}") String rabbitHost,
-            @Value("${spring.rabbitmq.port}") int rabbitPort
+            @Value("${spring.rabbitmq.port}") int rabbitPort,
+            @Value("${chat.broker.shard-count:8}") int shardCount
     ) {
         this.rabbitUser = rabbitUser;
         this.rabbitPassword = rabbitPassword;
         this.rabbitHost = rabbitHost;
         this.rabbitPort = rabbitPort;
+        this.shardCount = shardCount;
     }
 
     /**
@@ -93,10 +99,13 @@ public class RabbitMQConfig {
 
     /**
      * 채팅 메시지 수신용 Durable 큐를 생성합니다.
+     * 샤드 큐 도입 이전 버전의 서버가 발행한 메시지를 롤링 배포 중에도 전달하기 위해 유지합니다.
      *
      * @return CHAT_QUEUE_NAME 라는 이름의 Queue 인스턴스
      * @author 이해창
      * @since 2025-05-18
+     * @modified 2025-06-06
+     * 2025-06-06 - 신규 메시지는 샤드 큐로 발행되며 이 큐는 이전 버전 메시지 전달용으로만 사용
      */
     @Bean
     public Queue chatQueue() {
@@ -119,6 +128,44 @@ public class RabbitMQConfig {
     }
 
 
+    /**
+     * 채팅 메시지를 샤드 큐로 보내는 DirectExchange.
+     * 발행자가 articleId 해시로 계산한 샤드 번호를 라우팅 키로 사용합니다.
+     *
+     * @return SHARD_EXCHANGE_NAME 라는 이름의 DirectExchange 인스턴스
+     * @since 2025-06-06
+     */
+    @Bean
+    public DirectExchange chatShardExchange() {
+        return ExchangeBuilder.directExchange(ChatShardRouting.SHARD_EXCHANGE_NAME)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * 샤드 수만큼 Durable 큐를 만들고 샤드 번호 라우팅 키로 chatShardExchange에 바인딩합니다.
+     * <p>x-single-active-consumer로 서버가 여러 대여도 큐마다 한 소비자만 메시지를 받으므로 채팅방별 순서가 유지되고,
+     * 활성 소비자가 끊기면 브로커가 다음 소비자로 넘깁니다.</p>
+     *
+     * @param chatShardExchange 샤드 큐를 바인딩할 DirectExchange
+     * @return 샤드 큐와 바인딩 목록
+     * @since 2025-06-06
+     */
+    @Bean
+    public Declarables chatShardQueues(DirectExchange chatShardExchange) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue queue = QueueBuilder.durable(ChatShardRouting.queueName(shard))
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue)
+                    .to(chatShardExchange)
+                    .with(ChatShardRouting.routingKey(shard)));
+        }
+        return new Declarables(declarables);
+    }
+
     /**
      * 메시지 발행을 위한 RabbitTemplate
      * 기본 라우팅 키를 ROUTING_PATTERN으로 설정합니다.
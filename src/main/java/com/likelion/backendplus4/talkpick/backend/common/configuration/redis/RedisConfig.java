@@ -7,6 +7,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * Redis 설정을 담당하는 Configuration 클래스입니다.
@@ -45,4 +47,20 @@ public class RedisConfig {
         return new LettuceConnectionFactory(redisConfig);
     }
 
+    /**
+     * 바이너리 값을 변환 없이 저장하는 RedisTemplate을 구성합니다.
+     * 임베딩 벡터처럼 직렬화 비용과 크기를 줄여야 하는 값을 바이트 배열 그대로 저장할 때 사용합니다.
+     *
+     * @param redisConnectionFactory Redis 연결 팩토리
+     * @return 문자열 키와 바이트 배열 값을 사용하는 RedisTemplate
+     * @since 2025-06-06
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
 }
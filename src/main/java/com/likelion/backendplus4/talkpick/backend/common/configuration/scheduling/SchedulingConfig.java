@@ -0,0 +1,14 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 배치성 작업(@Scheduled) 실행을 활성화하는 설정 클래스
+ *
+ * @since 2025-06-03
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,75 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.websocket;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+/**
+ * hybrid 브로커 모드의 노드 큐와 업스트림 리스너를 설정하는 Configuration 클래스.
+ * <p>
+ * 서버마다 자동 삭제되는 전용 큐(stomp.node.*) 하나를 두고, HybridBrokerSubscriptionRegistry가
+ * 로컬 구독이 있는 토픽만 amq.topic에 바인딩한다. 이 큐로 들어온 메시지는 로컬 SimpleBroker로 넘겨
+ * 이 서버의 WebSocket 세션들에게 메모리에서 전달한다.
+ *
+ * @since 2025-06-06
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chat.websocket", name = "broker", havingValue = "hybrid")
+public class HybridBrokerConfig {
+
+    private static final String NODE_QUEUE_PREFIX = "stomp.node.";
+
+    /**
+     * 이 서버 전용 노드 큐를 생성합니다. exclusive/auto-delete로 서버가 내려가면 함께 삭제됩니다.
+     *
+     * @return 노드 큐
+     * @since 2025-06-06
+     */
+    @Bean
+    public Queue hybridNodeQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(NODE_QUEUE_PREFIX));
+    }
+
+    /**
+     * 노드 큐의 메시지를 routing key에 해당하는 /topic 목적지로 로컬 브로커에 전달하는 리스너 컨테이너.
+     * 소비자 하나로 받아 토픽별 메시지 순서를 유지합니다.
+     *
+     * @param connectionFactory       브로커 연결을 위한 ConnectionFactory
+     * @param hybridNodeQueue         노드 큐
+     * @param brokerMessagingTemplate 로컬 브로커로 전송하는 SimpMessagingTemplate
+     * @return 노드 큐 리스너 컨테이너
+     * @since 2025-06-06
+     */
+    @Bean
+    public SimpleMessageListenerContainer hybridUpstreamContainer(ConnectionFactory connectionFactory,
+                                                                  Queue hybridNodeQueue,
+                                                                  SimpMessagingTemplate brokerMessagingTemplate) {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(hybridNodeQueue);
+        container.setConcurrentConsumers(1);
+        container.setMessageListener(message -> {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            String contentType = message.getMessageProperties().getContentType();
+            if (null != contentType) {
+                accessor.setContentType(MimeType.valueOf(contentType));
+            }
+            accessor.setHeader(HybridBrokerOutboundInterceptor.UPSTREAM_HEADER, Boolean.TRUE);
+            accessor.setLeaveMutable(true);
+            String destination = HybridBrokerOutboundInterceptor.TOPIC_PREFIX
+                + message.getMessageProperties().getReceivedRoutingKey();
+            brokerMessagingTemplate.send(destination,
+                MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+        });
+        return container;
+    }
+}
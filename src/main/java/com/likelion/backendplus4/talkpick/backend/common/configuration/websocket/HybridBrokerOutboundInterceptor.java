@@ -0,0 +1,75 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.websocket;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * hybrid 브로커 모드에서 서버가 /topic으로 보내는 메시지를 로컬 브로커 대신 RabbitMQ amq.topic으로 발행하는 인터셉터.
+ * <p>
+ * 브로커 채널(brokerChannel)에 등록되며, SimpMessagingTemplate으로 보낸 /topic/{key} 메시지를
+ * STOMP 플러그인과 같은 규칙(routing key = key)으로 amq.topic에 발행하고 로컬 전달은 막는다.
+ * 발행된 메시지는 해당 토픽을 구독 중인 모든 서버의 노드 큐로 한 번씩 돌아와 각 서버에서 로컬로 전달된다.
+ * 노드 큐에서 받아 로컬로 전달하는 메시지(UPSTREAM_HEADER)는 그대로 통과시킨다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.websocket", name = "broker", havingValue = "hybrid")
+public class HybridBrokerOutboundInterceptor implements ChannelInterceptor {
+
+    /** 노드 큐에서 받아 로컬 브로커로 전달하는 메시지임을 나타내는 헤더 */
+    public static final String UPSTREAM_HEADER = "hybridUpstream";
+    static final String STOMP_TOPIC_EXCHANGE = "amq.topic";
+    static final String TOPIC_PREFIX = "/topic/";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * 서버가 보낸 /topic 메시지를 amq.topic으로 발행하고, 로컬 브로커로는 전달하지 않는다.
+     *
+     * @param message 브로커 채널로 전송되는 메시지
+     * @param channel 브로커 채널
+     * @return 로컬로 전달할 메시지, amq.topic으로 발행했으면 null
+     * @since 2025-06-06
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getHeaders().containsKey(UPSTREAM_HEADER)) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (SimpMessageType.MESSAGE != messageType || null == destination || !destination.startsWith(TOPIC_PREFIX)) {
+            return message;
+        }
+
+        rabbitTemplate.send(STOMP_TOPIC_EXCHANGE, destination.substring(TOPIC_PREFIX.length()), toAmqpMessage(message));
+        return null;
+    }
+
+    private org.springframework.amqp.core.Message toAmqpMessage(Message<?> message) {
+        MessageProperties properties = new MessageProperties();
+        MimeType contentType = SimpMessageHeaderAccessor.wrap(message).getContentType();
+        if (null != contentType) {
+            properties.setContentType(contentType.toString());
+        }
+        properties.setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT);
+        Object payload = message.getPayload();
+        byte[] body = (payload instanceof byte[] bytes) ? bytes : payload.toString().getBytes(StandardCharsets.UTF_8);
+        return new org.springframework.amqp.core.Message(body, properties);
+    }
+}
@@ -0,0 +1,287 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.websocket;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * hybrid 브로커 모드에서 이 서버의 /topic 구독을 참조 카운트로 관리하고, 노드 큐의 amq.topic 바인딩을 맞추는 컴포넌트.
+ * <p>
+ * 토픽의 첫 로컬 구독이 생기면 노드 큐를 amq.topic에 해당 routing key로 바인딩하고, 마지막 구독이 사라지면 바인딩을 제거한다.
+ * 따라서 RabbitMQ의 구독(바인딩) 수와 전송 사본 수는 브라우저 수가 아니라 (활성 토픽 수 × 서버 수)에 비례한다.
+ * <p>
+ * 구독 이벤트 스레드는 참조 카운트만 바꾸고 브로커를 기다리지 않는다. 바인딩 선언·제거는 단일 스레드 reconciler가
+ * 필요한 토픽 집합과 실제 바인딩된 토픽 집합을 비교해 순서대로 처리하며, 실패한 토픽은 지연 후 다시 시도한다.
+ * 브로커 재연결 시에는 자동 삭제된 노드 큐를 다시 선언하고 활성 토픽을 모두 다시 바인딩한다.
+ * 와일드카드(*, #)가 포함된 구독은 노드 큐를 모든 토픽에 바인딩하게 되므로 참조 카운트에서 제외한다.
+ * <p>
+ * 활성 바인딩 수는 websocket_hybrid_upstream_bindings로, 로컬 구독 수는 websocket_hybrid_local_subscriptions로 기록한다.
+ *
+ * @since 2025-06-06
+ * @modified 2025-06-06 바인딩을 단일 스레드 reconciler로 처리하고 실패 시 재시도, 와일드카드 구독 제외
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.websocket", name = "broker", havingValue = "hybrid")
+public class HybridBrokerSubscriptionRegistry implements ConnectionListener {
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final RabbitAdmin rabbitAdmin;
+    private final Queue nodeQueue;
+    private final TopicExchange stompTopicExchange = new TopicExchange(HybridBrokerOutboundInterceptor.STOMP_TOPIC_EXCHANGE);
+    /** sessionId -> (subscriptionId -> routing key) */
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    /** routing key -> 이 서버의 구독 수 (바인딩이 필요한 토픽 집합) */
+    private final Map<String, Integer> topicReferences = new ConcurrentHashMap<>();
+    /** 실제로 바인딩된 routing key, reconciler 스레드만 변경한다. */
+    private final Set<String> boundKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger localSubscriptions = new AtomicInteger();
+    private final ScheduledExecutorService reconciler;
+    private final AtomicBoolean reconcileQueued = new AtomicBoolean();
+    private final AtomicBoolean resyncRequired = new AtomicBoolean();
+    private final Duration initialRetryDelay;
+    private Duration retryDelay;
+    private boolean retryScheduled;
+
+    public HybridBrokerSubscriptionRegistry(RabbitAdmin rabbitAdmin,
+                                            ConnectionFactory connectionFactory,
+                                            Queue hybridNodeQueue,
+                                            MeterRegistry meterRegistry) {
+        this(rabbitAdmin, connectionFactory, hybridNodeQueue, meterRegistry,
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("hybrid-binding-reconciler").daemon().factory()),
+            Duration.ofSeconds(1));
+    }
+
+    HybridBrokerSubscriptionRegistry(RabbitAdmin rabbitAdmin,
+                                     ConnectionFactory connectionFactory,
+                                     Queue hybridNodeQueue,
+                                     MeterRegistry meterRegistry,
+                                     ScheduledExecutorService reconciler,
+                                     Duration initialRetryDelay) {
+        this.rabbitAdmin = rabbitAdmin;
+        this.nodeQueue = hybridNodeQueue;
+        this.reconciler = reconciler;
+        this.initialRetryDelay = initialRetryDelay;
+        this.retryDelay = initialRetryDelay;
+        connectionFactory.addConnectionListener(this);
+
+        Gauge.builder("websocket_hybrid_upstream_bindings", boundKeys, Set::size)
+            .description("이 서버의 노드 큐가 amq.topic에 바인딩한 토픽 수")
+            .register(meterRegistry);
+        Gauge.builder("websocket_hybrid_local_subscriptions", localSubscriptions, AtomicInteger::get)
+            .description("이 서버에 연결된 WebSocket 세션의 /topic 구독 수")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * /topic 구독을 기록하고, 이 서버에서 해당 토픽의 첫 구독이면 노드 큐 바인딩을 요청한다.
+     * 와일드카드(*, #)가 포함된 토픽은 바인딩하지 않는다.
+     *
+     * @param event 세션 구독 이벤트
+     * @since 2025-06-06
+     */
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (null == destination || !destination.startsWith(HybridBrokerOutboundInterceptor.TOPIC_PREFIX)
+                || null == accessor.getSessionId() || null == accessor.getSubscriptionId()) {
+            return;
+        }
+
+        String routingKey = destination.substring(HybridBrokerOutboundInterceptor.TOPIC_PREFIX.length());
+        if (routingKey.isEmpty() || routingKey.contains("*") || routingKey.contains("#")) {
+            log.debug("와일드카드 토픽 구독은 바인딩하지 않습니다. destination={}", destination);
+            return;
+        }
+        String previous = sessionSubscriptions
+            .computeIfAbsent(accessor.getSessionId(), sessionId -> new ConcurrentHashMap<>())
+            .put(accessor.getSubscriptionId(), routingKey);
+        if (null != previous) {
+            release(previous);
+        }
+        acquire(routingKey);
+    }
+
+    /**
+     * 구독 해제된 토픽의 참조를 줄이고, 마지막 구독이었으면 바인딩 제거를 요청한다.
+     *
+     * @param event 세션 구독 해제 이벤트
+     * @since 2025-06-06
+     */
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (null == subscriptions || null == accessor.getSubscriptionId()) {
+            return;
+        }
+        String routingKey = subscriptions.remove(accessor.getSubscriptionId());
+        if (null != routingKey) {
+            release(routingKey);
+        }
+    }
+
+    /**
+     * 연결이 끊긴 세션의 모든 구독 참조를 줄인다.
+     *
+     * @param event 세션 종료 이벤트
+     * @since 2025-06-06
+     */
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (null != subscriptions) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * 브로커 연결이 (재)생성되면 노드 큐를 다시 선언하고 활성 토픽을 모두 다시 바인딩한다.
+     *
+     * @param connection 새로 생성된 브로커 연결
+     * @since 2025-06-06
+     */
+    @Override
+    public void onCreate(org.springframework.amqp.rabbit.connection.Connection connection) {
+        resyncRequired.set(true);
+        requestReconcile();
+    }
+
+    private void acquire(String routingKey) {
+        localSubscriptions.incrementAndGet();
+        if (topicReferences.merge(routingKey, 1, Integer::sum) == 1) {
+            requestReconcile();
+        }
+    }
+
+    private void release(String routingKey) {
+        localSubscriptions.decrementAndGet();
+        Integer remaining = topicReferences.computeIfPresent(routingKey, (key, count) -> count > 1 ? count - 1 : null);
+        if (null == remaining) {
+            requestReconcile();
+        }
+    }
+
+    /**
+     * reconciler에 비교 작업을 한 번만 예약한다. 이미 예약되어 있으면 그 작업이 최신 상태를 반영한다.
+     */
+    private void requestReconcile() {
+        if (reconcileQueued.compareAndSet(false, true)) {
+            reconciler.execute(this::runReconcile);
+        }
+    }
+
+    private void runReconcile() {
+        reconcileQueued.set(false);
+        retryScheduled = false;
+        if (resyncRequired.getAndSet(false) && !resync()) {
+            resyncRequired.set(true);
+            scheduleRetry();
+            return;
+        }
+
+        boolean failed = false;
+        Set<String> desired = new HashSet<>(topicReferences.keySet());
+        for (String routingKey : desired) {
+            if (!boundKeys.contains(routingKey)) {
+                failed |= !bind(routingKey);
+            }
+        }
+        for (String routingKey : Set.copyOf(boundKeys)) {
+            if (!desired.contains(routingKey) && !topicReferences.containsKey(routingKey)) {
+                failed |= !unbind(routingKey);
+            }
+        }
+
+        if (failed) {
+            scheduleRetry();
+        } else {
+            retryDelay = initialRetryDelay;
+        }
+    }
+
+    /**
+     * 브로커 재연결로 자동 삭제된 노드 큐를 다시 선언하고, 기존 바인딩이 모두 사라진 것으로 보고 다시 바인딩하게 한다.
+     */
+    private boolean resync() {
+        try {
+            rabbitAdmin.declareQueue(nodeQueue);
+            boundKeys.clear();
+            return true;
+        } catch (AmqpException e) {
+            log.warn("노드 큐 {} 재선언에 실패했습니다. {} 후 다시 시도합니다.", nodeQueue.getName(), retryDelay, e);
+            return false;
+        }
+    }
+
+    private void scheduleRetry() {
+        if (retryScheduled) {
+            return;
+        }
+        retryScheduled = true;
+        reconciler.schedule(this::requestReconcile, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+        Duration doubled = retryDelay.multipliedBy(2);
+        retryDelay = doubled.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : doubled;
+    }
+
+    private boolean bind(String routingKey) {
+        try {
+            rabbitAdmin.declareBinding(binding(routingKey));
+            boundKeys.add(routingKey);
+            return true;
+        } catch (AmqpException e) {
+            log.warn("토픽 {} 바인딩에 실패했습니다. {} 후 다시 시도합니다.", routingKey, retryDelay, e);
+            return false;
+        }
+    }
+
+    private boolean unbind(String routingKey) {
+        try {
+            rabbitAdmin.removeBinding(binding(routingKey));
+            boundKeys.remove(routingKey);
+            return true;
+        } catch (AmqpException e) {
+            log.warn("토픽 {} 바인딩 제거에 실패했습니다. {} 후 다시 시도합니다.", routingKey, retryDelay, e);
+            return false;
+        }
+    }
+
+    private Binding binding(String routingKey) {
+        return BindingBuilder.bind(nodeQueue).to(stompTopicExchange).with(routingKey);
+    }
+}
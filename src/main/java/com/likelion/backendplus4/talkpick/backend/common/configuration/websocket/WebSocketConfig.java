@@ -3,6 +3,7 @@ package com.likelion.backendplus4.talkpick.backend.common.configuration.websocke
 
 import com.likelion.backendplus4.talkpick.backend.auth.infrastructure.security.JwtAuthentication;
 import com.likelion.backendplus4.talkpick.backend.chat.infrastructure.interceptor.ChatInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -14,20 +15,27 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 /**
  * WebSocket 및 STOMP 기반 메시징을 설정하는 Configuration 클래스.
  * RabbitMQ를 브로커로 사용하기 위해 STOMP 브로커 릴레이를 활성화합니다.
+ * chat.websocket.broker=hybrid이면 릴레이 대신 로컬 SimpleBroker를 사용하고,
+ * 서버 간 전달은 노드 큐(HybridBrokerConfig)와 amq.topic 발행(HybridBrokerOutboundInterceptor)으로 처리합니다.
  *
  * @since 2025-05-18
- * @modified 2025-05-20
+ * @modified 2025-06-06
  * 2025.05.20 - 폴더 위치 이동
+ * 2025.06.06 - hybrid 브로커 모드 추가
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String HYBRID_BROKER_MODE = "hybrid";
+
     private final String relayHost;
     private final int relayPort;
     private final String username;
     private final String password;
     private final ChatInterceptor chatInterceptor;
+    private final String brokerMode;
+    private final ObjectProvider<HybridBrokerOutboundInterceptor> hybridOutboundInterceptor;
 
     /**
      * 생성자 주입을 통해 프로퍼티 값을 받습니다.
@@ -36,21 +44,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * @param relayPort 브로커 STOMP 포트 (spring.rabbitmq.stomp-port)
      * @param username  브로커 아이디 (spring.rabbitmq.username)
      * @param password  브로커 비밀번호 (spring.rabbitmq.password)
+     * @param brokerMode 브로커 모드 (chat.websocket.broker: relay | hybrid)
+     * @param hybridOutboundInterceptor hybrid 모드에서 /topic 메시지를 amq.topic으로 발행하는 인터셉터
      * @author 이해창
      * @since 2025-05-18
+     * @modified 2025-06-06
+     * 2025-06-06 - 브로커 모드와 hybrid 인터셉터 주입 추가
      */
     public WebSocketConfig(
             @Value("${spring.rabbitmq.host}") String relayHost,
             @Value("${spring.rabbitmq.stomp-port}") int relayPort,
             @Value("${spring.rabbitmq.username}") String username,
             @Value("${spring.rabbitmq.password}") String password,
-            ChatInterceptor chatInterceptor
+            ChatInterceptor chatInterceptor,
+            @Value("${chat.websocket.broker:relay}") String brokerMode,
+            ObjectProvider<HybridBrokerOutboundInterceptor> hybridOutboundInterceptor
     ) {
         this.relayHost = relayHost;
         this.relayPort = relayPort;
         this.username = username;
         this.password = password;
         this.chatInterceptor = chatInterceptor;
+        this.brokerMode = brokerMode;
+        this.hybridOutboundInterceptor = hybridOutboundInterceptor;
     }
 
     /**
@@ -71,21 +87,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * 메시지 브로커 설정
      * appDestinationPrefixes: 클라이언트 -> 서버로 메시지를 보낼 때 사용할 prefix
      * enableStompBrokerRelay: RabbitMQ STOMP 브로커 릴레이 설정
+     * hybrid 모드: 로컬 SimpleBroker + 브로커 채널 인터셉터로 /topic 메시지를 amq.topic에 발행
      *
      * @param config MessageBrokerRegistry
      * @author 이해창
      * @since 2025-05-18
+     * @modified 2025-06-06
+     * 2025-06-06 - hybrid 모드에서는 브라우저 구독마다 RabbitMQ 구독을 만들지 않도록 로컬 브로커 사용
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 destination prefix
-        config.enableStompBrokerRelay("/topic", "/queue")
-                .setRelayHost(relayHost)
-                .setRelayPort(relayPort)
-                .setClientLogin(username)
-                .setClientPasscode(password)
-                .setSystemLogin(username)
-                .setSystemPasscode(password);
+        if (HYBRID_BROKER_MODE.equalsIgnoreCase(brokerMode)) {
+            config.enableSimpleBroker("/topic", "/queue");
+            config.configureBrokerChannel().interceptors(hybridOutboundInterceptor.getObject());
+        } else {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(username)
+                    .setClientPasscode(password)
+                    .setSystemLogin(username)
+                    .setSystemPasscode(password);
+        }
 
         // 클라이언트 -> 서버 메시지 prefix
         config.setApplicationDestinationPrefixes("/app");
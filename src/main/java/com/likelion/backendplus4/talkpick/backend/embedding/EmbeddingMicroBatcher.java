@@ -0,0 +1,204 @@
+package com.likelion.backendplus4.talkpick.backend.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시에 들어온 임베딩 요청을 모아 한 번의 API 호출로 보내는 마이크로 배처
+ * 첫 요청이 들어온 뒤 최대 대기 시간이 지나거나 최대 배치 크기가 차면 배치를 전송하고,
+ * 응답 벡터를 요청 순서대로 각 future에 나누어 완료한다.
+ * 동시에 진행할 수 있는 API 호출 수는 세마포어로 제한하며, 한도에 도달하면 다음 배치가 그만큼 더 커진다.
+ * 특정 텍스트 때문일 수 있는 실패(예: 토큰 한도 초과 4xx)는 배치를 반으로 나누어 다시 요청하므로,
+ * 문제 텍스트를 보낸 호출자만 실패하고 같은 배치의 다른 호출자는 영향을 받지 않는다.
+ *
+ * @since 2025-06-06
+ * @modified 2025-06-06 배치 실패 시 나누어 재시도, 종료 중 추가된 요청 정리
+ */
+@Slf4j
+public class EmbeddingMicroBatcher implements AutoCloseable {
+	private static final long IDLE_POLL_MILLIS = 100;
+
+	private final Function<List<String>, List<float[]>> batchEmbedder;
+	private final Predicate<RuntimeException> splitOnFailure;
+	private final int maxBatchSize;
+	private final long maxWaitNanos;
+	private final Semaphore requestPermits;
+	private final BlockingQueue<PendingEmbedding> queue = new LinkedBlockingQueue<>();
+	private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Thread dispatcher;
+	private volatile boolean running = true;
+
+	/**
+	 * @param batchEmbedder         텍스트 목록을 같은 순서의 벡터 목록으로 변환하는 API 호출 함수
+	 * @param maxBatchSize          한 번의 API 호출에 담을 최대 텍스트 수
+	 * @param maxWait               첫 요청 이후 배치를 모으는 최대 대기 시간
+	 * @param maxConcurrentRequests 동시에 진행할 수 있는 최대 API 호출 수
+	 * @param splitOnFailure        배치 실패가 특정 텍스트 때문일 수 있어 배치를 나누어 재시도할지 판단하는 함수
+	 */
+	public EmbeddingMicroBatcher(Function<List<String>, List<float[]>> batchEmbedder, int maxBatchSize,
+		Duration maxWait, int maxConcurrentRequests, Predicate<RuntimeException> splitOnFailure) {
+		if (maxBatchSize < 1 || maxConcurrentRequests < 1 || maxWait.isNegative()) {
+			throw new IllegalArgumentException("배치 크기와 동시 요청 수는 1 이상, 대기 시간은 0 이상이어야 합니다.");
+		}
+		this.batchEmbedder = batchEmbedder;
+		this.splitOnFailure = splitOnFailure;
+		this.maxBatchSize = maxBatchSize;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.requestPermits = new Semaphore(maxConcurrentRequests);
+		this.dispatcher = Thread.ofPlatform()
+			.name("embedding-batcher")
+			.daemon()
+			.start(this::dispatchLoop);
+	}
+
+	/**
+	 * 텍스트를 다음 배치에 추가한다.
+	 * 반환된 future가 전송 전에 취소되면 해당 텍스트는 배치에서 제외된다.
+	 * 종료와 동시에 추가되어 디스패처가 가져가지 못한 요청은 즉시 실패로 완료한다.
+	 *
+	 * @param text 임베딩할 텍스트
+	 * @return 텍스트 임베딩 벡터 future
+	 * @since 2025-06-06
+	 */
+	public CompletableFuture<float[]> submit(String text) {
+		if (!running) {
+			return CompletableFuture.failedFuture(new IllegalStateException("임베딩 배처가 종료되었습니다."));
+		}
+		PendingEmbedding pending = new PendingEmbedding(text, new CompletableFuture<>());
+		queue.add(pending);
+		if (!running && queue.remove(pending)) {
+			pending.result().completeExceptionally(new IllegalStateException("임베딩 배처가 종료되었습니다."));
+		}
+		return pending.result();
+	}
+
+	/**
+	 * 새 요청을 받지 않고, 이미 모인 요청을 전송한 뒤 배처를 종료한다.
+	 *
+	 * @since 2025-06-06
+	 */
+	@Override
+	public void close() {
+		running = false;
+		try {
+			dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		requestExecutor.close();
+		failRemaining();
+	}
+
+	private void dispatchLoop() {
+		while (running || !queue.isEmpty()) {
+			try {
+				List<PendingEmbedding> batch = nextBatch();
+				if (batch.isEmpty()) {
+					continue;
+				}
+				requestPermits.acquire();
+				execute(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		failRemaining();
+	}
+
+	private void execute(List<PendingEmbedding> batch) {
+		try {
+			requestExecutor.execute(() -> {
+				try {
+					send(batch);
+				} finally {
+					requestPermits.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			requestPermits.release();
+			batch.forEach(p -> p.result().completeExceptionally(new IllegalStateException("임베딩 배처가 종료되었습니다.")));
+		}
+	}
+
+	private void failRemaining() {
+		List<PendingEmbedding> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		remaining.forEach(p -> p.result().completeExceptionally(new IllegalStateException("임베딩 배처가 종료되었습니다.")));
+	}
+
+	/**
+	 * 첫 요청을 기다린 뒤, 최대 대기 시간 동안 최대 배치 크기까지 요청을 모은다.
+	 */
+	private List<PendingEmbedding> nextBatch() throws InterruptedException {
+		PendingEmbedding first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+		if (first == null) {
+			return List.of();
+		}
+		List<PendingEmbedding> batch = new ArrayList<>(maxBatchSize);
+		batch.add(first);
+		long deadline = System.nanoTime() + maxWaitNanos;
+		while (batch.size() < maxBatchSize) {
+			long remainingNanos = deadline - System.nanoTime();
+			PendingEmbedding next = remainingNanos > 0
+				? queue.poll(remainingNanos, TimeUnit.NANOSECONDS)
+				: queue.poll();
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	private void send(List<PendingEmbedding> batch) {
+		List<PendingEmbedding> live = batch.stream()
+			.filter(p -> !p.result().isDone())
+			.toList();
+		if (!live.isEmpty()) {
+			embed(live);
+		}
+	}
+
+	/**
+	 * 텍스트 목록을 한 번에 요청한다.
+	 * 실패가 특정 텍스트 때문일 수 있으면 목록을 반으로 나누어 각각 다시 요청해, 문제 텍스트의 호출자만 실패하게 한다.
+	 */
+	private void embed(List<PendingEmbedding> live) {
+		try {
+			List<float[]> vectors = batchEmbedder.apply(live.stream().map(PendingEmbedding::text).toList());
+			if (vectors.size() != live.size()) {
+				throw new IllegalStateException("임베딩 응답 수가 요청 수와 다릅니다: " + vectors.size() + " / " + live.size());
+			}
+			for (int i = 0; i < live.size(); i++) {
+				live.get(i).result().complete(vectors.get(i));
+			}
+		} catch (RuntimeException e) {
+			if (live.size() > 1 && splitOnFailure.test(e)) {
+				log.warn("임베딩 배치 요청 실패로 배치를 나누어 다시 요청합니다 (텍스트 {}건): {}", live.size(), e.getMessage());
+				int middle = live.size() / 2;
+				embed(live.subList(0, middle));
+				embed(live.subList(middle, live.size()));
+				return;
+			}
+			log.warn("임베딩 배치 요청 실패 (텍스트 {}건)", live.size(), e);
+			live.forEach(p -> p.result().completeExceptionally(e));
+		}
+	}
+
+	private record PendingEmbedding(String text, CompletableFuture<float[]> result) {
+	}
+}
@@ -1,12 +1,19 @@
 package com.likelion.backendplus4.talkpick.backend.embedding;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.Embedding;
 import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.ai.openai.OpenAiEmbeddingModel;
 import org.springframework.ai.openai.OpenAiEmbeddingOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.retry.NonTransientAiException;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,47 +24,93 @@ import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.Time
 import com.likelion.backendplus4.talkpick.backend.embedding.exception.EmbeddingException;
 import com.likelion.backendplus4.talkpick.backend.embedding.exception.error.EmbeddingErrorCode;
 
+import jakarta.annotation.PreDestroy;
+
 /**
  * OpenAI API를 사용하여 텍스트 임베딩을 생성하는 어댑터 구현체
+ * 임베딩 모델은 한 번만 생성해 재사용하고, 동시에 들어온 요청은 마이크로 배처로 모아 한 번의 API 호출로 보낸다.
  *
  * @since 2025-05-11
+ * @modified 2025-06-06 모델 인스턴스 재사용 및 마이크로 배칭 적용
+ * @modified 2025-06-06 4xx 배치 실패 시 나누어 재시도, 응답 대기 시간 제한
  */
 @Component
 public class OpenAIEmbeddingAdapter implements EmbeddingPort {
-	private final OpenAiApi openAiApi;
-	private final String embeddingModelName;
+	private final OpenAiEmbeddingModel model;
+	private final EmbeddingMicroBatcher batcher;
+	private final Duration requestTimeout;
 
 	public OpenAIEmbeddingAdapter(OpenAiApi openAiApi,
-		@Value("${spring.ai.openai.embedding-model}") String embeddingModelName) {
-		this.openAiApi = openAiApi;
-		this.embeddingModelName = embeddingModelName;
+		@Value("${spring.ai.openai.embedding-model}") String embeddingModelName,
+		@Value("${embedding.batch.max-size:64}") int maxBatchSize,
+		@Value("${embedding.batch.max-wait:10ms}") Duration maxWait,
+		@Value("${embedding.batch.max-concurrent-requests:4}") int maxConcurrentRequests,
+		@Value("${embedding.batch.request-timeout:30s}") Duration requestTimeout) {
+		this.model = createModel(openAiApi, embeddingModelName);
+		this.batcher = new EmbeddingMicroBatcher(this::executeEmbedding, maxBatchSize, maxWait, maxConcurrentRequests,
+			OpenAIEmbeddingAdapter::isClientError);
+		this.requestTimeout = requestTimeout;
 	}
 
 	/**
 	 * 주어진 텍스트에 대한 임베딩 벡터를 반환한다.
+	 * 텍스트는 다음 배치에 추가되며, 배치 응답이 도착할 때까지 최대 요청 대기 시간만큼 호출 스레드가 대기한다.
 	 *
 	 * @param text 입력 텍스트
 	 * @return 텍스트 임베딩 벡터 배열
+	 * @throws EmbeddingException API 호출 중 오류 발생 시 또는 대기 시간 초과 시
 	 * @since 2025-05-11
+	 * @modified 2025-06-06 마이크로 배처를 통해 호출
+	 * @modified 2025-06-06 응답 대기 시간 제한
 	 */
 	@EntryExitLog
 	@LogMethodValues
 	@TimeTracker
 	@Override
 	public float[] getEmbedding(String text) {
-		OpenAiEmbeddingModel model = createModel();
-		return executeEmbedding(model, text);
+		CompletableFuture<float[]> result = batcher.submit(text);
+		try {
+			return result.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof EmbeddingException embeddingException) {
+				throw embeddingException;
+			}
+			throw new EmbeddingException(EmbeddingErrorCode.API_CALL_ERROR, e.getCause());
+		} catch (TimeoutException e) {
+			result.cancel(false);
+			throw new EmbeddingException(EmbeddingErrorCode.API_CALL_ERROR, e);
+		} catch (InterruptedException e) {
+			result.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new EmbeddingException(EmbeddingErrorCode.API_CALL_ERROR, e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		batcher.close();
+	}
+
+	/**
+	 * 4xx 응답처럼 요청 내용 때문일 수 있는 실패인지 확인한다. 이런 실패는 배치를 나누면 문제 텍스트만 실패한다.
+	 * 5xx·네트워크 오류는 모델의 재시도 템플릿이 이미 재시도했으므로 나누어 다시 요청하지 않는다.
+	 */
+	private static boolean isClientError(RuntimeException e) {
+		return e.getCause() instanceof NonTransientAiException;
 	}
 
 	/**
 	 * OpenAI 임베딩 모델 인스턴스를 생성한다.
 	 *
+	 * @param openAiApi          OpenAI API 클라이언트
+	 * @param embeddingModelName 임베딩 모델 이름
 	 * @return 생성된 OpenAiEmbeddingModel 객체
 	 * @throws EmbeddingException 모델 생성 중 오류 발생 시
 	 * @author 정안식
 	 * @since 2025-05-11
+	 * @modified 2025-06-06 어댑터 생성 시 한 번만 호출
 	 */
-	private OpenAiEmbeddingModel createModel() {
+	private static OpenAiEmbeddingModel createModel(OpenAiApi openAiApi, String embeddingModelName) {
 		try {
 			return new OpenAiEmbeddingModel(
 				openAiApi,
@@ -73,19 +126,24 @@ public class OpenAIEmbeddingAdapter implements EmbeddingPort {
 	}
 
 	/**
-	 * 주어진 모델을 사용하여 텍스트 임베딩을 계산한다.
+	 * 텍스트 목록의 임베딩을 한 번의 API 호출로 계산한다.
+	 * 응답 항목의 index를 기준으로 요청 순서에 맞춰 벡터를 정렬한다.
 	 *
-	 * @param model OpenAiEmbeddingModel 인스턴스
-	 * @param text  입력 텍스트
-	 * @return 계산된 임베딩 벡터 배열
+	 * @param texts 입력 텍스트 목록
+	 * @return 요청 순서와 같은 순서의 임베딩 벡터 목록
 	 * @throws EmbeddingException API 호출 중 오류 발생 시
 	 * @author 정안식
 	 * @since 2025-05-11
+	 * @modified 2025-06-06 여러 텍스트를 한 번에 요청
 	 */
-	private float[] executeEmbedding(OpenAiEmbeddingModel model, String text) {
+	private List<float[]> executeEmbedding(List<String> texts) {
 		try {
-			EmbeddingResponse response = model.embedForResponse(List.of(text));
-			return response.getResults().getFirst().getOutput();
+			EmbeddingResponse response = model.embedForResponse(texts);
+			float[][] vectors = new float[texts.size()][];
+			for (Embedding embedding : response.getResults()) {
+				vectors[embedding.getIndex()] = embedding.getOutput();
+			}
+			return List.of(vectors);
 		} catch (Exception e) {
 			throw new EmbeddingException(EmbeddingErrorCode.API_CALL_ERROR, e);
 		}
@@ -0,0 +1,221 @@
+package com.likelion.backendplus4.talkpick.backend.embedding.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.backendplus4.talkpick.backend.embedding.EmbeddingPort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 텍스트 임베딩 결과를 내용 주소(SHA-256) 기준으로 캐시하는 EmbeddingPort 데코레이터
+ * 로컬 Caffeine 캐시(L1)와 Redis(L2)를 차례로 조회하고, 둘 다 없을 때만 OpenAI 임베딩 API를 호출한다.
+ * Redis에는 벡터를 바이너리(float32 또는 float16)로 저장하며, Redis 장애 시에는 캐시 없이 API를 호출한다.
+ * 키에 모델 이름과 네임스페이스가 포함되므로 모델을 바꾸거나 네임스페이스 버전을 올리면 이전 벡터는 조회되지 않는다.
+ * 로컬 캐시에는 적재 중인 future를 넣어 같은 텍스트의 동시 요청을 한 번만 적재하되,
+ * Redis 조회와 API 호출은 Caffeine의 compute 안이 아니라 호출 스레드에서 수행한다.
+ *
+ * @since 2025-06-06
+ * @modified 2025-06-06 Redis·API 호출을 로컬 캐시 compute 밖으로 이동
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingEmbeddingAdapter implements EmbeddingPort {
+	private static final String KEY_PREFIX = "embedding:";
+	private static final String REQUEST_METRIC = "embedding_cache_requests";
+	private static final String BYTES_METRIC = "embedding_cache_bytes";
+
+	private final EmbeddingPort delegate;
+	private final RedisTemplate<String, byte[]> redisTemplate;
+	private final AsyncCache<String, float[]> localCache;
+	private final String modelName;
+	private final String namespace;
+	private final EmbeddingVectorCodec.Precision precision;
+	private final Duration remoteTtl;
+
+	private final Counter localHits;
+	private final Counter localMisses;
+	private final Counter remoteHits;
+	private final Counter remoteMisses;
+	private final Counter bytesRead;
+	private final Counter bytesWritten;
+
+	public CachingEmbeddingAdapter(
+		@Qualifier("openAIEmbeddingAdapter") EmbeddingPort delegate,
+		@Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${spring.ai.openai.embedding-model}") String modelName,
+		@Value("${embedding.cache.namespace:${spring.ai.openai.embedding-model}}") String namespace,
+		@Value("${embedding.cache.precision:FLOAT32}") EmbeddingVectorCodec.Precision precision,
+		@Value("${embedding.cache.local-maximum-size:10000}") long localMaximumSize,
+		@Value("${embedding.cache.local-expire-after-access:1d}") Duration localExpireAfterAccess,
+		@Value("${embedding.cache.remote-ttl:30d}") Duration remoteTtl) {
+		this.delegate = delegate;
+		this.redisTemplate = redisTemplate;
+		this.modelName = modelName;
+		this.namespace = namespace;
+		this.precision = precision;
+		this.remoteTtl = remoteTtl;
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaximumSize)
+			.expireAfterAccess(localExpireAfterAccess)
+			.recordStats()
+			.buildAsync();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "embedding");
+
+		this.localHits = requestCounter(meterRegistry, "local", "hit");
+		this.localMisses = requestCounter(meterRegistry, "local", "miss");
+		this.remoteHits = requestCounter(meterRegistry, "remote", "hit");
+		this.remoteMisses = requestCounter(meterRegistry, "remote", "miss");
+		this.bytesRead = bytesCounter(meterRegistry, "read");
+		this.bytesWritten = bytesCounter(meterRegistry, "write");
+	}
+
+	/**
+	 * 텍스트의 임베딩 벡터를 캐시에서 조회하고, 없으면 임베딩 API를 호출해 두 계층에 저장한다.
+	 * 같은 텍스트에 대한 동시 요청은 먼저 적재를 시작한 요청의 결과를 함께 기다린다.
+	 * 적재에 실패하면 future가 로컬 캐시에서 제거되어 다음 요청이 다시 적재한다.
+	 *
+	 * @param text 입력 텍스트
+	 * @return 텍스트 임베딩 벡터 배열
+	 * @since 2025-06-06
+	 * @modified 2025-06-06 적재 중 future를 공유하고 Redis·API 호출은 호출 스레드에서 수행
+	 */
+	@Override
+	public float[] getEmbedding(String text) {
+		String key = buildKey(text);
+		CompletableFuture<float[]> cached = localCache.getIfPresent(key);
+		if (cached != null) {
+			localHits.increment();
+			return await(cached);
+		}
+		localMisses.increment();
+
+		CompletableFuture<float[]> loading = new CompletableFuture<>();
+		CompletableFuture<float[]> inFlight = localCache.asMap().putIfAbsent(key, loading);
+		if (inFlight != null) {
+			return await(inFlight);
+		}
+		try {
+			float[] vector = loadFromRemoteOrDelegate(key, text);
+			loading.complete(vector);
+			return vector;
+		} catch (RuntimeException e) {
+			loading.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private static float[] await(CompletableFuture<float[]> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private float[] loadFromRemoteOrDelegate(String key, String text) {
+		byte[] stored = readRemote(key);
+		float[] remoteVector = stored != null ? decodeRemote(key, stored) : null;
+		if (remoteVector != null) {
+			remoteHits.increment();
+			bytesRead.increment(stored.length);
+			return remoteVector;
+		}
+		remoteMisses.increment();
+
+		float[] vector = delegate.getEmbedding(text);
+		writeRemote(key, EmbeddingVectorCodec.encode(vector, precision));
+		return vector;
+	}
+
+	private byte[] readRemote(String key) {
+		try {
+			return redisTemplate.opsForValue().get(key);
+		} catch (RuntimeException e) {
+			log.warn("임베딩 캐시(Redis) 조회 실패, 임베딩 API로 대체합니다. key={}", key, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Redis 값을 벡터로 복원한다. 손상되었거나 알 수 없는 형식의 값은 삭제하고 null을 반환해 캐시 미스로 처리한다.
+	 */
+	private float[] decodeRemote(String key, byte[] stored) {
+		try {
+			return EmbeddingVectorCodec.decode(stored);
+		} catch (IllegalArgumentException e) {
+			log.warn("임베딩 캐시(Redis) 값을 복원할 수 없어 삭제하고 임베딩 API로 대체합니다. key={}", key, e);
+			deleteRemote(key);
+			return null;
+		}
+	}
+
+	private void deleteRemote(String key) {
+		try {
+			redisTemplate.delete(key);
+		} catch (RuntimeException e) {
+			log.warn("임베딩 캐시(Redis) 삭제 실패. key={}", key, e);
+		}
+	}
+
+	private void writeRemote(String key, byte[] value) {
+		try {
+			redisTemplate.opsForValue().set(key, value, remoteTtl);
+			bytesWritten.increment(value.length);
+		} catch (RuntimeException e) {
+			log.warn("임베딩 캐시(Redis) 저장 실패. key={}", key, e);
+		}
+	}
+
+	/**
+	 * embedding:{네임스페이스}:{SHA-256(모델 이름 + 텍스트)} 형식의 키를 만든다.
+	 */
+	private String buildKey(String text) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(modelName.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(text.getBytes(StandardCharsets.UTF_8));
+			return KEY_PREFIX + namespace + ":" + HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Counter requestCounter(MeterRegistry meterRegistry, String level, String result) {
+		return Counter.builder(REQUEST_METRIC)
+			.description("임베딩 캐시 계층별 조회 수")
+			.tag("level", level)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private static Counter bytesCounter(MeterRegistry meterRegistry, String direction) {
+		return Counter.builder(BYTES_METRIC)
+			.description("임베딩 캐시(Redis) 읽기/쓰기 바이트 수")
+			.baseUnit("bytes")
+			.tag("direction", direction)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,92 @@
+package com.likelion.backendplus4.talkpick.backend.embedding.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터를 JSON 대신 고정 폭 바이너리로 변환하는 클래스
+ * 첫 바이트에 정밀도를 기록하므로 정밀도 설정을 바꿔도 이미 저장된 값을 그대로 읽을 수 있다.
+ *
+ * @since 2025-06-06
+ */
+public final class EmbeddingVectorCodec {
+
+	private EmbeddingVectorCodec() {
+	}
+
+	/**
+	 * 저장 정밀도
+	 */
+	public enum Precision {
+		/** 원본 그대로 차원당 4바이트 */
+		FLOAT32((byte) 1, Float.BYTES),
+		/** IEEE 754 반정밀도로 차원당 2바이트 (단위 벡터 성분 기준 오차 약 1e-3 이하) */
+		FLOAT16((byte) 2, Short.BYTES);
+
+		private final byte tag;
+		private final int bytesPerDimension;
+
+		Precision(byte tag, int bytesPerDimension) {
+			this.tag = tag;
+			this.bytesPerDimension = bytesPerDimension;
+		}
+
+		private static Precision fromTag(byte tag) {
+			for (Precision precision : values()) {
+				if (precision.tag == tag) {
+					return precision;
+				}
+			}
+			throw new IllegalArgumentException("알 수 없는 임베딩 정밀도 태그: " + tag);
+		}
+	}
+
+	/**
+	 * 벡터를 [정밀도 태그 1바이트][리틀 엔디언 성분 배열] 형식으로 변환한다.
+	 *
+	 * @param vector    임베딩 벡터
+	 * @param precision 저장 정밀도
+	 * @return 변환된 바이트 배열
+	 * @since 2025-06-06
+	 */
+	public static byte[] encode(float[] vector, Precision precision) {
+		ByteBuffer buffer = ByteBuffer.allocate(1 + vector.length * precision.bytesPerDimension)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.put(precision.tag);
+		for (float value : vector) {
+			if (precision == Precision.FLOAT16) {
+				buffer.putShort(Float.floatToFloat16(value));
+			} else {
+				buffer.putFloat(value);
+			}
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * encode로 만든 바이트 배열을 벡터로 되돌린다.
+	 *
+	 * @param bytes 저장된 바이트 배열
+	 * @return 임베딩 벡터
+	 * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+	 * @since 2025-06-06
+	 */
+	public static float[] decode(byte[] bytes) {
+		if (bytes.length == 0) {
+			throw new IllegalArgumentException("빈 임베딩 값입니다.");
+		}
+		Precision precision = Precision.fromTag(bytes[0]);
+		int payload = bytes.length - 1;
+		if (payload % precision.bytesPerDimension != 0) {
+			throw new IllegalArgumentException("임베딩 값 길이가 정밀도와 맞지 않습니다: " + bytes.length);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, payload).order(ByteOrder.LITTLE_ENDIAN);
+		float[] vector = new float[payload / precision.bytesPerDimension];
+		for (int i = 0; i < vector.length; i++) {
+			vector[i] = precision == Precision.FLOAT16
+				? Float.float16ToFloat(buffer.getShort())
+				: buffer.getFloat();
+		}
+		return vector;
+	}
+}
@@ -0,0 +1,14 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.event;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스에 새 문서가 반영되어 검색 가능한 상태가 바뀌었음을 알리는 애플리케이션 이벤트
+ * MySQL 적재 시점이 아니라 읽기 별칭에서 실제로 검색되는 시점을 기준으로 검색 결과 캐시를 무효화하는 데 사용한다.
+ *
+ * @param indices       감지 시점에 읽기 별칭이 가리키는 물리 인덱스 목록
+ * @param documentCount 감지 시점의 검색 가능한 문서 수
+ * @since 2025-06-06
+ */
+public record NewsIndexedEvent(List<String> indices, long documentCount) {
+}
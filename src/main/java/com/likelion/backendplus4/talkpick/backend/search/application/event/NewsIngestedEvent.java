@@ -0,0 +1,11 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.event;
+
+/**
+ * 새 기사가 수집되었음을 알리는 애플리케이션 이벤트
+ * 인덱스 이전 중 새 기사를 새 인덱스에 미러링하는 데 사용한다. 검색 결과 캐시 무효화는 NewsIndexedEvent를 기준으로 한다.
+ *
+ * @param latestArticleId 감지 시점의 최신 기사 ID
+ * @since 2025-06-04
+ */
+public record NewsIngestedEvent(long latestArticleId) {
+}
@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.in;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigrationStatus;
+
+/**
+ * 버전이 붙은 물리 인덱스(news_index_vN)와 별칭으로 검색 인덱스를 무중단 교체하는 유스케이스 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface NewsIndexMigrationUseCase {
+	/**
+	 * 현재 문서 매핑으로 다음 버전 인덱스를 만들고 벌크 재색인을 시작한다.
+	 * 이미 교체 작업이 진행 중이면 새 인덱스를 만들지 않고 중단된 재색인을 이어서 진행한다.
+	 *
+	 * @return 별칭 구성과 교체 진행 상태
+	 * @since 2025-06-06
+	 */
+	IndexMigrationStatus start();
+
+	/**
+	 * 재색인이 끝난 새 인덱스에 남은 신규 기사를 반영한 뒤, 별칭을 한 번의 요청으로 새 인덱스로 옮긴다.
+	 *
+	 * @return 교체 후 별칭 구성
+	 * @since 2025-06-06
+	 */
+	IndexMigrationStatus complete();
+
+	/**
+	 * 별칭 구성과 교체 진행 상태를 조회한다.
+	 *
+	 * @return 별칭 구성과 교체 진행 상태
+	 * @since 2025-06-06
+	 */
+	IndexMigrationStatus status();
+}
@@ -0,0 +1,37 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.in;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.ReindexStatus;
+
+/**
+ * MySQL 기사 테이블을 검색 인덱스로 재색인하는 유스케이스 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface NewsReindexUseCase {
+	/**
+	 * 재색인을 백그라운드에서 시작한다. 저장된 체크포인트가 있으면 그 다음 기사부터 이어서 색인한다.
+	 *
+	 * @param reset true이면 체크포인트를 지우고 처음부터 색인한다
+	 * @return 시작했으면 true, 이미 진행 중이면 false
+	 * @since 2025-06-06
+	 */
+	boolean start(boolean reset);
+
+	/**
+	 * 지정한 인덱스로 재색인을 백그라운드에서 시작한다. 인덱스 버전 교체 시 새 물리 인덱스를 채우는 데 사용한다.
+	 *
+	 * @param reset     true이면 체크포인트를 지우고 처음부터 색인한다
+	 * @param indexName 색인할 인덱스(또는 별칭) 이름
+	 * @return 시작했으면 true, 이미 진행 중이면 false
+	 * @since 2025-06-06
+	 */
+	boolean start(boolean reset, String indexName);
+
+	/**
+	 * 재색인 진행 상태를 조회한다.
+	 *
+	 * @return 재색인 진행 상태
+	 * @since 2025-06-06
+	 */
+	ReindexStatus status();
+}
@@ -1,6 +1,7 @@
 package com.likelion.backendplus4.talkpick.backend.search.application.port.in;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
@@ -9,9 +10,11 @@ import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimila
 
 /**
  * 뉴스 검색 유스케이스 포트 인터페이스
+ * 검색 결과는 요청 스레드를 점유하지 않도록 CompletableFuture로 반환한다.
  *
  * @author 정안식
  * @since 2025-05-15
+ * @modified 2025-06-06 검색 결과를 CompletableFuture로 반환
  */
 public interface NewsSearchUseCase {
 	/**
@@ -21,8 +24,9 @@ public interface NewsSearchUseCase {
 	 * @return 뉴스 검색 도메인 결과 리스트
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-06-06 비동기 조회로 변경
 	 */
-	NewsSearchResultAggregate searchByQuery(NewsSearch newsSearch);
+	CompletableFuture<NewsSearchResultAggregate> searchByQuery(NewsSearch newsSearch);
 
-	List<NewsSearchResult> searchSimilarByNewsId(NewsSimilarSearch newsSimilarSearch);
+	CompletableFuture<List<NewsSearchResult>> searchSimilarByNewsId(NewsSimilarSearch newsSimilarSearch);
 }
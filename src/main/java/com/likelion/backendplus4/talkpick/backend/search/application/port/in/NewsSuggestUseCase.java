@@ -0,0 +1,28 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.in;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSuggest;
+
+/**
+ * 검색어 자동완성 유스케이스 인터페이스
+ *
+ * @since 2025-06-05
+ */
+public interface NewsSuggestUseCase {
+	/**
+	 * 입력 중인 접두사로 시작하는 검색어 후보를 조회한다.
+	 *
+	 * @param newsSuggest 접두사와 후보 수 도메인 모델
+	 * @return 자동완성 후보 목록
+	 * @since 2025-06-05
+	 */
+	List<String> suggest(NewsSuggest newsSuggest);
+
+	/**
+	 * 최근 기사 제목과 인기 검색어로 로컬 접두사 인덱스를 다시 만든다.
+	 *
+	 * @since 2025-06-05
+	 */
+	void rebuildIndex();
+}
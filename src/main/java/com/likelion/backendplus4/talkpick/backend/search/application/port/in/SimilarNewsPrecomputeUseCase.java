@@ -0,0 +1,22 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.in;
+
+/**
+ * 유사 뉴스 목록 사전 계산 유스케이스 인터페이스
+ *
+ * @since 2025-06-03
+ */
+public interface SimilarNewsPrecomputeUseCase {
+	/**
+	 * 최근 기사 전체의 유사 뉴스 목록을 다시 계산한다.
+	 *
+	 * @since 2025-06-03
+	 */
+	void rebuildAll();
+
+	/**
+	 * 마지막 계산 이후 새로 수집된 기사만 계산하고, 기존 기사 목록에 역방향으로 병합한다.
+	 *
+	 * @since 2025-06-03
+	 */
+	void updateIncremental();
+}
@@ -0,0 +1,22 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.in;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexBenchmark;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexBenchmarkResult;
+
+/**
+ * summaryVector 인덱스 옵션별 recall·메모리·지연 시간을 표본 기사로 비교하는 유스케이스 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface VectorIndexBenchmarkUseCase {
+	/**
+	 * 옵션마다 임시 인덱스를 만들어 표본 기사를 색인하고, 원본 차원 전수 비교 결과를 정답으로 recall@10을 측정한다.
+	 *
+	 * @param benchmark 표본 수, 질의 수, 비교할 옵션 목록
+	 * @return 옵션별 측정 결과
+	 * @since 2025-06-06
+	 */
+	List<VectorIndexBenchmarkResult> compare(VectorIndexBenchmark benchmark);
+}
@@ -1,11 +1,21 @@
 package com.likelion.backendplus4.talkpick.backend.search.application.port.in.mapper;
 
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
+import com.likelion.backendplus4.talkpick.backend.search.application.support.SearchCursorCodec;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSuggest;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchMode;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexBenchmark;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexOptions;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSearchRequest;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSimilarSearchRequest;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSuggestRequest;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.VectorIndexBenchmarkRequest;
 
 /**
  * 요청 DTO를 도메인 모델로 변환하는 매퍼 클래스
@@ -14,6 +24,9 @@ import com.likelion.backendplus4.talkpick.backend.search.presentation.controller
  */
 @Component
 public class NewsSearchRequestMapper {
+	private static final int DEFAULT_BENCHMARK_SAMPLE_SIZE = 5_000;
+	private static final int DEFAULT_BENCHMARK_QUERY_COUNT = 100;
+
 	/**
 	 * 요청 DTO를 NewsSearch 도메인 모델로 변환한다.
 	 *
@@ -23,10 +36,40 @@ public class NewsSearchRequestMapper {
 	 * @since 2025-05-15
 	 */
 	public static NewsSearch toDomain(NewsSearchRequest req) {
-		return new NewsSearch(req.q(), req.page(), req.size());
+		return new NewsSearch(req.q(), req.page(), req.size(), SearchCursorCodec.decode(req.cursor()), req.pit(),
+			SearchMode.from(req.mode()), new NewsFilter(req.category(), req.publisher(), req.from(), req.to()));
 	}
 
 	public static NewsSimilarSearch toDomain(NewsSimilarSearchRequest req) {
-		return new NewsSimilarSearch(req.newsId(), req.page(), req.size());
+		return new NewsSimilarSearch(req.newsId(), req.page(), req.size(),
+			new NewsFilter(req.category(), req.publisher(), req.from(), req.to()));
+	}
+
+	public static NewsSuggest toDomain(NewsSuggestRequest req) {
+		return new NewsSuggest(req.q(), req.size());
+	}
+
+	/**
+	 * 벡터 인덱스 비교 요청을 도메인 모델로 변환한다. 생략한 값은 기본 옵션 값으로 채운다.
+	 *
+	 * @param req      변환할 요청 DTO
+	 * @param defaults 현재 설정된 벡터 인덱스 옵션
+	 * @return 생성된 도메인 모델 객체
+	 * @since 2025-06-06
+	 */
+	public static VectorIndexBenchmark toDomain(VectorIndexBenchmarkRequest req, VectorIndexOptions defaults) {
+		List<VectorIndexOptions> variants = req.variants() == null ? List.of() : req.variants().stream()
+			.map(variant -> VectorIndexOptions.builder()
+				.type(variant.type() != null ? variant.type() : defaults.getType())
+				.m(variant.m() != null ? variant.m() : defaults.getM())
+				.efConstruction(variant.efConstruction() != null ? variant.efConstruction() : defaults.getEfConstruction())
+				.dims(variant.dims() != null ? variant.dims() : defaults.getDims())
+				.build())
+			.toList();
+		return VectorIndexBenchmark.builder()
+			.sampleSize(req.sampleSize() != null ? req.sampleSize() : DEFAULT_BENCHMARK_SAMPLE_SIZE)
+			.queryCount(req.queryCount() != null ? req.queryCount() : DEFAULT_BENCHMARK_QUERY_COUNT)
+			.variants(variants)
+			.build();
 	}
 }
@@ -3,10 +3,19 @@ package com.likelion.backendplus4.talkpick.backend.search.application.port.in.ma
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.likelion.backendplus4.talkpick.backend.search.application.support.SearchCursorCodec;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigration;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigrationStatus;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.ReindexStatus;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexBenchmarkResult;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsIndexMigrationStatusResponse;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsReindexStatusResponse;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsSearchResponse;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsSearchResponseList;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsSuggestResponse;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.VectorIndexBenchmarkResponse;
 
 /**
  * 도메인 모델을 응답 DTO로 변환하는 매퍼 클래스
@@ -60,7 +69,82 @@ public class NewsSearchResponseMapper {
 		return NewsSearchResponseList.builder()
 			.newsSearchResponseList(items)
 			.total(newsSearchResultAggregate.getTotalHits())
+			.totalIsLowerBound(newsSearchResultAggregate.isTotalIsLowerBound())
+			.nextCursor(SearchCursorCodec.encode(newsSearchResultAggregate.getNextCursor()))
+			.build();
+	}
+
+	/**
+	 * 자동완성 후보 목록을 응답 DTO로 변환한다.
+	 *
+	 * @param suggestions 자동완성 후보 목록
+	 * @return 자동완성 응답 DTO
+	 * @since 2025-06-05
+	 */
+	public static NewsSuggestResponse toSuggestResponse(List<String> suggestions) {
+		return NewsSuggestResponse.builder()
+			.suggestions(suggestions)
+			.build();
+	}
+
+	/**
+	 * 재색인 진행 상태를 응답 DTO로 변환한다.
+	 *
+	 * @param started 이번 요청으로 재색인을 시작했는지 여부 (상태 조회면 null)
+	 * @param status  재색인 진행 상태
+	 * @return 재색인 상태 응답 DTO
+	 * @since 2025-06-06
+	 */
+	public static NewsReindexStatusResponse toReindexStatusResponse(Boolean started, ReindexStatus status) {
+		return NewsReindexStatusResponse.builder()
+			.started(started)
+			.running(status.isRunning())
+			.indexName(status.getIndexName())
+			.checkpoint(status.getCheckpoint())
+			.targetArticleId(status.getTargetArticleId())
+			.indexed(status.getIndexed())
+			.failed(status.getFailed())
+			.build();
+	}
+
+	/**
+	 * 인덱스 별칭 구성과 버전 교체 진행 상태를 응답 DTO로 변환한다.
+	 *
+	 * @param status 별칭 구성과 교체 진행 상태
+	 * @return 인덱스 교체 상태 응답 DTO
+	 * @since 2025-06-06
+	 */
+	public static NewsIndexMigrationStatusResponse toIndexMigrationStatusResponse(IndexMigrationStatus status) {
+		IndexMigration migration = status.getMigration();
+		return NewsIndexMigrationStatusResponse.builder()
+			.readIndices(status.getReadIndices())
+			.targetIndex(migration == null ? null : migration.getTargetIndex())
+			.sourceIndex(migration == null ? null : migration.getSourceIndex())
+			.backfillTargetArticleId(migration == null ? null : migration.getBackfillTargetArticleId())
+			.mirroredArticleId(migration == null ? null : migration.getMirroredArticleId())
+			.reindex(toReindexStatusResponse(null, status.getReindex()))
 			.build();
 	}
-}
 
+	/**
+	 * 벡터 인덱스 옵션별 비교 결과를 응답 DTO 목록으로 변환한다.
+	 *
+	 * @param results 옵션별 비교 결과
+	 * @return 비교 결과 응답 DTO 목록
+	 * @since 2025-06-06
+	 */
+	public static List<VectorIndexBenchmarkResponse> toBenchmarkResponse(List<VectorIndexBenchmarkResult> results) {
+		return results.stream()
+			.map(result -> VectorIndexBenchmarkResponse.builder()
+				.type(result.getOptions().getType().getMappingName())
+				.m(result.getOptions().getM())
+				.efConstruction(result.getOptions().getEfConstruction())
+				.dims(result.getOptions().getDims())
+				.recallAt10(result.getRecall())
+				.estimatedMemoryBytes(result.getEstimatedMemoryBytes())
+				.storeSizeBytes(result.getStoreSizeBytes())
+				.averageLatencyMillis(result.getAverageLatencyMillis())
+				.build())
+			.toList();
+	}
+}
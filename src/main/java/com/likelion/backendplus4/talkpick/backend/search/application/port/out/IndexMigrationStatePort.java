@@ -0,0 +1,28 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.util.Optional;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigration;
+
+/**
+ * 진행 중인 인덱스 버전 교체 작업 상태를 노드 간에 공유하는 포트 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface IndexMigrationStatePort {
+	Optional<IndexMigration> find();
+
+	void save(IndexMigration migration);
+
+	void clear();
+
+	/**
+	 * 이중 쓰기 위치를 from에서 to로 옮긴다. 다른 노드가 먼저 옮겼으면 실패한다.
+	 *
+	 * @param from 현재 이중 쓰기 위치
+	 * @param to   새 이중 쓰기 위치
+	 * @return 이 노드가 해당 범위를 맡게 되었으면 true
+	 * @since 2025-06-06
+	 */
+	boolean claimMirrorRange(long from, long to);
+}
@@ -0,0 +1,31 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.util.function.Consumer;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
+
+/**
+ * 재색인 대상 기사를 원본 저장소(MySQL)에서 순방향으로 읽어오는 포트 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface IndexableNewsSourcePort {
+	/**
+	 * 가장 최근에 수집된 기사의 ID를 조회한다.
+	 *
+	 * @return 최신 기사 ID, 기사가 없으면 0
+	 * @since 2025-06-06
+	 */
+	long findMaxArticleId();
+
+	/**
+	 * (fromId, toId] 범위의 기사를 ID 오름차순으로 하나씩 전달한다.
+	 * 범위 전체를 메모리에 올리지 않고 커서로 읽으므로 consumer가 블로킹되면 읽기도 함께 멈춘다.
+	 *
+	 * @param fromId   시작 기사 ID (미포함)
+	 * @param toId     마지막 기사 ID (포함)
+	 * @param consumer 기사별 처리 함수
+	 * @since 2025-06-06
+	 */
+	void forEachInRange(long fromId, long toId, Consumer<IndexableNews> consumer);
+}
@@ -0,0 +1,41 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
+
+/**
+ * 검색 인덱스에 문서를 벌크로 색인하는 포트 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface NewsBulkIndexPort {
+	/**
+	 * 벌크 색인 세션을 연다. 세션은 크기·바이트 기준으로 요청을 묶어 보내고, 동시 요청 수가 가득 차면 add를 블로킹한다.
+	 *
+	 * @param indexName 색인할 인덱스(또는 별칭) 이름
+	 * @param listener  문서별 색인 결과를 받을 리스너
+	 * @return 벌크 색인 세션
+	 * @since 2025-06-06
+	 */
+	BulkIndexSession open(String indexName, BulkIndexListener listener);
+
+	/**
+	 * 벌크 색인 세션. close 시 남은 요청을 모두 보내고 응답을 기다린다.
+	 */
+	interface BulkIndexSession extends AutoCloseable {
+		void add(IndexableNews news);
+
+		@Override
+		void close();
+	}
+
+	/**
+	 * 문서별 색인 결과 리스너. 벌크 응답 스레드에서 호출된다.
+	 */
+	interface BulkIndexListener {
+		void onIndexed(long articleId);
+
+		void onRetry(long articleId);
+
+		void onFailed(long articleId, String reason);
+	}
+}
@@ -0,0 +1,77 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexOptions;
+
+/**
+ * 검색 인덱스 생성·설정·별칭을 관리하는 포트 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface NewsIndexAdminPort {
+	/**
+	 * 이름이 가리키는 물리 인덱스 목록을 조회한다.
+	 * 별칭이면 별칭이 가리키는 인덱스들을, 같은 이름의 물리 인덱스면 그 인덱스를, 없으면 빈 목록을 반환한다.
+	 *
+	 * @param name 별칭 또는 인덱스 이름
+	 * @return 물리 인덱스 이름 목록
+	 * @since 2025-06-06
+	 */
+	List<String> resolveIndices(String name);
+
+	/**
+	 * 접두사로 시작하는 물리 인덱스 이름 목록을 조회한다.
+	 *
+	 * @param prefix 인덱스 이름 접두사
+	 * @return 물리 인덱스 이름 목록
+	 * @since 2025-06-06
+	 */
+	List<String> findIndicesByPrefix(String prefix);
+
+	/**
+	 * 이름이 가리키는 인덱스에서 현재 검색 가능한(refresh된) 문서 수를 조회한다.
+	 *
+	 * @param name 별칭 또는 인덱스 이름
+	 * @return 검색 가능한 문서 수
+	 * @since 2025-06-06
+	 */
+	long countSearchableDocuments(String name);
+
+	/**
+	 * 검색 문서 매핑과 설정된 벡터 인덱스 옵션으로 새 인덱스를 만든다. 벌크 색인 동안에는 refresh를 끈다.
+	 *
+	 * @param indexName 만들 인덱스 이름
+	 * @since 2025-06-06
+	 */
+	void createIndex(String indexName);
+
+	/**
+	 * 검색 문서 매핑에 지정한 벡터 인덱스 옵션을 적용해 새 인덱스를 만든다. 벌크 색인 동안에는 refresh를 끈다.
+	 *
+	 * @param indexName     만들 인덱스 이름
+	 * @param vectorOptions summaryVector 차원 수와 HNSW 옵션
+	 * @since 2025-06-06
+	 */
+	void createIndex(String indexName, VectorIndexOptions vectorOptions);
+
+	void deleteIndex(String indexName);
+
+	/**
+	 * 벌크 색인을 마친 인덱스의 refresh 설정을 기본값으로 되돌리고 즉시 refresh한다.
+	 *
+	 * @param indexName 인덱스 이름
+	 * @since 2025-06-06
+	 */
+	void finishBulkLoad(String indexName);
+
+	/**
+	 * 별칭을 기존 인덱스들에서 떼어 대상 인덱스로 옮기는 작업을 한 번의 요청으로 원자적으로 수행한다.
+	 * 별칭과 같은 이름의 물리 인덱스(별칭 도입 전 인덱스)가 있으면 같은 요청에서 삭제한다.
+	 *
+	 * @param alias       검색 별칭
+	 * @param targetIndex 별칭을 옮길 인덱스
+	 * @since 2025-06-06
+	 */
+	void switchAlias(String alias, String targetIndex);
+}
@@ -1,7 +1,9 @@
 package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
@@ -9,8 +11,10 @@ import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimila
 
 /**
  * 뉴스 검색 저장소에 대한 포트 인터페이스
+ * 모든 조회는 요청 스레드를 점유하지 않도록 비동기로 수행되며, 반환된 future를 취소하면 진행 중인 요청도 취소된다.
  *
  * @since 2025-05-15
+ * @modified 2025-06-06 조회 결과를 CompletableFuture로 반환
  */
 public interface NewsSearchRepositoryPort {
 	/**
@@ -20,7 +24,33 @@ public interface NewsSearchRepositoryPort {
 	 * @return 뉴스 검색 도메인 결과 리스트
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-06-06 비동기 조회로 변경
 	 */
-	NewsSearchResultAggregate searchByMatch(NewsSearch newsSearch);
-	List<NewsSearchResult> searchByNewsId(NewsSimilarSearch newsSimilarSearch);
+	CompletableFuture<NewsSearchResultAggregate> searchByMatch(NewsSearch newsSearch);
+
+	CompletableFuture<List<NewsSearchResult>> searchByNewsId(NewsSimilarSearch newsSimilarSearch);
+
+	/**
+	 * 뉴스 ID 목록에 해당하는 뉴스를 요청한 순서대로 조회한다. 존재하지 않는 ID는 건너뛴다.
+	 *
+	 * @param newsIds 조회할 뉴스 ID 목록
+	 * @return 뉴스 검색 도메인 결과 리스트
+	 * @since 2025-06-03
+	 * @modified 2025-06-06 비동기 조회로 변경
+	 */
+	CompletableFuture<List<NewsSearchResult>> findByNewsIds(List<String> newsIds);
+
+	/**
+	 * 검색어 임베딩 벡터와 가까운 뉴스를 유사도 내림차순으로 조회한다.
+	 * 필터는 kNN 사전 필터로 적용되어 조건을 만족하는 문서 중에서 k개를 찾는다.
+	 *
+	 * @param queryVector 검색어 임베딩 벡터
+	 * @param k           조회할 최대 건수
+	 * @param filter      결과 제한 필터
+	 * @return 뉴스 검색 도메인 결과 리스트
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 카테고리·언론사·발행일 사전 필터 추가
+	 * @modified 2025-06-06 비동기 조회로 변경
+	 */
+	CompletableFuture<List<NewsSearchResult>> searchByVector(float[] queryVector, int k, NewsFilter filter);
 }
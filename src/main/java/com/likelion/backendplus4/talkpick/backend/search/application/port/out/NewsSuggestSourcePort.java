@@ -0,0 +1,29 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.util.List;
+
+/**
+ * 자동완성 후보가 되는 기사 제목을 검색 저장소에서 조회하는 포트 인터페이스
+ *
+ * @since 2025-06-05
+ */
+public interface NewsSuggestSourcePort {
+	/**
+	 * 최근 발행된 기사 제목을 발행일 내림차순으로 최대 limit건 조회한다.
+	 *
+	 * @param limit 조회할 최대 건수
+	 * @return 기사 제목 목록
+	 * @since 2025-06-05
+	 */
+	List<String> findRecentTitles(int limit);
+
+	/**
+	 * 접두사로 시작하는 구절을 포함한 기사 제목을 최대 size건 조회한다.
+	 *
+	 * @param prefix 사용자가 입력 중인 접두사
+	 * @param size   조회할 최대 건수
+	 * @return 기사 제목 목록
+	 * @since 2025-06-05
+	 */
+	List<String> findTitlesByPrefix(String prefix, int size);
+}
@@ -0,0 +1,32 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsVector;
+
+/**
+ * 유사 뉴스 사전 계산을 위해 기사 요약 벡터를 읽어오는 포트 인터페이스
+ *
+ * @since 2025-06-03
+ */
+public interface NewsVectorSourcePort {
+	/**
+	 * 기사 ID 오름차순으로 lastArticleId 이후의 최근 기사 벡터를 최대 limit건 조회한다.
+	 *
+	 * @param lastArticleId 이전 배치에서 마지막으로 읽은 기사 ID (미포함)
+	 * @param since         조회할 기사의 최소 등록 시각
+	 * @param limit         조회할 최대 건수
+	 * @return 기사 벡터 목록
+	 * @since 2025-06-03
+	 */
+	List<NewsVector> findVectorsAfter(long lastArticleId, LocalDateTime since, int limit);
+
+	/**
+	 * 가장 최근에 수집된 기사의 ID를 조회한다.
+	 *
+	 * @return 최신 기사 ID, 기사가 없으면 0
+	 * @since 2025-06-04
+	 */
+	long findLatestArticleId();
+}
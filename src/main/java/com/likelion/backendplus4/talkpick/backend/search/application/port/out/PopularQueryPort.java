@@ -0,0 +1,36 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 검색어별 검색 횟수를 집계하는 포트 인터페이스
+ *
+ * @since 2025-06-05
+ */
+public interface PopularQueryPort {
+	/**
+	 * 검색어의 검색 횟수를 1 증가시킨다.
+	 * 검색 요청 경로에서 호출되므로 외부 저장소를 기다리거나 예외를 던지지 않아야 한다.
+	 *
+	 * @param query 정규화된 검색어
+	 * @since 2025-06-05
+	 */
+	void increment(String query);
+
+	/**
+	 * 검색 횟수 상위 검색어를 조회한다.
+	 *
+	 * @param limit 조회할 최대 건수
+	 * @return 검색어별 검색 횟수
+	 * @since 2025-06-05
+	 */
+	Map<String, Long> findTopQueries(int limit);
+
+	/**
+	 * 검색 횟수 상위 count건만 남기고 나머지 검색어를 삭제한다.
+	 *
+	 * @param count 유지할 검색어 수
+	 * @since 2025-06-05
+	 */
+	void retainTop(int count);
+}
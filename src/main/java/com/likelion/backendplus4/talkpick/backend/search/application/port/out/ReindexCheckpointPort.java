@@ -0,0 +1,42 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.time.Duration;
+
+/**
+ * 재색인 체크포인트와 다중 노드 실행 잠금을 관리하는 포트 인터페이스
+ *
+ * @since 2025-06-06
+ */
+public interface ReindexCheckpointPort {
+	/**
+	 * 색인이 완료된 마지막 기사 ID를 조회한다.
+	 *
+	 * @return 체크포인트 기사 ID, 없으면 0
+	 * @since 2025-06-06
+	 */
+	long findCheckpoint();
+
+	void saveCheckpoint(long articleId);
+
+	void clearCheckpoint();
+
+	/**
+	 * 재색인 잠금을 획득한다.
+	 *
+	 * @param ttl 잠금 유지 시간
+	 * @return 획득 성공 여부
+	 * @since 2025-06-06
+	 */
+	boolean tryLock(Duration ttl);
+
+	/**
+	 * 이 노드가 가진 재색인 잠금의 유지 시간을 연장한다.
+	 *
+	 * @param ttl 연장할 잠금 유지 시간
+	 * @return 연장 성공 여부 (잠금이 만료되었거나 다른 노드가 가지고 있으면 false)
+	 * @since 2025-06-06
+	 */
+	boolean renewLock(Duration ttl);
+
+	void unlock();
+}
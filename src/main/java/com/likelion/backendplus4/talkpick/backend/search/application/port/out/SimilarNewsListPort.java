@@ -0,0 +1,65 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SimilarNeighbor;
+
+/**
+ * 사전 계산된 유사 뉴스 목록 저장소에 대한 포트 인터페이스
+ *
+ * @since 2025-06-03
+ */
+public interface SimilarNewsListPort {
+	/**
+	 * 기사별 이웃 목록을 통째로 교체 저장한다.
+	 *
+	 * @param neighbors 뉴스 ID별 이웃 목록
+	 * @param ttl       목록 보관 기간
+	 * @since 2025-06-03
+	 */
+	void replaceAll(Map<String, List<SimilarNeighbor>> neighbors, Duration ttl);
+
+	/**
+	 * 기존 이웃 목록에 이웃을 병합하고, 유사도 상위 maxSize건만 남긴다.
+	 *
+	 * @param neighbors 뉴스 ID별 추가할 이웃 목록
+	 * @param maxSize   목록별 최대 이웃 수
+	 * @param ttl       목록 보관 기간
+	 * @since 2025-06-03
+	 */
+	void mergeAll(Map<String, List<SimilarNeighbor>> neighbors, int maxSize, Duration ttl);
+
+	/**
+	 * 유사도 내림차순으로 offset부터 count건의 이웃 뉴스 ID를 조회한다.
+	 *
+	 * @param newsId 기준 뉴스 ID
+	 * @param offset 시작 위치
+	 * @param count  조회할 건수
+	 * @return 이웃 뉴스 ID 목록, 사전 계산된 목록이 없으면 빈 목록
+	 * @since 2025-06-03
+	 */
+	List<String> findNeighborIds(String newsId, int offset, int count);
+
+	/**
+	 * 마지막으로 이웃 계산을 마친 기사 ID를 조회한다.
+	 *
+	 * @return 체크포인트 기사 ID, 없으면 0
+	 * @since 2025-06-03
+	 */
+	long findCheckpoint();
+
+	void saveCheckpoint(long articleId);
+
+	/**
+	 * 여러 노드에서 배치가 동시에 실행되지 않도록 잠금을 획득한다.
+	 *
+	 * @param ttl 잠금 유지 시간
+	 * @return 획득 성공 여부
+	 * @since 2025-06-03
+	 */
+	boolean tryLock(Duration ttl);
+
+	void unlock();
+}
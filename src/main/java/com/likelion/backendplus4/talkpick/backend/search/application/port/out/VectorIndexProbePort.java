@@ -0,0 +1,31 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.port.out;
+
+import java.util.List;
+
+/**
+ * 지정한 인덱스에 직접 kNN 질의와 저장 크기 조회를 수행하는 포트 인터페이스
+ * 벡터 인덱스 옵션 비교용 임시 인덱스를 측정할 때 사용한다.
+ *
+ * @since 2025-06-06
+ */
+public interface VectorIndexProbePort {
+	/**
+	 * 벡터와 가장 가까운 뉴스 ID를 kNN으로 조회한다. 벡터는 인덱스 차원 수에 맞춰 잘라서 보낸다.
+	 *
+	 * @param indexName 인덱스 이름
+	 * @param vector    질의 벡터
+	 * @param k         조회할 이웃 수
+	 * @return 유사도 내림차순 뉴스 ID 목록
+	 * @since 2025-06-06
+	 */
+	List<String> findNearestNewsIds(String indexName, float[] vector, int k);
+
+	/**
+	 * 인덱스 primary 샤드의 저장 크기를 조회한다.
+	 *
+	 * @param indexName 인덱스 이름
+	 * @return 바이트 단위 저장 크기
+	 * @since 2025-06-06
+	 */
+	long findStoreSizeBytes(String indexName);
+}
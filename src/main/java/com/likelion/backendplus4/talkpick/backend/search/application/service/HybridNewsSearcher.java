@@ -0,0 +1,142 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.embedding.EmbeddingPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSearchRepositoryPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.ReciprocalRankFusion;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchMode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BM25 검색과 검색어 임베딩 kNN 검색을 병렬로 수행하고 RRF로 결합하는 하이브리드 검색 클래스
+ * 임베딩이 시간 예산 안에 준비되지 않거나 실패하면, 또는 kNN 검색이 실패하면 BM25 결과만으로 응답한다.
+ *
+ * @since 2025-06-05
+ * @modified 2025-06-06 요청 스레드에서 기다리지 않고 future 조합으로 결합
+ * @modified 2025-06-06 검색어 임베딩 캐시를 공용 임베딩 캐시(CachingEmbeddingAdapter)로 대체
+ */
+@Slf4j
+@Component
+public class HybridNewsSearcher {
+	private static final String DEGRADED_METRIC = "news_search_hybrid_degraded";
+
+	private final NewsSearchRepositoryPort repository;
+	private final EmbeddingPort embeddingPort;
+	private final Executor searchExecutor;
+	private final NewsSearchProperties.Hybrid properties;
+	private final MeterRegistry meterRegistry;
+
+	public HybridNewsSearcher(
+		NewsSearchRepositoryPort repository,
+		EmbeddingPort embeddingPort,
+		@Qualifier("searchExecutor") Executor searchExecutor,
+		NewsSearchProperties searchProperties,
+		MeterRegistry meterRegistry) {
+		this.repository = repository;
+		this.embeddingPort = embeddingPort;
+		this.searchExecutor = searchExecutor;
+		this.properties = searchProperties.getHybrid();
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 하이브리드 검색을 수행한다.
+	 * 임베딩 호출을 검색 스레드 풀에서 시작하는 동시에 BM25 검색을 비동기로 요청하고,
+	 * 시간 예산 안에 임베딩이 준비되면 BM25 결과를 기다리지 않고 바로 kNN 검색을 요청한 뒤 두 결과를 RRF로 결합한다.
+	 *
+	 * @param newsSearch 정규화된 검색어와 페이징 정보 도메인 모델
+	 * @return 결합된 검색 결과 (총 개수는 BM25 기준)
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 비동기 조회로 변경
+	 * @modified 2025-06-06 kNN 검색을 BM25 완료 후가 아니라 임베딩 준비 즉시 시작
+	 * @modified 2025-06-06 kNN 검색 실패·시간 초과 시 BM25 결과만 반환
+	 */
+	public CompletableFuture<NewsSearchResultAggregate> search(NewsSearch newsSearch) {
+		int from = newsSearch.getPage() * newsSearch.getSize();
+		int window = Math.max(properties.getRankWindowSize(), from + newsSearch.getSize());
+
+		CompletableFuture<float[]> queryVector = awaitEmbedding(startEmbedding(newsSearch.getQuery()));
+		CompletableFuture<NewsSearchResultAggregate> lexical = repository.searchByMatch(
+			new NewsSearch(newsSearch.getQuery(), 0, window, null, false, SearchMode.TEXT, newsSearch.getFilter()));
+		CompletableFuture<List<NewsSearchResult>> semantic = queryVector.thenCompose(vector -> vector == null
+			? CompletableFuture.completedFuture(List.of())
+			: repository.searchByVector(vector, window, newsSearch.getFilter()))
+			.exceptionally(e -> {
+				recordDegraded("knn");
+				log.warn("kNN 검색 실패로 BM25 결과만 반환합니다.", unwrap(e));
+				return List.of();
+			});
+
+		return lexical.thenCombine(semantic, (lexicalResult, semanticResult) -> NewsSearchResultAggregate.builder()
+			.newsSearchResultList(slice(rank(lexicalResult.getNewsSearchResultList(), semanticResult), from,
+				newsSearch.getSize()))
+			.totalHits(lexicalResult.getTotalHits())
+			.totalIsLowerBound(lexicalResult.isTotalIsLowerBound())
+			.build());
+	}
+
+	private List<NewsSearchResult> rank(List<NewsSearchResult> lexical, List<NewsSearchResult> semantic) {
+		if (semantic.isEmpty()) {
+			return lexical;
+		}
+		return ReciprocalRankFusion.fuse(List.of(lexical, semantic), properties.getRankConstant());
+	}
+
+	private CompletableFuture<float[]> startEmbedding(String query) {
+		try {
+			return CompletableFuture.supplyAsync(() -> embeddingPort.getEmbedding(query), searchExecutor);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * 시간 예산 동안 임베딩을 기다린다. 시간 초과나 실패 시 null로 완료해 BM25 결과만 사용하게 한다.
+	 */
+	private CompletableFuture<float[]> awaitEmbedding(CompletableFuture<float[]> embedding) {
+		return embedding
+			.orTimeout(properties.getEmbeddingTimeout().toMillis(), TimeUnit.MILLISECONDS)
+			.exceptionally(e -> {
+				Throwable cause = unwrap(e);
+				if (cause instanceof TimeoutException) {
+					recordDegraded("timeout");
+					log.warn("검색어 임베딩이 {} 안에 완료되지 않아 BM25 결과만 반환합니다.", properties.getEmbeddingTimeout());
+				} else {
+					recordDegraded("error");
+					log.warn("검색어 임베딩 실패로 BM25 결과만 반환합니다.", cause);
+				}
+				return null;
+			});
+	}
+
+	private static Throwable unwrap(Throwable e) {
+		return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+	}
+
+	private void recordDegraded(String reason) {
+		meterRegistry.counter(DEGRADED_METRIC, "reason", reason).increment();
+	}
+
+	private static List<NewsSearchResult> slice(List<NewsSearchResult> results, int from, int size) {
+		if (from >= results.size()) {
+			return List.of();
+		}
+		return results.subList(from, Math.min(results.size(), from + size));
+	}
+}
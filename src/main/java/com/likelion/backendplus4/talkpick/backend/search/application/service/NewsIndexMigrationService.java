@@ -0,0 +1,192 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.search.application.event.NewsIngestedEvent;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsIndexMigrationUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsReindexUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexMigrationStatePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexableNewsSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort.BulkIndexListener;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort.BulkIndexSession;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsIndexAdminPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigration;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigrationStatus;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.ReindexStatus;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 버전이 붙은 물리 인덱스(news_index_vN)와 별칭(news_index)으로 검색 인덱스를 무중단 교체하는 서비스 구현체
+ * 새 인덱스를 만들어 벌크 재색인으로 채우는 동안 별칭은 기존 인덱스를 가리키며,
+ * 그 사이 수집된 신규 기사는 새 인덱스에도 함께 색인(이중 쓰기)한다.
+ * 교체 시 남은 신규 기사를 반영한 뒤 별칭을 _aliases 요청 하나로 옮기므로 검색 중단이 없다.
+ * 별칭은 항상 인덱스 하나만 가리키므로 외부 수집기는 별도 쓰기 별칭 없이 같은 별칭으로 색인한다.
+ *
+ * @since 2025-06-06
+ * @modified 2025-06-06 사용하지 않는 쓰기 별칭 제거
+ */
+@Slf4j
+@Service
+public class NewsIndexMigrationService implements NewsIndexMigrationUseCase {
+	private static final String MIRROR_METRIC = "news_index_mirror_documents";
+
+	private final NewsIndexAdminPort indexAdminPort;
+	private final IndexMigrationStatePort migrationStatePort;
+	private final NewsReindexUseCase reindexUseCase;
+	private final IndexableNewsSourcePort sourcePort;
+	private final NewsBulkIndexPort bulkIndexPort;
+	private final String readAlias;
+	private final String versionPrefix;
+	private final BulkIndexListener mirrorListener;
+
+	public NewsIndexMigrationService(
+		NewsIndexAdminPort indexAdminPort,
+		IndexMigrationStatePort migrationStatePort,
+		NewsReindexUseCase reindexUseCase,
+		IndexableNewsSourcePort sourcePort,
+		NewsBulkIndexPort bulkIndexPort,
+		MeterRegistry meterRegistry,
+		@Value("${news.index.name}") String readAlias,
+		@Value("${news.index.version-prefix}") String versionPrefix) {
+		this.indexAdminPort = indexAdminPort;
+		this.migrationStatePort = migrationStatePort;
+		this.reindexUseCase = reindexUseCase;
+		this.sourcePort = sourcePort;
+		this.bulkIndexPort = bulkIndexPort;
+		this.readAlias = readAlias;
+		this.versionPrefix = versionPrefix;
+		this.mirrorListener = new MirrorListener(
+			meterRegistry.counter(MIRROR_METRIC, "result", "indexed"),
+			meterRegistry.counter(MIRROR_METRIC, "result", "failed"));
+	}
+
+	@EntryExitLog
+	@Override
+	public IndexMigrationStatus start() {
+		if (reindexUseCase.status().isRunning()) {
+			throw new SearchException(SearchErrorCode.REINDEX_IN_PROGRESS);
+		}
+		IndexMigration migration = migrationStatePort.find().orElse(null);
+		if (migration != null) {
+			log.info("진행 중인 인덱스 교체의 재색인을 이어서 진행합니다: target={}", migration.getTargetIndex());
+			reindexUseCase.start(false, migration.getTargetIndex());
+			return status();
+		}
+
+		String targetIndex = versionPrefix + nextVersion();
+		indexAdminPort.createIndex(targetIndex);
+		long backfillTarget = sourcePort.findMaxArticleId();
+		migrationStatePort.save(IndexMigration.builder()
+			.targetIndex(targetIndex)
+			.sourceIndex(indexAdminPort.resolveIndices(readAlias).stream().findFirst().orElse(readAlias))
+			.backfillTargetArticleId(backfillTarget)
+			.mirroredArticleId(backfillTarget)
+			.build());
+		log.info("인덱스 교체 시작: target={}, backfillTarget={}", targetIndex, backfillTarget);
+		reindexUseCase.start(true, targetIndex);
+		return status();
+	}
+
+	/**
+	 * 벌크 재색인 이후 수집된 기사는 이중 쓰기가 일부 실패했을 수 있으므로 교체 직전에 다시 색인한다.
+	 * 별칭을 옮긴 뒤에도 그 사이 기존 인덱스에만 들어간 기사가 없도록 한 번 더 반영한다.
+	 */
+	@EntryExitLog
+	@Override
+	public IndexMigrationStatus complete() {
+		IndexMigration migration = migrationStatePort.find()
+			.orElseThrow(() -> new SearchException(SearchErrorCode.INDEX_MIGRATION_NOT_FOUND));
+		ReindexStatus reindex = reindexUseCase.status();
+		if (reindex.isRunning() || reindex.getCheckpoint() < migration.getBackfillTargetArticleId()) {
+			throw new SearchException(SearchErrorCode.INDEX_MIGRATION_NOT_READY);
+		}
+
+		String targetIndex = migration.getTargetIndex();
+		long caughtUp = sourcePort.findMaxArticleId();
+		indexRange(targetIndex, migration.getBackfillTargetArticleId(), caughtUp);
+		indexAdminPort.finishBulkLoad(targetIndex);
+		indexAdminPort.switchAlias(readAlias, targetIndex);
+		indexRange(targetIndex, caughtUp, sourcePort.findMaxArticleId());
+		migrationStatePort.clear();
+		log.info("인덱스 교체 완료: {} -> {}", migration.getSourceIndex(), targetIndex);
+		return status();
+	}
+
+	@Override
+	public IndexMigrationStatus status() {
+		return IndexMigrationStatus.builder()
+			.readIndices(indexAdminPort.resolveIndices(readAlias))
+			.migration(migrationStatePort.find().orElse(null))
+			.reindex(reindexUseCase.status())
+			.build();
+	}
+
+	/**
+	 * 교체 작업 중 새 기사가 수집되면 새 인덱스에도 색인한다.
+	 * 여러 노드가 같은 이벤트를 받으므로 이중 쓰기 범위를 먼저 선점한 노드만 색인한다.
+	 *
+	 * @param event 새 기사 수집 이벤트
+	 * @since 2025-06-06
+	 */
+	@EventListener
+	public void mirrorNewArticles(NewsIngestedEvent event) {
+		try {
+			migrationStatePort.find().ifPresent(migration -> {
+				long from = migration.getMirroredArticleId();
+				long to = event.latestArticleId();
+				if (to > from && migrationStatePort.claimMirrorRange(from, to)) {
+					indexRange(migration.getTargetIndex(), from, to);
+				}
+			});
+		} catch (RuntimeException e) {
+			log.warn("새 인덱스 이중 쓰기 실패: latestArticleId={}", event.latestArticleId(), e);
+		}
+	}
+
+	private void indexRange(String indexName, long fromId, long toId) {
+		if (toId <= fromId) {
+			return;
+		}
+		try (BulkIndexSession session = bulkIndexPort.open(indexName, mirrorListener)) {
+			sourcePort.forEachInRange(fromId, toId, session::add);
+		}
+	}
+
+	private int nextVersion() {
+		return indexAdminPort.findIndicesByPrefix(versionPrefix).stream()
+			.map(name -> name.substring(versionPrefix.length()))
+			.filter(version -> !version.isEmpty() && version.chars().allMatch(Character::isDigit))
+			.mapToInt(Integer::parseInt)
+			.max()
+			.orElse(0) + 1;
+	}
+
+	/**
+	 * 이중 쓰기 결과를 메트릭과 로그로 남기는 벌크 색인 리스너
+	 */
+	private record MirrorListener(Counter indexedCounter, Counter failedCounter) implements BulkIndexListener {
+		@Override
+		public void onIndexed(long articleId) {
+			indexedCounter.increment();
+		}
+
+		@Override
+		public void onRetry(long articleId) {
+		}
+
+		@Override
+		public void onFailed(long articleId, String reason) {
+			failedCounter.increment();
+			log.warn("새 인덱스 이중 쓰기 실패: articleId={}, reason={}", articleId, reason);
+		}
+	}
+}
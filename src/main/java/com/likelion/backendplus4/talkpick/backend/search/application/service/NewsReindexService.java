@@ -0,0 +1,241 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsReindexUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexableNewsSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort.BulkIndexListener;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort.BulkIndexSession;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.ReindexCheckpointPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.ReindexStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL 기사 테이블을 ID 범위 단위로 읽어 검색 인덱스에 벌크 색인하는 재색인 서비스 구현체
+ * 벌크 요청은 순서 없이 완료되므로, 아직 결과가 확정되지 않은 가장 작은 기사 ID 직전까지만 체크포인트로 저장한다.
+ * 색인에 실패한 기사도 체크포인트를 그 직전에 묶어 두어, 다음 실행에서 실패한 기사부터 다시 색인한다.
+ * 재시작 시 체크포인트 다음 기사부터 이어서 색인하며, 같은 문서는 newsId로 덮어쓰므로 중복 색인해도 안전하다.
+ * 실행 잠금은 범위마다 연장하며, 연장에 실패하면 다른 노드와 겹치지 않도록 색인을 멈춘다.
+ *
+ * @since 2025-06-06
+ * @modified 2025-06-06 실패한 기사 이후로 체크포인트가 전진하지 않도록 변경, 범위마다 잠금 연장
+ */
+@Slf4j
+@Service
+public class NewsReindexService implements NewsReindexUseCase, BulkIndexListener {
+	private static final String DOCUMENTS_METRIC = "news_reindex_documents";
+
+	private final IndexableNewsSourcePort sourcePort;
+	private final NewsBulkIndexPort bulkIndexPort;
+	private final ReindexCheckpointPort checkpointPort;
+	private final NewsSearchProperties.Reindex properties;
+	private final String defaultIndexName;
+	private final ExecutorService runner = Executors.newSingleThreadExecutor(
+		runnable -> new Thread(runnable, "news-reindex"));
+
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+	private final ConcurrentSkipListSet<Long> failedIds = new ConcurrentSkipListSet<>();
+	private final AtomicLong lastQueued = new AtomicLong();
+	private final AtomicLong checkpoint = new AtomicLong();
+	private final AtomicLong targetArticleId = new AtomicLong();
+	private final AtomicLong indexed = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private volatile String indexName;
+
+	private final Counter indexedCounter;
+	private final Counter failedCounter;
+	private final Counter retriedCounter;
+
+	public NewsReindexService(
+		IndexableNewsSourcePort sourcePort,
+		NewsBulkIndexPort bulkIndexPort,
+		ReindexCheckpointPort checkpointPort,
+		NewsSearchProperties searchProperties,
+		MeterRegistry meterRegistry,
+		@Value("${news.index.name}") String indexName) {
+		this.sourcePort = sourcePort;
+		this.bulkIndexPort = bulkIndexPort;
+		this.checkpointPort = checkpointPort;
+		this.properties = searchProperties.getReindex();
+		this.defaultIndexName = indexName;
+		this.indexedCounter = meterRegistry.counter(DOCUMENTS_METRIC, "result", "indexed");
+		this.failedCounter = meterRegistry.counter(DOCUMENTS_METRIC, "result", "failed");
+		this.retriedCounter = meterRegistry.counter(DOCUMENTS_METRIC, "result", "retried");
+		Gauge.builder("news_reindex_backlog", this, NewsReindexService::backlog)
+			.description("재색인 대상 중 아직 색인이 확정되지 않은 기사 ID 범위")
+			.register(meterRegistry);
+		Gauge.builder("news_reindex_in_flight", inFlight, ConcurrentSkipListSet::size)
+			.description("벌크 요청에 담겨 결과를 기다리는 문서 수")
+			.register(meterRegistry);
+	}
+
+	@EntryExitLog
+	@Override
+	public boolean start(boolean reset) {
+		return start(reset, defaultIndexName);
+	}
+
+	@EntryExitLog
+	@Override
+	public boolean start(boolean reset, String indexName) {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		this.indexName = indexName;
+		runner.execute(() -> {
+			try {
+				runLocked(reset);
+			} catch (RuntimeException e) {
+				log.error("재색인 실패: checkpoint={}", checkpoint.get(), e);
+			} finally {
+				running.set(false);
+			}
+		});
+		return true;
+	}
+
+	@Override
+	public ReindexStatus status() {
+		return ReindexStatus.builder()
+			.running(running.get())
+			.indexName(indexName)
+			.checkpoint(running.get() ? checkpoint.get() : checkpointPort.findCheckpoint())
+			.targetArticleId(targetArticleId.get())
+			.indexed(indexed.get())
+			.failed(failed.get())
+			.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		runner.shutdownNow();
+	}
+
+	@Override
+	public void onIndexed(long articleId) {
+		inFlight.remove(articleId);
+		indexed.incrementAndGet();
+		indexedCounter.increment();
+	}
+
+	@Override
+	public void onRetry(long articleId) {
+		retriedCounter.increment();
+	}
+
+	@Override
+	public void onFailed(long articleId, String reason) {
+		failedIds.add(articleId);
+		inFlight.remove(articleId);
+		failed.incrementAndGet();
+		failedCounter.increment();
+		log.warn("기사 색인 실패: articleId={}, reason={}", articleId, reason);
+	}
+
+	private void runLocked(boolean reset) {
+		if (!checkpointPort.tryLock(properties.getLockTtl())) {
+			log.info("다른 노드에서 재색인이 진행 중이어서 건너뜁니다.");
+			return;
+		}
+		try {
+			reindex(reset);
+		} finally {
+			checkpointPort.unlock();
+		}
+	}
+
+	/**
+	 * 체크포인트 다음 기사부터 시작 시점의 최신 기사까지 ID 범위 단위로 읽어 벌크 색인한다.
+	 * 범위마다 잠금을 연장한 뒤 읽고, 범위 하나를 다 읽을 때마다 확정된 위치까지 체크포인트를 저장한다.
+	 */
+	private void reindex(boolean reset) {
+		if (reset) {
+			checkpointPort.clearCheckpoint();
+		}
+		long from = checkpointPort.findCheckpoint();
+		long target = sourcePort.findMaxArticleId();
+		resetProgress(from, target);
+		log.info("재색인 시작: index={}, from={}, target={}", indexName, from, target);
+
+		try (BulkIndexSession session = bulkIndexPort.open(indexName, this)) {
+			for (long lo = from; lo < target; lo += properties.getRangeSize()) {
+				if (!checkpointPort.renewLock(properties.getLockTtl())) {
+					log.warn("재색인 잠금을 잃어 색인을 중단합니다: index={}, checkpoint={}", indexName, checkpoint.get());
+					return;
+				}
+				long hi = Math.min(lo + properties.getRangeSize(), target);
+				sourcePort.forEachInRange(lo, hi, news -> {
+					inFlight.add(news.getArticleId());
+					session.add(news);
+				});
+				lastQueued.set(hi);
+				saveCheckpoint();
+			}
+		}
+		saveCheckpoint();
+		if (!failedIds.isEmpty()) {
+			log.warn("색인 실패 기사가 있어 체크포인트를 첫 실패 직전({})에 유지합니다: failed={}",
+				checkpoint.get(), failed.get());
+		}
+		log.info("재색인 완료: index={}, indexed={}, failed={}", indexName, indexed.get(), failed.get());
+	}
+
+	private void resetProgress(long from, long target) {
+		inFlight.clear();
+		failedIds.clear();
+		lastQueued.set(from);
+		checkpoint.set(from);
+		targetArticleId.set(target);
+		indexed.set(0);
+		failed.set(0);
+	}
+
+	/**
+	 * 결과를 기다리는 기사와 실패한 기사 중 가장 작은 ID 직전까지를 체크포인트로 저장한다.
+	 */
+	private void saveCheckpoint() {
+		long durable = lastQueued.get();
+		Long oldestPending = oldest(inFlight);
+		if (oldestPending != null) {
+			durable = Math.min(durable, oldestPending - 1);
+		}
+		Long oldestFailed = oldest(failedIds);
+		if (oldestFailed != null) {
+			durable = Math.min(durable, oldestFailed - 1);
+		}
+		if (durable > checkpoint.get()) {
+			checkpoint.set(durable);
+			checkpointPort.saveCheckpoint(durable);
+		}
+	}
+
+	private static Long oldest(ConcurrentSkipListSet<Long> ids) {
+		try {
+			return ids.isEmpty() ? null : ids.first();
+		} catch (NoSuchElementException e) {
+			// isEmpty 확인 직후 벌크 응답 스레드가 마지막 ID를 지운 경우
+			return null;
+		}
+	}
+
+	private double backlog() {
+		return Math.max(0, targetArticleId.get() - checkpoint.get());
+	}
+}
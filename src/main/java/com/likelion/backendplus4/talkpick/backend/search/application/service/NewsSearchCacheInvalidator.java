@@ -0,0 +1,45 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.search.application.event.NewsIndexedEvent;
+
+/**
+ * 새 기사가 검색 인덱스에 반영되면 검색 결과 캐시를 무효화하는 클래스
+ * MySQL 적재 시점에 비우면 색인 전의 결과가 다시 캐시되므로, 읽기 별칭에서 검색 가능해진 시점을 기준으로 비운다.
+ *
+ * @since 2025-06-04
+ * @modified 2025-06-06 무효화 기준을 MySQL 최신 기사 ID에서 검색 인덱스 반영으로 변경
+ */
+@Component
+public class NewsSearchCacheInvalidator {
+
+	/**
+	 * 새 기사가 유사 뉴스 후보에 추가되므로 유사 뉴스 결과 캐시를 모두 비운다.
+	 *
+	 * @param event 검색 인덱스 반영 이벤트
+	 * @since 2025-06-04
+	 * @modified 2025-06-06 검색 인덱스 반영 이벤트 기준으로 변경
+	 */
+	@EntryExitLog
+	@EventListener
+	@CacheEvict(value = "similarNews", allEntries = true)
+	public void evictSimilarNews(NewsIndexedEvent event) {
+	}
+
+	/**
+	 * 새 기사가 검색어 결과에 포함될 수 있으므로 검색 결과 캐시를 모두 비운다.
+	 *
+	 * @param event 검색 인덱스 반영 이벤트
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 검색 인덱스 반영 이벤트 기준으로 변경
+	 */
+	@EntryExitLog
+	@EventListener
+	@CacheEvict(value = "newsSearch", allEntries = true)
+	public void evictNewsSearch(NewsIndexedEvent event) {
+	}
+}
@@ -1,17 +1,29 @@
 package com.likelion.backendplus4.talkpick.backend.search.application.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
 import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.LogMethodValues;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
 import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsSearchUseCase;
 import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSearchRepositoryPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.PopularQueryPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.SimilarNewsListPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.QueryCacheMetrics;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.QueryNormalizer;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchCursor;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchMode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,28 +35,137 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class NewsSearchService implements NewsSearchUseCase {
+	private static final String NEWS_SEARCH_CACHE = "newsSearch";
+	private static final String SIMILAR_NEWS_CACHE = "similarNews";
 
 	private final NewsSearchRepositoryPort repository;
+	private final SimilarNewsListPort similarNewsListPort;
+	private final PopularQueryPort popularQueryPort;
+	private final NewsSearchProperties searchProperties;
+	private final CacheManager cacheManager;
+	private final QueryCacheMetrics queryCacheMetrics;
+	private final HybridNewsSearcher hybridNewsSearcher;
+	private final Map<String, CompletableFuture<List<NewsSearchResult>>> similarInFlight = new ConcurrentHashMap<>();
 
 	/**
 	 * 도메인 모델을 기반으로 저장소에서 검색 결과를 조회하여 반환한다.
+	 * 정규화된 검색어와 페이지 정보가 같은 요청은 짧은 TTL의 결과 캐시에서 응답한다.
+	 * point-in-time 조회는 요청마다 스냅샷이 다르므로 캐시하지 않는다.
 	 *
 	 * @param newsSearch 검색어 및 페이징 정보를 담은 도메인 모델
 	 * @return 검색된 뉴스 도메인 결과 리스트
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-06-05 첫 페이지 검색어를 자동완성 인기 검색어로 집계
+	 * @modified 2025-06-05 정규화된 검색어 기준 결과 캐시 및 검색어별 적중률 기록
+	 * @modified 2025-06-05 하이브리드(BM25 + 벡터 RRF) 검색 방식 추가
+	 * @modified 2025-06-06 비동기 조회로 변경
 	 */
 	@EntryExitLog
 	@LogMethodValues
 	@Override
-	public NewsSearchResultAggregate searchByQuery(NewsSearch newsSearch) {
-		return repository.searchByMatch(newsSearch);
+	public CompletableFuture<NewsSearchResultAggregate> searchByQuery(NewsSearch newsSearch) {
+		String normalizedQuery = QueryNormalizer.normalize(newsSearch.getQuery());
+		if (newsSearch.getCursor() == null && newsSearch.getPage() == 0) {
+			popularQueryPort.increment(normalizedQuery);
+		}
+		NewsSearch normalizedSearch = newsSearch.withQuery(normalizedQuery);
+		if (!isCacheable(normalizedSearch)) {
+			return execute(normalizedSearch);
+		}
+
+		Cache cache = cacheManager.getCache(NEWS_SEARCH_CACHE);
+		String key = buildCacheKey(normalizedSearch);
+		NewsSearchResultAggregate cached = cache.get(key, NewsSearchResultAggregate.class);
+		queryCacheMetrics.record(normalizedQuery, cached != null);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		return execute(normalizedSearch).thenApply(result -> {
+			cache.put(key, result);
+			return result;
+		});
 	}
 
+	/**
+	 * 유사 뉴스를 조회한다.
+	 * 사전 계산된 목록이 요청 페이지를 모두 채울 수 있으면 해당 목록을 사용하고, 아니면 저장소에서 직접 검색한다.
+	 * 사전 계산된 목록은 필터 조건을 알지 못하므로 필터가 있으면 저장소에서 직접 검색한다.
+	 * 같은 키로 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과를 함께 기다린다.
+	 * 공유 조회는 한 요청이 취소되어도 중단되지 않도록 호출자마다 복사본을 반환한다.
+	 *
+	 * @param newsSimilarSearch 원본 뉴스 ID와 페이징 정보를 담은 도메인 모델
+	 * @return 유사 뉴스 도메인 결과 리스트
+	 * @author 정안식
+	 * @since 2025-05-15
+	 * @modified 2025-06-03 사전 계산된 유사 뉴스 목록 우선 조회
+	 * @modified 2025-06-04 (newsId, page, size) 단위 결과 캐시, 동일 키 동시 요청은 한 번만 조회
+	 * @modified 2025-06-06 필터가 있으면 사전 계산 목록을 건너뜀
+	 * @modified 2025-06-06 비동기 조회로 변경, 동시 요청 병합을 진행 중 future 공유로 대체
+	 */
 	@EntryExitLog
 	@LogMethodValues
 	@Override
-	public List<NewsSearchResult> searchSimilarByNewsId(NewsSimilarSearch newsSimilarSearch) {
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<List<NewsSearchResult>> searchSimilarByNewsId(NewsSimilarSearch newsSimilarSearch) {
+		Cache cache = cacheManager.getCache(SIMILAR_NEWS_CACHE);
+		String key = newsSimilarSearch.cacheKey();
+		Cache.ValueWrapper cached = cache.get(key);
+		if (cached != null) {
+			return CompletableFuture.completedFuture((List<NewsSearchResult>) cached.get());
+		}
+
+		CompletableFuture<List<NewsSearchResult>> loading = new CompletableFuture<>();
+		CompletableFuture<List<NewsSearchResult>> inFlight = similarInFlight.putIfAbsent(key, loading);
+		if (inFlight != null) {
+			return inFlight.copy();
+		}
+		CompletableFuture.completedFuture(newsSimilarSearch)
+			.thenCompose(this::loadSimilar)
+			.whenComplete((result, e) -> {
+				if (e == null) {
+					cache.put(key, result);
+					loading.complete(result);
+				} else {
+					loading.completeExceptionally(e);
+				}
+				similarInFlight.remove(key, loading);
+			});
+		return loading.copy();
+	}
+
+	private CompletableFuture<List<NewsSearchResult>> loadSimilar(NewsSimilarSearch newsSimilarSearch) {
+		if (searchProperties.getPrecompute().isEnabled() && newsSimilarSearch.getFilter().isEmpty()) {
+			int size = newsSimilarSearch.getSize();
+			List<String> precomputedIds = similarNewsListPort.findNeighborIds(
+				newsSimilarSearch.getNewsId(), newsSimilarSearch.getPage() * size, size);
+			if (precomputedIds.size() == size) {
+				return repository.findByNewsIds(precomputedIds);
+			}
+		}
 		return repository.searchByNewsId(newsSimilarSearch);
 	}
+
+	private CompletableFuture<NewsSearchResultAggregate> execute(NewsSearch newsSearch) {
+		if (newsSearch.getMode() == SearchMode.HYBRID) {
+			return hybridNewsSearcher.search(newsSearch);
+		}
+		return repository.searchByMatch(newsSearch);
+	}
+
+	private boolean isCacheable(NewsSearch newsSearch) {
+		SearchCursor cursor = newsSearch.getCursor();
+		return !newsSearch.isPointInTime() && (cursor == null || cursor.getPointInTimeId() == null);
+	}
+
+	private String buildCacheKey(NewsSearch newsSearch) {
+		String key = newsSearch.getMode() + ":" + newsSearch.getQuery() + ":" + newsSearch.getPage() + ":"
+			+ newsSearch.getSize();
+		if (!newsSearch.getFilter().isEmpty()) {
+			key += ":" + newsSearch.getFilter().cacheKey();
+		}
+		SearchCursor cursor = newsSearch.getCursor();
+		return cursor == null ? key : key + ":" + cursor.getSortValues();
+	}
 }
@@ -0,0 +1,108 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsSuggestUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSuggestSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.PopularQueryPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.suggest.PrefixSuggestIndex;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSuggest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 서비스 구현체
+ * 키 입력마다 들어오는 요청을 Elasticsearch로 보내지 않도록 프로세스 내 접두사 인덱스에서 먼저 응답하고,
+ * 인덱스에 후보가 없을 때만 Elasticsearch 제목 접두사 검색으로 보완한다.
+ *
+ * @since 2025-06-05
+ */
+@Slf4j
+@Service
+public class NewsSuggestService implements NewsSuggestUseCase {
+	private static final String TIMER_NAME = "news_suggest_seconds";
+
+	private final NewsSuggestSourcePort suggestSourcePort;
+	private final PopularQueryPort popularQueryPort;
+	private final NewsSearchProperties.Suggest properties;
+	private final Timer localTimer;
+	private final Timer fallbackTimer;
+
+	private volatile PrefixSuggestIndex index = PrefixSuggestIndex.empty();
+
+	public NewsSuggestService(
+		NewsSuggestSourcePort suggestSourcePort,
+		PopularQueryPort popularQueryPort,
+		NewsSearchProperties searchProperties,
+		MeterRegistry meterRegistry) {
+		this.suggestSourcePort = suggestSourcePort;
+		this.popularQueryPort = popularQueryPort;
+		this.properties = searchProperties.getSuggest();
+		this.localTimer = buildTimer(meterRegistry, "local");
+		this.fallbackTimer = buildTimer(meterRegistry, "fallback");
+	}
+
+	/**
+	 * 로컬 접두사 인덱스에서 후보를 찾고, 없으면 Elasticsearch 제목 접두사 검색 결과를 반환한다.
+	 *
+	 * @param newsSuggest 접두사와 후보 수 도메인 모델
+	 * @return 자동완성 후보 목록
+	 * @since 2025-06-05
+	 */
+	@Override
+	public List<String> suggest(NewsSuggest newsSuggest) {
+		int size = Math.min(newsSuggest.getSize(), properties.getMaxSize());
+
+		long start = System.nanoTime();
+		List<String> suggestions = index.suggest(newsSuggest.getPrefix(), size);
+		localTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		if (!suggestions.isEmpty() || !properties.isFallbackEnabled()) {
+			return suggestions;
+		}
+
+		return fallbackTimer.record(() -> suggestSourcePort.findTitlesByPrefix(newsSuggest.getPrefix(), size));
+	}
+
+	/**
+	 * 인기 검색어(검색 횟수 가중치)와 최근 기사 제목(가중치 0)으로 새 인덱스를 만든 뒤 한 번에 교체한다.
+	 * 최소 검색 횟수에 못 미치는 검색어는 모든 사용자에게 노출되지 않도록 후보에서 제외한다.
+	 * 구축 중에도 기존 인덱스로 계속 응답한다.
+	 *
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 최소 검색 횟수 미만 인기 검색어 제외
+	 */
+	@EntryExitLog
+	@Override
+	public void rebuildIndex() {
+		popularQueryPort.retainTop(properties.getPopularQueryLimit());
+		Map<String, Long> candidates = new HashMap<>();
+		popularQueryPort.findTopQueries(properties.getPopularQueryLimit()).forEach((query, count) -> {
+			if (count >= properties.getPopularQueryMinCount()) {
+				candidates.put(query, count);
+			}
+		});
+		suggestSourcePort.findRecentTitles(properties.getTitleLimit())
+			.forEach(title -> candidates.putIfAbsent(title, 0L));
+
+		PrefixSuggestIndex rebuilt = PrefixSuggestIndex.build(candidates);
+		index = rebuilt;
+		log.info("자동완성 인덱스 재구축 완료: terms={}", rebuilt.size());
+	}
+
+	private static Timer buildTimer(MeterRegistry meterRegistry, String source) {
+		return Timer.builder(TIMER_NAME)
+			.description("검색어 자동완성 응답 시간 (초)")
+			.tag("source", source)
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+	}
+}
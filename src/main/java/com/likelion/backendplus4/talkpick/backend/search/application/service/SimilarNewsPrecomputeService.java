@@ -0,0 +1,170 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.stereotype.Service;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.TimeTracker;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.SimilarNewsPrecomputeUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsVectorSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.SimilarNewsListPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.DotProductKernels;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.TopKNeighborSearcher;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.TopKNeighborSearcher.Neighbors;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.VectorSlab;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsVector;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SimilarNeighbor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 기사 벡터를 메모리에 적재해 top-K 유사 뉴스 목록을 사전 계산하는 서비스 구현체
+ *
+ * @since 2025-06-03
+ */
+@Slf4j
+@Service
+public class SimilarNewsPrecomputeService implements SimilarNewsPrecomputeUseCase {
+
+	private final NewsVectorSourcePort vectorSourcePort;
+	private final SimilarNewsListPort similarNewsListPort;
+	private final NewsSearchProperties.Precompute properties;
+	private final ForkJoinPool pool;
+	private final TopKNeighborSearcher searcher;
+
+	public SimilarNewsPrecomputeService(
+		NewsVectorSourcePort vectorSourcePort,
+		SimilarNewsListPort similarNewsListPort,
+		NewsSearchProperties searchProperties) {
+		this.vectorSourcePort = vectorSourcePort;
+		this.similarNewsListPort = similarNewsListPort;
+		this.properties = searchProperties.getPrecompute();
+		this.pool = new ForkJoinPool(Math.max(1, properties.getParallelism()));
+		this.searcher = new TopKNeighborSearcher(DotProductKernels.preferred(), pool);
+	}
+
+	@EntryExitLog
+	@TimeTracker
+	@Override
+	public void rebuildAll() {
+		runLocked(true);
+	}
+
+	@EntryExitLog
+	@TimeTracker
+	@Override
+	public void updateIncremental() {
+		runLocked(false);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	private void runLocked(boolean full) {
+		if (!similarNewsListPort.tryLock(properties.getLockTtl())) {
+			log.info("다른 노드에서 유사 뉴스 사전 계산이 진행 중이어서 건너뜁니다.");
+			return;
+		}
+		try {
+			compute(full);
+		} finally {
+			similarNewsListPort.unlock();
+		}
+	}
+
+	/**
+	 * 최근 기사 벡터를 연속 메모리에 적재한 뒤, 질의 대상 기사만 청크 단위로 이웃을 계산해 저장한다.
+	 * 증분 모드에서는 새 기사를 기존 기사 목록에도 병합하여 양방향 이웃 관계를 유지한다.
+	 *
+	 * @param full 전체 재계산 여부
+	 * @since 2025-06-03
+	 */
+	private void compute(boolean full) {
+		long checkpoint = full ? 0L : similarNewsListPort.findCheckpoint();
+		LoadedVectors loaded = loadRecentVectors(checkpoint, full);
+
+		int[] queryRows = loaded.queryRows();
+		for (int from = 0; from < queryRows.length; from += properties.getChunkSize()) {
+			int[] chunk = Arrays.copyOfRange(queryRows, from, Math.min(from + properties.getChunkSize(), queryRows.length));
+			Neighbors[] results = searcher.search(loaded.slab(), chunk, properties.getK());
+			saveChunk(loaded, chunk, results, full);
+		}
+
+		if (loaded.maxArticleId() > checkpoint) {
+			similarNewsListPort.saveCheckpoint(loaded.maxArticleId());
+		}
+		log.info("유사 뉴스 사전 계산 완료: mode={}, corpus={}, queries={}",
+			full ? "full" : "incremental", loaded.slab().size(), queryRows.length);
+	}
+
+	private LoadedVectors loadRecentVectors(long checkpoint, boolean full) {
+		LocalDateTime since = LocalDateTime.now().minus(properties.getWindow());
+		VectorSlab slab = new VectorSlab(properties.getDimension(), properties.getFetchSize());
+		List<String> newsIds = new ArrayList<>();
+		int[] queryRows = new int[16];
+		int queryCount = 0;
+		long lastArticleId = 0L;
+
+		List<NewsVector> batch;
+		do {
+			batch = vectorSourcePort.findVectorsAfter(lastArticleId, since, properties.getFetchSize());
+			for (NewsVector vector : batch) {
+				lastArticleId = vector.getArticleId();
+				int row = slab.add(vector.getVector());
+				if (row < 0) {
+					continue;
+				}
+				newsIds.add(vector.getNewsId());
+				if (full || vector.getArticleId() > checkpoint) {
+					if (queryCount == queryRows.length) {
+						queryRows = Arrays.copyOf(queryRows, queryCount * 2);
+					}
+					queryRows[queryCount++] = row;
+				}
+			}
+		} while (batch.size() == properties.getFetchSize());
+
+		return new LoadedVectors(slab, newsIds, Arrays.copyOf(queryRows, queryCount), lastArticleId);
+	}
+
+	private void saveChunk(LoadedVectors loaded, int[] chunk, Neighbors[] results, boolean full) {
+		Map<String, List<SimilarNeighbor>> own = new LinkedHashMap<>();
+		Map<String, List<SimilarNeighbor>> reverse = new HashMap<>();
+
+		for (int i = 0; i < chunk.length; i++) {
+			String newsId = loaded.newsIds().get(chunk[i]);
+			int[] rows = results[i].rows();
+			float[] scores = results[i].scores();
+			List<SimilarNeighbor> neighbors = new ArrayList<>(rows.length);
+			for (int j = 0; j < rows.length; j++) {
+				String neighborId = loaded.newsIds().get(rows[j]);
+				neighbors.add(new SimilarNeighbor(neighborId, scores[j]));
+				if (!full) {
+					reverse.computeIfAbsent(neighborId, id -> new ArrayList<>())
+						.add(new SimilarNeighbor(newsId, scores[j]));
+				}
+			}
+			own.put(newsId, neighbors);
+		}
+
+		similarNewsListPort.replaceAll(own, properties.getWindow());
+		if (!reverse.isEmpty()) {
+			similarNewsListPort.mergeAll(reverse, properties.getK(), properties.getWindow());
+		}
+	}
+
+	private record LoadedVectors(VectorSlab slab, List<String> newsIds, int[] queryRows, long maxArticleId) {
+	}
+}
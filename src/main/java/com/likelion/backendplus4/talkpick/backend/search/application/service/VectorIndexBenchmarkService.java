@@ -0,0 +1,196 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.VectorIndexBenchmarkUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexableNewsSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort.BulkIndexListener;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort.BulkIndexSession;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsIndexAdminPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.VectorIndexProbePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.DotProductKernels;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.TopKNeighborSearcher;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.TopKNeighborSearcher.Neighbors;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.VectorSlab;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexBenchmark;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexBenchmarkResult;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexOptions;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * summaryVector 인덱스 옵션별 recall·메모리·지연 시간을 표본 기사로 비교하는 서비스 구현체
+ * 최근 기사 표본의 원본(1536차원) 벡터로 전수 비교한 top-K를 정답으로 두므로, 양자화와 차원 절단의 손실이 함께 측정된다.
+ * 옵션마다 임시 인덱스를 만들어 측정한 뒤 삭제한다.
+ *
+ * @since 2025-06-06
+ */
+@Slf4j
+@Service
+public class VectorIndexBenchmarkService implements VectorIndexBenchmarkUseCase {
+	private static final int K = 10;
+	private static final int MAX_SAMPLE_SIZE = 20_000;
+	private static final String BENCHMARK_INDEX_PREFIX = "news_index_bench_";
+
+	private final IndexableNewsSourcePort sourcePort;
+	private final NewsBulkIndexPort bulkIndexPort;
+	private final NewsIndexAdminPort indexAdminPort;
+	private final VectorIndexProbePort probePort;
+	private final NewsSearchProperties searchProperties;
+	private final TopKNeighborSearcher exactSearcher;
+
+	public VectorIndexBenchmarkService(
+		IndexableNewsSourcePort sourcePort,
+		NewsBulkIndexPort bulkIndexPort,
+		NewsIndexAdminPort indexAdminPort,
+		VectorIndexProbePort probePort,
+		NewsSearchProperties searchProperties) {
+		this.sourcePort = sourcePort;
+		this.bulkIndexPort = bulkIndexPort;
+		this.indexAdminPort = indexAdminPort;
+		this.probePort = probePort;
+		this.searchProperties = searchProperties;
+		this.exactSearcher = new TopKNeighborSearcher(DotProductKernels.preferred(), ForkJoinPool.commonPool());
+	}
+
+	@EntryExitLog
+	@Override
+	public List<VectorIndexBenchmarkResult> compare(VectorIndexBenchmark benchmark) {
+		validate(benchmark);
+		VectorSlab slab = new VectorSlab(searchProperties.getPrecompute().getDimension(), benchmark.getSampleSize());
+		List<IndexableNews> samples = loadRecentSamples(slab, benchmark.getSampleSize());
+		int[] queryRows = pickQueryRows(samples.size(), benchmark.getQueryCount());
+		Neighbors[] exact = exactSearcher.search(slab, queryRows, K);
+
+		List<VectorIndexBenchmarkResult> results = new ArrayList<>();
+		for (int i = 0; i < benchmark.getVariants().size(); i++) {
+			results.add(measure(BENCHMARK_INDEX_PREFIX + i, benchmark.getVariants().get(i), samples, queryRows, exact));
+		}
+		return results;
+	}
+
+	private VectorIndexBenchmarkResult measure(String indexName, VectorIndexOptions options,
+		List<IndexableNews> samples, int[] queryRows, Neighbors[] exact) {
+		indexAdminPort.createIndex(indexName, options);
+		try {
+			load(indexName, samples);
+			indexAdminPort.finishBulkLoad(indexName);
+
+			double recallSum = 0;
+			long elapsedNanos = 0;
+			for (int i = 0; i < queryRows.length; i++) {
+				IndexableNews query = samples.get(queryRows[i]);
+				long start = System.nanoTime();
+				List<String> approximate = probePort.findNearestNewsIds(indexName, query.getSummaryVector(), K + 1);
+				elapsedNanos += System.nanoTime() - start;
+				recallSum += recall(exact[i], samples, approximate, query.getNewsId());
+			}
+
+			VectorIndexBenchmarkResult result = VectorIndexBenchmarkResult.builder()
+				.options(options)
+				.recall(recallSum / queryRows.length)
+				.estimatedMemoryBytes(options.estimateMemoryBytes(samples.size()))
+				.storeSizeBytes(probePort.findStoreSizeBytes(indexName))
+				.averageLatencyMillis(elapsedNanos / 1_000_000.0 / queryRows.length)
+				.build();
+			log.info("벡터 인덱스 비교: {} recall@{}={}, memory={}B, store={}B", options, K,
+				result.getRecall(), result.getEstimatedMemoryBytes(), result.getStoreSizeBytes());
+			return result;
+		} finally {
+			indexAdminPort.deleteIndex(indexName);
+		}
+	}
+
+	/**
+	 * 최신 기사부터 ID 범위를 거슬러 올라가며 요약 벡터가 있는 기사를 표본 수만큼 모은다.
+	 */
+	private List<IndexableNews> loadRecentSamples(VectorSlab slab, int sampleSize) {
+		List<IndexableNews> samples = new ArrayList<>(sampleSize);
+		int rangeSize = searchProperties.getReindex().getRangeSize();
+		for (long hi = sourcePort.findMaxArticleId(); hi > 0 && samples.size() < sampleSize; hi -= rangeSize) {
+			sourcePort.forEachInRange(Math.max(hi - rangeSize, 0), hi, news -> {
+				if (samples.size() < sampleSize && slab.add(news.getSummaryVector()) >= 0) {
+					samples.add(news);
+				}
+			});
+		}
+		if (samples.size() <= K) {
+			throw new SearchException(SearchErrorCode.INVALID_BENCHMARK);
+		}
+		return samples;
+	}
+
+	private void load(String indexName, List<IndexableNews> samples) {
+		AtomicLong failed = new AtomicLong();
+		try (BulkIndexSession session = bulkIndexPort.open(indexName, new FailureCountingListener(failed))) {
+			samples.forEach(session::add);
+		}
+		if (failed.get() > 0) {
+			log.warn("벡터 인덱스 비교 표본 색인 실패: index={}, failed={}", indexName, failed.get());
+		}
+	}
+
+	private int[] pickQueryRows(int sampleCount, int queryCount) {
+		int count = Math.min(queryCount, sampleCount);
+		int[] rows = new int[count];
+		for (int i = 0; i < count; i++) {
+			rows[i] = (int) ((long) i * sampleCount / count);
+		}
+		return rows;
+	}
+
+	private double recall(Neighbors exact, List<IndexableNews> samples, List<String> approximate, String queryNewsId) {
+		Set<String> found = new HashSet<>(K);
+		approximate.stream()
+			.filter(newsId -> !newsId.equals(queryNewsId))
+			.limit(K)
+			.forEach(found::add);
+		int[] rows = exact.rows();
+		if (rows.length == 0) {
+			return 1.0;
+		}
+		long hit = 0;
+		for (int row : rows) {
+			if (found.contains(samples.get(row).getNewsId())) {
+				hit++;
+			}
+		}
+		return (double) hit / rows.length;
+	}
+
+	private void validate(VectorIndexBenchmark benchmark) {
+		if (benchmark.getSampleSize() <= K || benchmark.getSampleSize() > MAX_SAMPLE_SIZE
+			|| benchmark.getQueryCount() <= 0
+			|| benchmark.getVariants() == null || benchmark.getVariants().isEmpty()) {
+			throw new SearchException(SearchErrorCode.INVALID_BENCHMARK);
+		}
+	}
+
+	private record FailureCountingListener(AtomicLong failed) implements BulkIndexListener {
+		@Override
+		public void onIndexed(long articleId) {
+		}
+
+		@Override
+		public void onRetry(long articleId) {
+		}
+
+		@Override
+		public void onFailed(long articleId, String reason) {
+			failed.incrementAndGet();
+		}
+	}
+}
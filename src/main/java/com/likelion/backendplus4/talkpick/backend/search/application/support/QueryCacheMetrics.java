@@ -0,0 +1,66 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.PopularQueryPort;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 검색 결과 캐시의 적중 여부를 검색어별로 프로메테우스에 기록하는 클래스
+ * 태그 카디널리티를 제한하기 위해 인기 검색어 상위 N건만 검색어 태그로 기록하고 나머지는 "other"로 묶는다.
+ *
+ * @since 2025-06-05
+ */
+@Component
+public class QueryCacheMetrics {
+	private static final String METRIC_NAME = "news_search_cache_requests";
+	private static final String OTHER_QUERY = "other";
+
+	private final MeterRegistry meterRegistry;
+	private final PopularQueryPort popularQueryPort;
+	private final int trackedQueryCount;
+
+	private volatile Set<String> trackedQueries = Set.of();
+
+	public QueryCacheMetrics(
+		MeterRegistry meterRegistry,
+		PopularQueryPort popularQueryPort,
+		@Value("${news.search.cache-metrics.tracked-queries:20}") int trackedQueryCount) {
+		this.meterRegistry = meterRegistry;
+		this.popularQueryPort = popularQueryPort;
+		this.trackedQueryCount = trackedQueryCount;
+	}
+
+	/**
+	 * 검색 결과 캐시 조회 결과를 기록한다.
+	 *
+	 * @param normalizedQuery 정규화된 검색어
+	 * @param hit             캐시 적중 여부
+	 * @since 2025-06-05
+	 */
+	public void record(String normalizedQuery, boolean hit) {
+		String query = trackedQueries.contains(normalizedQuery) ? normalizedQuery : OTHER_QUERY;
+		Counter.builder(METRIC_NAME)
+			.description("검색어별 뉴스 검색 결과 캐시 조회 수")
+			.tag("query", query)
+			.tag("result", hit ? "hit" : "miss")
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 검색어 태그로 기록할 인기 검색어 목록을 갱신한다.
+	 *
+	 * @since 2025-06-05
+	 */
+	@Scheduled(fixedDelayString = "${news.search.cache-metrics.refresh-interval:PT1M}")
+	public void refreshTrackedQueries() {
+		trackedQueries = Set.copyOf(popularQueryPort.findTopQueries(trackedQueryCount).keySet());
+	}
+}
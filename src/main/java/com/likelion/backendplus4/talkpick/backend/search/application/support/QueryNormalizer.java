@@ -0,0 +1,33 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어를 캐시 키, 인기 검색어 집계, 자동완성 비교에 공통으로 쓰는 형태로 정규화하는 유틸리티 클래스
+ * 전각 문자·호환 자모 등은 NFKC로 통일하고, 공백을 하나로 줄인 뒤 소문자로 변환한다.
+ *
+ * @since 2025-06-05
+ */
+public final class QueryNormalizer {
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private QueryNormalizer() {
+	}
+
+	/**
+	 * 검색어를 정규화한다.
+	 *
+	 * @param query 정규화할 검색어 (null 허용)
+	 * @return 정규화된 검색어, null이면 빈 문자열
+	 * @since 2025-06-05
+	 */
+	public static String normalize(String query) {
+		if (query == null) {
+			return "";
+		}
+		String composed = Normalizer.normalize(query, Normalizer.Form.NFKC);
+		return WHITESPACE.matcher(composed.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,77 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
+
+/**
+ * 여러 검색 결과 순위를 Reciprocal Rank Fusion(점수 = Σ 1 / (k + 순위))으로 결합하는 유틸리티 클래스
+ * 점수 척도가 다른 BM25와 벡터 유사도를 정규화 없이 순위만으로 합칠 수 있다.
+ *
+ * @since 2025-06-05
+ */
+public final class ReciprocalRankFusion {
+
+	private ReciprocalRankFusion() {
+	}
+
+	/**
+	 * 순위 목록들을 결합해 RRF 점수 내림차순으로 반환한다.
+	 * 같은 뉴스가 여러 목록에 있으면 먼저 전달된 목록의 결과 객체를 사용한다.
+	 *
+	 * @param rankings     결합할 순위 목록 (각 목록은 관련도 내림차순)
+	 * @param rankConstant 순위 상수 k
+	 * @return 결합된 뉴스 결과 목록
+	 * @since 2025-06-05
+	 */
+	public static List<NewsSearchResult> fuse(List<List<NewsSearchResult>> rankings, int rankConstant) {
+		Map<String, Candidate> candidates = new LinkedHashMap<>();
+		for (List<NewsSearchResult> ranking : rankings) {
+			for (int i = 0; i < ranking.size(); i++) {
+				NewsSearchResult result = ranking.get(i);
+				int rank = i + 1;
+				candidates.computeIfAbsent(result.getNewsId(), id -> new Candidate(result, rank))
+					.add(1.0 / (rankConstant + rank), rank);
+			}
+		}
+
+		List<Candidate> sorted = new ArrayList<>(candidates.values());
+		sorted.sort(Comparator.comparingDouble(Candidate::score).reversed()
+			.thenComparingInt(Candidate::bestRank));
+		return sorted.stream()
+			.map(Candidate::result)
+			.toList();
+	}
+
+	private static final class Candidate {
+		private final NewsSearchResult result;
+		private double score;
+		private int bestRank;
+
+		private Candidate(NewsSearchResult result, int rank) {
+			this.result = result;
+			this.bestRank = rank;
+		}
+
+		private void add(double contribution, int rank) {
+			score += contribution;
+			bestRank = Math.min(bestRank, rank);
+		}
+
+		private NewsSearchResult result() {
+			return result;
+		}
+
+		private double score() {
+			return score;
+		}
+
+		private int bestRank() {
+			return bestRank;
+		}
+	}
+}
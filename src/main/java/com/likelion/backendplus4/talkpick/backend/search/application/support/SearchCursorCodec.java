@@ -0,0 +1,70 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchCursor;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+/**
+ * SearchCursor를 클라이언트에 전달하는 불투명 문자열(Base64URL JSON)로 변환하는 유틸리티 클래스
+ *
+ * @since 2025-06-05
+ */
+public final class SearchCursorCodec {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private SearchCursorCodec() {
+	}
+
+	/**
+	 * 커서를 문자열로 인코딩한다.
+	 *
+	 * @param cursor 인코딩할 커서 (null 허용)
+	 * @return 인코딩된 커서 문자열, 커서가 없으면 null
+	 * @since 2025-06-05
+	 */
+	public static String encode(SearchCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		try {
+			byte[] json = OBJECT_MAPPER.writeValueAsBytes(new Payload(cursor.getSortValues(), cursor.getPointInTimeId()));
+			return ENCODER.encodeToString(json);
+		} catch (JsonProcessingException e) {
+			throw new SearchException(SearchErrorCode.INVALID_CURSOR, e);
+		}
+	}
+
+	/**
+	 * 문자열을 커서로 디코딩한다.
+	 *
+	 * @param value 클라이언트가 전달한 커서 문자열 (null 또는 공백 허용)
+	 * @return 디코딩된 커서, 값이 없으면 null
+	 * @throws SearchException 형식이 올바르지 않은 경우
+	 * @since 2025-06-05
+	 */
+	public static SearchCursor decode(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			Payload payload = OBJECT_MAPPER.readValue(DECODER.decode(value), Payload.class);
+			if (payload.s() == null || payload.s().isEmpty()) {
+				throw new SearchException(SearchErrorCode.INVALID_CURSOR);
+			}
+			return new SearchCursor(payload.s(), payload.p());
+		} catch (IllegalArgumentException | IOException e) {
+			throw new SearchException(SearchErrorCode.INVALID_CURSOR, e);
+		}
+	}
+
+	private record Payload(List<Object> s, String p) {
+	}
+}
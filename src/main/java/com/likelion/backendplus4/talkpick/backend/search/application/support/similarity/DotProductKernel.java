@@ -0,0 +1,21 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+/**
+ * 연속된 float 배열 구간끼리 내적을 계산하는 커널 인터페이스
+ *
+ * @since 2025-06-03
+ */
+public interface DotProductKernel {
+	/**
+	 * a[aOffset..aOffset+length) 와 b[bOffset..bOffset+length) 의 내적을 계산한다.
+	 *
+	 * @param a       첫 번째 벡터 저장소
+	 * @param aOffset 첫 번째 벡터 시작 위치
+	 * @param b       두 번째 벡터 저장소
+	 * @param bOffset 두 번째 벡터 시작 위치
+	 * @param length  벡터 차원 수
+	 * @return 내적 값
+	 * @since 2025-06-03
+	 */
+	float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+}
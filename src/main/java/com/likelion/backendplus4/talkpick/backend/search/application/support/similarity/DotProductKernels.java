@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 런타임 환경에 맞는 내적 커널을 선택하는 유틸리티 클래스
+ *
+ * @since 2025-06-03
+ */
+@Slf4j
+public final class DotProductKernels {
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	private DotProductKernels() {
+	}
+
+	/**
+	 * Vector API 모듈이 로드되어 있으면 SIMD 커널을, 아니면 스칼라 커널을 반환한다.
+	 *
+	 * @return 사용 가능한 가장 빠른 내적 커널
+	 * @since 2025-06-03
+	 */
+	public static DotProductKernel preferred() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+			log.info("{} 모듈이 없어 스칼라 내적 커널을 사용합니다.", VECTOR_MODULE);
+			return new ScalarDotProductKernel();
+		}
+		try {
+			return new VectorDotProductKernel();
+		} catch (LinkageError e) {
+			log.warn("Vector API 커널 로드 실패, 스칼라 커널을 사용합니다.", e);
+			return new ScalarDotProductKernel();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+/**
+ * 임베딩 벡터의 앞쪽 차원만 남기고 다시 L2 정규화하는 유틸리티 클래스
+ * text-embedding-3 계열은 앞쪽 차원에 정보가 몰리도록 학습되어 있어 잘라낸 벡터도 코사인 유사도 비교에 쓸 수 있다.
+ *
+ * @since 2025-06-06
+ */
+public final class EmbeddingTruncator {
+
+	private EmbeddingTruncator() {
+	}
+
+	/**
+	 * 벡터를 지정한 차원 수로 자르고 단위 벡터로 정규화한다.
+	 *
+	 * @param vector 원본 벡터
+	 * @param dims   남길 차원 수
+	 * @return 잘라낸 벡터, 원본이 null이거나 이미 dims 이하이면 원본 그대로
+	 * @since 2025-06-06
+	 */
+	public static float[] truncate(float[] vector, int dims) {
+		if (vector == null || dims <= 0 || vector.length <= dims) {
+			return vector;
+		}
+		double norm = 0;
+		for (int i = 0; i < dims; i++) {
+			norm += (double) vector[i] * vector[i];
+		}
+		float[] truncated = new float[dims];
+		if (norm == 0) {
+			return truncated;
+		}
+		float inverse = (float) (1.0 / Math.sqrt(norm));
+		for (int i = 0; i < dims; i++) {
+			truncated[i] = vector[i] * inverse;
+		}
+		return truncated;
+	}
+}
@@ -0,0 +1,30 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+/**
+ * 4-way 언롤링한 스칼라 내적 커널
+ * Vector API 모듈을 사용할 수 없는 런타임에서 기본 구현으로 사용한다.
+ *
+ * @since 2025-06-03
+ */
+public class ScalarDotProductKernel implements DotProductKernel {
+
+	@Override
+	public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+		float s0 = 0f;
+		float s1 = 0f;
+		float s2 = 0f;
+		float s3 = 0f;
+		int i = 0;
+		int upper = length & ~3;
+		for (; i < upper; i += 4) {
+			s0 += a[aOffset + i] * b[bOffset + i];
+			s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+			s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+			s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+		}
+		for (; i < length; i++) {
+			s0 += a[aOffset + i] * b[bOffset + i];
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+}
@@ -0,0 +1,171 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * VectorSlab에 저장된 벡터들 사이의 코사인 top-K 최근접 이웃을 전수 계산하는 클래스
+ * 질의 행 구간을 분할하여 ForkJoinPool에서 병렬로 처리한다.
+ *
+ * @since 2025-06-03
+ */
+public class TopKNeighborSearcher {
+	private static final int QUERIES_PER_TASK = 8;
+
+	private final DotProductKernel kernel;
+	private final ForkJoinPool pool;
+
+	public TopKNeighborSearcher(DotProductKernel kernel, ForkJoinPool pool) {
+		this.kernel = kernel;
+		this.pool = pool;
+	}
+
+	/**
+	 * 지정한 질의 행마다 자기 자신을 제외한 top-K 이웃을 유사도 내림차순으로 계산한다.
+	 *
+	 * @param slab      정규화된 벡터 저장소
+	 * @param queryRows 이웃을 계산할 행 번호 목록
+	 * @param k         행마다 남길 이웃 수
+	 * @return queryRows와 같은 순서의 이웃 목록 배열
+	 * @since 2025-06-03
+	 */
+	public Neighbors[] search(VectorSlab slab, int[] queryRows, int k) {
+		Neighbors[] results = new Neighbors[queryRows.length];
+		if (queryRows.length > 0) {
+			pool.invoke(new SearchTask(slab, queryRows, k, results, 0, queryRows.length));
+		}
+		return results;
+	}
+
+	private Neighbors searchOne(VectorSlab slab, int queryRow, int k) {
+		float[] data = slab.data();
+		int dimension = slab.dimension();
+		int queryOffset = slab.offset(queryRow);
+		TopKHeap heap = new TopKHeap(Math.min(k, Math.max(slab.size() - 1, 0)));
+
+		for (int row = 0; row < slab.size(); row++) {
+			if (row == queryRow) {
+				continue;
+			}
+			heap.offer(row, kernel.dot(data, queryOffset, data, slab.offset(row), dimension));
+		}
+		return heap.toNeighbors();
+	}
+
+	private class SearchTask extends RecursiveAction {
+		private final VectorSlab slab;
+		private final int[] queryRows;
+		private final int k;
+		private final Neighbors[] results;
+		private final int from;
+		private final int to;
+
+		SearchTask(VectorSlab slab, int[] queryRows, int k, Neighbors[] results, int from, int to) {
+			this.slab = slab;
+			this.queryRows = queryRows;
+			this.k = k;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= QUERIES_PER_TASK) {
+				for (int i = from; i < to; i++) {
+					results[i] = searchOne(slab, queryRows[i], k);
+				}
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(
+				new SearchTask(slab, queryRows, k, results, from, mid),
+				new SearchTask(slab, queryRows, k, results, mid, to)
+			);
+		}
+	}
+
+	/**
+	 * 한 질의 행의 이웃 행 번호와 유사도 (유사도 내림차순)
+	 */
+	public record Neighbors(int[] rows, float[] scores) {
+	}
+
+	/**
+	 * 원시 배열 기반의 크기 제한 최소 힙
+	 */
+	private static final class TopKHeap {
+		private final int[] rows;
+		private final float[] scores;
+		private int size;
+
+		TopKHeap(int capacity) {
+			this.rows = new int[capacity];
+			this.scores = new float[capacity];
+		}
+
+		void offer(int row, float score) {
+			if (rows.length == 0) {
+				return;
+			}
+			if (size < rows.length) {
+				rows[size] = row;
+				scores[size] = score;
+				siftUp(size++);
+			} else if (score > scores[0]) {
+				rows[0] = row;
+				scores[0] = score;
+				siftDown(0);
+			}
+		}
+
+		Neighbors toNeighbors() {
+			int[] sortedRows = new int[size];
+			float[] sortedScores = new float[size];
+			for (int i = size - 1; i >= 0; i--) {
+				sortedRows[i] = rows[0];
+				sortedScores[i] = scores[0];
+				size--;
+				rows[0] = rows[size];
+				scores[0] = scores[size];
+				siftDown(0);
+			}
+			return new Neighbors(sortedRows, sortedScores);
+		}
+
+		private void siftUp(int index) {
+			while (index > 0) {
+				int parent = (index - 1) >>> 1;
+				if (scores[parent] <= scores[index]) {
+					return;
+				}
+				swap(parent, index);
+				index = parent;
+			}
+		}
+
+		private void siftDown(int index) {
+			while (true) {
+				int left = index * 2 + 1;
+				if (left >= size) {
+					return;
+				}
+				int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+				if (scores[index] <= scores[smallest]) {
+					return;
+				}
+				swap(index, smallest);
+				index = smallest;
+			}
+		}
+
+		private void swap(int i, int j) {
+			int row = rows[i];
+			rows[i] = rows[j];
+			rows[j] = row;
+			float score = scores[i];
+			scores[i] = scores[j];
+			scores[j] = score;
+		}
+	}
+}
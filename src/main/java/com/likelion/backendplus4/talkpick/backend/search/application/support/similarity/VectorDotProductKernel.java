@@ -0,0 +1,32 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * jdk.incubator.vector 의 FMA 연산을 사용하는 SIMD 내적 커널
+ * 런타임에 --add-modules=jdk.incubator.vector 가 지정된 경우에만 로드해야 한다.
+ *
+ * @since 2025-06-03
+ */
+public class VectorDotProductKernel implements DotProductKernel {
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+	@Override
+	public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+		FloatVector acc = FloatVector.zero(SPECIES);
+		int i = 0;
+		int upper = SPECIES.loopBound(length);
+		for (; i < upper; i += SPECIES.length()) {
+			FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+			FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+			acc = va.fma(vb, acc);
+		}
+		float sum = acc.reduceLanes(VectorOperators.ADD);
+		for (; i < length; i++) {
+			sum += a[aOffset + i] * b[bOffset + i];
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,70 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+import java.util.Arrays;
+
+/**
+ * 고정 차원의 벡터를 하나의 연속된 float 배열에 행 단위로 저장하는 저장소
+ * 저장 시 L2 정규화를 수행하므로 두 행의 내적이 곧 코사인 유사도가 된다.
+ *
+ * @since 2025-06-03
+ */
+public class VectorSlab {
+	private final int dimension;
+	private float[] data;
+	private int size;
+
+	public VectorSlab(int dimension, int initialCapacity) {
+		this.dimension = dimension;
+		this.data = new float[Math.max(initialCapacity, 1) * dimension];
+	}
+
+	/**
+	 * 벡터를 정규화하여 다음 행에 추가한다.
+	 *
+	 * @param vector 추가할 벡터
+	 * @return 추가된 행 번호, 차원이 맞지 않거나 영벡터이면 -1
+	 * @since 2025-06-03
+	 */
+	public int add(float[] vector) {
+		if (vector == null || vector.length != dimension) {
+			return -1;
+		}
+		double norm = 0;
+		for (float v : vector) {
+			norm += (double) v * v;
+		}
+		if (norm == 0) {
+			return -1;
+		}
+		ensureCapacity(size + 1);
+		float inverse = (float) (1.0 / Math.sqrt(norm));
+		int offset = size * dimension;
+		for (int i = 0; i < dimension; i++) {
+			data[offset + i] = vector[i] * inverse;
+		}
+		return size++;
+	}
+
+	public int offset(int row) {
+		return row * dimension;
+	}
+
+	public int dimension() {
+		return dimension;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	float[] data() {
+		return data;
+	}
+
+	private void ensureCapacity(int rows) {
+		if ((long) rows * dimension > data.length) {
+			int newRows = Math.max(rows, (data.length / dimension) * 2);
+			data = Arrays.copyOf(data, Math.multiplyExact(newRows, dimension));
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.suggest;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.support.QueryNormalizer;
+
+/**
+ * 자동완성 접두사 비교를 위해 문자열을 한글 자모 단위로 분해하는 유틸리티 클래스
+ * 완성형 음절은 초성/중성/종성으로, 겹모음과 겹받침은 구성 자모로 분해하므로
+ * 입력 중인 "뉴ㅅ", "달"(닭 입력 중)처럼 음절이 완성되지 않은 접두사도 일치시킬 수 있다.
+ *
+ * @since 2025-06-05
+ */
+public final class HangulJamo {
+	private static final char SYLLABLE_BEGIN = '가';
+	private static final char SYLLABLE_END = '힣';
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+	/** 첫가끝(조합형) 자모 시작 코드. NFKC 정규화는 호환 자모(ㄱ)를 이 범위(ᄀ)로 바꾼다. */
+	private static final char CHOSEONG_BEGIN = '\u1100';
+	private static final char JUNGSEONG_BEGIN = '\u1161';
+	private static final char JONGSEONG_BEGIN = '\u11A7';
+
+	private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+	private static final String JUNG_CHARS = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+	private static final String[] JUNG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+		"ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+	private static final String JONG_CHARS = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+	private static final String[] JONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+		"ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 문자열을 검색어 정규화 규칙으로 정규화한 뒤 자모 단위로 분해한다.
+	 *
+	 * @param text 분해할 문자열
+	 * @return 자모 단위로 분해된 비교 키
+	 * @since 2025-06-05
+	 */
+	public static String decompose(String text) {
+		String normalized = QueryNormalizer.normalize(text);
+		StringBuilder sb = new StringBuilder(normalized.length() * 3);
+		for (int i = 0; i < normalized.length(); i++) {
+			appendJamo(sb, normalized.charAt(i));
+		}
+		return sb.toString();
+	}
+
+	private static void appendJamo(StringBuilder sb, char c) {
+		if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+			int offset = c - SYLLABLE_BEGIN;
+			sb.append(CHO.charAt(offset / (JUNG_COUNT * JONG_COUNT)));
+			sb.append(JUNG[offset % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT]);
+			sb.append(JONG[offset % JONG_COUNT]);
+			return;
+		}
+		if (c >= CHOSEONG_BEGIN && c < CHOSEONG_BEGIN + CHO.length()) {
+			sb.append(CHO.charAt(c - CHOSEONG_BEGIN));
+			return;
+		}
+		if (c >= JUNGSEONG_BEGIN && c < JUNGSEONG_BEGIN + JUNG_COUNT) {
+			sb.append(JUNG[c - JUNGSEONG_BEGIN]);
+			return;
+		}
+		if (c > JONGSEONG_BEGIN && c < JONGSEONG_BEGIN + JONG_COUNT) {
+			sb.append(JONG[c - JONGSEONG_BEGIN]);
+			return;
+		}
+		int jung = JUNG_CHARS.indexOf(c);
+		if (jung >= 0) {
+			sb.append(JUNG[jung]);
+			return;
+		}
+		int jong = JONG_CHARS.indexOf(c);
+		if (jong > 0) {
+			sb.append(JONG[jong]);
+			return;
+		}
+		sb.append(c);
+	}
+}
@@ -0,0 +1,197 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.suggest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성 후보를 자모 분해 키 순으로 정렬해 보관하는 불변 접두사 인덱스 클래스
+ * 모든 키를 하나의 char[]에 이어 붙이고 오프셋 배열로 구분하므로 후보마다 String 키를 두지 않으며,
+ * 조회는 이진 탐색으로 접두사 구간의 시작점을 찾은 뒤 구간 안에서 가중치 상위 N건만 고른다.
+ *
+ * @since 2025-06-05
+ */
+public final class PrefixSuggestIndex {
+	private static final PrefixSuggestIndex EMPTY = new PrefixSuggestIndex(new char[0], new int[] {0}, new String[0],
+		new long[0]);
+
+	private final char[] keys;
+	private final int[] offsets;
+	private final String[] terms;
+	private final long[] weights;
+
+	private PrefixSuggestIndex(char[] keys, int[] offsets, String[] terms, long[] weights) {
+		this.keys = keys;
+		this.offsets = offsets;
+		this.terms = terms;
+		this.weights = weights;
+	}
+
+	public static PrefixSuggestIndex empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * 후보 문자열과 가중치로 인덱스를 생성한다.
+	 * 자모 분해 키가 같은 후보는 가중치가 큰 하나만 남긴다.
+	 *
+	 * @param weightedTerms 후보 문자열별 가중치 (인기 검색어는 검색 횟수, 기사 제목은 0)
+	 * @return 생성된 인덱스
+	 * @since 2025-06-05
+	 */
+	public static PrefixSuggestIndex build(Map<String, Long> weightedTerms) {
+		Map<String, Entry> byKey = new HashMap<>(weightedTerms.size() * 2);
+		weightedTerms.forEach((term, weight) -> {
+			String display = term == null ? "" : term.strip();
+			String key = HangulJamo.decompose(display);
+			if (key.isEmpty()) {
+				return;
+			}
+			byKey.merge(key, new Entry(key, display, weight), (a, b) -> a.weight() >= b.weight() ? a : b);
+		});
+
+		Entry[] entries = byKey.values().toArray(new Entry[0]);
+		Arrays.sort(entries, (a, b) -> a.key().compareTo(b.key()));
+
+		int totalLength = 0;
+		for (Entry entry : entries) {
+			totalLength += entry.key().length();
+		}
+		char[] keys = new char[totalLength];
+		int[] offsets = new int[entries.length + 1];
+		String[] terms = new String[entries.length];
+		long[] weights = new long[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			Entry entry = entries[i];
+			entry.key().getChars(0, entry.key().length(), keys, offsets[i]);
+			offsets[i + 1] = offsets[i] + entry.key().length();
+			terms[i] = entry.term();
+			weights[i] = entry.weight();
+		}
+		return new PrefixSuggestIndex(keys, offsets, terms, weights);
+	}
+
+	/**
+	 * 접두사로 시작하는 후보를 가중치 내림차순(같으면 짧은 키 우선)으로 최대 size건 반환한다.
+	 *
+	 * @param prefix 사용자가 입력 중인 접두사
+	 * @param size   반환할 최대 건수
+	 * @return 자동완성 후보 목록, 일치하는 후보가 없으면 빈 목록
+	 * @since 2025-06-05
+	 */
+	public List<String> suggest(String prefix, int size) {
+		String key = HangulJamo.decompose(prefix);
+		if (key.isEmpty() || size <= 0) {
+			return List.of();
+		}
+		char[] target = key.toCharArray();
+
+		// 가장 낮은 순위 후보가 루트에 오는 크기 size의 힙으로 접두사 구간 안에서 상위 후보만 유지한다.
+		int[] heap = new int[size];
+		int count = 0;
+		for (int i = lowerBound(target); i < terms.length && startsWith(i, target); i++) {
+			if (count < size) {
+				heap[count] = i;
+				siftUp(heap, count++);
+			} else if (compareRank(i, heap[0]) < 0) {
+				heap[0] = i;
+				siftDown(heap, count);
+			}
+		}
+
+		String[] result = new String[count];
+		while (count > 0) {
+			result[--count] = terms[heap[0]];
+			heap[0] = heap[count];
+			siftDown(heap, count);
+		}
+		return List.of(result);
+	}
+
+	/**
+	 * 인덱스에 담긴 후보 수를 반환한다.
+	 *
+	 * @return 후보 수
+	 * @since 2025-06-05
+	 */
+	public int size() {
+		return terms.length;
+	}
+
+	private int lowerBound(char[] target) {
+		int low = 0;
+		int high = terms.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compareKey(mid, target) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int compareKey(int index, char[] target) {
+		return Arrays.compare(keys, offsets[index], offsets[index + 1], target, 0, target.length);
+	}
+
+	private boolean startsWith(int index, char[] target) {
+		int length = offsets[index + 1] - offsets[index];
+		return length >= target.length
+			&& Arrays.equals(keys, offsets[index], offsets[index] + target.length, target, 0, target.length);
+	}
+
+	private void siftUp(int[] heap, int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (compareRank(heap[index], heap[parent]) <= 0) {
+				return;
+			}
+			swap(heap, index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int[] heap, int count) {
+		int index = 0;
+		while (true) {
+			int worst = index;
+			int left = 2 * index + 1;
+			int right = left + 1;
+			if (left < count && compareRank(heap[left], heap[worst]) > 0) {
+				worst = left;
+			}
+			if (right < count && compareRank(heap[right], heap[worst]) > 0) {
+				worst = right;
+			}
+			if (worst == index) {
+				return;
+			}
+			swap(heap, index, worst);
+			index = worst;
+		}
+	}
+
+	private static void swap(int[] heap, int a, int b) {
+		int tmp = heap[a];
+		heap[a] = heap[b];
+		heap[b] = tmp;
+	}
+
+	/**
+	 * 두 후보의 순위를 비교한다. 앞선 순위일수록 작은 값을 반환한다.
+	 */
+	private int compareRank(int a, int b) {
+		int byWeight = Long.compare(weights[b], weights[a]);
+		if (byWeight != 0) {
+			return byWeight;
+		}
+		int byLength = Integer.compare(offsets[a + 1] - offsets[a], offsets[b + 1] - offsets[b]);
+		return byLength != 0 ? byLength : Integer.compare(a, b);
+	}
+
+	private record Entry(String key, String term, long weight) {
+	}
+}
@@ -0,0 +1,23 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 진행 중인 검색 인덱스 버전 교체 작업 도메인 모델
+ * 새 물리 인덱스를 채우는 동안 읽기 별칭은 기존 인덱스를 가리키고, 교체 시 별칭을 한 번에 옮긴다.
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@Builder(toBuilder = true)
+public class IndexMigration {
+	/** 새로 채우는 물리 인덱스 이름 (news_index_vN) */
+	private final String targetIndex;
+	/** 작업 시작 시점에 읽기 별칭이 가리키던 인덱스 이름 (별칭 도입 전이면 같은 이름의 물리 인덱스) */
+	private final String sourceIndex;
+	/** 작업 시작 시점의 최신 기사 ID (벌크 재색인 범위의 끝) */
+	private final long backfillTargetArticleId;
+	/** 이중 쓰기로 새 인덱스에 반영을 마친 마지막 기사 ID */
+	private final long mirroredArticleId;
+}
@@ -0,0 +1,22 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 별칭 구성과 버전 교체 진행 상태 도메인 모델
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@Builder
+public class IndexMigrationStatus {
+	/** 읽기 별칭이 가리키는 물리 인덱스 목록 (별칭 도입 전이면 같은 이름의 물리 인덱스) */
+	private final List<String> readIndices;
+	/** 진행 중인 교체 작업 (없으면 null) */
+	private final IndexMigration migration;
+	/** 새 인덱스 벌크 재색인 진행 상태 */
+	private final ReindexStatus reindex;
+}
@@ -0,0 +1,25 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * MySQL 기사 한 건을 검색 인덱스에 색인하기 위한 도메인 모델
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@Builder
+public class IndexableNews {
+	private final long articleId;
+	private final String newsId;
+	private final String title;
+	private final String content;
+	private final String summary;
+	private final float[] summaryVector;
+	private final String imageUrl;
+	private final String category;
+	private final LocalDateTime publishedAt;
+}
@@ -0,0 +1,68 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import com.likelion.backendplus4.talkpick.backend.news.info.domain.enums.NewsIdPrefix;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 검색 결과를 카테고리, 언론사(뉴스 ID 접두사), 발행일 범위로 제한하는 필터 도메인 모델
+ * 모든 조건은 선택 사항이며, 지정한 조건은 점수 계산 없이 filter 문맥으로 적용된다.
+ *
+ * @since 2025-06-06
+ */
+@Getter
+public class NewsFilter {
+	public static final NewsFilter NONE = new NewsFilter(null, null, null, null);
+
+	private final String category;
+	private final String publisher;
+	private final LocalDate publishedFrom;
+	private final LocalDate publishedTo;
+
+	/**
+	 * 필터 조건 유효성을 검증하면서 인스턴스를 생성한다.
+	 *
+	 * @param category      카테고리 (null이거나 비어 있으면 제한 없음)
+	 * @param publisher     언론사 뉴스 ID 접두사 (예: KM, 대소문자 무관)
+	 * @param publishedFrom 발행일 시작 (포함)
+	 * @param publishedTo   발행일 끝 (포함)
+	 * @throws SearchException 등록되지 않은 언론사이거나 발행일 범위가 뒤집힌 경우
+	 * @since 2025-06-06
+	 */
+	public NewsFilter(String category, String publisher, LocalDate publishedFrom, LocalDate publishedTo) {
+		String normalizedPublisher = isBlank(publisher) ? null : publisher.trim().toUpperCase(Locale.ROOT);
+		if (normalizedPublisher != null && !NewsIdPrefix.isValidPrefix(normalizedPublisher)) {
+			throw new SearchException(SearchErrorCode.INVALID_FILTER);
+		}
+		if (publishedFrom != null && publishedTo != null && publishedFrom.isAfter(publishedTo)) {
+			throw new SearchException(SearchErrorCode.INVALID_FILTER);
+		}
+		this.category = isBlank(category) ? null : category.trim();
+		this.publisher = normalizedPublisher;
+		this.publishedFrom = publishedFrom;
+		this.publishedTo = publishedTo;
+	}
+
+	public boolean isEmpty() {
+		return category == null && publisher == null && publishedFrom == null && publishedTo == null;
+	}
+
+	/**
+	 * 결과 캐시 키에 덧붙일 필터 문자열을 생성한다.
+	 *
+	 * @return "category|publisher|from|to" 형식의 문자열
+	 * @since 2025-06-06
+	 */
+	public String cacheKey() {
+		return category + "|" + publisher + "|" + publishedFrom + "|" + publishedTo;
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+}
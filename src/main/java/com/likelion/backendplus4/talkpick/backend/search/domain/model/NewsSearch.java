@@ -15,6 +15,10 @@ public class NewsSearch {
 	private final String query;
 	private final int page;
 	private final int size;
+	private final SearchCursor cursor;
+	private final boolean pointInTime;
+	private final SearchMode mode;
+	private final NewsFilter filter;
 
 	/**
 	 * 검색어, 페이지, 사이즈 유효성을 검증하면서 인스턴스를 생성한다.
@@ -27,6 +31,57 @@ public class NewsSearch {
 	 * @since 2025-05-15
 	 */
 	public NewsSearch(String query, int page, int size) {
+		this(query, page, size, null, false);
+	}
+
+	/**
+	 * 커서 기반(search_after) 조회 정보를 포함해 인스턴스를 생성한다.
+	 * 커서가 있으면 page는 무시되고 커서 다음 결과부터 조회한다.
+	 *
+	 * @param query       검색어 문자열
+	 * @param page        조회할 페이지 번호 (0 이상)
+	 * @param size        페이지당 결과 개수 (1 이상)
+	 * @param cursor      이전 응답의 다음 페이지 커서 (첫 요청이면 null)
+	 * @param pointInTime 첫 요청에서 point-in-time을 열어 페이지 간 일관된 결과를 유지할지 여부
+	 * @throws SearchException 유효하지 않은 파라미터일 경우
+	 * @since 2025-06-05
+	 */
+	public NewsSearch(String query, int page, int size, SearchCursor cursor, boolean pointInTime) {
+		this(query, page, size, cursor, pointInTime, SearchMode.TEXT);
+	}
+
+	/**
+	 * 검색 방식을 포함해 인스턴스를 생성한다.
+	 * HYBRID 방식은 결과를 RRF로 다시 정렬하므로 커서 대신 page로만 조회한다.
+	 *
+	 * @param query       검색어 문자열
+	 * @param page        조회할 페이지 번호 (0 이상)
+	 * @param size        페이지당 결과 개수 (1 이상)
+	 * @param cursor      이전 응답의 다음 페이지 커서 (첫 요청이면 null)
+	 * @param pointInTime 첫 요청에서 point-in-time을 열어 페이지 간 일관된 결과를 유지할지 여부
+	 * @param mode        검색 방식
+	 * @throws SearchException 유효하지 않은 파라미터일 경우
+	 * @since 2025-06-05
+	 */
+	public NewsSearch(String query, int page, int size, SearchCursor cursor, boolean pointInTime, SearchMode mode) {
+		this(query, page, size, cursor, pointInTime, mode, NewsFilter.NONE);
+	}
+
+	/**
+	 * 카테고리·언론사·발행일 필터를 포함해 인스턴스를 생성한다.
+	 *
+	 * @param query       검색어 문자열
+	 * @param page        조회할 페이지 번호 (0 이상)
+	 * @param size        페이지당 결과 개수 (1 이상)
+	 * @param cursor      이전 응답의 다음 페이지 커서 (첫 요청이면 null)
+	 * @param pointInTime 첫 요청에서 point-in-time을 열어 페이지 간 일관된 결과를 유지할지 여부
+	 * @param mode        검색 방식
+	 * @param filter      결과 제한 필터 (null이면 제한 없음)
+	 * @throws SearchException 유효하지 않은 파라미터일 경우
+	 * @since 2025-06-06
+	 */
+	public NewsSearch(String query, int page, int size, SearchCursor cursor, boolean pointInTime, SearchMode mode,
+		NewsFilter filter) {
 		if (query == null || query.isBlank()) {
 			throw new SearchException(SearchErrorCode.INVALID_QUERY);
 		}
@@ -39,5 +94,20 @@ public class NewsSearch {
 		this.query = query;
 		this.page = page;
 		this.size = size;
+		this.cursor = cursor;
+		this.pointInTime = pointInTime;
+		this.mode = mode == null ? SearchMode.TEXT : mode;
+		this.filter = filter == null ? NewsFilter.NONE : filter;
+	}
+
+	/**
+	 * 검색어만 바꾼 인스턴스를 생성한다.
+	 *
+	 * @param newQuery 새 검색어
+	 * @return 나머지 조건이 같은 새 인스턴스
+	 * @since 2025-06-05
+	 */
+	public NewsSearch withQuery(String newQuery) {
+		return new NewsSearch(newQuery, page, size, cursor, pointInTime, mode, filter);
 	}
 }
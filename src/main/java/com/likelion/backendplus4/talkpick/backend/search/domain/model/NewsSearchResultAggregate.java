@@ -1,6 +1,5 @@
 package com.likelion.backendplus4.talkpick.backend.search.domain.model;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import lombok.Builder;
@@ -16,4 +15,8 @@ import lombok.Getter;
 public class NewsSearchResultAggregate {
 	List<NewsSearchResult> newsSearchResultList;
 	Long totalHits;
+	/** totalHits가 track_total_hits 상한에 걸려 실제 개수의 하한값인지 여부 */
+	boolean totalIsLowerBound;
+	/** 다음 페이지 커서 (마지막 페이지면 null) */
+	SearchCursor nextCursor;
 }
@@ -15,6 +15,7 @@ public class NewsSimilarSearch {
 	private final String newsId;
 	private final int page;
 	private final int size;
+	private final NewsFilter filter;
 
 	/**
 	 * 뉴스아이디, 페이지, 사이즈 유효성을 검증하면서 인스턴스를 생성한다.
@@ -27,6 +28,20 @@ public class NewsSimilarSearch {
 	 * @since 2025-05-15
 	 */
 	public NewsSimilarSearch(String newsId, int page, int size) {
+		this(newsId, page, size, NewsFilter.NONE);
+	}
+
+	/**
+	 * 카테고리·언론사·발행일 필터를 포함해 인스턴스를 생성한다.
+	 *
+	 * @param newsId 검색할 뉴스아이디
+	 * @param page   조회할 페이지 번호 (0 이상)
+	 * @param size   페이지당 결과 개수 (1 이상)
+	 * @param filter 후보 제한 필터 (null이면 제한 없음)
+	 * @throws SearchException 유효하지 않은 파라미터일 경우
+	 * @since 2025-06-06
+	 */
+	public NewsSimilarSearch(String newsId, int page, int size, NewsFilter filter) {
 		if (newsId == null || newsId.isBlank()) {
 			throw new SearchException(SearchErrorCode.INVALID_NEWS_ID);
 		}
@@ -39,5 +54,18 @@ public class NewsSimilarSearch {
 		this.newsId = newsId;
 		this.page = page;
 		this.size = size;
+		this.filter = filter == null ? NewsFilter.NONE : filter;
+	}
+
+	/**
+	 * 결과 캐시에 사용할 키를 생성한다. 벡터가 변하지 않으므로 (뉴스 ID, 페이지, 사이즈, 필터)가 같으면 결과도 같다.
+	 *
+	 * @return "newsId:page:size[:filter]" 형식의 캐시 키
+	 * @since 2025-06-04
+	 * @modified 2025-06-06 필터 조건 포함
+	 */
+	public String cacheKey() {
+		String key = newsId + ":" + page + ":" + size;
+		return filter.isEmpty() ? key : key + ":" + filter.cacheKey();
 	}
 }
@@ -0,0 +1,36 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 검색어 자동완성 시 전달되는 접두사와 후보 수를 검증 및 저장하는 도메인 모델
+ *
+ * @since 2025-06-05
+ */
+@Getter
+public class NewsSuggest {
+	private final String prefix;
+	private final int size;
+
+	/**
+	 * 접두사와 후보 수 유효성을 검증하면서 인스턴스를 생성한다.
+	 *
+	 * @param prefix 사용자가 입력 중인 접두사
+	 * @param size   반환할 최대 후보 수 (1 이상)
+	 * @throws SearchException 유효하지 않은 파라미터일 경우
+	 * @since 2025-06-05
+	 */
+	public NewsSuggest(String prefix, int size) {
+		if (prefix == null || prefix.isBlank()) {
+			throw new SearchException(SearchErrorCode.INVALID_QUERY);
+		}
+		if (size <= 0) {
+			throw new SearchException(SearchErrorCode.INVALID_SIZE);
+		}
+		this.prefix = prefix;
+		this.size = size;
+	}
+}
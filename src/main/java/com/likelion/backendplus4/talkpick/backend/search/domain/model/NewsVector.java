@@ -0,0 +1,17 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유사 뉴스 사전 계산에 사용하는 기사 식별자와 요약 벡터 도메인 모델
+ *
+ * @since 2025-06-03
+ */
+@Getter
+@RequiredArgsConstructor
+public class NewsVector {
+	private final long articleId;
+	private final String newsId;
+	private final float[] vector;
+}
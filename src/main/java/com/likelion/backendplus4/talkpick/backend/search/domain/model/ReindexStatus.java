@@ -0,0 +1,26 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 재색인 작업의 진행 상태 도메인 모델
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@Builder
+public class ReindexStatus {
+	/** 현재 노드에서 재색인이 진행 중인지 여부 */
+	private final boolean running;
+	/** 색인 대상 인덱스(또는 별칭) 이름 */
+	private final String indexName;
+	/** 색인이 완료된 마지막 기사 ID (재시작 시 이 ID 다음부터 이어서 색인) */
+	private final long checkpoint;
+	/** 이번 재색인의 대상 마지막 기사 ID */
+	private final long targetArticleId;
+	/** 이번 실행에서 색인된 문서 수 */
+	private final long indexed;
+	/** 이번 실행에서 재시도 후에도 실패한 문서 수 */
+	private final long failed;
+}
@@ -0,0 +1,20 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * search_after 기반 다음 페이지 조회에 필요한 정렬 값과 point-in-time ID를 보관하는 도메인 모델
+ *
+ * @since 2025-06-05
+ */
+@Getter
+@RequiredArgsConstructor
+public class SearchCursor {
+	/** 이전 페이지 마지막 결과의 정렬 값 (_score, publishedAt, newsId) */
+	private final List<Object> sortValues;
+	/** point-in-time ID (사용하지 않으면 null) */
+	private final String pointInTimeId;
+}
@@ -0,0 +1,37 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import java.util.Locale;
+
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+/**
+ * 검색어 기반 뉴스 검색 방식
+ *
+ * @since 2025-06-05
+ */
+public enum SearchMode {
+	/** nori 형태소 분석 기반 BM25 검색 */
+	TEXT,
+	/** BM25 검색과 검색어 임베딩 kNN 검색 결과를 RRF로 결합 */
+	HYBRID;
+
+	/**
+	 * 요청 파라미터 값을 검색 방식으로 변환한다.
+	 *
+	 * @param value 검색 방식 문자열 (null이면 TEXT)
+	 * @return 검색 방식
+	 * @throws SearchException 지원하지 않는 검색 방식인 경우
+	 * @since 2025-06-05
+	 */
+	public static SearchMode from(String value) {
+		if (value == null || value.isBlank()) {
+			return TEXT;
+		}
+		try {
+			return valueOf(value.strip().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new SearchException(SearchErrorCode.INVALID_SEARCH_TYPE, e);
+		}
+	}
+}
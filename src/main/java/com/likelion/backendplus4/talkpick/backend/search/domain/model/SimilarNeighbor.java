@@ -0,0 +1,16 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사전 계산된 유사 뉴스 이웃 한 건을 표현하는 도메인 모델
+ *
+ * @since 2025-06-03
+ */
+@Getter
+@RequiredArgsConstructor
+public class SimilarNeighbor {
+	private final String newsId;
+	private final float score;
+}
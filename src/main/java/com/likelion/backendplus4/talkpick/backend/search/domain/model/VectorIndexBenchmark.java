@@ -0,0 +1,22 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 벡터 인덱스 옵션 비교 조건 도메인 모델
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@Builder
+public class VectorIndexBenchmark {
+	/** 비교에 사용할 최근 기사 표본 수 */
+	private final int sampleSize;
+	/** 표본 중 recall을 측정할 질의 기사 수 */
+	private final int queryCount;
+	/** 비교할 인덱스 옵션 목록 */
+	private final List<VectorIndexOptions> variants;
+}
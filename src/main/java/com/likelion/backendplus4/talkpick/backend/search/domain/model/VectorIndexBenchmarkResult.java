@@ -0,0 +1,24 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 벡터 인덱스 옵션 하나에 대한 recall·메모리·지연 시간 측정 결과 도메인 모델
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@Builder
+public class VectorIndexBenchmarkResult {
+	/** 측정한 인덱스 옵션 */
+	private final VectorIndexOptions options;
+	/** 원본 차원 전수 비교 결과 대비 kNN 결과의 평균 recall@k */
+	private final double recall;
+	/** 표본 벡터와 HNSW 그래프를 메모리에 올리는 데 필요한 추정 바이트 수 */
+	private final long estimatedMemoryBytes;
+	/** 표본 인덱스의 primary 샤드 저장 크기 */
+	private final long storeSizeBytes;
+	/** kNN 질의 평균 지연 시간 (밀리초) */
+	private final double averageLatencyMillis;
+}
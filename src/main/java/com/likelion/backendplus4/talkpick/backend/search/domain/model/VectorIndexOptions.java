@@ -0,0 +1,38 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * summaryVector dense_vector 매핑의 차원 수와 HNSW 인덱스 옵션
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@Builder
+public class VectorIndexOptions {
+	/** 양자화 방식 */
+	private final VectorIndexType type;
+	/** HNSW 노드당 최대 연결 수 */
+	private final int m;
+	/** HNSW 그래프 구성 시 탐색할 후보 수 */
+	private final int efConstruction;
+	/** 색인할 차원 수 (원본보다 작으면 앞쪽 차원만 남기고 다시 정규화한다) */
+	private final int dims;
+
+	/**
+	 * 벡터와 HNSW 그래프를 모두 메모리에 올리는 데 필요한 바이트 수를 추정한다.
+	 *
+	 * @param vectorCount 색인된 벡터 수
+	 * @return 추정 바이트 수
+	 * @since 2025-06-06
+	 */
+	public long estimateMemoryBytes(long vectorCount) {
+		return vectorCount * (type.estimateBytesPerVector(dims) + 4L * m);
+	}
+
+	@Override
+	public String toString() {
+		return type.getMappingName() + "(dims=" + dims + ", m=" + m + ", ef_construction=" + efConstruction + ")";
+	}
+}
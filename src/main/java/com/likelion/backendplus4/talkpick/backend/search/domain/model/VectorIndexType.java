@@ -0,0 +1,41 @@
+package com.likelion.backendplus4.talkpick.backend.search.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * dense_vector 필드의 HNSW 인덱스 양자화 방식
+ * 메모리 추정식은 Elasticsearch kNN 튜닝 가이드의 벡터당 바이트 수를 따른다 (HNSW 그래프는 별도로 m × 4바이트).
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VectorIndexType {
+	/** float32 원본 벡터로 HNSW 구성 */
+	HNSW("hnsw"),
+	/** 차원당 1바이트 스칼라 양자화 */
+	INT8_HNSW("int8_hnsw"),
+	/** 차원당 4비트 스칼라 양자화 (차원 수는 짝수여야 한다) */
+	INT4_HNSW("int4_hnsw"),
+	/** 차원당 1비트 Better Binary Quantization (Elasticsearch 8.16 이상, 64차원 이상) */
+	BBQ_HNSW("bbq_hnsw");
+
+	private final String mappingName;
+
+	/**
+	 * 벡터 하나를 메모리에 올리는 데 필요한 바이트 수를 추정한다.
+	 *
+	 * @param dims 벡터 차원 수
+	 * @return 벡터당 추정 바이트 수
+	 * @since 2025-06-06
+	 */
+	public long estimateBytesPerVector(int dims) {
+		return switch (this) {
+			case HNSW -> 4L * dims;
+			case INT8_HNSW -> dims + 4L;
+			case INT4_HNSW -> dims / 2 + 4L;
+			case BBQ_HNSW -> dims / 8 + 14L;
+		};
+	}
+}
@@ -11,6 +11,11 @@ public class SearchException extends CustomException {
 		this.errorCode = errorCode;
 	}
 
+	public SearchException(ErrorCode errorCode, Throwable cause) {
+		super(errorCode, cause);
+		this.errorCode = errorCode;
+	}
+
 	@Override
 	public ErrorCode getErrorCode() {
 		return errorCode;
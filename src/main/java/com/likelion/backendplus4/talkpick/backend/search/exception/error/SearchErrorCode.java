@@ -37,11 +37,19 @@ public enum SearchErrorCode implements ErrorCode {
     INVALID_SIZE(HttpStatus.BAD_REQUEST, 140003, "페이지 크기는 1 이상이어야 합니다."),
     INVALID_SEARCH_TYPE(HttpStatus.BAD_REQUEST, 140004, "지원하지 않는 검색 타입입니다."),
     INVALID_NEWS_ID(HttpStatus.BAD_REQUEST, 140005, "뉴스아이디를 입력해주세요"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, 140006, "유효하지 않은 페이지 커서입니다."),
+    INDEX_MIGRATION_NOT_FOUND(HttpStatus.CONFLICT, 140007, "진행 중인 인덱스 교체 작업이 없습니다."),
+    INDEX_MIGRATION_NOT_READY(HttpStatus.CONFLICT, 140008, "새 인덱스의 재색인이 아직 끝나지 않았습니다."),
+    REINDEX_IN_PROGRESS(HttpStatus.CONFLICT, 140009, "다른 재색인 작업이 진행 중입니다."),
+    INVALID_BENCHMARK(HttpStatus.BAD_REQUEST, 140010, "벡터 인덱스 비교 조건이 올바르지 않습니다."),
+    INVALID_FILTER(HttpStatus.BAD_REQUEST, 140011, "검색 필터가 올바르지 않습니다."),
     ES_SEARCH_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 430001, "Elasticsearch 검색 실패"),
     RDB_SEARCH_ERROR(HttpStatus.NO_CONTENT, 430002, "검색 결과가 없습니다"),
     EMBEDDING_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 440001, "임베딩 API 호출 실패"),
     ES_SUGGEST_SEARCH_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 440002, "검색어 자동완성에 실패했습니다."),
-    ES_SEARCH_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 440003, "증상 검색에 실패했습니다.");
+    ES_SEARCH_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 440003, "증상 검색에 실패했습니다."),
+    ES_INDEX_ADMIN_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, 440004, "검색 인덱스 관리 요청에 실패했습니다."),
+    ES_SEARCH_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, 440005, "검색 요청 시간이 초과되었습니다.");
 
     private final HttpStatus status;
     private final int code;
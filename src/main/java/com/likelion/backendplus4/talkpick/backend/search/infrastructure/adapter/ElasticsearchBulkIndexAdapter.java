@@ -0,0 +1,181 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.EmbeddingTruncator;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.mapper.NewsSearchDocumentMapper;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.support.SummaryVectorDimensions;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Elasticsearch BulkIngester로 문서를 벌크 색인하는 어댑터 클래스
+ * 작업 수·바이트 기준으로 요청을 묶고, 동시 요청 수를 제한해 클러스터가 밀리면 add 호출이 블로킹된다(배압).
+ * 429(es_rejected_execution_exception)로 거절된 문서는 지수 백오프 후 다시 넣는다.
+ * 요약 벡터는 대상 인덱스의 summaryVector 차원 수에 맞춰 잘라서 넣는다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchBulkIndexAdapter implements NewsBulkIndexPort {
+	private static final String TYPE_HINT_FIELD = "_class";
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final long CLOSE_POLL_MILLIS = 100L;
+
+	private final ElasticsearchClient client;
+	private final ElasticsearchOperations ops;
+	private final NewsSearchDocumentMapper mapper;
+	private final NewsSearchProperties searchProperties;
+	private final SummaryVectorDimensions vectorDimensions;
+	private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(
+		runnable -> new Thread(runnable, "bulk-index-retry"));
+
+	@Override
+	public BulkIndexSession open(String indexName, BulkIndexListener listener) {
+		return new IngesterSession(indexName, listener, searchProperties.getReindex());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		retryScheduler.shutdownNow();
+	}
+
+	private Map<String, Object> toSource(IndexableNews news, int vectorDims) {
+		NewsSearchDocument searchDocument = mapper.toDocument(news);
+		searchDocument.setSummaryVector(EmbeddingTruncator.truncate(searchDocument.getSummaryVector(), vectorDims));
+		Document document = ops.getElasticsearchConverter().mapObject(searchDocument);
+		document.remove(TYPE_HINT_FIELD);
+		return document;
+	}
+
+	/**
+	 * 벌크 요청 한 건에 담긴 문서 정보. 재시도 시 같은 문서를 다시 넣기 위해 원본 소스를 보관한다.
+	 */
+	private record BulkItem(long articleId, String newsId, Map<String, Object> source, int attempt) {
+		BulkItem nextAttempt() {
+			return new BulkItem(articleId, newsId, source, attempt + 1);
+		}
+	}
+
+	private final class IngesterSession implements BulkIndexSession, BulkListener<BulkItem> {
+		private final String indexName;
+		private final BulkIndexListener listener;
+		private final NewsSearchProperties.Reindex properties;
+		private final BulkIngester<BulkItem> ingester;
+		private final int vectorDims;
+		/** 추가되었지만 아직 성공 또는 최종 실패가 확정되지 않은 문서 수 (재시도 대기 포함) */
+		private final AtomicLong outstanding = new AtomicLong();
+
+		private IngesterSession(String indexName, BulkIndexListener listener, NewsSearchProperties.Reindex properties) {
+			this.indexName = indexName;
+			this.listener = listener;
+			this.properties = properties;
+			this.vectorDims = vectorDimensions.dimsOf(indexName);
+			this.ingester = BulkIngester.of(b -> b
+				.client(client)
+				.maxOperations(properties.getBulkMaxOperations())
+				.maxSize(properties.getBulkMaxSize().toBytes())
+				.maxConcurrentRequests(properties.getMaxConcurrentRequests())
+				.flushInterval(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS)
+				.listener(this));
+		}
+
+		@Override
+		public void add(IndexableNews news) {
+			outstanding.incrementAndGet();
+			enqueue(new BulkItem(news.getArticleId(), news.getNewsId(), toSource(news, vectorDims), 0));
+		}
+
+		/**
+		 * 남은 문서를 모두 보내고 재시도 대기 문서까지 결과가 확정될 때까지 기다린 뒤 세션을 닫는다.
+		 */
+		@Override
+		public void close() {
+			try {
+				while (outstanding.get() > 0) {
+					ingester.flush();
+					Thread.sleep(CLOSE_POLL_MILLIS);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				ingester.close();
+			}
+		}
+
+		@Override
+		public void beforeBulk(long executionId, BulkRequest request, List<BulkItem> contexts) {
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, List<BulkItem> contexts, BulkResponse response) {
+			List<BulkResponseItem> items = response.items();
+			for (int i = 0; i < items.size(); i++) {
+				BulkResponseItem item = items.get(i);
+				BulkItem context = contexts.get(i);
+				if (item.error() == null) {
+					complete(context);
+				} else if (item.status() == TOO_MANY_REQUESTS) {
+					retryOrFail(context, item.error().reason());
+				} else {
+					fail(context, item.error().reason());
+				}
+			}
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, List<BulkItem> contexts, Throwable failure) {
+			contexts.forEach(context -> retryOrFail(context, failure.getMessage()));
+		}
+
+		private void enqueue(BulkItem item) {
+			BulkOperation operation = BulkOperation.of(op -> op.index(idx -> idx
+				.index(indexName)
+				.id(item.newsId())
+				.document(item.source())));
+			ingester.add(operation, item);
+		}
+
+		private void retryOrFail(BulkItem item, String reason) {
+			if (item.attempt() >= properties.getMaxRetries()) {
+				fail(item, reason);
+				return;
+			}
+			listener.onRetry(item.articleId());
+			long delay = properties.getRetryBackoff().toMillis() << item.attempt();
+			retryScheduler.schedule(() -> enqueue(item.nextAttempt()), delay, TimeUnit.MILLISECONDS);
+		}
+
+		private void complete(BulkItem item) {
+			listener.onIndexed(item.articleId());
+			outstanding.decrementAndGet();
+		}
+
+		private void fail(BulkItem item, String reason) {
+			listener.onFailed(item.articleId(), reason);
+			outstanding.decrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsIndexAdminPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexOptions;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Elasticsearch 인덱스 생성·설정·별칭 요청을 수행하는 어댑터 클래스
+ * 인덱스 매핑은 NewsSearchDocument 어노테이션에서 만들되 summaryVector의 차원 수와 HNSW 옵션은 설정 값으로 덮어쓰고, 별칭 교체는 _aliases 요청 하나로 묶어 원자적으로 처리한다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchNewsIndexAdminAdapter implements NewsIndexAdminPort {
+	private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+	private static final String BULK_LOAD_REFRESH_INTERVAL = "-1";
+	private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+	private static final String PROPERTIES = "properties";
+	private static final String VECTOR_FIELD = "summaryVector";
+
+	private final ElasticsearchClient client;
+	private final ElasticsearchOperations ops;
+	private final NewsSearchProperties searchProperties;
+
+	@Override
+	public List<String> resolveIndices(String name) {
+		try {
+			if (isAlias(name)) {
+				return findAliasedIndices(name);
+			}
+			if (client.indices().exists(e -> e.index(name)).value()) {
+				return List.of(name);
+			}
+			return List.of();
+		} catch (IOException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+
+	@Override
+	public List<String> findIndicesByPrefix(String prefix) {
+		try {
+			return client.indices()
+				.get(g -> g.index(prefix + "*").allowNoIndices(true))
+				.result()
+				.keySet()
+				.stream()
+				.sorted()
+				.toList();
+		} catch (IOException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+
+	@Override
+	public long countSearchableDocuments(String name) {
+		try {
+			return client.count(c -> c.index(name)).count();
+		} catch (IOException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+
+	@Override
+	public void createIndex(String indexName) {
+		createIndex(indexName, searchProperties.getVector().toOptions());
+	}
+
+	@Override
+	public void createIndex(String indexName, VectorIndexOptions vectorOptions) {
+		try {
+			Document mapping = ops.indexOps(NewsSearchDocument.class).createMapping();
+			applyVectorOptions(mapping, vectorOptions);
+			IndexOperations indexOps = ops.indexOps(IndexCoordinates.of(indexName));
+			indexOps.create(Map.of(REFRESH_INTERVAL_SETTING, BULK_LOAD_REFRESH_INTERVAL), mapping);
+		} catch (RuntimeException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+
+	@Override
+	public void deleteIndex(String indexName) {
+		try {
+			ops.indexOps(IndexCoordinates.of(indexName)).delete();
+		} catch (RuntimeException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+
+	@Override
+	public void finishBulkLoad(String indexName) {
+		try {
+			client.indices().putSettings(p -> p
+				.index(indexName)
+				.settings(s -> s.refreshInterval(t -> t.time(DEFAULT_REFRESH_INTERVAL))));
+			client.indices().refresh(r -> r.index(indexName));
+		} catch (IOException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+
+	@Override
+	public void switchAlias(String alias, String targetIndex) {
+		try {
+			List<Action> actions = new ArrayList<>();
+			if (isAlias(alias)) {
+				removeAliasActions(alias, targetIndex, actions);
+			} else if (client.indices().exists(e -> e.index(alias)).value()) {
+				actions.add(Action.of(a -> a.removeIndex(r -> r.index(alias))));
+			}
+			actions.add(Action.of(a -> a.add(add -> add.index(targetIndex).alias(alias))));
+			client.indices().updateAliases(u -> u.actions(actions));
+		} catch (IOException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+
+	/**
+	 * 어노테이션에서 만든 summaryVector 매핑의 차원 수와 HNSW 인덱스 옵션을 덮어쓴다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void applyVectorOptions(Document mapping, VectorIndexOptions vectorOptions) {
+		Map<String, Object> properties = (Map<String, Object>) mapping.get(PROPERTIES);
+		Map<String, Object> vector = (Map<String, Object>) properties.get(VECTOR_FIELD);
+		vector.put("dims", vectorOptions.getDims());
+		vector.put("index_options", Map.of(
+			"type", vectorOptions.getType().getMappingName(),
+			"m", vectorOptions.getM(),
+			"ef_construction", vectorOptions.getEfConstruction()));
+	}
+
+	private boolean isAlias(String name) throws IOException {
+		return client.indices().existsAlias(e -> e.name(name)).value();
+	}
+
+	private List<String> findAliasedIndices(String alias) throws IOException {
+		return client.indices()
+			.getAlias(g -> g.name(alias))
+			.result()
+			.keySet()
+			.stream()
+			.sorted()
+			.toList();
+	}
+
+	private void removeAliasActions(String alias, String targetIndex, List<Action> actions) throws IOException {
+		for (String index : findAliasedIndices(alias)) {
+			if (!index.equals(targetIndex)) {
+				actions.add(Action.of(a -> a.remove(r -> r.index(index).alias(alias))));
+			}
+		}
+	}
+}
@@ -1,56 +1,73 @@
 package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter;
 
-import static co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders.*;
-
-import java.util.ArrayList;
-import static co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders.functionScore;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ReactiveSearchHits;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Component;
 
 import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
 import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.LogMethodValues;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
 import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSearchRepositoryPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchCursor;
 import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
 import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
 import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
 import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.mapper.NewsSearchDocumentMapper;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.query.NewsSearchQueryFactory;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.support.SummaryVectorDimensions;
 
-import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreMode;
-import co.elastic.clients.elasticsearch._types.query_dsl.Query;
-import co.elastic.clients.json.JsonData;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Elasticsearch를 사용해 뉴스 검색 도메인의 searchByMatch를 구현하는 어댑터 클래스
+ * Elasticsearch Java 클라이언트의 비동기 전송 위에서 동작하는 리액티브 템플릿을 사용하며,
+ * 요청마다 제한 시간을 두고 반환한 future가 취소되면 진행 중인 HTTP 요청도 함께 취소한다.
  *
  * @since 2025-05-15
+ * @modified 2025-06-06 비동기(리액티브) 클라이언트로 전환, 요청 제한 시간 및 취소 지원
  */
 @Component
 public class ElasticsearchNewsSearchAdapter implements NewsSearchRepositoryPort {
 
-	private final ElasticsearchOperations ops;
+	private final ReactiveElasticsearchOperations ops;
 	private final NewsSearchDocumentMapper mapper;
+	private final NewsSearchQueryFactory queryFactory;
+	private final SummaryVectorDimensions vectorDimensions;
 	private final String indexName;
+	private final Duration pointInTimeKeepAlive;
+	private final Duration requestTimeout;
 
 	public ElasticsearchNewsSearchAdapter(
-		ElasticsearchOperations ops,
+		ReactiveElasticsearchOperations ops,
 		NewsSearchDocumentMapper mapper,
+		NewsSearchQueryFactory queryFactory,
+		NewsSearchProperties searchProperties,
+		SummaryVectorDimensions vectorDimensions,
 		@Value("${news.index.name}") String indexName) {
 		this.ops = ops;
 		this.mapper = mapper;
+		this.queryFactory = queryFactory;
+		this.vectorDimensions = vectorDimensions;
 		this.indexName = indexName;
+		this.pointInTimeKeepAlive = searchProperties.getText().getPointInTimeKeepAlive();
+		this.requestTimeout = searchProperties.getAsync().getRequestTimeout();
 	}
 
 	/**
@@ -61,101 +78,135 @@ public class ElasticsearchNewsSearchAdapter implements NewsSearchRepositoryPort
 	 * @return 검색된 뉴스 도메인 결과 리스트
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-06-06 비동기 조회로 변경
 	 */
 	@EntryExitLog
 	@LogMethodValues
 	@Override
-	public NewsSearchResultAggregate searchByMatch(NewsSearch newsSearch) {
-		NativeQuery query = buildNativeQuery(newsSearch);
-		SearchHits<NewsSearchDocument> hits = executeSearch(query);
-		long totalHits = hits.getTotalHits();
-
-		return mapToDomain(hits, totalHits);
+	public CompletableFuture<NewsSearchResultAggregate> searchByMatch(NewsSearch newsSearch) {
+		Mono<NewsSearchResultAggregate> result = resolvePointInTime(newsSearch)
+			.flatMap(pointInTimeId -> searchPage(newsSearch, pointInTimeId))
+			.switchIfEmpty(Mono.defer(() -> searchPage(newsSearch, null)));
+		return toFuture(result);
 	}
 
+	/**
+	 * 원본 뉴스의 summaryVector를 기준으로 유사 뉴스를 조회한다.
+	 * 검색 방식(kNN / script_score)은 news.search.similar.mode 설정을 따르며, 원본 기사는 결과에서 제외된다.
+	 *
+	 * @param newsSimilarSearch 원본 뉴스 ID와 페이징 정보가 담긴 도메인 모델
+	 * @return 유사 뉴스 도메인 결과 리스트
+	 * @author 정안식
+	 * @since 2025-05-15
+	 * @modified 2025-06-02 kNN(HNSW) 검색 방식 추가, 원본 기사 제외 및 사전 필터 적용
+	 * @modified 2025-06-06 비동기 조회로 변경
+	 */
 	@EntryExitLog
 	@LogMethodValues
 	@Override
-	public List<NewsSearchResult> searchByNewsId(NewsSimilarSearch newsSimilarSearch) {
-		NewsSearchDocument origin = fetchOriginalDocument(newsSimilarSearch.getNewsId());
-		float[] queryVector = origin.getSummaryVector();
-
-		NativeQuery cosineQuery = buildCosineQuery(queryVector, newsSimilarSearch);
-		SearchHits<NewsSearchDocument> hits = executeSearch(cosineQuery);
-
-
-		return mapToDomain(hits);
+	public CompletableFuture<List<NewsSearchResult>> searchByNewsId(NewsSimilarSearch newsSimilarSearch) {
+		Mono<List<NewsSearchResult>> result = fetchOriginalDocument(newsSimilarSearch.getNewsId())
+			.flatMap(origin -> executeSearch(queryFactory.buildSimilarQuery(origin, newsSimilarSearch)))
+			.flatMap(this::mapToDomain);
+		return toFuture(result);
 	}
 
-	private NewsSearchDocument fetchOriginalDocument(String newsId) {
-		NewsSearchDocument doc = ops.get(
-			newsId,
-			NewsSearchDocument.class,
-			IndexCoordinates.of(indexName)
-		);
-		if (doc == null) {
-			throw new SearchException(SearchErrorCode.INVALID_NEWS_ID);
+	/**
+	 * 사전 계산된 유사 뉴스 ID 목록을 한 번의 ids 검색으로 조회한다.
+	 *
+	 * @param newsIds 조회할 뉴스 ID 목록
+	 * @return 요청 순서를 유지한 뉴스 도메인 결과 리스트
+	 * @since 2025-06-03
+	 * @modified 2025-06-04 multi-get 대신 소스 필터와 스니펫을 적용한 ids 검색 사용
+	 * @modified 2025-06-06 비동기 조회로 변경
+	 */
+	@EntryExitLog
+	@Override
+	public CompletableFuture<List<NewsSearchResult>> findByNewsIds(List<String> newsIds) {
+		if (newsIds.isEmpty()) {
+			return CompletableFuture.completedFuture(List.of());
 		}
-		return doc;
+		Mono<List<NewsSearchResult>> result = executeSearch(queryFactory.buildIdsQuery(newsIds))
+			.flatMap(hits -> hits.getSearchHits().collectMap(SearchHit::getId, mapper::toDomain))
+			.map(resultById -> newsIds.stream()
+				.map(resultById::get)
+				.filter(Objects::nonNull)
+				.toList());
+		return toFuture(result);
 	}
 
-	private NativeQuery buildCosineQuery(float[] queryVector, NewsSimilarSearch search) {
-		// 1) float[] → List<Float> 로 변환
-		List<Float> vectorList = new ArrayList<>(queryVector.length);
-		for (float v : queryVector) {
-			vectorList.add(v);
-		}
-
-		// 2) JsonData 파라미터 준비
-		Map<String, JsonData> params = Map.of(
-			"query_vector", JsonData.of(vectorList)
-		);
-
-		// 3) functionScore 로 Query 객체 생성
-		Query cosineScoreQuery = functionScore(fs -> fs
-			.functions(fn -> fn
-				.scriptScore(sc -> sc.script(s -> s
-					.source("cosineSimilarity(params.query_vector, 'summaryVector') + 1.0")
-					.params(params)
-				))
-			)
-			.scoreMode(FunctionScoreMode.Sum)
-		);
+	/**
+	 * 검색어 임베딩 벡터로 kNN 검색을 수행한다.
+	 * 읽기 인덱스가 잘라낸 차원으로 색인되어 있으면 검색어 벡터도 같은 차원으로 잘라서 보낸다.
+	 * 차원 조회는 캐시가 비었을 때 블로킹 호출이 필요하므로 별도 스케줄러에서 수행한다.
+	 *
+	 * @param queryVector 검색어 임베딩 벡터
+	 * @param k           조회할 최대 건수
+	 * @param filter      결과 제한 필터
+	 * @return 유사도 내림차순 뉴스 도메인 결과 리스트
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 인덱스 차원 수에 맞춰 검색어 벡터 절단
+	 * @modified 2025-06-06 카테고리·언론사·발행일 사전 필터 추가
+	 * @modified 2025-06-06 비동기 조회로 변경
+	 */
+	@EntryExitLog
+	@Override
+	public CompletableFuture<List<NewsSearchResult>> searchByVector(float[] queryVector, int k, NewsFilter filter) {
+		Mono<List<NewsSearchResult>> result = Mono.fromCallable(() -> vectorDimensions.fit(indexName, queryVector))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(fitted -> executeSearch(queryFactory.buildVectorQuery(fitted, k, filter)))
+			.flatMap(this::mapToDomain);
+		return toFuture(result);
+	}
 
-		// 4) 완성된 Query를 withQuery()에 직접 전달
-		return NativeQuery.builder()
-			.withQuery(cosineScoreQuery)
-			.withPageable(PageRequest.of(search.getPage(), search.getSize()))
-			.build();
+	/**
+	 * 요청 제한 시간을 적용해 future로 변환한다.
+	 * 제한 시간이 지나거나 future가 취소되면 구독이 해제되어 진행 중인 Elasticsearch 요청이 중단된다.
+	 *
+	 * @since 2025-06-06
+	 */
+	private <T> CompletableFuture<T> toFuture(Mono<T> result) {
+		return result
+			.timeout(requestTimeout)
+			.onErrorMap(TimeoutException.class, e -> new SearchException(SearchErrorCode.ES_SEARCH_TIMEOUT, e))
+			.toFuture();
 	}
 
 	/**
-	 * 검색 조건에 맞는 Bool 쿼리를 생성하여 NativeQuery로 빌드한다.
+	 * 커서에 담긴 point-in-time ID를 사용하거나, 첫 커서 요청에서 point-in-time을 요청한 경우 새로 연다.
+	 * point-in-time을 사용하지 않으면 빈 Mono를 반환한다.
 	 *
-	 * @param newsSearch 검색 조건과 페이징 정보 도메인 모델
-	 * @return Elasticsearch NativeQuery 객체
-	 * @author 정안식
-	 * @since 2025-05-15
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 비동기 조회로 변경
 	 */
-	private NativeQuery buildNativeQuery(NewsSearch newsSearch) {
-		Query titleClause = match(m -> m
-			.field("title")
-			.analyzer("nori")
-			.query(newsSearch.getQuery())
-		);
-		Query contentClause = match(m -> m
-			.field("content")
-			.analyzer("nori")
-			.query(newsSearch.getQuery())
-		);
-		Query boolQuery = bool(b -> b
-			.should(titleClause)
-			.should(contentClause)
-		);
-		return NativeQuery.builder()
-			.withQuery(boolQuery)
-			.withPageable(PageRequest.of(newsSearch.getPage(), newsSearch.getSize()))
-			.build();
+	private Mono<String> resolvePointInTime(NewsSearch newsSearch) {
+		SearchCursor cursor = newsSearch.getCursor();
+		if (cursor != null) {
+			return Mono.justOrEmpty(cursor.getPointInTimeId());
+		}
+		if (newsSearch.isPointInTime()) {
+			return ops.openPointInTime(IndexCoordinates.of(indexName), pointInTimeKeepAlive);
+		}
+		return Mono.empty();
+	}
+
+	private Mono<NewsSearchResultAggregate> searchPage(NewsSearch newsSearch, String pointInTimeId) {
+		NativeQuery query = queryFactory.buildMatchQuery(newsSearch, pointInTimeId);
+		return executeSearch(query)
+			.flatMap(hits -> hits.getSearchHits()
+				.collectList()
+				.flatMap(hitList -> mapToDomain(hits, hitList, newsSearch.getSize(), pointInTimeId)));
+	}
+
+	private Mono<NewsSearchDocument> fetchOriginalDocument(String newsId) {
+		return executeSearch(queryFactory.buildOriginQuery(newsId))
+			.flatMap(hits -> hits.getSearchHits().next())
+			.switchIfEmpty(Mono.error(() -> new SearchException(SearchErrorCode.INVALID_NEWS_ID)))
+			.map(hit -> {
+				NewsSearchDocument doc = hit.getContent();
+				doc.setNewsId(hit.getId());
+				return doc;
+			});
 	}
 
 	/**
@@ -165,9 +216,10 @@ public class ElasticsearchNewsSearchAdapter implements NewsSearchRepositoryPort
 	 * @return 검색된 SearchHits 결과
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-06-06 비동기 조회로 변경
 	 */
-	private SearchHits<NewsSearchDocument> executeSearch(NativeQuery query) {
-		return ops.search(
+	private Mono<ReactiveSearchHits<NewsSearchDocument>> executeSearch(NativeQuery query) {
+		return ops.searchForHits(
 			query,
 			NewsSearchDocument.class,
 			IndexCoordinates.of(indexName)
@@ -176,26 +228,43 @@ public class ElasticsearchNewsSearchAdapter implements NewsSearchRepositoryPort
 
 	/**
 	 * SearchHits에서 도메인 결과로 매핑하여 리스트로 변환한다.
+	 * 페이지가 가득 찼으면 마지막 히트의 정렬 값으로 다음 커서를 만들고, 마지막 페이지면 point-in-time을 닫는다.
 	 *
 	 * @param hits Elasticsearch SearchHits 결과
 	 * @return 매핑된 뉴스 도메인 결과 리스트
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-06-05 다음 페이지 커서와 총 개수 하한 여부 추가
+	 * @modified 2025-06-06 비동기 조회로 변경
 	 */
-	private NewsSearchResultAggregate mapToDomain(SearchHits<NewsSearchDocument> hits, long totalHits) {
-		List<NewsSearchResult> resultList = hits.get()
-			.map(hit -> mapper.toDomain(hit.getContent()))
+	private Mono<NewsSearchResultAggregate> mapToDomain(ReactiveSearchHits<NewsSearchDocument> hits,
+		List<SearchHit<NewsSearchDocument>> hitList, int size, String pointInTimeId) {
+		List<NewsSearchResult> resultList = hitList.stream()
+			.map(mapper::toDomain)
 			.toList();
 
-		return NewsSearchResultAggregate.builder()
+		String nextPointInTimeId = hits.getPointInTimeId() != null ? hits.getPointInTimeId() : pointInTimeId;
+		SearchCursor nextCursor = null;
+		Mono<Boolean> closePointInTime = Mono.empty();
+		if (hitList.size() == size) {
+			List<Object> sortValues = hitList.get(size - 1).getSortValues();
+			nextCursor = new SearchCursor(sortValues, nextPointInTimeId);
+		} else if (nextPointInTimeId != null) {
+			closePointInTime = ops.closePointInTime(nextPointInTimeId);
+		}
+
+		NewsSearchResultAggregate aggregate = NewsSearchResultAggregate.builder()
 			.newsSearchResultList(resultList)
-			.totalHits(totalHits)
+			.totalHits(hits.getTotalHits())
+			.totalIsLowerBound(hits.getTotalHitsRelation() == TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO)
+			.nextCursor(nextCursor)
 			.build();
+		return closePointInTime.thenReturn(aggregate);
 	}
 
-	private List<NewsSearchResult> mapToDomain(SearchHits<NewsSearchDocument> hits) {
-		return hits.get()
-			.map(hit -> mapper.toDomain(hit.getContent()))
-			.toList();
+	private Mono<List<NewsSearchResult>> mapToDomain(ReactiveSearchHits<NewsSearchDocument> hits) {
+		return hits.getSearchHits()
+			.map(mapper::toDomain)
+			.collectList();
 	}
 }
@@ -0,0 +1,62 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSuggestSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.query.NewsSearchQueryFactory;
+
+/**
+ * Elasticsearch에서 자동완성 후보가 되는 기사 제목을 조회하는 어댑터 클래스
+ *
+ * @since 2025-06-05
+ */
+@Component
+public class ElasticsearchNewsSuggestAdapter implements NewsSuggestSourcePort {
+
+	private final ElasticsearchOperations ops;
+	private final NewsSearchQueryFactory queryFactory;
+	private final String indexName;
+
+	public ElasticsearchNewsSuggestAdapter(
+		ElasticsearchOperations ops,
+		NewsSearchQueryFactory queryFactory,
+		@Value("${news.index.name}") String indexName) {
+		this.ops = ops;
+		this.queryFactory = queryFactory;
+		this.indexName = indexName;
+	}
+
+	@Override
+	public List<String> findRecentTitles(int limit) {
+		return searchTitles(queryFactory.buildRecentTitlesQuery(limit));
+	}
+
+	@Override
+	public List<String> findTitlesByPrefix(String prefix, int size) {
+		return searchTitles(queryFactory.buildTitlePrefixQuery(prefix, size));
+	}
+
+	private List<String> searchTitles(NativeQuery query) {
+		try {
+			return ops.search(query, NewsSearchDocument.class, IndexCoordinates.of(indexName))
+				.get()
+				.map(SearchHit::getContent)
+				.map(NewsSearchDocument::getTitle)
+				.filter(Objects::nonNull)
+				.toList();
+		} catch (RuntimeException e) {
+			throw new SearchException(SearchErrorCode.ES_SUGGEST_SEARCH_FAIL, e);
+		}
+	}
+}
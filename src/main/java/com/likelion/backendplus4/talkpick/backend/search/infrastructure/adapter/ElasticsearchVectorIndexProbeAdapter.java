@@ -0,0 +1,64 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.VectorIndexProbePort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.query.NewsSearchQueryFactory;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.support.SummaryVectorDimensions;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지정한 Elasticsearch 인덱스에 kNN 질의와 저장 크기 조회를 수행하는 어댑터 클래스
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchVectorIndexProbeAdapter implements VectorIndexProbePort {
+
+	private final ElasticsearchClient client;
+	private final ElasticsearchOperations ops;
+	private final NewsSearchQueryFactory queryFactory;
+	private final SummaryVectorDimensions vectorDimensions;
+
+	@Override
+	public List<String> findNearestNewsIds(String indexName, float[] vector, int k) {
+		try {
+			float[] fitted = vectorDimensions.fit(indexName, vector);
+			return ops.search(queryFactory.buildVectorQuery(fitted, k, NewsFilter.NONE), NewsSearchDocument.class,
+					IndexCoordinates.of(indexName))
+				.get()
+				.map(SearchHit::getId)
+				.toList();
+		} catch (RuntimeException e) {
+			throw new SearchException(SearchErrorCode.ES_SEARCH_ERROR, e);
+		}
+	}
+
+	@Override
+	public long findStoreSizeBytes(String indexName) {
+		try {
+			return client.indices()
+				.stats(s -> s.index(indexName).metric("store"))
+				.indices()
+				.get(indexName)
+				.primaries()
+				.store()
+				.sizeInBytes();
+		} catch (IOException | RuntimeException e) {
+			throw new SearchException(SearchErrorCode.ES_INDEX_ADMIN_FAIL, e);
+		}
+	}
+}
@@ -16,20 +16,39 @@ import lombok.Setter;
 
 /**
  * Elasticsearch news_index 인덱스에 매핑되는 문서 모델 클래스
+ * 실제 인덱스는 버전이 붙은 물리 인덱스(news_index_vN)이며, news_index는 읽기 별칭이다.
+ * 새 버전 인덱스의 매핑은 이 클래스의 어노테이션으로 만든다.
  *
+ * @modified 2025-06-06
  * @since 2025-05-15
  */
-@Document(indexName = "news_index")
+@Document(indexName = "news_index", createIndex = false)
 @Getter
 @Setter
 public class NewsSearchDocument {
+	/**
+	 * newsId: keyword 필드
+	 * 동적 매핑으로 만들어진 기존 인덱스(text + keyword 하위 필드)와 같은 경로로 정렬·필터할 수 있도록 keyword 하위 필드를 함께 둔다.
+	 */
 	@Id
+	@MultiField(
+		mainField   = @Field(type = FieldType.Keyword),
+		otherFields = {
+			@InnerField(suffix = "keyword", type = FieldType.Keyword)
+		}
+	)
 	private String newsId;
 	private String title;
 	private String content;
 	@Field(type = FieldType.Date, format = { DateFormat.epoch_millis })
 	private Instant publishedAt;
 	private String imageUrl;
+	@MultiField(
+		mainField   = @Field(type = FieldType.Text),
+		otherFields = {
+			@InnerField(suffix = "keyword", type = FieldType.Keyword)
+		}
+	)
 	private String category;
 	@MultiField(
 		mainField   = @Field(type = FieldType.Text, analyzer = "nori"),
@@ -41,6 +60,7 @@ public class NewsSearchDocument {
 
 	/**
 	 * summaryVector: 1536차원 dense_vector, 코사인 유사도 인덱싱
+	 * 새 버전 인덱스에서는 차원 수와 HNSW 옵션(양자화, m, ef_construction)을 news.search.vector 설정으로 덮어쓴다.
 	 */
 	@Field(
 		type       = FieldType.Dense_Vector,
@@ -0,0 +1,43 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.jpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsVectorSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsVector;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.jpa.repository.ArticleVectorJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MySQL article 테이블에서 기사 요약 벡터를 키셋 페이징으로 읽어오는 어댑터 클래스
+ *
+ * @since 2025-06-03
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleVectorJpaAdapter implements NewsVectorSourcePort {
+
+	private final ArticleVectorJpaRepository repository;
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<NewsVector> findVectorsAfter(long lastArticleId, LocalDateTime since, int limit) {
+		return repository.findByIdGreaterThanAndCreatedAtAfterAndSummaryVectorIsNotNullOrderByIdAsc(
+				lastArticleId, since, Limit.of(limit))
+			.stream()
+			.map(view -> new NewsVector(view.getId(), view.getGuid(), view.getSummaryVector()))
+			.toList();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long findLatestArticleId() {
+		Long maxId = repository.findMaxId();
+		return maxId == null ? 0L : maxId;
+	}
+}
@@ -0,0 +1,81 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.jpa;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.news.info.infrastructure.jpa.entity.ArticleEntity;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexableNewsSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.jpa.repository.ArticleVectorJpaRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * MySQL article 테이블을 ID 범위 단위의 순방향 커서로 읽어 재색인 대상 기사로 전달하는 어댑터 클래스
+ * fetch size만큼씩 받아오도록 힌트를 주며, MySQL Connector/J는 접속 URL에 useCursorFetch=true가 있어야 이를 따른다.
+ * 그렇지 않더라도 한 번에 읽는 범위가 ID 범위 크기로 제한되므로 메모리 사용량은 제한된다.
+ *
+ * @since 2025-06-06
+ */
+@Component
+public class IndexableNewsJpaAdapter implements IndexableNewsSourcePort {
+	private static final String RANGE_QUERY =
+		"select a from ArticleEntity a where a.id > :fromId and a.id <= :toId order by a.id asc";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final ArticleVectorJpaRepository repository;
+	private final int fetchSize;
+
+	public IndexableNewsJpaAdapter(ArticleVectorJpaRepository repository, NewsSearchProperties searchProperties) {
+		this.repository = repository;
+		this.fetchSize = searchProperties.getReindex().getFetchSize();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long findMaxArticleId() {
+		Long maxId = repository.findMaxId();
+		return maxId == null ? 0L : maxId;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void forEachInRange(long fromId, long toId, Consumer<IndexableNews> consumer) {
+		try (Stream<ArticleEntity> rows = entityManager.createQuery(RANGE_QUERY, ArticleEntity.class)
+			.setParameter("fromId", fromId)
+			.setParameter("toId", toId)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.getResultStream()) {
+			int count = 0;
+			for (ArticleEntity entity : (Iterable<ArticleEntity>) rows::iterator) {
+				consumer.accept(toIndexableNews(entity));
+				if (++count % fetchSize == 0) {
+					entityManager.clear();
+				}
+			}
+		}
+	}
+
+	private IndexableNews toIndexableNews(ArticleEntity entity) {
+		return IndexableNews.builder()
+			.articleId(entity.getId())
+			.newsId(entity.getGuid())
+			.title(entity.getTitle())
+			.content(entity.getDescription())
+			.summary(entity.getSummary())
+			.summaryVector(entity.getSummaryVector())
+			.imageUrl(entity.getImageUrl())
+			.category(entity.getCategory())
+			.publishedAt(entity.getPubDate())
+			.build();
+	}
+}
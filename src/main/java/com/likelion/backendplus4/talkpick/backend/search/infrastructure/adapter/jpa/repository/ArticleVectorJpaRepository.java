@@ -0,0 +1,39 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.jpa.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import com.likelion.backendplus4.talkpick.backend.news.info.infrastructure.jpa.entity.ArticleEntity;
+
+/**
+ * 검색 도메인에서 기사 요약 벡터를 조회하기 위한 읽기 전용 JPA 리포지토리 인터페이스
+ *
+ * @since 2025-06-03
+ */
+public interface ArticleVectorJpaRepository extends Repository<ArticleEntity, Long> {
+
+	/**
+	 * 지정한 ID 이후, 지정한 시각 이후에 등록된 요약 벡터 보유 기사를 ID 오름차순으로 조회한다.
+	 *
+	 * @param id    기준 ID (미포함)
+	 * @param since 최소 등록 시각
+	 * @param limit 최대 조회 건수
+	 * @return 기사 벡터 프로젝션 목록
+	 * @since 2025-06-03
+	 */
+	List<ArticleVectorView> findByIdGreaterThanAndCreatedAtAfterAndSummaryVectorIsNotNullOrderByIdAsc(
+		Long id, LocalDateTime since, Limit limit);
+
+	/**
+	 * 가장 최근에 수집된 기사의 ID를 조회한다.
+	 *
+	 * @return 최신 기사 ID, 기사가 없으면 null
+	 * @since 2025-06-04
+	 */
+	@Query("select max(a.id) from ArticleEntity a")
+	Long findMaxId();
+}
@@ -0,0 +1,14 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.jpa.repository;
+
+/**
+ * article 테이블에서 유사 뉴스 계산에 필요한 컬럼만 읽어오는 프로젝션 인터페이스
+ *
+ * @since 2025-06-03
+ */
+public interface ArticleVectorView {
+	Long getId();
+
+	String getGuid();
+
+	float[] getSummaryVector();
+}
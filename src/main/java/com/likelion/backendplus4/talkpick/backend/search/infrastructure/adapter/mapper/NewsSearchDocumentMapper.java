@@ -2,11 +2,13 @@ package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.stereotype.Component;
 
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
-import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
 import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
 
 /**
@@ -16,6 +18,8 @@ import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.
  */
 @Component
 public class NewsSearchDocumentMapper {
+	private static final String CONTENT_FIELD = "content";
+
 	/**
 	 * 문서 모델의 Instant 타입 publishedAt을 LocalDateTime으로 변환하여 도메인 모델 생성
 	 *
@@ -25,18 +29,56 @@ public class NewsSearchDocumentMapper {
 	 * @since 2025-05-15
 	 */
 	public NewsSearchResult toDomain(NewsSearchDocument doc) {
+		return toDomain(doc, doc.getContent());
+	}
+
+	/**
+	 * 검색 히트를 도메인 모델로 변환한다. 본문은 _source 대신 content 하이라이트 스니펫을 사용한다.
+	 *
+	 * @param hit Elasticsearch 검색 히트
+	 * @return 변환된 뉴스 검색 도메인 결과
+	 * @since 2025-06-04
+	 */
+	public NewsSearchResult toDomain(SearchHit<NewsSearchDocument> hit) {
+		List<String> snippet = hit.getHighlightField(CONTENT_FIELD);
+		String content = snippet.isEmpty() ? hit.getContent().getContent() : snippet.getFirst();
+		return toDomain(hit.getContent(), content);
+	}
+
+	private NewsSearchResult toDomain(NewsSearchDocument doc, String content) {
 		// Instant → LocalDateTime 변환
-		LocalDateTime ldt = LocalDateTime.ofInstant(
+		LocalDateTime ldt = doc.getPublishedAt() == null ? null : LocalDateTime.ofInstant(
 			doc.getPublishedAt(),
 			ZoneId.systemDefault()
 		);
 		return NewsSearchResult.builder()
 			.newsId(doc.getNewsId())
 			.title(doc.getTitle())
-			.content(doc.getContent())
+			.content(content)
 			.publishedAt(ldt)
 			.imageUrl(doc.getImageUrl())
 			.category(doc.getCategory())
 			.build();
 	}
+
+	/**
+	 * 재색인 대상 기사를 Elasticsearch 문서 모델로 변환한다.
+	 *
+	 * @param news 재색인 대상 기사
+	 * @return Elasticsearch 문서 모델
+	 * @since 2025-06-06
+	 */
+	public NewsSearchDocument toDocument(IndexableNews news) {
+		NewsSearchDocument doc = new NewsSearchDocument();
+		doc.setNewsId(news.getNewsId());
+		doc.setTitle(news.getTitle());
+		doc.setContent(news.getContent());
+		doc.setSummary(news.getSummary());
+		doc.setSummaryVector(news.getSummaryVector());
+		doc.setImageUrl(news.getImageUrl());
+		doc.setCategory(news.getCategory());
+		doc.setPublishedAt(news.getPublishedAt() == null ? null
+			: news.getPublishedAt().atZone(ZoneId.systemDefault()).toInstant());
+		return doc;
+	}
 }
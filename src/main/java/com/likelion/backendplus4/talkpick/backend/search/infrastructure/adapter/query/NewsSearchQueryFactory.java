@@ -0,0 +1,391 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.query;
+
+import static co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchCursor;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 뉴스 검색 유형별 Elasticsearch NativeQuery를 생성하는 클래스
+ *
+ * @since 2025-06-02
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsSearchQueryFactory {
+	private static final String VECTOR_FIELD = "summaryVector";
+	private static final String CONTENT_FIELD = "content";
+	private static final String CATEGORY_FILTER_FIELD = "category.keyword";
+	private static final String PUBLISHED_AT_FIELD = "publishedAt";
+	private static final String NEWS_ID_FILTER_FIELD = "newsId.keyword";
+	private static final int MAX_NUM_CANDIDATES = 10_000;
+	private static final int SNIPPET_SIZE = 150;
+
+	/** 결과 목록 조회 시 _source로 받을 필드 (본문은 하이라이트 스니펫으로 대체) */
+	private static final String[] RESULT_SOURCE_INCLUDES = {"newsId", "title", "publishedAt", "imageUrl", "category"};
+	/** 유사 뉴스 기준 문서 조회 시 _source로 받을 필드 */
+	private static final String[] ORIGIN_SOURCE_INCLUDES = {"newsId", "category", "publishedAt", VECTOR_FIELD};
+	private static final String[] RESULT_SOURCE_EXCLUDES = {VECTOR_FIELD, CONTENT_FIELD, "summary"};
+	/** 자동완성 후보 조회 시 _source로 받을 필드 */
+	private static final String[] TITLE_SOURCE_INCLUDES = {"title"};
+
+	private final NewsSearchProperties properties;
+
+	/**
+	 * 검색 조건에 맞는 Bool 쿼리를 생성하여 NativeQuery로 빌드한다.
+	 * 결과는 (_score, publishedAt, 동점 처리 필드) 순으로 정렬되어, 어느 페이지에서든 다음 커서를 만들 수 있다.
+	 * 커서가 있으면 from 대신 search_after로 이어서 조회하고, point-in-time ID가 주어지면 해당 시점을 기준으로 검색한다.
+	 * 카테고리·언론사·발행일 조건은 점수에 영향이 없도록 bool.filter에 넣어 Elasticsearch가 비트셋을 캐시하게 한다.
+	 *
+	 * @param newsSearch    검색 조건과 페이징 정보 도메인 모델
+	 * @param pointInTimeId 사용할 point-in-time ID (사용하지 않으면 null)
+	 * @return Elasticsearch NativeQuery 객체
+	 * @author 정안식
+	 * @since 2025-05-15
+	 * @modified 2025-06-05 search_after 커서, point-in-time, track_total_hits 상한 적용
+	 * @modified 2025-06-06 filter 문맥의 카테고리·언론사·발행일 조건 추가
+	 */
+	public NativeQuery buildMatchQuery(NewsSearch newsSearch, String pointInTimeId) {
+		NewsSearchProperties.Text text = properties.getText();
+		Query titleClause = match(m -> m
+			.field("title")
+			.analyzer("nori")
+			.query(newsSearch.getQuery())
+		);
+		Query contentClause = match(m -> m
+			.field("content")
+			.analyzer("nori")
+			.query(newsSearch.getQuery())
+		);
+		Query boolQuery = bool(b -> b
+			.should(titleClause)
+			.should(contentClause)
+			.minimumShouldMatch("1")
+			.filter(buildFilterClauses(newsSearch.getFilter()))
+		);
+
+		SearchCursor cursor = newsSearch.getCursor();
+		int page = cursor == null ? newsSearch.getPage() : 0;
+
+		NativeQueryBuilder builder = NativeQuery.builder()
+			.withQuery(boolQuery)
+			.withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+			.withSort(s -> s.field(f -> f.field("publishedAt").order(SortOrder.Desc)))
+			.withSort(s -> s.field(f -> f.field(text.getTiebreakerField()).order(SortOrder.Asc)))
+			.withTrackTotalHitsUpTo(text.getTrackTotalHitsUpTo())
+			.withPageable(PageRequest.of(page, newsSearch.getSize()))
+			.withSourceFilter(resultSourceFilter())
+			.withHighlightQuery(contentSnippet());
+
+		if (cursor != null) {
+			builder.withSearchAfter(cursor.getSortValues());
+		}
+		if (pointInTimeId != null) {
+			builder.withPointInTime(new PointInTime(pointInTimeId, text.getPointInTimeKeepAlive()));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 유사 뉴스 검색의 기준이 되는 원본 문서를 조회하는 쿼리를 생성한다.
+	 * 본문 등 불필요한 필드는 제외하고 벡터와 사전 필터에 필요한 필드만 받는다.
+	 *
+	 * @param newsId 원본 뉴스 ID
+	 * @return Elasticsearch NativeQuery 객체
+	 * @since 2025-06-04
+	 */
+	public NativeQuery buildOriginQuery(String newsId) {
+		return NativeQuery.builder()
+			.withQuery(ids(i -> i.values(newsId)))
+			.withMaxResults(1)
+			.withSourceFilter(new FetchSourceFilter(ORIGIN_SOURCE_INCLUDES, null))
+			.build();
+	}
+
+	/**
+	 * 뉴스 ID 목록에 해당하는 문서를 결과 목록 형태(스니펫 포함, 벡터 제외)로 조회하는 쿼리를 생성한다.
+	 *
+	 * @param newsIds 조회할 뉴스 ID 목록
+	 * @return Elasticsearch NativeQuery 객체
+	 * @since 2025-06-04
+	 */
+	public NativeQuery buildIdsQuery(List<String> newsIds) {
+		return NativeQuery.builder()
+			.withQuery(ids(i -> i.values(newsIds)))
+			.withMaxResults(newsIds.size())
+			.withSourceFilter(resultSourceFilter())
+			.withHighlightQuery(contentSnippet())
+			.build();
+	}
+
+	/**
+	 * 검색어 임베딩 벡터로 HNSW kNN 검색을 수행하는 쿼리를 생성한다.
+	 * 필터는 kNN 사전 필터로 적용되어 조건을 만족하는 문서만 후보로 탐색한다.
+	 *
+	 * @param queryVector 검색어 임베딩 벡터
+	 * @param k           조회할 최대 건수
+	 * @param filter      결과 제한 필터
+	 * @return Elasticsearch NativeQuery 객체
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 카테고리·언론사·발행일 사전 필터 추가
+	 */
+	public NativeQuery buildVectorQuery(float[] queryVector, int k, NewsFilter filter) {
+		int numCandidates = Math.min(Math.max(properties.getHybrid().getNumCandidates(), k), MAX_NUM_CANDIDATES);
+		return NativeQuery.builder()
+			.withKnnSearches(knn -> knn
+				.field(VECTOR_FIELD)
+				.queryVector(toVectorList(queryVector))
+				.k(k)
+				.numCandidates(numCandidates)
+				.filter(buildFilterClauses(filter))
+			)
+			.withMaxResults(k)
+			.withSourceFilter(resultSourceFilter())
+			.withHighlightQuery(contentSnippet())
+			.build();
+	}
+
+	/**
+	 * 자동완성 인덱스 구축을 위해 최근 발행된 기사 제목만 조회하는 쿼리를 생성한다.
+	 *
+	 * @param limit 조회할 최대 기사 수
+	 * @return Elasticsearch NativeQuery 객체
+	 * @since 2025-06-05
+	 */
+	public NativeQuery buildRecentTitlesQuery(int limit) {
+		return NativeQuery.builder()
+			.withQuery(matchAll(m -> m))
+			.withSort(s -> s.field(f -> f.field("publishedAt").order(SortOrder.Desc)))
+			.withMaxResults(limit)
+			.withTrackTotalHits(false)
+			.withSourceFilter(new FetchSourceFilter(TITLE_SOURCE_INCLUDES, null))
+			.build();
+	}
+
+	/**
+	 * 로컬 자동완성 인덱스에 후보가 없을 때 제목 접두사로 기사를 찾는 쿼리를 생성한다.
+	 *
+	 * @param prefix 사용자가 입력 중인 접두사
+	 * @param size   조회할 최대 건수
+	 * @return Elasticsearch NativeQuery 객체
+	 * @since 2025-06-05
+	 */
+	public NativeQuery buildTitlePrefixQuery(String prefix, int size) {
+		return NativeQuery.builder()
+			.withQuery(matchPhrasePrefix(m -> m
+				.field("title")
+				.query(prefix)
+				.maxExpansions(properties.getSuggest().getFallbackMaxExpansions())
+			))
+			.withMaxResults(size)
+			.withTrackTotalHits(false)
+			.withSourceFilter(new FetchSourceFilter(TITLE_SOURCE_INCLUDES, null))
+			.build();
+	}
+
+	/**
+	 * 설정된 검색 방식(kNN / script_score)에 따라 유사 뉴스 쿼리를 생성한다.
+	 *
+	 * @param origin 기준이 되는 원본 뉴스 문서
+	 * @param search 유사 뉴스 검색 조건
+	 * @return Elasticsearch NativeQuery 객체
+	 * @since 2025-06-02
+	 */
+	public NativeQuery buildSimilarQuery(NewsSearchDocument origin, NewsSimilarSearch search) {
+		return buildSimilarQuery(origin, search, properties.getSimilar().getMode());
+	}
+
+	/**
+	 * 지정한 검색 방식으로 유사 뉴스 쿼리를 생성한다.
+	 *
+	 * @param origin 기준이 되는 원본 뉴스 문서
+	 * @param search 유사 뉴스 검색 조건
+	 * @param mode   검색 방식
+	 * @return Elasticsearch NativeQuery 객체
+	 * @since 2025-06-02
+	 */
+	public NativeQuery buildSimilarQuery(NewsSearchDocument origin, NewsSimilarSearch search,
+		NewsSearchProperties.SimilarSearchMode mode) {
+		List<Float> queryVector = toVectorList(origin.getSummaryVector());
+		Query preFilter = buildSimilarPreFilter(origin, search.getFilter());
+
+		if (mode == NewsSearchProperties.SimilarSearchMode.SCRIPT) {
+			return buildCosineQuery(queryVector, preFilter, search);
+		}
+		return buildKnnQuery(queryVector, preFilter, search);
+	}
+
+	/**
+	 * HNSW 인덱스를 사용하는 top-level kNN 쿼리를 생성한다.
+	 * 요청 페이지가 k를 넘어서는 경우 k와 후보 수를 페이지 범위까지 늘린다.
+	 *
+	 * @since 2025-06-02
+	 */
+	private NativeQuery buildKnnQuery(List<Float> queryVector, Query preFilter, NewsSimilarSearch search) {
+		NewsSearchProperties.Similar similar = properties.getSimilar();
+		int pageEnd = (search.getPage() + 1) * search.getSize();
+		int k = Math.max(similar.getK(), pageEnd);
+		int numCandidates = Math.min(Math.max(similar.getNumCandidates(), k), MAX_NUM_CANDIDATES);
+
+		return NativeQuery.builder()
+			.withKnnSearches(knn -> knn
+				.field(VECTOR_FIELD)
+				.queryVector(queryVector)
+				.k(k)
+				.numCandidates(numCandidates)
+				.filter(preFilter)
+			)
+			.withPageable(PageRequest.of(search.getPage(), search.getSize()))
+			.withSourceFilter(resultSourceFilter())
+			.withHighlightQuery(contentSnippet())
+			.build();
+	}
+
+	/**
+	 * script_score로 모든 후보 문서와 코사인 유사도를 계산하는 쿼리를 생성한다.
+	 *
+	 * @since 2025-05-15
+	 */
+	private NativeQuery buildCosineQuery(List<Float> queryVector, Query preFilter, NewsSimilarSearch search) {
+		Map<String, JsonData> params = Map.of(
+			"query_vector", JsonData.of(queryVector)
+		);
+
+		Query cosineScoreQuery = functionScore(fs -> fs
+			.query(preFilter)
+			.functions(fn -> fn
+				.scriptScore(sc -> sc.script(s -> s
+					.source("cosineSimilarity(params.query_vector, '" + VECTOR_FIELD + "') + 1.0")
+					.params(params)
+				))
+			)
+			.scoreMode(FunctionScoreMode.Sum)
+		);
+
+		return NativeQuery.builder()
+			.withQuery(cosineScoreQuery)
+			.withPageable(PageRequest.of(search.getPage(), search.getSize()))
+			.withSourceFilter(resultSourceFilter())
+			.withHighlightQuery(contentSnippet())
+			.build();
+	}
+
+	/**
+	 * 원본 기사를 제외하고, 설정에 따른 카테고리·발행일 조건과 요청 필터를 추가한 사전 필터를 생성한다.
+	 *
+	 * @since 2025-06-02
+	 * @modified 2025-06-06 요청 필터 추가, 카테고리는 keyword 필드 term 조건으로 변경
+	 */
+	private Query buildSimilarPreFilter(NewsSearchDocument origin, NewsFilter filter) {
+		NewsSearchProperties.Similar similar = properties.getSimilar();
+		List<Query> filters = buildFilterClauses(filter);
+
+		if (similar.isSameCategory() && origin.getCategory() != null) {
+			filters.add(term(t -> t.field(CATEGORY_FILTER_FIELD).value(origin.getCategory())));
+		}
+		if (similar.getMaxAge() != null) {
+			String from = String.valueOf(Instant.now().minus(similar.getMaxAge()).toEpochMilli());
+			filters.add(range(r -> r.date(d -> d.field(PUBLISHED_AT_FIELD).gte(from).format("epoch_millis"))));
+		}
+
+		return bool(b -> b
+			.filter(filters)
+			.mustNot(ids(i -> i.values(origin.getNewsId())))
+		);
+	}
+
+	/**
+	 * 필터 조건을 점수 계산 없이 적용할 쿼리 목록으로 변환한다.
+	 * 발행일은 일 단위 경계(시스템 시간대 기준)로 바꿔 같은 조건이면 같은 쿼리가 되도록 해 필터 캐시에 적중하게 한다.
+	 *
+	 * @since 2025-06-06
+	 */
+	private List<Query> buildFilterClauses(NewsFilter filter) {
+		List<Query> filters = new ArrayList<>();
+		if (filter == null || filter.isEmpty()) {
+			return filters;
+		}
+		if (filter.getCategory() != null) {
+			filters.add(term(t -> t.field(CATEGORY_FILTER_FIELD).value(filter.getCategory())));
+		}
+		if (filter.getPublisher() != null) {
+			filters.add(prefix(p -> p.field(NEWS_ID_FILTER_FIELD).value(filter.getPublisher())));
+		}
+		if (filter.getPublishedFrom() != null || filter.getPublishedTo() != null) {
+			filters.add(range(r -> r.date(d -> {
+				d.field(PUBLISHED_AT_FIELD).format("epoch_millis");
+				if (filter.getPublishedFrom() != null) {
+					d.gte(String.valueOf(startOfDayMillis(filter.getPublishedFrom())));
+				}
+				if (filter.getPublishedTo() != null) {
+					d.lt(String.valueOf(startOfDayMillis(filter.getPublishedTo().plusDays(1))));
+				}
+				return d;
+			})));
+		}
+		return filters;
+	}
+
+	private long startOfDayMillis(LocalDate date) {
+		return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private SourceFilter resultSourceFilter() {
+		return new FetchSourceFilter(RESULT_SOURCE_INCLUDES, RESULT_SOURCE_EXCLUDES);
+	}
+
+	/**
+	 * 본문 전체 대신 검색어 주변(일치 구간이 없으면 앞부분) 스니펫 한 조각만 받도록 하이라이트를 설정한다.
+	 * 태그를 비워 기존 content 필드와 같은 평문으로 내려준다.
+	 *
+	 * @since 2025-06-04
+	 */
+	private HighlightQuery contentSnippet() {
+		HighlightParameters parameters = HighlightParameters.builder()
+			.withPreTags("")
+			.withPostTags("")
+			.withFragmentSize(SNIPPET_SIZE)
+			.withNumberOfFragments(1)
+			.withNoMatchSize(SNIPPET_SIZE)
+			.build();
+		Highlight highlight = new Highlight(parameters, List.of(new HighlightField(CONTENT_FIELD)));
+		return new HighlightQuery(highlight, NewsSearchDocument.class);
+	}
+
+	private List<Float> toVectorList(float[] vector) {
+		List<Float> vectorList = new ArrayList<>(vector.length);
+		for (float v : vector) {
+			vectorList.add(v);
+		}
+		return vectorList;
+	}
+}
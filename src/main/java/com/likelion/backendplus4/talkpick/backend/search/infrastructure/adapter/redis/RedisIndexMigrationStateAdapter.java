@@ -0,0 +1,75 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.redis;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexMigrationStatePort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigration;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 진행 중인 인덱스 버전 교체 작업 상태를 Redis 해시(news:index:migration)로 관리하는 어댑터 클래스
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisIndexMigrationStateAdapter implements IndexMigrationStatePort {
+	private static final String MIGRATION_KEY = "news:index:migration";
+	private static final String TARGET_FIELD = "target";
+	private static final String SOURCE_FIELD = "source";
+	private static final String BACKFILL_TARGET_FIELD = "backfillTarget";
+	private static final String MIRRORED_FIELD = "mirrored";
+	private static final DefaultRedisScript<Long> CLAIM_MIRROR_RANGE_SCRIPT = createClaimMirrorRangeScript();
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public Optional<IndexMigration> find() {
+		Map<Object, Object> fields = redisTemplate.opsForHash().entries(MIGRATION_KEY);
+		if (fields.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(IndexMigration.builder()
+			.targetIndex((String) fields.get(TARGET_FIELD))
+			.sourceIndex((String) fields.get(SOURCE_FIELD))
+			.backfillTargetArticleId(Long.parseLong((String) fields.get(BACKFILL_TARGET_FIELD)))
+			.mirroredArticleId(Long.parseLong((String) fields.get(MIRRORED_FIELD)))
+			.build());
+	}
+
+	@Override
+	public void save(IndexMigration migration) {
+		redisTemplate.opsForHash().putAll(MIGRATION_KEY, Map.of(
+			TARGET_FIELD, migration.getTargetIndex(),
+			SOURCE_FIELD, migration.getSourceIndex(),
+			BACKFILL_TARGET_FIELD, String.valueOf(migration.getBackfillTargetArticleId()),
+			MIRRORED_FIELD, String.valueOf(migration.getMirroredArticleId())));
+	}
+
+	@Override
+	public void clear() {
+		redisTemplate.delete(MIGRATION_KEY);
+	}
+
+	@Override
+	public boolean claimMirrorRange(long from, long to) {
+		Long claimed = redisTemplate.execute(CLAIM_MIRROR_RANGE_SCRIPT, Collections.singletonList(MIGRATION_KEY),
+			String.valueOf(from), String.valueOf(to));
+		return claimed != null && claimed == 1L;
+	}
+
+	private static DefaultRedisScript<Long> createClaimMirrorRangeScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/claim-mirror-range.lua"));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
@@ -0,0 +1,95 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.redis;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.PopularQueryPort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어별 검색 횟수를 Redis Sorted Set(news:search:popular)으로 집계하는 어댑터 클래스
+ * 여러 노드의 검색 횟수를 한 곳에 모아 자동완성 인기 검색어로 사용한다.
+ * 검색 요청 스레드가 Redis를 기다리거나 Redis 장애로 검색이 실패하지 않도록,
+ * 검색 횟수는 노드 메모리에 모았다가 주기마다 검색어별 ZINCRBY 한 번으로 반영한다.
+ *
+ * @since 2025-06-05
+ * @modified 2025-06-06 검색 횟수를 로컬에 모아 주기적으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPopularQueryAdapter implements PopularQueryPort {
+	private static final String KEY = "news:search:popular";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Map<String, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+	/**
+	 * 검색 횟수를 로컬에 더한다. Redis에는 다음 반영 주기에 기록된다.
+	 *
+	 * @param query 정규화된 검색어
+	 * @since 2025-06-05
+	 * @modified 2025-06-06 Redis 즉시 호출 대신 로컬 집계
+	 */
+	@Override
+	public void increment(String query) {
+		pendingCounts.computeIfAbsent(query, key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 로컬에 모인 검색 횟수를 Redis에 반영한다.
+	 * 반영에 실패한 횟수는 버리고 경고 로그만 남긴다. (인기 검색어 집계는 일부 유실을 허용)
+	 *
+	 * @since 2025-06-06
+	 */
+	@Scheduled(fixedDelayString = "${news.search.suggest.popular-query-flush-interval:PT5S}")
+	public void flush() {
+		int failed = 0;
+		RuntimeException lastError = null;
+		for (String query : pendingCounts.keySet()) {
+			LongAdder count = pendingCounts.remove(query);
+			if (count == null) {
+				continue;
+			}
+			try {
+				redisTemplate.opsForZSet().incrementScore(KEY, query, count.sum());
+			} catch (RuntimeException e) {
+				failed++;
+				lastError = e;
+			}
+		}
+		if (lastError != null) {
+			log.warn("인기 검색어 {}건의 검색 횟수 반영에 실패했습니다.", failed, lastError);
+		}
+	}
+
+	@Override
+	public Map<String, Long> findTopQueries(int limit) {
+		Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(KEY, 0, limit - 1);
+		Map<String, Long> result = new LinkedHashMap<>();
+		if (tuples == null) {
+			return result;
+		}
+		for (TypedTuple<String> tuple : tuples) {
+			if (tuple.getValue() != null && tuple.getScore() != null) {
+				result.put(tuple.getValue(), tuple.getScore().longValue());
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void retainTop(int count) {
+		redisTemplate.opsForZSet().removeRange(KEY, 0, -(count + 1L));
+	}
+}
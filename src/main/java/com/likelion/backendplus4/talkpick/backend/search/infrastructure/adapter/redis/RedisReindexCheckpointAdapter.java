@@ -0,0 +1,71 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.redis;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.ReindexCheckpointPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재색인 체크포인트(news:reindex:checkpoint)와 실행 잠금(news:reindex:lock)을 Redis로 관리하는 어댑터 클래스
+ *
+ * @since 2025-06-06
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisReindexCheckpointAdapter implements ReindexCheckpointPort {
+	private static final String CHECKPOINT_KEY = "news:reindex:checkpoint";
+	private static final String LOCK_KEY = "news:reindex:lock";
+	private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = createScript("lua/release-lock.lua");
+	private static final DefaultRedisScript<Long> RENEW_LOCK_SCRIPT = createScript("lua/renew-lock.lua");
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String lockToken = UUID.randomUUID().toString();
+
+	@Override
+	public long findCheckpoint() {
+		String value = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+		return value == null ? 0L : Long.parseLong(value);
+	}
+
+	@Override
+	public void saveCheckpoint(long articleId) {
+		redisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(articleId));
+	}
+
+	@Override
+	public void clearCheckpoint() {
+		redisTemplate.delete(CHECKPOINT_KEY);
+	}
+
+	@Override
+	public boolean tryLock(Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, ttl));
+	}
+
+	@Override
+	public boolean renewLock(Duration ttl) {
+		Long renewed = redisTemplate.execute(RENEW_LOCK_SCRIPT, Collections.singletonList(LOCK_KEY), lockToken,
+			String.valueOf(ttl.toMillis()));
+		return renewed != null && renewed == 1L;
+	}
+
+	@Override
+	public void unlock() {
+		redisTemplate.execute(RELEASE_LOCK_SCRIPT, Collections.singletonList(LOCK_KEY), lockToken);
+	}
+
+	private static DefaultRedisScript<Long> createScript(String location) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
@@ -0,0 +1,129 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.redis;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.SimilarNewsListPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SimilarNeighbor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사전 계산된 유사 뉴스 목록을 Redis Sorted Set(news:similar:{newsId})으로 관리하는 어댑터 클래스
+ * score에 코사인 유사도를 저장하므로 증분 병합 시 상위 K건만 남길 수 있다.
+ *
+ * @since 2025-06-03
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisSimilarNewsListAdapter implements SimilarNewsListPort {
+	private static final String KEY_PREFIX = "news:similar:";
+	private static final String CHECKPOINT_KEY = "news:similar-batch:checkpoint";
+	private static final String LOCK_KEY = "news:similar-batch:lock";
+	private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = createReleaseLockScript();
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String lockToken = UUID.randomUUID().toString();
+
+	@Override
+	public void replaceAll(Map<String, List<SimilarNeighbor>> neighbors, Duration ttl) {
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				neighbors.forEach((newsId, list) -> {
+					String key = buildKey(newsId);
+					ops.delete(key);
+					if (!list.isEmpty()) {
+						ops.opsForZSet().add(key, toTuples(list));
+						ops.expire(key, ttl);
+					}
+				});
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public void mergeAll(Map<String, List<SimilarNeighbor>> neighbors, int maxSize, Duration ttl) {
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				neighbors.forEach((newsId, list) -> {
+					if (list.isEmpty()) {
+						return;
+					}
+					String key = buildKey(newsId);
+					ops.opsForZSet().add(key, toTuples(list));
+					ops.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+					ops.expire(key, ttl);
+				});
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public List<String> findNeighborIds(String newsId, int offset, int count) {
+		Set<String> ids = redisTemplate.opsForZSet()
+			.reverseRange(buildKey(newsId), offset, (long) offset + count - 1);
+		return ids == null ? List.of() : List.copyOf(ids);
+	}
+
+	@Override
+	public long findCheckpoint() {
+		String value = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+		return value == null ? 0L : Long.parseLong(value);
+	}
+
+	@Override
+	public void saveCheckpoint(long articleId) {
+		redisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(articleId));
+	}
+
+	@Override
+	public boolean tryLock(Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, ttl));
+	}
+
+	@Override
+	public void unlock() {
+		redisTemplate.execute(RELEASE_LOCK_SCRIPT, Collections.singletonList(LOCK_KEY), lockToken);
+	}
+
+	private String buildKey(String newsId) {
+		return KEY_PREFIX + newsId;
+	}
+
+	private Set<TypedTuple<String>> toTuples(List<SimilarNeighbor> list) {
+		Set<TypedTuple<String>> tuples = new HashSet<>(list.size() * 2);
+		for (SimilarNeighbor neighbor : list) {
+			tuples.add(TypedTuple.of(neighbor.getNewsId(), (double) neighbor.getScore()));
+		}
+		return tuples;
+	}
+
+	private static DefaultRedisScript<Long> createReleaseLockScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("lua/release-lock.lua"));
+		script.setResultType(Long.class);
+		return script;
+	}
+}
@@ -0,0 +1,88 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.support;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.support.similarity.EmbeddingTruncator;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인덱스(또는 별칭)의 summaryVector 매핑 차원 수를 조회해 벡터를 그 차원에 맞추는 클래스
+ * 인덱스 교체 중에는 기존 인덱스와 새 인덱스의 차원 수가 다를 수 있으므로 설정이 아닌 실제 매핑을 기준으로 한다.
+ * 별칭 교체를 반영하도록 조회 결과는 짧게만 보관한다.
+ *
+ * @since 2025-06-06
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryVectorDimensions {
+	private static final String VECTOR_FIELD = "summaryVector";
+	private static final long CACHE_TTL_MILLIS = 60_000L;
+	private static final int UNKNOWN = -1;
+
+	private final ElasticsearchClient client;
+	private final Map<String, CachedDims> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * 벡터를 인덱스의 summaryVector 차원 수에 맞게 자른다.
+	 *
+	 * @param indexName 인덱스 또는 별칭 이름
+	 * @param vector    원본 벡터
+	 * @return 인덱스 차원에 맞춘 벡터 (차원 수를 알 수 없으면 원본 그대로)
+	 * @since 2025-06-06
+	 */
+	public float[] fit(String indexName, float[] vector) {
+		return EmbeddingTruncator.truncate(vector, dimsOf(indexName));
+	}
+
+	/**
+	 * 인덱스의 summaryVector 차원 수를 조회한다.
+	 *
+	 * @param indexName 인덱스 또는 별칭 이름
+	 * @return 차원 수, 조회할 수 없으면 -1
+	 * @since 2025-06-06
+	 */
+	public int dimsOf(String indexName) {
+		long now = System.currentTimeMillis();
+		CachedDims cached = cache.get(indexName);
+		if (cached != null && cached.expiresAt() > now) {
+			return cached.dims();
+		}
+		int dims = loadDims(indexName);
+		cache.put(indexName, new CachedDims(dims, now + CACHE_TTL_MILLIS));
+		return dims;
+	}
+
+	private int loadDims(String indexName) {
+		try {
+			return client.indices()
+				.getMapping(g -> g.index(indexName).ignoreUnavailable(true))
+				.result()
+				.values()
+				.stream()
+				.map(IndexMappingRecord::mappings)
+				.map(mapping -> mapping.properties().get(VECTOR_FIELD))
+				.filter(property -> property != null && property.isDenseVector())
+				.map(Property::denseVector)
+				.filter(vector -> vector.dims() != null)
+				.mapToInt(vector -> vector.dims())
+				.min()
+				.orElse(UNKNOWN);
+		} catch (IOException | RuntimeException e) {
+			log.warn("summaryVector 차원 조회 실패: index={}", indexName, e);
+			return UNKNOWN;
+		}
+	}
+
+	private record CachedDims(int dims, long expiresAt) {
+	}
+}
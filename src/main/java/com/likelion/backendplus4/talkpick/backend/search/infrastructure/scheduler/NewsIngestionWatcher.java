@@ -0,0 +1,71 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.scheduler;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.event.NewsIndexedEvent;
+import com.likelion.backendplus4.talkpick.backend.search.application.event.NewsIngestedEvent;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsIndexAdminPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsVectorSourcePort;
+
+/**
+ * 새 기사 수집과 검색 인덱스 반영을 주기적으로 확인하는 스케줄러 클래스
+ * 기사 수집은 외부 수집기가 MySQL에 직접 적재하므로, 노드마다 ID 증가를 감지해 NewsIngestedEvent를 발행한다.
+ * 검색 인덱스 반영은 읽기 별칭이 가리키는 인덱스와 검색 가능한 문서 수의 변화로 감지해 NewsIndexedEvent를 발행한다.
+ *
+ * @since 2025-06-04
+ * @modified 2025-06-06 검색 인덱스 반영 감지 추가
+ */
+@Component
+public class NewsIngestionWatcher {
+
+	private final NewsVectorSourcePort newsVectorSourcePort;
+	private final NewsIndexAdminPort indexAdminPort;
+	private final ApplicationEventPublisher eventPublisher;
+	private final String readAlias;
+	private final AtomicLong lastSeenArticleId = new AtomicLong(-1L);
+	private final AtomicReference<NewsIndexedEvent> lastSeenIndexState = new AtomicReference<>();
+
+	public NewsIngestionWatcher(
+		NewsVectorSourcePort newsVectorSourcePort,
+		NewsIndexAdminPort indexAdminPort,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${news.index.name}") String readAlias) {
+		this.newsVectorSourcePort = newsVectorSourcePort;
+		this.indexAdminPort = indexAdminPort;
+		this.eventPublisher = eventPublisher;
+		this.readAlias = readAlias;
+	}
+
+	@Scheduled(fixedDelayString = "${news.search.ingestion-watch-interval}")
+	public void detectNewArticles() {
+		long latest = newsVectorSourcePort.findLatestArticleId();
+		long previous = lastSeenArticleId.getAndSet(latest);
+		if (previous >= 0 && latest > previous) {
+			eventPublisher.publishEvent(new NewsIngestedEvent(latest));
+		}
+	}
+
+	/**
+	 * 읽기 별칭의 물리 인덱스 목록과 검색 가능한 문서 수를 확인해, 이전 확인 시점과 달라졌으면 NewsIndexedEvent를 발행한다.
+	 * 첫 확인은 기준값만 기록한다.
+	 *
+	 * @since 2025-06-06
+	 */
+	@Scheduled(fixedDelayString = "${news.search.ingestion-watch-interval}")
+	public void detectIndexChanges() {
+		List<String> indices = indexAdminPort.resolveIndices(readAlias);
+		long documentCount = indexAdminPort.countSearchableDocuments(readAlias);
+		NewsIndexedEvent current = new NewsIndexedEvent(indices, documentCount);
+		NewsIndexedEvent previous = lastSeenIndexState.getAndSet(current);
+		if (previous != null && !previous.equals(current)) {
+			eventPublisher.publishEvent(current);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsSuggestUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 로컬 인덱스를 주기적으로 재구축하는 스케줄러 클래스
+ * 재구축에 실패하면 기존 인덱스를 유지하고 다음 주기에 다시 시도한다.
+ *
+ * @since 2025-06-05
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsSuggestIndexScheduler {
+
+	private final NewsSuggestUseCase suggestUseCase;
+
+	@Scheduled(fixedDelayString = "${news.search.suggest.rebuild-interval}")
+	public void rebuildIndex() {
+		try {
+			suggestUseCase.rebuildIndex();
+		} catch (RuntimeException e) {
+			log.warn("자동완성 인덱스 재구축 실패, 기존 인덱스를 유지합니다.", e);
+		}
+	}
+}
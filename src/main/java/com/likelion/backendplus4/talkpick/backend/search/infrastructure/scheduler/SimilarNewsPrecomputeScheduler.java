@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.SimilarNewsPrecomputeUseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유사 뉴스 사전 계산 배치를 주기적으로 실행하는 스케줄러 클래스
+ * 전체 재계산은 cron 주기로, 신규 기사 증분 계산은 고정 지연 주기로 실행한다.
+ *
+ * @since 2025-06-03
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "news.search.precompute", name = "enabled", havingValue = "true")
+public class SimilarNewsPrecomputeScheduler {
+
+	private final SimilarNewsPrecomputeUseCase precomputeUseCase;
+
+	@Scheduled(cron = "${news.search.precompute.full-cron}")
+	public void rebuildAll() {
+		precomputeUseCase.rebuildAll();
+	}
+
+	@Scheduled(
+		fixedDelayString = "${news.search.precompute.incremental-interval}",
+		initialDelayString = "${news.search.precompute.incremental-interval}")
+	public void updateIncremental() {
+		precomputeUseCase.updateIncremental();
+	}
+}
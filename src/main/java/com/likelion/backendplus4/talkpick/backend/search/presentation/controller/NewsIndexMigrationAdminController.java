@@ -0,0 +1,65 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller;
+
+import static com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse.*;
+import static com.likelion.backendplus4.talkpick.backend.search.application.port.in.mapper.NewsSearchResponseMapper.*;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsIndexMigrationUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsIndexMigrationStatusResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 인덱스를 새 버전 물리 인덱스로 무중단 교체하는 관리자용 REST 컨트롤러
+ *
+ * @since 2025-06-06
+ */
+@RestController
+@RequestMapping("/admin/news/index-migration")
+@RequiredArgsConstructor
+public class NewsIndexMigrationAdminController {
+
+	private final NewsIndexMigrationUseCase migrationUseCase;
+
+	/**
+	 * 다음 버전 인덱스를 만들고 벌크 재색인을 시작한다. 진행 중인 교체가 있으면 재색인을 이어서 진행한다.
+	 *
+	 * @return 별칭 구성과 교체 진행 상태
+	 * @since 2025-06-06
+	 */
+	@EntryExitLog
+	@PostMapping
+	public ResponseEntity<ApiResponse<NewsIndexMigrationStatusResponse>> start() {
+		return success(toIndexMigrationStatusResponse(migrationUseCase.start()));
+	}
+
+	/**
+	 * 재색인이 끝난 새 인덱스로 별칭을 원자적으로 옮긴다.
+	 *
+	 * @return 교체 후 별칭 구성
+	 * @since 2025-06-06
+	 */
+	@EntryExitLog
+	@PostMapping("/complete")
+	public ResponseEntity<ApiResponse<NewsIndexMigrationStatusResponse>> complete() {
+		return success(toIndexMigrationStatusResponse(migrationUseCase.complete()));
+	}
+
+	/**
+	 * 별칭 구성과 교체 진행 상태를 조회한다.
+	 *
+	 * @return 별칭 구성과 교체 진행 상태
+	 * @since 2025-06-06
+	 */
+	@GetMapping
+	public ResponseEntity<ApiResponse<NewsIndexMigrationStatusResponse>> status() {
+		return success(toIndexMigrationStatusResponse(migrationUseCase.status()));
+	}
+}
@@ -0,0 +1,57 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller;
+
+import static com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse.*;
+import static com.likelion.backendplus4.talkpick.backend.search.application.port.in.mapper.NewsSearchResponseMapper.*;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsReindexUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsReindexStatusResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MySQL 기사 테이블을 검색 인덱스로 재색인하는 관리자용 REST 컨트롤러
+ *
+ * @since 2025-06-06
+ */
+@RestController
+@RequestMapping("/admin/news/reindex")
+@RequiredArgsConstructor
+public class NewsReindexAdminController {
+
+	private final NewsReindexUseCase reindexUseCase;
+
+	/**
+	 * 재색인을 백그라운드에서 시작한다.
+	 *
+	 * @param reset true이면 체크포인트를 무시하고 처음부터 색인
+	 * @return 시작 여부와 현재 진행 상태
+	 * @since 2025-06-06
+	 */
+	@EntryExitLog
+	@PostMapping
+	public ResponseEntity<ApiResponse<NewsReindexStatusResponse>> start(
+		@RequestParam(value = "reset", defaultValue = "false") boolean reset) {
+		boolean started = reindexUseCase.start(reset);
+		return success(toReindexStatusResponse(started, reindexUseCase.status()));
+	}
+
+	/**
+	 * 재색인 진행 상태를 조회한다.
+	 *
+	 * @return 현재 진행 상태
+	 * @since 2025-06-06
+	 */
+	@GetMapping
+	public ResponseEntity<ApiResponse<NewsReindexStatusResponse>> status() {
+		return success(toReindexStatusResponse(null, reindexUseCase.status()));
+	}
+}
@@ -5,6 +5,7 @@ import static com.likelion.backendplus4.talkpick.backend.search.application.port
 import static com.likelion.backendplus4.talkpick.backend.search.application.port.in.mapper.NewsSearchResponseMapper.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,14 +17,16 @@ import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.Entr
 import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.LogJson;
 import com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse;
 import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsSearchUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsSuggestUseCase;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
-import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
-import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
 import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSuggest;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.docs.NewsSearchControllerDocs;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSearchRequest;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSimilarSearchRequest;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSuggestRequest;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsSearchResponseList;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsSuggestResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,36 +41,56 @@ import lombok.RequiredArgsConstructor;
 public class NewsSearchController implements NewsSearchControllerDocs {
 
 	private final NewsSearchUseCase searchUseCase;
+	private final NewsSuggestUseCase suggestUseCase;
 
 	/**
 	 * 검색 요청에 따라 뉴스를 조회하고 결과를 반환한다.
+	 * 검색은 비동기로 수행되며, 결과를 기다리는 동안 서블릿 요청 스레드를 반납한다.
 	 *
 	 * @param request 검색어 및 페이지 정보가 담긴 요청 DTO
 	 * @return ApiResponse에 래핑된 검색 결과 리스트
 	 * @author 정안식
 	 * @since 2025-05-15
+	 * @modified 2025-06-06 서블릿 비동기 처리로 변경
 	 */
 	@LogJson
 	@EntryExitLog
 	@Override
 	@GetMapping("/search")
-	public ResponseEntity<ApiResponse<NewsSearchResponseList>> search(
+	public CompletableFuture<ResponseEntity<ApiResponse<NewsSearchResponseList>>> search(
 		@ModelAttribute NewsSearchRequest request) {
 		NewsSearch newsSearch = toDomain(request);
-		NewsSearchResultAggregate newsSearchResultAggregate = searchUseCase.searchByQuery(newsSearch);
 
-		return success(toListResponse(newsSearchResultAggregate));
+		return searchUseCase.searchByQuery(newsSearch)
+			.thenApply(newsSearchResultAggregate -> success(toListResponse(newsSearchResultAggregate)));
 	}
 
 	@LogJson
 	@EntryExitLog
 	@Override
 	@GetMapping("/similar")
-	public ResponseEntity<ApiResponse<NewsSearchResponseList>> searchSimilar(
+	public CompletableFuture<ResponseEntity<ApiResponse<NewsSearchResponseList>>> searchSimilar(
 		@ModelAttribute NewsSimilarSearchRequest request) {
 		NewsSimilarSearch newsSimilarSearch = toDomain(request);
-		List<NewsSearchResult> newsSearchResultList = searchUseCase.searchSimilarByNewsId(newsSimilarSearch);
 
-		return success(toListResponse(newsSearchResultList));
+		return searchUseCase.searchSimilarByNewsId(newsSimilarSearch)
+			.thenApply(newsSearchResultList -> success(toListResponse(newsSearchResultList)));
+	}
+
+	/**
+	 * 입력 중인 접두사로 검색어 자동완성 후보를 조회한다.
+	 *
+	 * @param request 접두사와 후보 수가 담긴 요청 DTO
+	 * @return ApiResponse에 래핑된 자동완성 후보 목록
+	 * @since 2025-06-05
+	 */
+	@Override
+	@GetMapping("/suggest")
+	public ResponseEntity<ApiResponse<NewsSuggestResponse>> suggest(
+		@ModelAttribute NewsSuggestRequest request) {
+		NewsSuggest newsSuggest = toDomain(request);
+		List<String> suggestions = suggestUseCase.suggest(newsSuggest);
+
+		return success(toSuggestResponse(suggestions));
 	}
 }
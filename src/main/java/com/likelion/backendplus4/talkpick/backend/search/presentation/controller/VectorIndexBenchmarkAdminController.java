@@ -0,0 +1,52 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller;
+
+import static com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse.*;
+import static com.likelion.backendplus4.talkpick.backend.search.application.port.in.mapper.NewsSearchRequestMapper.*;
+import static com.likelion.backendplus4.talkpick.backend.search.application.port.in.mapper.NewsSearchResponseMapper.*;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.likelion.backendplus4.talkpick.backend.common.annotation.logging.EntryExitLog;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.VectorIndexBenchmarkUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.VectorIndexBenchmarkRequest;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.VectorIndexBenchmarkResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * summaryVector 인덱스 옵션별 recall·메모리를 비교하는 관리자용 REST 컨트롤러
+ *
+ * @since 2025-06-06
+ */
+@RestController
+@RequestMapping("/admin/news/vector-benchmark")
+@RequiredArgsConstructor
+public class VectorIndexBenchmarkAdminController {
+
+	private final VectorIndexBenchmarkUseCase benchmarkUseCase;
+	private final NewsSearchProperties searchProperties;
+
+	/**
+	 * 최근 기사 표본으로 옵션마다 임시 인덱스를 만들어 recall@10, 추정 메모리, 저장 크기, 지연 시간을 측정한다.
+	 * 표본 크기에 비례해 오래 걸리므로 운영 트래픽이 적은 시간에 호출한다.
+	 *
+	 * @param request 표본 수, 질의 수, 비교할 옵션 목록
+	 * @return 옵션별 측정 결과
+	 * @since 2025-06-06
+	 */
+	@EntryExitLog
+	@PostMapping
+	public ResponseEntity<ApiResponse<List<VectorIndexBenchmarkResponse>>> compare(
+		@RequestBody VectorIndexBenchmarkRequest request) {
+		return success(toBenchmarkResponse(
+			benchmarkUseCase.compare(toDomain(request, searchProperties.getVector().toOptions()))));
+	}
+}
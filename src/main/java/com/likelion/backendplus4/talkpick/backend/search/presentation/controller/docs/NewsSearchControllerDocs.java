@@ -3,11 +3,14 @@ package com.likelion.backendplus4.talkpick.backend.search.presentation.controlle
 import com.likelion.backendplus4.talkpick.backend.common.response.ApiResponse;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSearchRequest;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSimilarSearchRequest;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request.NewsSuggestRequest;
 import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsSearchResponseList;
+import com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response.NewsSuggestResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,9 +24,11 @@ public interface NewsSearchControllerDocs {
 
 	@Operation(
 		summary = "뉴스 검색",
-		description = "검색어 및 페이징 정보(NewsSearchRequest)를 기반으로 뉴스 검색 결과를 반환합니다."
+		description = "검색어 및 페이징 정보(NewsSearchRequest)를 기반으로 뉴스 검색 결과를 반환합니다. "
+			+ "mode=hybrid이면 BM25와 벡터 검색 결과를 RRF로 결합합니다. "
+			+ "category, publisher(언론사 뉴스 ID 접두사), from/to(발행일 yyyy-MM-dd)로 결과를 제한할 수 있습니다."
 	)
-	ResponseEntity<ApiResponse<NewsSearchResponseList>> search(
+	CompletableFuture<ResponseEntity<ApiResponse<NewsSearchResponseList>>> search(
 		@Parameter(
 			in = ParameterIn.QUERY,
 			description = "검색어 및 페이지 정보",
@@ -34,9 +39,10 @@ public interface NewsSearchControllerDocs {
 
 	@Operation(
 		summary = "유사 뉴스 검색",
-		description = "뉴스 ID 기반으로 유사한 뉴스를 조회하여 결과를 반환합니다."
+		description = "뉴스 ID 기반으로 유사한 뉴스를 조회하여 결과를 반환합니다. "
+			+ "category, publisher, from/to 조건은 kNN 사전 필터로 적용됩니다."
 	)
-	ResponseEntity<ApiResponse<NewsSearchResponseList>> searchSimilar(
+	CompletableFuture<ResponseEntity<ApiResponse<NewsSearchResponseList>>> searchSimilar(
 		@Parameter(
 			in = ParameterIn.QUERY,
 			description = "유사 뉴스 검색 요청 정보",
@@ -44,4 +50,17 @@ public interface NewsSearchControllerDocs {
 		)
 		@ModelAttribute NewsSimilarSearchRequest request
 	);
-}
\ No newline at end of file
+
+	@Operation(
+		summary = "검색어 자동완성",
+		description = "입력 중인 접두사(한글 자모 단위 일치 지원)로 인기 검색어와 최근 기사 제목 후보를 반환합니다."
+	)
+	ResponseEntity<ApiResponse<NewsSuggestResponse>> suggest(
+		@Parameter(
+			in = ParameterIn.QUERY,
+			description = "접두사 및 후보 수",
+			required = true
+		)
+		@ModelAttribute NewsSuggestRequest request
+	);
+}
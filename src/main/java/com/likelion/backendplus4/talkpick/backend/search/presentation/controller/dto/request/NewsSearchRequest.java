@@ -1,5 +1,8 @@
 package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import lombok.Getter;
@@ -7,11 +10,21 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * 뉴스 검색 시 필요한 검색어와 페이지 정보를 담는 요청 DTO
+ * cursor가 있으면 page 대신 이전 응답의 nextCursor 다음부터 조회한다.
+ * mode는 text(BM25) 또는 hybrid(BM25 + 벡터 검색 RRF 결합)이다.
+ * category, publisher(뉴스 ID 접두사), from/to(발행일, yyyy-MM-dd, 양 끝 포함)는 선택 필터이다.
  *
  * @since 2025-05-15
  */
 public record NewsSearchRequest(
 	@RequestParam("q") String q,
 	@RequestParam(value = "page", defaultValue = "0") int page,
-	@RequestParam(value = "size", defaultValue = "10") int size
+	@RequestParam(value = "size", defaultValue = "10") int size,
+	@RequestParam(value = "cursor", required = false) String cursor,
+	@RequestParam(value = "pit", defaultValue = "false") boolean pit,
+	@RequestParam(value = "mode", defaultValue = "text") String mode,
+	@RequestParam(value = "category", required = false) String category,
+	@RequestParam(value = "publisher", required = false) String publisher,
+	@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
 ) {}
\ No newline at end of file
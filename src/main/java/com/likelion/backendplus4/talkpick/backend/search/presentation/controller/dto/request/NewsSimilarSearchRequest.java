@@ -1,9 +1,23 @@
 package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.RequestParam;
 
+/**
+ * 유사 뉴스 조회 시 원본 뉴스 ID와 페이지 정보를 담는 요청 DTO
+ * category, publisher(뉴스 ID 접두사), from/to(발행일, yyyy-MM-dd, 양 끝 포함)는 kNN 사전 필터로 적용된다.
+ *
+ * @since 2025-05-15
+ * @modified 2025-06-06
+ */
 public record NewsSimilarSearchRequest(
 	@RequestParam("newsId") String newsId,
 	@RequestParam(value = "page", defaultValue = "0") int page,
-	@RequestParam(value = "size", defaultValue = "10") int size
+	@RequestParam(value = "size", defaultValue = "10") int size,
+	@RequestParam(value = "category", required = false) String category,
+	@RequestParam(value = "publisher", required = false) String publisher,
+	@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
 ) {}
\ No newline at end of file
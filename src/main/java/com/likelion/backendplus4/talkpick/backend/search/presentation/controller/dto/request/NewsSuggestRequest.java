@@ -0,0 +1,13 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request;
+
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * 검색어 자동완성 시 입력 중인 접두사와 후보 수를 담는 요청 DTO
+ *
+ * @since 2025-06-05
+ */
+public record NewsSuggestRequest(
+	@RequestParam("q") String q,
+	@RequestParam(value = "size", defaultValue = "10") int size
+) {}
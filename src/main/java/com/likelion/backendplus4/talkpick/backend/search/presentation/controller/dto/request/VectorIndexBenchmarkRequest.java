@@ -0,0 +1,24 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.request;
+
+import java.util.List;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexType;
+
+/**
+ * 벡터 인덱스 옵션 비교 요청 DTO
+ * 옵션에서 생략한 값은 news.search.vector 설정 값을 따른다.
+ *
+ * @since 2025-06-06
+ */
+public record VectorIndexBenchmarkRequest(
+	Integer sampleSize,
+	Integer queryCount,
+	List<Variant> variants
+) {
+	public record Variant(
+		VectorIndexType type,
+		Integer m,
+		Integer efConstruction,
+		Integer dims
+	) {}
+}
@@ -0,0 +1,24 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 인덱스 별칭 구성과 버전 교체 진행 상태 응답 DTO
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@RequiredArgsConstructor
+@Builder
+public class NewsIndexMigrationStatusResponse {
+	private final List<String> readIndices;
+	private final String targetIndex;
+	private final String sourceIndex;
+	private final Long backfillTargetArticleId;
+	private final Long mirroredArticleId;
+	private final NewsReindexStatusResponse reindex;
+}
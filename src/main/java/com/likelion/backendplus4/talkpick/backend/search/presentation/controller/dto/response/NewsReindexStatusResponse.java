@@ -0,0 +1,23 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 인덱스 재색인 진행 상태 응답 DTO
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@RequiredArgsConstructor
+@Builder
+public class NewsReindexStatusResponse {
+	private final Boolean started;
+	private final Boolean running;
+	private final String indexName;
+	private final Long checkpoint;
+	private final Long targetArticleId;
+	private final Long indexed;
+	private final Long failed;
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * 뉴스 검색 결과 목록과 총 개수를 담는 응답 DTO
+ * totalIsLowerBound가 true이면 total은 실제 결과 수의 하한값이다.
  *
  * @since 2025-05-15
  */
@@ -17,4 +18,6 @@ import lombok.RequiredArgsConstructor;
 public class NewsSearchResponseList {
 	private final List<NewsSearchResponse> newsSearchResponseList;
 	private final Long total;
+	private final Boolean totalIsLowerBound;
+	private final String nextCursor;
 }
\ No newline at end of file
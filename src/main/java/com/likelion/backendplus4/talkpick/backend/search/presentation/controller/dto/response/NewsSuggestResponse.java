@@ -0,0 +1,19 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색어 자동완성 후보 목록을 담는 응답 DTO
+ *
+ * @since 2025-06-05
+ */
+@Getter
+@RequiredArgsConstructor
+@Builder
+public class NewsSuggestResponse {
+	private final List<String> suggestions;
+}
@@ -0,0 +1,24 @@
+package com.likelion.backendplus4.talkpick.backend.search.presentation.controller.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 벡터 인덱스 옵션 하나의 비교 결과 응답 DTO
+ *
+ * @since 2025-06-06
+ */
+@Getter
+@RequiredArgsConstructor
+@Builder
+public class VectorIndexBenchmarkResponse {
+	private final String type;
+	private final Integer m;
+	private final Integer efConstruction;
+	private final Integer dims;
+	private final Double recallAt10;
+	private final Long estimatedMemoryBytes;
+	private final Long storeSizeBytes;
+	private final Double averageLatencyMillis;
+}
@@ -0,0 +1,19 @@
+-- 채팅 메시지 한 건을 최근 메시지 리스트, 채팅방 스트림, DB 저장용 전역 스트림에 한 번에 기록하고 채팅방 스트림 엔트리 ID를 반환한다.
+-- KEYS[1] = 최근 메시지 리스트, KEYS[2] = hasNext 플래그, KEYS[3] = 채팅방 스트림, KEYS[4] = DB 저장용 전역 스트림
+-- ARGV[1] = 메시지 JSON, ARGV[2] = 리스트 최대 크기, ARGV[3] = 리스트/플래그 TTL(초)
+-- ARGV[4] = 채팅방 스트림 최대 길이, ARGV[5] = 채팅방 스트림 TTL(초), ARGV[6] = 전역 스트림 최대 길이(대략)
+-- ARGV[7] = 최근 메시지 리스트 기록 여부('1' 또는 '0', 스트림 기반 이력 캐시 전환 후에는 '0')
+if ARGV[7] == '1' then
+    local maxCacheSize = tonumber(ARGV[2])
+    local size = redis.call('LPUSH', KEYS[1], ARGV[1])
+    redis.call('LTRIM', KEYS[1], 0, maxCacheSize - 1)
+    redis.call('EXPIRE', KEYS[1], ARGV[3])
+    if size > maxCacheSize and redis.call('GET', KEYS[2]) ~= 'true' then
+        redis.call('SET', KEYS[2], 'true', 'EX', ARGV[3])
+    end
+end
+
+local id = redis.call('XADD', KEYS[3], 'MAXLEN', ARGV[4], '*', 'payload', ARGV[1])
+redis.call('EXPIRE', KEYS[3], ARGV[5])
+redis.call('XADD', KEYS[4], 'MAXLEN', '~', ARGV[6], '*', 'payload', ARGV[1])
+return id
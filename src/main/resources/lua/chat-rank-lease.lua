@@ -0,0 +1,11 @@
+-- 인기 순위 브로드캐스트 리스(lease)를 획득하거나, 이미 이 노드가 가지고 있으면 만료 시간을 연장한다. 획득/연장 시 1, 다른 노드가 가지고 있으면 0을 반환한다.
+-- KEYS[1] = 리스 키
+-- ARGV[1] = 노드 토큰, ARGV[2] = 리스 유효 시간(ms)
+if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return 1
+end
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+return 0
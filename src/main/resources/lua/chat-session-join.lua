@@ -0,0 +1,10 @@
+-- 세션을 채팅방에 등록하고, 카테고리/전체 인기 순위 점수를 채팅방 세션 집합 크기(SCARD)로 맞춘다. SADD 결과(1 또는 0)를 반환한다.
+-- 점수를 증감하지 않고 집합 크기로 덮어쓰므로, 순위 도입 전부터 인원이 있던 채팅방도 다음 입장/퇴장 시 실제 인원 수로 보정된다.
+-- KEYS[1] = 채팅방 세션 집합, KEYS[2] = 세션 역참조 해시, KEYS[3] = 카테고리 순위 ZSET, KEYS[4] = 전체 순위 ZSET
+-- ARGV[1] = 세션 ID, ARGV[2] = category:articleId, ARGV[3] = articleId
+local added = redis.call('SADD', KEYS[1], ARGV[1])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+local size = redis.call('SCARD', KEYS[1])
+redis.call('ZADD', KEYS[3], size, ARGV[3])
+redis.call('ZADD', KEYS[4], size, ARGV[2])
+return added
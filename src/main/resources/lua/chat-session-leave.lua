@@ -0,0 +1,15 @@
+-- 세션을 채팅방에서 제거하고, 인기 순위 점수를 남은 세션 집합 크기(SCARD)로 맞춘다(0이면 순위에서 제거). 남은 인원 수를 반환한다.
+-- 점수를 증감하지 않고 집합 크기로 덮어쓰므로, 순위 도입 전부터 인원이 있던 채팅방이 인원이 남았는데도 순위에서 빠지지 않는다.
+-- KEYS[1] = 채팅방 세션 집합, KEYS[2] = 세션 역참조 해시, KEYS[3] = 카테고리 순위 ZSET, KEYS[4] = 전체 순위 ZSET
+-- ARGV[1] = 세션 ID, ARGV[2] = category:articleId, ARGV[3] = articleId
+redis.call('SREM', KEYS[1], ARGV[1])
+redis.call('HDEL', KEYS[2], ARGV[1])
+local size = redis.call('SCARD', KEYS[1])
+if size > 0 then
+    redis.call('ZADD', KEYS[3], size, ARGV[3])
+    redis.call('ZADD', KEYS[4], size, ARGV[2])
+else
+    redis.call('ZREM', KEYS[3], ARGV[3])
+    redis.call('ZREM', KEYS[4], ARGV[2])
+end
+return size
@@ -0,0 +1,18 @@
+-- 오래 처리되지 않은 대기 엔트리를 현재 소비자에게 넘기고 {다음 커서, id1, payload1, id2, payload2, ...}를 반환한다.
+-- KEYS[1] = 스트림 키, ARGV[1] = 그룹, ARGV[2] = 소비자, ARGV[3] = 최소 유휴 시간(ms), ARGV[4] = 시작 커서, ARGV[5] = 최대 개수
+local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4], 'COUNT', ARGV[5])
+local result = { claimed[1] }
+for _, entry in ipairs(claimed[2]) do
+    local payload = ''
+    local fields = entry[2]
+    if fields then
+        for i = 1, #fields, 2 do
+            if fields[i] == 'payload' then
+                payload = fields[i + 1]
+            end
+        end
+    end
+    table.insert(result, entry[1])
+    table.insert(result, payload)
+end
+return result
@@ -0,0 +1,22 @@
+-- 비어 있는 채팅방 스트림을 DB에서 읽은 최근 메시지로 채운다. 이미 엔트리가 있으면 아무것도 하지 않고 0을 반환한다.
+-- DB에 더 오래된 메시지가 남아 있으면 XSETID로 max-deleted-entry-id를 기록해 잘린 스트림으로 표시한다(Redis 7 이상).
+-- KEYS[1] = 채팅방 스트림
+-- ARGV[1] = TTL(초), ARGV[2] = 더 오래된 메시지 존재 여부('1' 또는 '0'), ARGV[3..] = 오래된 순서의 엔트리 ID, 메시지 JSON 쌍
+if redis.call('XLEN', KEYS[1]) > 0 then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+local lastId = nil
+local count = 0
+for i = 3, #ARGV, 2 do
+    lastId = redis.call('XADD', KEYS[1], ARGV[i], 'payload', ARGV[i + 1])
+    count = count + 1
+end
+if lastId == nil then
+    return 0
+end
+if ARGV[2] == '1' then
+    redis.call('XSETID', KEYS[1], lastId, 'ENTRIESADDED', count + 1, 'MAXDELETEDID', '0-1')
+end
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+return count
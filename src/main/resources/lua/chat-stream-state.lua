@@ -0,0 +1,17 @@
+-- 채팅방 스트림의 {길이, 잘림 여부(1/0)}를 반환한다. 스트림이 없으면 {0, 0}을 반환한다.
+-- 잘림 여부는 XTRIM/MAXLEN 또는 초기 적재 시 XSETID로 기록된 max-deleted-entry-id(Redis 7 이상)로 판단한다.
+-- KEYS[1] = 채팅방 스트림
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return { 0, 0 }
+end
+local info = redis.call('XINFO', 'STREAM', KEYS[1])
+local length = 0
+local truncated = 0
+for i = 1, #info, 2 do
+    if info[i] == 'length' then
+        length = info[i + 1]
+    elseif info[i] == 'max-deleted-entry-id' and info[i + 1] ~= '0-0' then
+        truncated = 1
+    end
+end
+return { length, truncated }
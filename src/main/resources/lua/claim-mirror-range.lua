@@ -0,0 +1,6 @@
+if redis.call('HGET', KEYS[1], 'mirrored') == ARGV[1] then
+    redis.call('HSET', KEYS[1], 'mirrored', ARGV[2])
+    return 1
+else
+    return 0
+end
@@ -0,0 +1,7 @@
+-- 이 노드가 가진 잠금이면 만료 시간을 연장한다. 연장 시 1, 잠금이 없거나 다른 노드가 가지고 있으면 0을 반환한다.
+-- KEYS[1] = 잠금 키
+-- ARGV[1] = 노드 토큰, ARGV[2] = 잠금 유지 시간(ms)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,84 @@
+package com.likelion.backendplus4.talkpick.backend.chat.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageDbPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.MessageType;
+
+/**
+ * ChatMessagePersistService의 단위 테스트 클래스입니다.
+ * 같은 스트림 엔트리가 다시 전달되어도 한 번만 저장되는지 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 메시지 저장 서비스 테스트")
+class ChatMessagePersistServiceTest {
+
+	private final FakeChatMessageDbPort dbPort = new FakeChatMessageDbPort();
+	private final ChatMessagePersistService service = new ChatMessagePersistService(dbPort);
+
+	/**
+	 * 이미 저장된 엔트리와 묶음 안에서 중복된 엔트리를 제외하고 저장하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("재전달된 스트림 엔트리는 다시 저장하지 않음")
+	void 재전달된_스트림_엔트리는_다시_저장하지_않음() {
+		assertThat(service.persist(List.of(message("1-0"), message("2-0")))).isEqualTo(2);
+
+		int inserted = service.persist(List.of(message("2-0"), message("3-0"), message("3-0")));
+
+		assertThat(inserted).isEqualTo(1);
+		assertThat(dbPort.saved).extracting(ChatMessage::getStreamId).containsExactly("1-0", "2-0", "3-0");
+	}
+
+	private static ChatMessage message(String streamId) {
+		return ChatMessage.builder()
+			.articleId("KM1")
+			.sender("tester")
+			.content("content " + streamId)
+			.timestamp(LocalDateTime.of(2025, 6, 6, 12, 0))
+			.messageType(MessageType.CHAT)
+			.streamId(streamId)
+			.build();
+	}
+
+	private static class FakeChatMessageDbPort implements ChatMessageDbPort {
+		private final List<ChatMessage> saved = new ArrayList<>();
+
+		@Override
+		public Slice<ChatMessage> findRecentMessages(String articleId, PageRequest pageRequest) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Slice<ChatMessage> findBeforeMessages(String articleId, LocalDateTime before, PageRequest of) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Set<String> findExistingStreamIds(Collection<String> streamIds) {
+			return saved.stream()
+				.map(ChatMessage::getStreamId)
+				.filter(streamIds::contains)
+				.collect(Collectors.toSet());
+		}
+
+		@Override
+		public void saveAll(List<ChatMessage> messages) {
+			saved.addAll(messages);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.likelion.backendplus4.talkpick.backend.chat.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatNewsProviderPort;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatRankingBroadcastPort;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatRankingPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.RoomRankDto;
+import com.likelion.backendplus4.talkpick.backend.news.info.application.dto.PopularNewsResponse;
+
+/**
+ * ChatRankingService의 순위 스냅샷 갱신과 순서 변경 시에만 전송하는 동작을 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("인기 채팅방 순위 서비스 테스트")
+class ChatRankingServiceTest {
+
+	private final FakeChatRankingPort rankingPort = new FakeChatRankingPort();
+	private final List<String> newsLookups = new ArrayList<>();
+	private final List<String> broadcasts = new ArrayList<>();
+	private final ChatRankingService service = new ChatRankingService(
+		rankingPort,
+		newsId -> {
+			newsLookups.add(newsId);
+			return new PopularNewsResponse(newsId, "title " + newsId, "", "", "economy");
+		},
+		(category, rooms, topNews) -> broadcasts.add(category),
+		10,
+		Duration.ofSeconds(10));
+
+	/**
+	 * 인원 수만 바뀐 주기에는 전송하지 않고, 채팅방 순서가 바뀐 카테고리만 전송하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("채팅방 순서가 바뀐 카테고리만 전송")
+	void 채팅방_순서가_바뀐_카테고리만_전송() {
+		rankingPort.rank("economy", room("KM1", 3), room("KM2", 1));
+		service.refreshRanking();
+		broadcasts.clear();
+
+		rankingPort.rank("economy", room("KM1", 5), room("KM2", 2));
+		service.refreshRanking();
+		assertThat(broadcasts).isEmpty();
+
+		rankingPort.rank("economy", room("KM2", 6), room("KM1", 5));
+		service.refreshRanking();
+		assertThat(broadcasts).containsExactly("economy");
+	}
+
+	/**
+	 * REST 조회가 순위 ZSET을 다시 읽지 않고 마지막 스냅샷을 반환하며, 1위가 바뀔 때만 뉴스를 조회하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("조회는 마지막 스냅샷을 반환하고 1위가 바뀔 때만 뉴스를 조회")
+	void 조회는_마지막_스냅샷을_반환하고_1위가_바뀔_때만_뉴스를_조회() {
+		rankingPort.rank("economy", room("KM1", 3));
+		service.refreshRanking();
+		rankingPort.rank("economy", room("KM1", 4), room("KM2", 1));
+		service.refreshRanking();
+		int readsAfterTicks = rankingPort.reads;
+
+		assertThat(service.getTopNewsByCategory("economy").guid()).isEqualTo("KM1");
+		assertThat(rankingPort.reads).isEqualTo(readsAfterTicks);
+		assertThat(newsLookups).containsExactly("KM1");
+	}
+
+	/**
+	 * 브로드캐스트 리스를 다른 서버가 가지고 있으면 스냅샷만 갱신하고 전송하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("리스가 없는 서버는 스냅샷만 갱신")
+	void 리스가_없는_서버는_스냅샷만_갱신() {
+		rankingPort.leaseOwner = false;
+		rankingPort.rank("economy", room("KM1", 3));
+
+		service.refreshRanking();
+
+		assertThat(broadcasts).isEmpty();
+		assertThat(service.getTopNewsByCategory("economy").guid()).isEqualTo("KM1");
+	}
+
+	private static RoomRankDto room(String articleId, int participantCount) {
+		return new RoomRankDto("economy", articleId, participantCount);
+	}
+
+	private static class FakeChatRankingPort implements ChatRankingPort {
+		private final Map<String, List<RoomRankDto>> ranks = new HashMap<>();
+		private boolean leaseOwner = true;
+		private int reads;
+
+		void rank(String category, RoomRankDto... rooms) {
+			ranks.put(category, List.of(rooms));
+		}
+
+		@Override
+		public RoomRankDto getTopNewsByCategory(String category) {
+			List<RoomRankDto> rooms = getTopRoomsByCategory(category, 1);
+			return rooms.isEmpty() ? null : rooms.getFirst();
+		}
+
+		@Override
+		public RoomRankDto getTopNewsAll() {
+			return null;
+		}
+
+		@Override
+		public List<RoomRankDto> getTopRoomsByCategory(String category, int limit) {
+			reads++;
+			return ranks.getOrDefault(category, List.of());
+		}
+
+		@Override
+		public List<RoomRankDto> getTopRoomsAll(int limit) {
+			reads++;
+			return List.of();
+		}
+
+		@Override
+		public boolean tryAcquireBroadcastLease(Duration ttl) {
+			return leaseOwner;
+		}
+	}
+}
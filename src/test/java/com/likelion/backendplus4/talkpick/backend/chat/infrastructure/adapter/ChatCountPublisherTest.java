@@ -0,0 +1,57 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatCountResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ChatCountPublisher의 채팅방별 브로드캐스트 병합을 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅방 인원 수 발행기 테스트")
+class ChatCountPublisherTest {
+
+	private final List<Message<?>> sent = new ArrayList<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ChatCountPublisher publisher = new ChatCountPublisher(
+		new SimpMessagingTemplate((message, timeout) -> sent.add(message)), meterRegistry);
+
+	/**
+	 * 한 주기 안의 여러 입장/퇴장이 채팅방마다 최신 인원 수 한 번의 전송으로 합쳐지는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("한 주기 안의 변경은 채팅방마다 최신 값으로 한 번만 전송")
+	void 한_주기_안의_변경은_채팅방마다_최신_값으로_한_번만_전송() {
+		AtomicInteger count = new AtomicInteger();
+		for (int i = 0; i < 5; i++) {
+			count.incrementAndGet();
+			publisher.markDirty("ECONOMY:KM1", count::get);
+		}
+		publisher.markDirty("POLITICS:KM2", () -> 1);
+
+		publisher.flush();
+		publisher.flush();
+
+		assertThat(sent).hasSize(2);
+		assertThat(sent)
+			.filteredOn(message -> "/topic/chat.ECONOMY:KM1.count".equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+			.singleElement()
+			.extracting(message -> ((ChatCountResponse) message.getPayload()).getCount())
+			.isEqualTo(5);
+		assertThat(meterRegistry.counter("chat_count_broadcasts", "result", "sent").count()).isEqualTo(2);
+		assertThat(meterRegistry.counter("chat_count_broadcasts", "result", "suppressed").count()).isEqualTo(4);
+	}
+}
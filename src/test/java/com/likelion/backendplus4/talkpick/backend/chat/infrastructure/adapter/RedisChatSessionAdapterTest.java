@@ -0,0 +1,152 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RedisChatSessionAdapter의 입장/퇴장 Lua 스크립트가 세션 집합과 인기 순위 점수를 함께 맞추는지 확인하는 테스트 클래스입니다.
+ * Lua 스크립트를 실행하는 테스트는 실제 Redis가 필요하므로 REDIS_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 세션 Redis 어댑터 인기 순위 테스트")
+class RedisChatSessionAdapterTest {
+
+	private static final String RANK_ALL_KEY = "chat:rank-all";
+	private static final String CATEGORY = "economy";
+
+	private final String articleId = "KM" + UUID.randomUUID();
+	private final String categoryArticleId = CATEGORY + ":" + articleId;
+	private final String roomKey = "chat:room:" + categoryArticleId;
+	private final String rankKey = "chat:rank:" + CATEGORY;
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RedisChatSessionAdapter adapter;
+
+	@AfterEach
+	void tearDown() {
+		if (connectionFactory == null) {
+			return;
+		}
+		redisTemplate.delete(roomKey);
+		redisTemplate.opsForZSet().remove(rankKey, articleId);
+		redisTemplate.opsForZSet().remove(RANK_ALL_KEY, categoryArticleId);
+		redisTemplate.opsForHash().delete("chat:reverse", "s1", "s2");
+		connectionFactory.destroy();
+	}
+
+	/**
+	 * 입장/퇴장마다 두 순위 점수가 세션 수와 같고, 같은 세션의 중복 입장은 점수를 올리지 않으며,
+	 * 마지막 세션이 퇴장하면 순위에서 빠지는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("입장과 퇴장은 순위 점수를 세션 수로 맞춤")
+	@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+	void 입장과_퇴장은_순위_점수를_세션_수로_맞춤() {
+		connect();
+		adapter.addSession(articleId, CATEGORY, "s1");
+		adapter.addSession(articleId, CATEGORY, "s2");
+		adapter.addSession(articleId, CATEGORY, "s2");
+
+		assertScores(2.0);
+
+		adapter.removeSession("s1");
+		assertScores(1.0);
+
+		adapter.removeSession("s2");
+		assertThat(redisTemplate.opsForZSet().score(rankKey, articleId)).isNull();
+		assertThat(redisTemplate.opsForZSet().score(RANK_ALL_KEY, categoryArticleId)).isNull();
+		assertThat(redisTemplate.hasKey(roomKey)).isFalse();
+	}
+
+	/**
+	 * 순위 도입 전부터 인원이 있어 점수가 없던 채팅방도 다음 입장/퇴장 시 실제 세션 수로 보정되어,
+	 * 인원이 남아 있는 동안 순위에서 빠지지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("순위 도입 전 인원이 있던 채팅방도 세션 수로 보정")
+	@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+	void 순위_도입_전_인원이_있던_채팅방도_세션_수로_보정() {
+		connect();
+		redisTemplate.opsForSet().add(roomKey, "legacy-1", "legacy-2");
+
+		adapter.addSession(articleId, CATEGORY, "s1");
+		assertScores(3.0);
+
+		adapter.removeSession("s1");
+		assertScores(2.0);
+	}
+
+	/**
+	 * CategoryType에 없는 카테고리(전체 순위 이름, 누락된 헤더, 리스 키 이름)는 순위·리스 키를 건드리지 않도록
+	 * 입장 스크립트를 실행하지 않고, 유효한 카테고리는 대소문자와 관계없이 소문자 카테고리 순위 키를 쓰는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("유효하지 않은 카테고리는 입장 스크립트를 실행하지 않음")
+	void 유효하지_않은_카테고리는_입장_스크립트를_실행하지_않음() {
+		RecordingRedisTemplate recordingTemplate = new RecordingRedisTemplate();
+		RedisChatSessionAdapter recordingAdapter = new RedisChatSessionAdapter(recordingTemplate, countPublisher());
+
+		recordingAdapter.addSession("KM1", "all", "s1");
+		recordingAdapter.addSession("KM1", null, "s1");
+		recordingAdapter.addSession("KM1", "broadcast-lease", "s1");
+		recordingAdapter.addSession("KM1", "ECONOMY", "s1");
+
+		assertThat(recordingTemplate.executedKeys).containsExactly(
+			List.of("chat:room:ECONOMY:KM1", "chat:reverse", "chat:rank:economy", RANK_ALL_KEY));
+		assertThat(recordingTemplate.executedArgs).containsExactly(List.of("s1", "ECONOMY:KM1", "KM1"));
+	}
+
+	private void connect() {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+			System.getenv("REDIS_HOST"), Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		configuration.setPassword(RedisPassword.of(System.getenv("REDIS_PASSWORD")));
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		adapter = new RedisChatSessionAdapter(redisTemplate, countPublisher());
+	}
+
+	private static ChatCountPublisher countPublisher() {
+		return new ChatCountPublisher(new SimpMessagingTemplate((message, timeout) -> true), new SimpleMeterRegistry());
+	}
+
+	private void assertScores(double expected) {
+		assertThat(redisTemplate.opsForZSet().score(rankKey, articleId)).isEqualTo(expected);
+		assertThat(redisTemplate.opsForZSet().score(RANK_ALL_KEY, categoryArticleId)).isEqualTo(expected);
+	}
+
+	/**
+	 * 스크립트 실행 시 키와 인자만 기록하는 가짜 RedisTemplate
+	 */
+	private static class RecordingRedisTemplate extends RedisTemplate<String, String> {
+		private final List<List<String>> executedKeys = new ArrayList<>();
+		private final List<List<Object>> executedArgs = new ArrayList<>();
+
+		@Override
+		public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+			executedKeys.add(keys);
+			executedArgs.add(Arrays.asList(args));
+			return null;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq.RedisShardNodeMembership.ShardNodeSlot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RabbitShardListenerContainers의 샤드 담당 우선순위 계산과 고정 노드 설정 검증을 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 샤드 리스너 컨테이너 테스트")
+class RabbitShardListenerContainersTest {
+
+	private static final int SHARD_COUNT = 8;
+
+	/**
+	 * 서버 수가 몇이든 샤드마다 정확히 한 서버만 높은 우선순위를 주어, 모든 샤드가 서버들에 나뉘는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("샤드마다 한 서버만 높은 우선순위")
+	void 샤드마다_한_서버만_높은_우선순위() {
+		for (int nodeCount = 1; nodeCount <= 4; nodeCount++) {
+			int count = nodeCount;
+			for (int shard = 0; shard < SHARD_COUNT; shard++) {
+				int currentShard = shard;
+				long preferred = IntStream.range(0, count)
+					.filter(index -> RabbitShardListenerContainers.priorityOf(currentShard, new ShardNodeSlot(index, count)) > 0)
+					.count();
+				assertThat(preferred).as("shard=%d, nodes=%d", shard, count).isEqualTo(1);
+			}
+		}
+	}
+
+	/**
+	 * 고정 설정에서 node-index가 node-count 범위를 벗어나면 시작하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("범위를 벗어난 고정 node-index는 시작 실패")
+	void 범위를_벗어난_고정_node_index는_시작_실패() {
+		assertThatThrownBy(() -> createContainers(2, 2)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> createContainers(-1, 2)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> createContainers(0, -1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatCode(() -> createContainers(1, 2)).doesNotThrowAnyException();
+		assertThatCode(() -> createContainers(0, 0)).doesNotThrowAnyException();
+	}
+
+	private static RabbitShardListenerContainers createContainers(int nodeIndex, int nodeCount) {
+		return new RabbitShardListenerContainers(null, null, null, null, new SimpleMeterRegistry(), null,
+			SHARD_COUNT, 50, nodeIndex, nodeCount);
+	}
+}
@@ -0,0 +1,95 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq.RedisShardNodeMembership.ShardNodeSlot;
+
+/**
+ * RedisShardNodeMembership이 살아 있는 서버마다 겹치지 않는 위치를 주고, 만료·종료된 서버를 목록에서 빼는지 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 샤드 서버 목록 테스트")
+class RedisShardNodeMembershipTest {
+
+	private final FakeRedisTemplate redisTemplate = new FakeRedisTemplate();
+
+	/**
+	 * 세 서버가 heartbeat하면 모두 같은 서버 수를 보고, 위치는 0부터 2까지 겹치지 않으며,
+	 * 한 서버가 종료하면 남은 서버가 두 자리로 다시 나누는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("살아 있는 서버마다 겹치지 않는 위치를 받음")
+	void 살아_있는_서버마다_겹치지_않는_위치를_받음() {
+		List<RedisShardNodeMembership> nodes = List.of(createMembership(), createMembership(), createMembership());
+		nodes.forEach(RedisShardNodeMembership::heartbeat);
+
+		List<ShardNodeSlot> slots = nodes.stream().map(RedisShardNodeMembership::heartbeat).toList();
+
+		assertThat(slots).extracting(ShardNodeSlot::count).containsOnly(3);
+		assertThat(slots).extracting(ShardNodeSlot::index).containsExactlyInAnyOrder(0, 1, 2);
+
+		nodes.getFirst().leave();
+
+		assertThat(nodes.subList(1, 3).stream().map(RedisShardNodeMembership::heartbeat).toList())
+			.extracting(ShardNodeSlot::index, ShardNodeSlot::count)
+			.containsExactlyInAnyOrder(tuple(0, 2), tuple(1, 2));
+	}
+
+	/**
+	 * heartbeat가 ttl보다 오래 끊긴 서버는 다음 heartbeat에서 목록에서 제거되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("heartbeat가 끊긴 서버는 목록에서 제거")
+	void heartbeat가_끊긴_서버는_목록에서_제거() {
+		redisTemplate.scores.put("crashed-node", (double) (System.currentTimeMillis() - 60_000));
+
+		ShardNodeSlot slot = createMembership().heartbeat();
+
+		assertThat(slot).isEqualTo(new ShardNodeSlot(0, 1));
+		assertThat(redisTemplate.scores).doesNotContainKey("crashed-node");
+	}
+
+	private RedisShardNodeMembership createMembership() {
+		return new RedisShardNodeMembership(redisTemplate, Duration.ofSeconds(30));
+	}
+
+	/**
+	 * 서버 목록 ZSET 하나를 메모리 맵으로 처리하는 가짜 RedisTemplate
+	 */
+	private static class FakeRedisTemplate extends RedisTemplate<String, String> {
+		private final Map<String, Double> scores = new ConcurrentHashMap<>();
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ZSetOperations<String, String> opsForZSet() {
+			return (ZSetOperations<String, String>) Proxy.newProxyInstance(
+				ZSetOperations.class.getClassLoader(),
+				new Class<?>[] {ZSetOperations.class},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "add" -> scores.put((String) args[1], (Double) args[2]) == null;
+					case "removeRangeByScore" -> {
+						double max = (Double) args[2];
+						long before = scores.size();
+						scores.values().removeIf(score -> score <= max);
+						yield before - scores.size();
+					}
+					case "range" -> new LinkedHashSet<>(scores.keySet());
+					case "remove" -> scores.remove((String) ((Object[]) args[1])[0]) == null ? 0L : 1L;
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+		}
+	}
+}
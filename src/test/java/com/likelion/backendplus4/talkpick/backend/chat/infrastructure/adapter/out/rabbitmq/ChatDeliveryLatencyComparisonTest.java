@@ -0,0 +1,203 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.rabbitmq;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.adapter.MessageListenerAdapter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatMessageBrokerPort;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.MessageType;
+import com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.in.rabbitmq.RabbitMessageListener;
+import com.likelion.backendplus4.talkpick.backend.chat.presentation.controller.dto.response.ChatMessageResponse;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.rabbitmq.ChatShardRouting;
+
+/**
+ * 채팅 메시지가 발행부터 STOMP 구독자 수신까지 걸리는 시간을 두 전달 방식으로 비교하는 테스트 클래스입니다.
+ * - amqp: 샤드 교환기 → 샤드 큐 → RabbitMessageListener → STOMP SEND(릴레이) → amq.topic → 구독자
+ * - direct: amq.topic → 구독자
+ * 실제 RabbitMQ(STOMP 플러그인 포함)가 필요하므로 RABBIT_MQ_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 메시지 전달 방식(amqp / direct) 지연 시간 비교 테스트")
+@EnabledIfEnvironmentVariable(named = "RABBIT_MQ_HOST", matches = ".+")
+class ChatDeliveryLatencyComparisonTest {
+
+	private static final int WARM_UP = 50;
+	private static final int MESSAGES = 500;
+	/** 실행 중인 서버의 샤드 큐와 겹치지 않도록 운영 샤드 수보다 훨씬 큰 샤드 수를 사용한다. */
+	private static final int BENCH_SHARD_COUNT = 1024;
+
+	private final String room = "BENCH" + UUID.randomUUID().toString().replace("-", "");
+	private final BlockingQueue<Long> latencies = new LinkedBlockingQueue<>();
+
+	private CachingConnectionFactory connectionFactory;
+	private ReactorNettyTcpStompClient stompClient;
+	private StompSession subscriberSession;
+	private StompSession relaySession;
+	private SimpleMessageListenerContainer shardContainer;
+
+	/**
+	 * RabbitMQ 연결, 구독자 STOMP 세션, 릴레이 역할의 STOMP 세션과 샤드 리스너를 준비합니다.
+	 */
+	@BeforeEach
+	void setUp() throws Exception {
+		String host = System.getenv("RABBIT_MQ_HOST");
+		connectionFactory = new CachingConnectionFactory(host, Integer.parseInt(env("RABBIT_MQ_PORT", "5672")));
+		connectionFactory.setUsername(env("RABBIT_MQ_USERNAME", "guest"));
+		connectionFactory.setPassword(env("RABBIT_MQ_PASSWORD", "guest"));
+
+		stompClient = new ReactorNettyTcpStompClient(host, Integer.parseInt(env("RABBIT_MQ_STOMP_PORT", "61613")));
+		stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+		subscriberSession = connectStomp();
+		relaySession = connectStomp();
+		subscriberSession.subscribe("/topic/chat." + room, new LatencyRecorder());
+
+		RabbitAdmin rabbitAdmin = new RabbitAdmin(connectionFactory);
+		DirectExchange shardExchange = ExchangeBuilder.directExchange(ChatShardRouting.SHARD_EXCHANGE_NAME)
+			.durable(true)
+			.build();
+		Queue shardQueue = new AnonymousQueue();
+		rabbitAdmin.declareExchange(shardExchange);
+		rabbitAdmin.declareQueue(shardQueue);
+		rabbitAdmin.declareBinding(BindingBuilder.bind(shardQueue)
+			.to(shardExchange)
+			.with(ChatShardRouting.routingKey(ChatShardRouting.shardOf(room, BENCH_SHARD_COUNT))));
+
+		RabbitMessageListener listener = new RabbitMessageListener(
+			(articleId, message) -> relaySession.send("/topic/chat." + articleId, message));
+		MessageListenerAdapter listenerAdapter = new MessageListenerAdapter(listener, new Jackson2JsonMessageConverter());
+		listenerAdapter.setDefaultListenerMethod("receiveMessage");
+		shardContainer = new SimpleMessageListenerContainer(connectionFactory);
+		shardContainer.setQueues(shardQueue);
+		shardContainer.setMessageListener(listenerAdapter);
+		shardContainer.afterPropertiesSet();
+		shardContainer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardContainer.destroy();
+		subscriberSession.disconnect();
+		relaySession.disconnect();
+		stompClient.shutdown();
+		connectionFactory.destroy();
+	}
+
+	/**
+	 * 같은 채팅방으로 메시지를 한 건씩 보내고 구독자가 받을 때까지의 시간을 방식별로 측정해
+	 * amq.topic 직접 발행이 브로커 왕복 한 번을 줄여 더 빠른지 확인합니다.
+	 */
+	@Test
+	@DisplayName("amq.topic 직접 발행은 샤드 큐 경유보다 지연 시간이 짧음")
+	void amq_topic_직접_발행은_샤드_큐_경유보다_지연_시간이_짧음() throws Exception {
+		RabbitTemplate amqpTemplate = new RabbitTemplate(connectionFactory);
+		amqpTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+		ChatMessageBrokerPort amqpDelivery = new RabbitChatMessageBrokerAdapter(amqpTemplate, BENCH_SHARD_COUNT);
+		ChatMessageBrokerPort directDelivery = new RabbitStompTopicBrokerAdapter(
+			new RabbitTemplate(connectionFactory), JsonMapper.builder().findAndAddModules().build());
+
+		measure(amqpDelivery, WARM_UP);
+		measure(directDelivery, WARM_UP);
+		List<Long> amqpMicros = measure(amqpDelivery, MESSAGES);
+		List<Long> directMicros = measure(directDelivery, MESSAGES);
+
+		String report = String.format("messages=%d, amqp p50=%dus p99=%dus, direct p50=%dus p99=%dus",
+			MESSAGES, percentile(amqpMicros, 50), percentile(amqpMicros, 99),
+			percentile(directMicros, 50), percentile(directMicros, 99));
+
+		assertThat(amqpMicros).as(report).hasSize(MESSAGES);
+		assertThat(directMicros).as(report).hasSize(MESSAGES);
+		assertThat(percentile(directMicros, 50)).as(report).isLessThan(percentile(amqpMicros, 50));
+	}
+
+	private List<Long> measure(ChatMessageBrokerPort delivery, int count) throws InterruptedException {
+		List<Long> micros = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			delivery.deliverChatToArticle(room, message());
+			Long latency = latencies.poll(5, TimeUnit.SECONDS);
+			assertThat(latency).as("구독자가 메시지를 받지 못했습니다.").isNotNull();
+			micros.add(TimeUnit.NANOSECONDS.toMicros(latency));
+		}
+		return micros;
+	}
+
+	private ChatMessage message() {
+		return ChatMessage.builder()
+			.articleId(room)
+			.sender("bench")
+			.content(String.valueOf(System.nanoTime()))
+			.timestamp(LocalDateTime.now())
+			.messageType(MessageType.CHAT)
+			.build();
+	}
+
+	private StompSession connectStomp() throws Exception {
+		StompHeaders headers = new StompHeaders();
+		headers.setLogin(env("RABBIT_MQ_USERNAME", "guest"));
+		headers.setPasscode(env("RABBIT_MQ_PASSWORD", "guest"));
+		headers.setHost("/");
+		return stompClient.connectAsync(headers, new StompSessionHandlerAdapter() {
+		}).get(5, TimeUnit.SECONDS);
+	}
+
+	private static long percentile(List<Long> values, int percentile) {
+		List<Long> sorted = new ArrayList<>(values);
+		Collections.sort(sorted);
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+		return sorted.get(Math.max(0, index));
+	}
+
+	private static String env(String name, String defaultValue) {
+		return System.getenv().getOrDefault(name, defaultValue);
+	}
+
+	/**
+	 * 수신한 메시지 내용(발행 시각)과 현재 시각의 차이를 기록합니다.
+	 */
+	private class LatencyRecorder implements StompFrameHandler {
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return ChatMessageResponse.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			long sentAt = Long.parseLong(((ChatMessageResponse) payload).content());
+			latencies.add(System.nanoTime() - sentAt);
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.MessageType;
+
+/**
+ * 최근 메시지 리스트와 채팅방 스트림을 함께 쓰는 방식(list 모드)과 스트림만 쓰는 방식(stream 모드)의
+ * Redis 메모리 사용량(MEMORY USAGE)을 비교하고, 스트림 기반 이력 조회가 동작하는지 확인하는 테스트 클래스입니다.
+ * 실제 Redis 7 이상이 필요하므로 REDIS_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 이력 캐시 list / stream 메모리 비교 테스트")
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RedisChatHistoryMemoryComparisonTest {
+
+	private static final int MESSAGES = 1000;
+	private static final int MAX_CACHE_SIZE = 100;
+	private static final int PAGE_SIZE = 50;
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final String listRoom = "BENCH" + UUID.randomUUID();
+	private final String streamRoom = "BENCH" + UUID.randomUUID();
+	private final String persistStreamKey = "chat:stream:persist:bench:" + UUID.randomUUID();
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+
+	/**
+	 * 각 테스트 실행 전 REDIS_HOST, REDIS_PORT, REDIS_PASSWORD로 Redis 연결을 초기화합니다.
+	 */
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+			System.getenv("REDIS_HOST"), Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		configuration.setPassword(RedisPassword.of(System.getenv("REDIS_PASSWORD")));
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.delete(List.of(listKey(listRoom), hasNextKey(listRoom), streamKey(listRoom),
+			listKey(streamRoom), hasNextKey(streamRoom), streamKey(streamRoom), persistStreamKey));
+		connectionFactory.destroy();
+	}
+
+	/**
+	 * 같은 메시지를 두 방식으로 기록한 뒤 채팅방별 키의 메모리 합계를 비교하고,
+	 * 스트림만으로 최근 메시지와 이전 페이지를 조회할 수 있는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("stream 모드는 리스트 없이 더 적은 메모리로 이력을 제공")
+	void stream_모드는_리스트_없이_더_적은_메모리로_이력을_제공() {
+		RedisChatMessageAppendAdapter listWriter = appendAdapter(true);
+		RedisChatMessageAppendAdapter streamWriter = appendAdapter(false);
+		for (int i = 0; i < MESSAGES; i++) {
+			listWriter.append(message(listRoom, i), MAX_CACHE_SIZE);
+			streamWriter.append(message(streamRoom, i), MAX_CACHE_SIZE);
+		}
+
+		long listModeBytes = memoryUsage(listKey(listRoom)) + memoryUsage(hasNextKey(listRoom))
+			+ memoryUsage(streamKey(listRoom));
+		long streamModeBytes = memoryUsage(streamKey(streamRoom));
+		String report = String.format("messages=%d, list+stream=%d bytes, stream only=%d bytes",
+			MESSAGES, listModeBytes, streamModeBytes);
+
+		assertThat(redisTemplate.hasKey(listKey(streamRoom))).as(report).isFalse();
+		assertThat(streamModeBytes).as(report).isLessThan(listModeBytes);
+
+		RedisStreamChatMessageCacheAdapter history = new RedisStreamChatMessageCacheAdapter(redisTemplate, objectMapper);
+		List<ChatMessage> recent = history.getRecentMessages(streamRoom, MAX_CACHE_SIZE);
+		assertThat(recent).hasSize(MAX_CACHE_SIZE);
+		assertThat(recent.getFirst().getContent()).isEqualTo("message " + (MESSAGES - 1));
+		assertThat(history.getHasNextFlag(streamRoom)).isTrue();
+
+		LocalDateTime before = recent.getLast().getTimestamp();
+		Slice<ChatMessage> older = history.findMessagesBefore(streamRoom, before, PAGE_SIZE).orElseThrow();
+		assertThat(older.getContent()).hasSize(PAGE_SIZE)
+			.allSatisfy(message -> assertThat(message.getTimestamp()).isBefore(before));
+		assertThat(older.hasNext()).isTrue();
+	}
+
+	private RedisChatMessageAppendAdapter appendAdapter(boolean writeList) {
+		return new RedisChatMessageAppendAdapter(redisTemplate, objectMapper, persistStreamKey, 100_000L, writeList);
+	}
+
+	private long memoryUsage(String key) {
+		Long bytes = redisTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute("MEMORY",
+			"USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8),
+			"SAMPLES".getBytes(StandardCharsets.UTF_8), "0".getBytes(StandardCharsets.UTF_8)));
+		return null == bytes ? 0 : bytes;
+	}
+
+	private ChatMessage message(String articleId, int sequence) {
+		return ChatMessage.builder()
+			.articleId(articleId)
+			.sender("sender-" + sequence % 10)
+			.content("message " + sequence)
+			.timestamp(LocalDateTime.now())
+			.messageType(MessageType.CHAT)
+			.build();
+	}
+
+	private static String listKey(String articleId) {
+		return "chat:list:" + articleId + ":messages";
+	}
+
+	private static String hasNextKey(String articleId) {
+		return "chat:list:" + articleId + ":hasNext";
+	}
+
+	private static String streamKey(String articleId) {
+		return "chat:stream:" + articleId;
+	}
+}
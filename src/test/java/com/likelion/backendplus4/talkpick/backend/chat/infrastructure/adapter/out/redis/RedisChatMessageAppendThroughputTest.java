@@ -0,0 +1,174 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.MessageType;
+
+/**
+ * 하나의 인기 채팅방에 여러 발신자가 동시에 메시지를 보낼 때,
+ * 명령별 왕복 방식(LPUSH/LTRIM/EXPIRE/GET/XADD/XTRIM/EXPIRE/XADD)과 Lua 스크립트 한 번 방식의 처리량을 비교하는 테스트 클래스입니다.
+ * 실제 Redis가 필요하므로 REDIS_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 메시지 전송 Redis 기록 처리량 비교 테스트")
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RedisChatMessageAppendThroughputTest {
+
+	private static final int SENDERS = 64;
+	private static final int MESSAGES_PER_SENDER = 200;
+	private static final int MAX_CACHE_SIZE = 100;
+	private static final long MAX_STREAM_SIZE = 1000L;
+	private static final Duration TTL = Duration.ofDays(3);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final String articleId = "BENCH" + UUID.randomUUID();
+	private final String persistStreamKey = "chat:stream:persist:bench:" + articleId;
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RedisChatMessageAppendAdapter adapter;
+
+	/**
+	 * 각 테스트 실행 전 REDIS_HOST, REDIS_PORT, REDIS_PASSWORD로 Redis 연결과 어댑터를 초기화합니다.
+	 */
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+			System.getenv("REDIS_HOST"), Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		configuration.setPassword(RedisPassword.of(System.getenv("REDIS_PASSWORD")));
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		adapter = new RedisChatMessageAppendAdapter(redisTemplate, objectMapper, persistStreamKey, 100_000L, true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleteKeys();
+		connectionFactory.destroy();
+	}
+
+	/**
+	 * 같은 부하에서 두 방식을 차례로 실행해 처리량을 비교하고, Lua 방식의 결과 상태가 기존 방식과 같은지 확인합니다.
+	 */
+	@Test
+	@DisplayName("Lua 스크립트 한 번 방식이 명령별 왕복 방식보다 처리량이 높음")
+	void Lua_스크립트_방식이_명령별_왕복_방식보다_처리량이_높음() throws Exception {
+		double before = measure(this::legacySend);
+		deleteKeys();
+		double after = measure(message -> adapter.append(message, MAX_CACHE_SIZE));
+
+		String report = String.format("senders=%d, messages=%d, before=%.0f msg/s, after=%.0f msg/s",
+			SENDERS, SENDERS * MESSAGES_PER_SENDER, before, after);
+
+		assertThat(redisTemplate.opsForList().size(listKey())).as(report).isEqualTo(MAX_CACHE_SIZE);
+		assertThat(redisTemplate.opsForValue().get(hasNextKey())).as(report).isEqualTo("true");
+		assertThat(redisTemplate.opsForStream().size(streamKey())).as(report).isEqualTo(MAX_STREAM_SIZE);
+		assertThat(redisTemplate.opsForStream().size(persistStreamKey)).as(report)
+			.isEqualTo((long) SENDERS * MESSAGES_PER_SENDER);
+		assertThat(after).as(report).isGreaterThan(before);
+	}
+
+	/**
+	 * 발신자마다 가상 스레드에서 메시지를 보내고 초당 처리 메시지 수를 반환합니다.
+	 */
+	private double measure(Consumer<ChatMessage> send) throws Exception {
+		long start = System.nanoTime();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int sender = 0; sender < SENDERS; sender++) {
+				String name = "sender-" + sender;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < MESSAGES_PER_SENDER; i++) {
+						send.accept(message(name, i));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		return SENDERS * MESSAGES_PER_SENDER / seconds;
+	}
+
+	/**
+	 * 단일 스크립트 도입 전 RedisChatMessageCacheAdapter.cache와 RedisStreamAdapter.cacheToStream이 수행하던 명령 순서입니다.
+	 */
+	private void legacySend(ChatMessage message) {
+		String listJson = toJson(message);
+		Long size = redisTemplate.opsForList().leftPush(listKey(), listJson);
+		redisTemplate.opsForList().trim(listKey(), 0, MAX_CACHE_SIZE - 1);
+		redisTemplate.expire(listKey(), TTL);
+		boolean hasNext = Boolean.parseBoolean(redisTemplate.opsForValue().get(hasNextKey()));
+		if (!hasNext && size != null && size > MAX_CACHE_SIZE) {
+			redisTemplate.opsForValue().set(hasNextKey(), "true", TTL);
+		}
+
+		String streamJson = toJson(message);
+		redisTemplate.opsForStream().add(StreamRecords.mapBacked(Map.of("payload", streamJson)).withStreamKey(streamKey()));
+		redisTemplate.opsForStream().trim(streamKey(), MAX_STREAM_SIZE);
+		redisTemplate.expire(streamKey(), TTL);
+		redisTemplate.opsForStream().add(StreamRecords.mapBacked(Map.of("payload", streamJson)).withStreamKey(persistStreamKey));
+	}
+
+	private ChatMessage message(String sender, int sequence) {
+		return ChatMessage.builder()
+			.articleId(articleId)
+			.sender(sender)
+			.content("message " + sequence)
+			.timestamp(LocalDateTime.now())
+			.messageType(MessageType.CHAT)
+			.build();
+	}
+
+	private String toJson(ChatMessage message) {
+		try {
+			return objectMapper.writeValueAsString(message);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void deleteKeys() {
+		redisTemplate.delete(List.of(listKey(), hasNextKey(), streamKey(), persistStreamKey));
+	}
+
+	private String listKey() {
+		return "chat:list:" + articleId + ":messages";
+	}
+
+	private String hasNextKey() {
+		return "chat:list:" + articleId + ":hasNext";
+	}
+
+	private String streamKey() {
+		return "chat:stream:" + articleId;
+	}
+}
@@ -0,0 +1,187 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.adapter.out.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.ChatMessage;
+import com.likelion.backendplus4.talkpick.backend.chat.domain.model.MessageType;
+
+/**
+ * RedisChatStreamCatchUpAdapter가 XRANGE 결과로 차분 응답과 전체 페이지 대체를 구분하는지 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 스트림 재연결 차분 조회 어댑터 테스트")
+class RedisChatStreamCatchUpAdapterTest {
+
+	private static final String ARTICLE_ID = "KM1";
+	private static final String LAST_STREAM_ID = "1717650000000-0";
+	private static final int LIMIT = 3;
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final FakeRedisTemplate redisTemplate = new FakeRedisTemplate();
+	private final RedisChatStreamCatchUpAdapter adapter = new RedisChatStreamCatchUpAdapter(redisTemplate, objectMapper);
+
+	/**
+	 * 마지막 엔트리부터 limit + 2개를 포함 범위로 조회하고, 그 뒤 엔트리들을 최신순으로 돌려주는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("마지막 엔트리가 남아 있으면 이후 메시지만 최신순으로 반환")
+	void 마지막_엔트리가_남아_있으면_이후_메시지만_최신순으로_반환() {
+		redisTemplate.records = List.of(
+			record(LAST_STREAM_ID, "받은 메시지"),
+			record("1717650000001-0", "놓친 메시지 1"),
+			record("1717650000002-0", "놓친 메시지 2"));
+
+		Optional<List<ChatMessage>> result = adapter.findMessagesAfter(ARTICLE_ID, LAST_STREAM_ID, LIMIT);
+
+		assertThat(result).hasValueSatisfying(messages -> {
+			assertThat(messages).extracting(ChatMessage::getContent).containsExactly("놓친 메시지 2", "놓친 메시지 1");
+			assertThat(messages).extracting(ChatMessage::getStreamId)
+				.containsExactly("1717650000002-0", "1717650000001-0");
+		});
+		assertThat(redisTemplate.keys).containsExactly("chat:stream:" + ARTICLE_ID);
+		assertThat(redisTemplate.ranges).singleElement().satisfies(range -> {
+			assertThat(range.getLowerBound().getValue()).contains(LAST_STREAM_ID);
+			assertThat(range.getLowerBound().isInclusive()).isTrue();
+			assertThat(range.getUpperBound().isBounded()).isFalse();
+		});
+		assertThat(redisTemplate.limits).singleElement().extracting(Limit::getCount).isEqualTo(LIMIT + 2);
+	}
+
+	/**
+	 * 놓친 메시지가 정확히 limit개이면 잘리지 않은 차분이므로 그대로 반환하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("놓친 메시지가 limit개이면 차분으로 반환")
+	void 놓친_메시지가_limit개이면_차분으로_반환() {
+		List<MapRecord<String, Object, Object>> records = new ArrayList<>();
+		records.add(record(LAST_STREAM_ID, "받은 메시지"));
+		for (int i = 1; i <= LIMIT; i++) {
+			records.add(record("171765000000" + i + "-0", "놓친 메시지 " + i));
+		}
+		redisTemplate.records = records;
+
+		Optional<List<ChatMessage>> result = adapter.findMessagesAfter(ARTICLE_ID, LAST_STREAM_ID, LIMIT);
+
+		assertThat(result).hasValueSatisfying(messages -> assertThat(messages).hasSize(LIMIT));
+	}
+
+	/**
+	 * 놓친 메시지가 limit개를 넘으면 차분이 잘리므로 전체 페이지로 대체하도록 빈 Optional을 반환하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("놓친 메시지가 limit개를 넘으면 전체 페이지로 대체")
+	void 놓친_메시지가_limit개를_넘으면_전체_페이지로_대체() {
+		List<MapRecord<String, Object, Object>> records = new ArrayList<>();
+		records.add(record(LAST_STREAM_ID, "받은 메시지"));
+		for (int i = 1; i <= LIMIT + 1; i++) {
+			records.add(record("171765000000" + i + "-0", "놓친 메시지 " + i));
+		}
+		redisTemplate.records = records;
+
+		assertThat(adapter.findMessagesAfter(ARTICLE_ID, LAST_STREAM_ID, LIMIT)).isEmpty();
+	}
+
+	/**
+	 * 마지막으로 받은 엔트리가 트리밍되어 첫 레코드가 다른 ID이면 빠진 메시지가 있을 수 있으므로 전체 페이지로 대체하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("마지막 엔트리가 트리밍되었으면 전체 페이지로 대체")
+	void 마지막_엔트리가_트리밍되었으면_전체_페이지로_대체() {
+		redisTemplate.records = List.of(
+			record("1717650000005-0", "트리밍 이후 메시지 1"),
+			record("1717650000006-0", "트리밍 이후 메시지 2"));
+
+		assertThat(adapter.findMessagesAfter(ARTICLE_ID, LAST_STREAM_ID, LIMIT)).isEmpty();
+	}
+
+	/**
+	 * 스트림이 비었거나 만료되어 조회 결과가 없으면 전체 페이지로 대체하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("스트림이 비었으면 전체 페이지로 대체")
+	void 스트림이_비었으면_전체_페이지로_대체() {
+		redisTemplate.records = List.of();
+
+		assertThat(adapter.findMessagesAfter(ARTICLE_ID, LAST_STREAM_ID, LIMIT)).isEmpty();
+	}
+
+	/**
+	 * 스트림 엔트리 ID 형식이 아니거나 없는 lastStreamId는 Redis를 조회하지 않고 전체 페이지로 대체하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("잘못된 lastStreamId는 조회 없이 전체 페이지로 대체")
+	void 잘못된_lastStreamId는_조회_없이_전체_페이지로_대체() {
+		assertThat(adapter.findMessagesAfter(ARTICLE_ID, null, LIMIT)).isEmpty();
+		assertThat(adapter.findMessagesAfter(ARTICLE_ID, "1717650000000", LIMIT)).isEmpty();
+		assertThat(adapter.findMessagesAfter(ARTICLE_ID, "+", LIMIT)).isEmpty();
+		assertThat(adapter.findMessagesAfter(ARTICLE_ID, "0-0) OR 1", LIMIT)).isEmpty();
+
+		assertThat(redisTemplate.ranges).isEmpty();
+	}
+
+	private MapRecord<String, Object, Object> record(String id, String content) {
+		ChatMessage message = ChatMessage.builder()
+			.articleId(ARTICLE_ID)
+			.sender("tester")
+			.content(content)
+			.timestamp(LocalDateTime.of(2025, 6, 6, 12, 0))
+			.messageType(MessageType.CHAT)
+			.build();
+		try {
+			return StreamRecords.newRecord()
+				.in("chat:stream:" + ARTICLE_ID)
+				.withId(RecordId.of(id))
+				.ofMap(Map.<Object, Object>of("payload", objectMapper.writeValueAsString(message)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * XRANGE 호출 인자를 기록하고 미리 정한 레코드를 돌려주는 가짜 RedisTemplate
+	 */
+	private static class FakeRedisTemplate extends RedisTemplate<String, String> {
+		private final List<String> keys = new ArrayList<>();
+		private final List<Range<String>> ranges = new ArrayList<>();
+		private final List<Limit> limits = new ArrayList<>();
+		private List<MapRecord<String, Object, Object>> records = List.of();
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <HK, HV> StreamOperations<String, HK, HV> opsForStream() {
+			return (StreamOperations<String, HK, HV>) Proxy.newProxyInstance(
+				StreamOperations.class.getClassLoader(),
+				new Class<?>[] {StreamOperations.class},
+				(proxy, method, args) -> {
+					if (!"range".equals(method.getName()) || args.length != 3) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					keys.add((String) args[0]);
+					ranges.add((Range<String>) args[1]);
+					limits.add((Limit) args[2]);
+					return records;
+				});
+		}
+	}
+}
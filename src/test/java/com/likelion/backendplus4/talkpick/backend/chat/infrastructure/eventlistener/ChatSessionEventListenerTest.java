@@ -0,0 +1,131 @@
+package com.likelion.backendplus4.talkpick.backend.chat.infrastructure.eventlistener;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.likelion.backendplus4.talkpick.backend.chat.application.port.out.ChatSessionPort;
+
+/**
+ * ChatSessionEventListener가 채팅방 토픽 구독과 그 구독의 해제만으로 채팅방 세션을 등록·제거하는지 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 세션 이벤트 리스너 테스트")
+class ChatSessionEventListenerTest {
+
+	private static final String SESSION_ID = "session-1";
+
+	private final FakeChatSessionPort chatSessionPort = new FakeChatSessionPort();
+	private final ChatSessionEventListener listener = new ChatSessionEventListener(chatSessionPort);
+
+	/**
+	 * 채팅방 토픽 구독은 세션으로 등록되고, 그 구독 ID의 해제 시에만 세션이 제거되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("채팅방 구독 ID의 해제만 세션을 제거")
+	void 채팅방_구독_ID의_해제만_세션을_제거() {
+		listener.handleSessionSubscribe(subscribe("sub-0", "/topic/chat.KM1", "ECONOMY"));
+		listener.handleSessionSubscribe(subscribe("sub-1", "/topic/chat.ECONOMY:KM1.count", null));
+		listener.handleSessionSubscribe(subscribe("sub-2", "/app/chat.catchUp.KM1", null));
+
+		listener.handleSessionUnsubscribe(unsubscribe("sub-1"));
+		listener.handleSessionUnsubscribe(unsubscribe("sub-2"));
+
+		assertThat(chatSessionPort.added).containsExactly("ECONOMY:KM1:" + SESSION_ID);
+		assertThat(chatSessionPort.removed).isEmpty();
+
+		listener.handleSessionUnsubscribe(unsubscribe("sub-0"));
+		listener.handleSessionUnsubscribe(unsubscribe("sub-0"));
+
+		assertThat(chatSessionPort.removed).containsExactly(SESSION_ID);
+	}
+
+	/**
+	 * 인기 순위 토픽 구독은 채팅방으로 오인되어 세션 등록이나 역참조를 덮어쓰지 않고,
+	 * 이후 그 구독의 해제가 채팅방 세션을 제거하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("인기 순위 토픽 구독은 채팅방 세션으로 등록하지 않음")
+	void 인기_순위_토픽_구독은_채팅방_세션으로_등록하지_않음() {
+		listener.handleSessionSubscribe(subscribe("sub-0", "/topic/chat.KM1", "ECONOMY"));
+		listener.handleSessionSubscribe(subscribe("sub-1", "/topic/chat.rank.economy", null));
+		listener.handleSessionSubscribe(subscribe("sub-2", "/topic/chat.rank.all", null));
+
+		listener.handleSessionUnsubscribe(unsubscribe("sub-1"));
+
+		assertThat(chatSessionPort.added).containsExactly("ECONOMY:KM1:" + SESSION_ID);
+		assertThat(chatSessionPort.removed).isEmpty();
+	}
+
+	/**
+	 * 연결 종료 시에는 구독 해제 여부와 관계없이 세션이 제거되고, 이후 늦게 도착한 해제가 다시 제거하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("연결 종료는 항상 세션을 제거")
+	void 연결_종료는_항상_세션을_제거() {
+		listener.handleSessionSubscribe(subscribe("sub-0", "/topic/chat.KM1", "ECONOMY"));
+
+		listener.handleDisconnect(new SessionDisconnectEvent(this, message(StompHeaderAccessor.create(StompCommand.DISCONNECT)),
+			SESSION_ID, CloseStatus.NORMAL));
+		listener.handleSessionUnsubscribe(unsubscribe("sub-0"));
+
+		assertThat(chatSessionPort.removed).containsExactly(SESSION_ID);
+	}
+
+	private SessionSubscribeEvent subscribe(String subscriptionId, String destination, String category) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination(destination);
+		if (category != null) {
+			accessor.setNativeHeader("category", category);
+		}
+		return new SessionSubscribeEvent(this, message(accessor));
+	}
+
+	private SessionUnsubscribeEvent unsubscribe(String subscriptionId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+		accessor.setSubscriptionId(subscriptionId);
+		return new SessionUnsubscribeEvent(this, message(accessor));
+	}
+
+	private Message<byte[]> message(StompHeaderAccessor accessor) {
+		accessor.setSessionId(SESSION_ID);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	/**
+	 * 등록·제거 호출을 기록하는 가짜 ChatSessionPort
+	 */
+	private static class FakeChatSessionPort implements ChatSessionPort {
+		private final List<String> added = new ArrayList<>();
+		private final List<String> removed = new ArrayList<>();
+
+		@Override
+		public void addSession(String articleId, String category, String sessionId) {
+			added.add(category + ":" + articleId + ":" + sessionId);
+		}
+
+		@Override
+		public void removeSession(String sessionId) {
+			removed.add(sessionId);
+		}
+
+		@Override
+		public int getSessionCount(String articleId) {
+			return 0;
+		}
+	}
+}
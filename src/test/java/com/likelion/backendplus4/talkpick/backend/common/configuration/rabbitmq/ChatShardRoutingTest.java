@@ -0,0 +1,38 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.rabbitmq;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ChatShardRouting의 articleId 샤드 계산을 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("채팅 샤드 라우팅 테스트")
+class ChatShardRoutingTest {
+
+	private static final int SHARD_COUNT = 8;
+
+	/**
+	 * 같은 채팅방은 항상 같은 샤드로 가고, 채팅방들이 모든 샤드에 고르게 나뉘는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("같은 채팅방은 같은 샤드로, 채팅방들은 모든 샤드에 고르게 분산")
+	void 같은_채팅방은_같은_샤드로_채팅방들은_모든_샤드에_고르게_분산() {
+		Map<Integer, Integer> rooms = new HashMap<>();
+		for (int i = 0; i < 8000; i++) {
+			String articleId = "KM" + i;
+			int shard = ChatShardRouting.shardOf(articleId, SHARD_COUNT);
+			assertThat(shard).isBetween(0, SHARD_COUNT - 1).isEqualTo(ChatShardRouting.shardOf(articleId, SHARD_COUNT));
+			rooms.merge(shard, 1, Integer::sum);
+		}
+
+		assertThat(rooms).hasSize(SHARD_COUNT);
+		assertThat(rooms.values()).allSatisfy(count -> assertThat(count).isBetween(800, 1200));
+	}
+}
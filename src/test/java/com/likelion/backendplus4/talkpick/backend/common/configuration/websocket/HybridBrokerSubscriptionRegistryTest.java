@@ -0,0 +1,250 @@
+package com.likelion.backendplus4.talkpick.backend.common.configuration.websocket;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * HybridBrokerSubscriptionRegistry가 서버당 토픽마다 바인딩을 하나만 유지하는지 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("hybrid 브로커 구독 참조 카운트 테스트")
+class HybridBrokerSubscriptionRegistryTest {
+
+	private final CachingConnectionFactory connectionFactory = new CachingConnectionFactory("localhost");
+	private final FakeRabbitAdmin rabbitAdmin = new FakeRabbitAdmin(connectionFactory);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor();
+	private final HybridBrokerSubscriptionRegistry registry = new HybridBrokerSubscriptionRegistry(
+		rabbitAdmin, connectionFactory, new AnonymousQueue(), meterRegistry, reconciler, Duration.ofMillis(10));
+
+	@AfterEach
+	void tearDown() {
+		registry.shutdown();
+	}
+
+	/**
+	 * 여러 세션이 같은 채팅방을 구독해도 바인딩은 첫 구독에서 한 번만 만들고,
+	 * 마지막 구독이 해제·종료될 때 한 번만 제거하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("같은 토픽의 구독은 첫 구독에 바인딩하고 마지막 해제에 제거")
+	void 같은_토픽의_구독은_첫_구독에_바인딩하고_마지막_해제에_제거() throws Exception {
+		registry.handleSubscribe(subscribe("s1", "sub-0", "/topic/chat.KM1"));
+		registry.handleSubscribe(subscribe("s2", "sub-0", "/topic/chat.KM1"));
+		registry.handleSubscribe(subscribe("s2", "sub-1", "/topic/chat.ECONOMY:KM1.count"));
+		registry.handleSubscribe(subscribe("s3", "sub-0", "/app/chat.catchUp.KM1"));
+		awaitReconciled();
+
+		assertThat(rabbitAdmin.declared).containsExactly("chat.KM1", "chat.ECONOMY:KM1.count");
+		assertThat(meterRegistry.get("websocket_hybrid_local_subscriptions").gauge().value()).isEqualTo(3);
+
+		registry.handleUnsubscribe(unsubscribe("s1", "sub-0"));
+		awaitReconciled();
+		assertThat(rabbitAdmin.removed).isEmpty();
+
+		registry.handleDisconnect(new SessionDisconnectEvent(this, message(StompHeaderAccessor.create(StompCommand.DISCONNECT)),
+			"s2", CloseStatus.NORMAL));
+		awaitReconciled();
+
+		assertThat(rabbitAdmin.removed).containsExactlyInAnyOrder("chat.KM1", "chat.ECONOMY:KM1.count");
+		assertThat(meterRegistry.get("websocket_hybrid_upstream_bindings").gauge().value()).isZero();
+		assertThat(meterRegistry.get("websocket_hybrid_local_subscriptions").gauge().value()).isZero();
+	}
+
+	/**
+	 * 여러 스레드가 같은 토픽을 동시에 구독·해제해도 바인딩 선언과 제거가 번갈아 한 번씩만 일어나고,
+	 * 최종 바인딩 상태가 남은 구독과 일치하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("같은 토픽 동시 구독·해제에도 바인딩이 중복되거나 누락되지 않음")
+	void 같은_토픽_동시_구독_해제에도_바인딩이_중복되거나_누락되지_않음() throws Exception {
+		int threads = 8;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			String sessionId = "s" + t;
+			futures.add(pool.submit(() -> {
+				start.await();
+				for (int i = 0; i < 200; i++) {
+					registry.handleSubscribe(subscribe(sessionId, "sub-0", "/topic/chat.KM1"));
+					registry.handleUnsubscribe(unsubscribe(sessionId, "sub-0"));
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		registry.handleSubscribe(subscribe("keeper", "sub-0", "/topic/chat.KM1"));
+		awaitReconciled();
+
+		List<String> operations = rabbitAdmin.operations();
+		assertThat(operations).isNotEmpty().startsWith("bind:chat.KM1").endsWith("bind:chat.KM1");
+		for (int i = 1; i < operations.size(); i++) {
+			assertThat(operations.get(i)).isNotEqualTo(operations.get(i - 1));
+		}
+		assertThat(meterRegistry.get("websocket_hybrid_upstream_bindings").gauge().value()).isEqualTo(1);
+		assertThat(meterRegistry.get("websocket_hybrid_local_subscriptions").gauge().value()).isEqualTo(1);
+	}
+
+	/**
+	 * 바인딩 선언이 실패하면 구독 이벤트 스레드로 예외를 던지지 않고, 지연 후 다시 시도해 결국 바인딩하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("바인딩 선언이 실패하면 재시도해 바인딩")
+	void 바인딩_선언이_실패하면_재시도해_바인딩() throws Exception {
+		rabbitAdmin.bindFailures.set(2);
+
+		registry.handleSubscribe(subscribe("s1", "sub-0", "/topic/chat.KM1"));
+
+		awaitUntil(() -> rabbitAdmin.declared.contains("chat.KM1"));
+		assertThat(rabbitAdmin.bindAttempts.get()).isEqualTo(3);
+		assertThat(meterRegistry.get("websocket_hybrid_upstream_bindings").gauge().value()).isEqualTo(1);
+	}
+
+	/**
+	 * 브로커 재연결 시 자동 삭제된 노드 큐를 다시 선언하고, 구독 중인 토픽을 모두 다시 바인딩하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("재연결 시 노드 큐를 다시 선언하고 활성 토픽을 재바인딩")
+	void 재연결_시_노드_큐를_다시_선언하고_활성_토픽을_재바인딩() throws Exception {
+		registry.handleSubscribe(subscribe("s1", "sub-0", "/topic/chat.KM1"));
+		registry.handleSubscribe(subscribe("s1", "sub-1", "/topic/chat.ECONOMY:KM1.count"));
+		registry.handleSubscribe(subscribe("s2", "sub-0", "/topic/chat.KM2"));
+		registry.handleUnsubscribe(unsubscribe("s2", "sub-0"));
+		awaitReconciled();
+		rabbitAdmin.declared.clear();
+
+		registry.onCreate(null);
+		awaitReconciled();
+
+		assertThat(rabbitAdmin.declaredQueues).isEqualTo(1);
+		assertThat(rabbitAdmin.declared).containsExactlyInAnyOrder("chat.KM1", "chat.ECONOMY:KM1.count");
+	}
+
+	/**
+	 * 와일드카드가 포함된 토픽 구독은 노드 큐를 모든 토픽에 바인딩하므로 참조 카운트하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("와일드카드 토픽 구독은 바인딩하지 않음")
+	void 와일드카드_토픽_구독은_바인딩하지_않음() throws Exception {
+		registry.handleSubscribe(subscribe("s1", "sub-0", "/topic/#"));
+		registry.handleSubscribe(subscribe("s1", "sub-1", "/topic/chat.*"));
+		registry.handleUnsubscribe(unsubscribe("s1", "sub-0"));
+		awaitReconciled();
+
+		assertThat(rabbitAdmin.declared).isEmpty();
+		assertThat(rabbitAdmin.removed).isEmpty();
+		assertThat(meterRegistry.get("websocket_hybrid_local_subscriptions").gauge().value()).isZero();
+	}
+
+	private void awaitReconciled() throws Exception {
+		reconciler.submit(() -> { }).get(5, TimeUnit.SECONDS);
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination(destination);
+		return new SessionSubscribeEvent(this, message(accessor));
+	}
+
+	private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		return new SessionUnsubscribeEvent(this, message(accessor));
+	}
+
+	private static Message<byte[]> message(StompHeaderAccessor accessor) {
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private static class FakeRabbitAdmin extends RabbitAdmin {
+		private final List<String> declared = Collections.synchronizedList(new ArrayList<>());
+		private final List<String> removed = Collections.synchronizedList(new ArrayList<>());
+		private final List<String> operations = Collections.synchronizedList(new ArrayList<>());
+		private final AtomicInteger bindFailures = new AtomicInteger();
+		private final AtomicInteger bindAttempts = new AtomicInteger();
+		private volatile int declaredQueues;
+
+		FakeRabbitAdmin(ConnectionFactory connectionFactory) {
+			super(connectionFactory);
+		}
+
+		@Override
+		public void declareBinding(Binding binding) {
+			bindAttempts.incrementAndGet();
+			if (bindFailures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+				throw new AmqpIOException(new IOException("broker unavailable"));
+			}
+			declared.add(binding.getRoutingKey());
+			operations.add("bind:" + binding.getRoutingKey());
+		}
+
+		@Override
+		public void removeBinding(Binding binding) {
+			removed.add(binding.getRoutingKey());
+			operations.add("unbind:" + binding.getRoutingKey());
+		}
+
+		@Override
+		public String declareQueue(Queue queue) {
+			declaredQueues++;
+			return queue.getName();
+		}
+
+		private List<String> operations() {
+			synchronized (operations) {
+				return List.copyOf(operations);
+			}
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.likelion.backendplus4.talkpick.backend.embedding;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EmbeddingMicroBatcher의 배치 실패 분할 재시도와 종료 중 요청 정리를 확인하는 테스트 클래스입니다.
+ * 가짜 임베딩 함수는 텍스트 "n"에 대해 벡터 [n]을 반환하고, "bad"가 포함된 배치는 통째로 실패시킵니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("임베딩 마이크로 배처 테스트")
+class EmbeddingMicroBatcherTest {
+
+	private static final int SUBMITTERS = 8;
+
+	private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 나누어 재시도할 수 있는 실패는 문제 텍스트의 호출자만 실패하고 나머지는 자신의 벡터를 받는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("분할 가능한 배치 실패는 문제 텍스트만 실패")
+	void 분할_가능한_배치_실패는_문제_텍스트만_실패() {
+		try (EmbeddingMicroBatcher batcher = createBatcher(e -> true)) {
+			List<CompletableFuture<float[]>> futures = submitAll(batcher, List.of("0", "1", "bad", "3", "4", "5", "6", "7"));
+
+			assertThat(futures.get(2)).failsWithin(Duration.ofSeconds(5));
+			for (int i : List.of(0, 1, 3, 4, 5, 6, 7)) {
+				assertThat(futures.get(i).join()).containsExactly((float) i);
+			}
+			assertThat(requests).anyMatch(request -> request.equals(List.of("bad")));
+		}
+	}
+
+	/**
+	 * 분할 대상이 아닌 실패는 다시 요청하지 않고 배치의 모든 호출자를 실패시키는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("분할 대상이 아닌 배치 실패는 다시 요청하지 않음")
+	void 분할_대상이_아닌_배치_실패는_다시_요청하지_않음() {
+		try (EmbeddingMicroBatcher batcher = createBatcher(e -> false)) {
+			List<CompletableFuture<float[]>> futures = submitAll(batcher, List.of("0", "bad", "2", "3"));
+
+			futures.forEach(future -> assertThat(future).failsWithin(Duration.ofSeconds(5)));
+			assertThat(requests).hasSize(1);
+		}
+	}
+
+	/**
+	 * 종료와 동시에 들어온 요청도 모두 완료(성공 또는 실패)되어 호출자가 무기한 기다리지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("종료와 경합한 요청도 모두 완료")
+	void 종료와_경합한_요청도_모두_완료() throws Exception {
+		ExecutorService submitters = Executors.newFixedThreadPool(SUBMITTERS);
+		try {
+			for (int round = 0; round < 20; round++) {
+				EmbeddingMicroBatcher batcher = createBatcher(e -> true);
+				List<CompletableFuture<float[]>> futures = new CopyOnWriteArrayList<>();
+				CountDownLatch started = new CountDownLatch(SUBMITTERS);
+				CountDownLatch finished = new CountDownLatch(SUBMITTERS);
+				for (int t = 0; t < SUBMITTERS; t++) {
+					submitters.execute(() -> {
+						started.countDown();
+						for (int i = 0; i < 200; i++) {
+							futures.add(batcher.submit(String.valueOf(i)));
+						}
+						finished.countDown();
+					});
+				}
+				started.await();
+				batcher.close();
+				assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+
+				for (CompletableFuture<float[]> future : futures) {
+					future.handle((vector, e) -> null).get(5, TimeUnit.SECONDS);
+				}
+			}
+		} finally {
+			submitters.shutdownNow();
+		}
+	}
+
+	private EmbeddingMicroBatcher createBatcher(Predicate<RuntimeException> splitOnFailure) {
+		return new EmbeddingMicroBatcher(this::embed, 8, Duration.ofMillis(20), 2, splitOnFailure);
+	}
+
+	private List<float[]> embed(List<String> texts) {
+		requests.add(List.copyOf(texts));
+		if (texts.stream().anyMatch(text -> text.contains("bad"))) {
+			throw new IllegalArgumentException("maximum context length exceeded");
+		}
+		List<float[]> vectors = new ArrayList<>();
+		texts.forEach(text -> vectors.add(new float[] {Float.parseFloat(text)}));
+		return vectors;
+	}
+
+	private static List<CompletableFuture<float[]>> submitAll(EmbeddingMicroBatcher batcher, List<String> texts) {
+		return IntStream.range(0, texts.size()).mapToObj(i -> batcher.submit(texts.get(i))).toList();
+	}
+}
@@ -0,0 +1,203 @@
+package com.likelion.backendplus4.talkpick.backend.embedding;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.openai.api.OpenAiApi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backendplus4.talkpick.backend.embedding.exception.EmbeddingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * OpenAIEmbeddingAdapter의 마이크로 배칭 동작을 확인하는 테스트 클래스입니다.
+ * 로컬 HTTP 서버로 임베딩 API를 흉내 내며, 입력 텍스트 "n"에 대해 벡터 [n]을 반환하고 "bad"가 포함된 요청은 400으로 거절합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("OpenAI 임베딩 어댑터 마이크로 배칭 테스트")
+class OpenAIEmbeddingAdapterTest {
+
+	private static final int CALLERS = 32;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<Integer> requestSizes = new CopyOnWriteArrayList<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private HttpServer server;
+	private ExecutorService callers;
+	private OpenAIEmbeddingAdapter adapter;
+	private volatile long responseDelayMillis;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/v1/embeddings", this::handleEmbeddings);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		callers = Executors.newFixedThreadPool(CALLERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (adapter != null) {
+			adapter.shutdown();
+		}
+		callers.shutdownNow();
+		server.stop(0);
+	}
+
+	/**
+	 * 동시에 들어온 요청이 최대 배치 크기 이하의 묶음으로 전송되고, 각 호출자가 자신의 벡터를 받는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("동시 요청은 배치로 묶여 각자의 벡터를 받음")
+	void 동시_요청은_배치로_묶여_각자의_벡터를_받음() {
+		responseDelayMillis = 20;
+		adapter = createAdapter(8, Duration.ofMillis(20), 4);
+
+		List<float[]> vectors = embedConcurrently();
+
+		for (int i = 0; i < CALLERS; i++) {
+			assertThat(vectors.get(i)).containsExactly((float) i);
+		}
+		assertThat(requestSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(CALLERS);
+		assertThat(requestSizes).hasSizeLessThan(CALLERS).allMatch(size -> size <= 8);
+	}
+
+	/**
+	 * 배치마다 응답이 늦어도 동시에 진행되는 API 호출 수가 한도를 넘지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("동시 API 호출 수는 한도를 넘지 않음")
+	void 동시_API_호출_수는_한도를_넘지_않음() {
+		responseDelayMillis = 50;
+		adapter = createAdapter(1, Duration.ZERO, 2);
+
+		List<float[]> vectors = embedConcurrently();
+
+		assertThat(vectors).hasSize(CALLERS);
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+	}
+
+	/**
+	 * 배치 안의 한 텍스트 때문에 400이 나도 배치를 나누어 다시 요청해, 그 텍스트의 호출자만 실패하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("4xx 배치 실패는 문제 텍스트의 호출자만 실패")
+	void 배치_4xx_실패는_문제_텍스트의_호출자만_실패() {
+		adapter = createAdapter(CALLERS, Duration.ofMillis(50), 1);
+
+		List<CompletableFuture<float[]>> futures = IntStream.range(0, CALLERS)
+			.mapToObj(i -> CompletableFuture.supplyAsync(
+				() -> adapter.getEmbedding(i == 7 ? "bad" : String.valueOf(i)), callers))
+			.toList();
+
+		for (int i = 0; i < CALLERS; i++) {
+			CompletableFuture<float[]> future = futures.get(i);
+			if (i == 7) {
+				assertThatThrownBy(future::join).hasCauseInstanceOf(EmbeddingException.class);
+			} else {
+				assertThat(future.join()).containsExactly((float) i);
+			}
+		}
+	}
+
+	/**
+	 * 응답이 요청 대기 시간보다 늦으면 호출 스레드가 무기한 기다리지 않고 예외로 끝나는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("응답이 대기 시간을 넘으면 예외로 종료")
+	void 응답이_대기_시간을_넘으면_예외로_종료() {
+		responseDelayMillis = 1_000;
+		adapter = createAdapter(1, Duration.ZERO, 1, Duration.ofMillis(100));
+
+		assertThatThrownBy(() -> adapter.getEmbedding("1"))
+			.isInstanceOf(EmbeddingException.class)
+			.hasCauseInstanceOf(TimeoutException.class);
+	}
+
+	private OpenAIEmbeddingAdapter createAdapter(int maxBatchSize, Duration maxWait, int maxConcurrentRequests) {
+		return createAdapter(maxBatchSize, maxWait, maxConcurrentRequests, Duration.ofSeconds(30));
+	}
+
+	private OpenAIEmbeddingAdapter createAdapter(int maxBatchSize, Duration maxWait, int maxConcurrentRequests,
+		Duration requestTimeout) {
+		OpenAiApi api = new OpenAiApi("http://localhost:" + server.getAddress().getPort(), "test-key");
+		return new OpenAIEmbeddingAdapter(api, "text-embedding-3-small", maxBatchSize, maxWait, maxConcurrentRequests,
+			requestTimeout);
+	}
+
+	private List<float[]> embedConcurrently() {
+		List<CompletableFuture<float[]>> futures = IntStream.range(0, CALLERS)
+			.mapToObj(i -> CompletableFuture.supplyAsync(() -> adapter.getEmbedding(String.valueOf(i)), callers))
+			.toList();
+		return futures.stream().map(CompletableFuture::join).toList();
+	}
+
+	private void handleEmbeddings(HttpExchange exchange) throws IOException {
+		int current = inFlight.incrementAndGet();
+		maxInFlight.accumulateAndGet(current, Math::max);
+		try {
+			JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+			List<Map<String, Object>> data = new ArrayList<>();
+			JsonNode input = request.get("input");
+			requestSizes.add(input.size());
+			for (JsonNode text : input) {
+				if (text.asText().contains("bad")) {
+					sendJson(exchange, 400, Map.of("error", Map.of("message", "maximum context length exceeded")));
+					return;
+				}
+			}
+			for (int i = 0; i < input.size(); i++) {
+				data.add(Map.of(
+					"object", "embedding",
+					"index", i,
+					"embedding", List.of(Float.parseFloat(input.get(i).asText()))));
+			}
+			Thread.sleep(responseDelayMillis);
+
+			sendJson(exchange, 200, Map.of(
+				"object", "list",
+				"data", data,
+				"model", request.get("model").asText(),
+				"usage", Map.of("prompt_tokens", input.size(), "total_tokens", input.size())));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			exchange.sendResponseHeaders(500, -1);
+		} finally {
+			inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	private void sendJson(HttpExchange exchange, int status, Object response) throws IOException {
+		byte[] body = objectMapper.writeValueAsBytes(response);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
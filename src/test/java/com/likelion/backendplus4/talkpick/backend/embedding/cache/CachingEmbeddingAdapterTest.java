@@ -0,0 +1,214 @@
+package com.likelion.backendplus4.talkpick.backend.embedding.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.likelion.backendplus4.talkpick.backend.embedding.EmbeddingPort;
+import com.likelion.backendplus4.talkpick.backend.embedding.cache.EmbeddingVectorCodec.Precision;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CachingEmbeddingAdapter의 단위 테스트 클래스입니다.
+ * 로컬 캐시 적중, Redis 적중, 둘 다 없을 때의 API 호출과 저장, 같은 텍스트 동시 요청의 단일 적재,
+ * 손상된 Redis 값의 캐시 미스 처리를 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("임베딩 캐시 어댑터 테스트")
+class CachingEmbeddingAdapterTest {
+
+	private static final float[] VECTOR = {0.25f, -0.5f, 0.75f};
+
+	private final AtomicInteger delegateCalls = new AtomicInteger();
+	private final FakeRedisTemplate redisTemplate = new FakeRedisTemplate();
+
+	/**
+	 * 두 계층 모두 없으면 API를 호출해 Redis에 저장하고, 같은 텍스트의 다음 요청은 로컬 캐시에서 응답하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("처음에는 API 호출 후 저장, 다음에는 로컬 캐시에서 응답")
+	void 처음에는_API_호출_후_저장_다음에는_로컬_캐시에서_응답() {
+		CachingEmbeddingAdapter adapter = createAdapter(countingDelegate());
+
+		float[] first = adapter.getEmbedding("반도체");
+		redisTemplate.reads.set(0);
+		float[] second = adapter.getEmbedding("반도체");
+
+		assertThat(first).containsExactly(VECTOR);
+		assertThat(second).containsExactly(VECTOR);
+		assertThat(delegateCalls).hasValue(1);
+		assertThat(redisTemplate.reads).hasValue(0);
+		assertThat(redisTemplate.store).hasSize(1);
+		assertThat(EmbeddingVectorCodec.decode(redisTemplate.store.values().iterator().next()))
+			.containsExactly(VECTOR);
+	}
+
+	/**
+	 * 로컬 캐시가 비어 있어도 Redis에 저장된 벡터가 있으면 API를 호출하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("로컬 캐시가 없으면 Redis에서 응답")
+	void 로컬_캐시가_없으면_Redis에서_응답() {
+		createAdapter(countingDelegate()).getEmbedding("반도체");
+		CachingEmbeddingAdapter otherNode = createAdapter(countingDelegate());
+
+		float[] vector = otherNode.getEmbedding("반도체");
+
+		assertThat(vector).containsExactly(VECTOR);
+		assertThat(delegateCalls).hasValue(1);
+	}
+
+	/**
+	 * Redis 장애 시에는 캐시 없이 API를 호출해 응답하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("Redis 장애 시 API로 대체")
+	void Redis_장애_시_API로_대체() {
+		redisTemplate.failing = true;
+
+		float[] vector = createAdapter(countingDelegate()).getEmbedding("반도체");
+
+		assertThat(vector).containsExactly(VECTOR);
+		assertThat(delegateCalls).hasValue(1);
+	}
+
+	/**
+	 * 같은 텍스트를 적재하는 동안 들어온 요청은 API를 다시 호출하지 않고 먼저 시작한 적재 결과를 받는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("같은 텍스트 동시 요청은 API를 한 번만 호출")
+	void 같은_텍스트_동시_요청은_API를_한_번만_호출() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CachingEmbeddingAdapter adapter = createAdapter(text -> {
+			delegateCalls.incrementAndGet();
+			entered.countDown();
+			await(release);
+			return VECTOR;
+		});
+
+		CompletableFuture<float[]> first = CompletableFuture.supplyAsync(() -> adapter.getEmbedding("반도체"));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<float[]> second = CompletableFuture.supplyAsync(() -> adapter.getEmbedding("반도체"));
+		Thread.sleep(50);
+		assertThat(second).isNotDone();
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(VECTOR);
+		assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(VECTOR);
+		assertThat(delegateCalls).hasValue(1);
+	}
+
+	/**
+	 * API 호출이 실패하면 실패를 캐시하지 않아 다음 요청이 다시 호출하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("API 실패는 캐시하지 않고 다음 요청에서 다시 호출")
+	void API_실패는_캐시하지_않고_다음_요청에서_다시_호출() {
+		CachingEmbeddingAdapter adapter = createAdapter(text -> {
+			if (delegateCalls.incrementAndGet() == 1) {
+				throw new IllegalStateException("임베딩 실패");
+			}
+			return VECTOR;
+		});
+
+		assertThatThrownBy(() -> adapter.getEmbedding("반도체")).isInstanceOf(IllegalStateException.class);
+		assertThat(adapter.getEmbedding("반도체")).containsExactly(VECTOR);
+		assertThat(delegateCalls).hasValue(2);
+	}
+
+	/**
+	 * Redis 값이 손상되어 복원할 수 없으면 그 값을 삭제하고 API로 대체해, 요청이 실패하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("손상된 Redis 값은 삭제하고 API로 대체")
+	void 손상된_Redis_값은_삭제하고_API로_대체() {
+		createAdapter(countingDelegate()).getEmbedding("반도체");
+		String key = redisTemplate.store.keySet().iterator().next();
+		redisTemplate.store.put(key, new byte[] {0x7f, 0x01, 0x02});
+
+		float[] vector = createAdapter(countingDelegate()).getEmbedding("반도체");
+
+		assertThat(vector).containsExactly(VECTOR);
+		assertThat(delegateCalls).hasValue(2);
+		assertThat(redisTemplate.deleted).containsExactly(key);
+		assertThat(EmbeddingVectorCodec.decode(redisTemplate.store.get(key))).containsExactly(VECTOR);
+	}
+
+	private EmbeddingPort countingDelegate() {
+		return text -> {
+			delegateCalls.incrementAndGet();
+			return VECTOR;
+		};
+	}
+
+	private CachingEmbeddingAdapter createAdapter(EmbeddingPort delegate) {
+		return new CachingEmbeddingAdapter(delegate, redisTemplate, new SimpleMeterRegistry(),
+			"text-embedding-3-small", "v1", Precision.FLOAT32, 100L, Duration.ofMinutes(1), Duration.ofDays(1));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 값 조회·저장만 메모리 맵으로 처리하는 가짜 RedisTemplate
+	 * failing이 true면 Redis 장애처럼 예외를 던진다.
+	 */
+	private static class FakeRedisTemplate extends RedisTemplate<String, byte[]> {
+		private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+		private final AtomicInteger reads = new AtomicInteger();
+		private final List<String> deleted = new CopyOnWriteArrayList<>();
+		private volatile boolean failing;
+
+		@Override
+		public Boolean delete(String key) {
+			deleted.add(key);
+			return store.remove(key) != null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ValueOperations<String, byte[]> opsForValue() {
+			return (ValueOperations<String, byte[]>) Proxy.newProxyInstance(
+				ValueOperations.class.getClassLoader(),
+				new Class<?>[] {ValueOperations.class},
+				(proxy, method, args) -> {
+					if (failing) {
+						throw new IllegalStateException("Redis 연결 실패");
+					}
+					return switch (method.getName()) {
+						case "get" -> {
+							reads.incrementAndGet();
+							yield store.get((String) args[0]);
+						}
+						case "set" -> {
+							store.put((String) args[0], (byte[]) args[1]);
+							yield null;
+						}
+						default -> throw new UnsupportedOperationException(method.getName());
+					};
+				});
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.likelion.backendplus4.talkpick.backend.embedding.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.embedding.cache.EmbeddingVectorCodec.Precision;
+
+/**
+ * EmbeddingVectorCodec의 바이너리 변환을 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("임베딩 벡터 바이너리 변환 테스트")
+class EmbeddingVectorCodecTest {
+
+	private static final int DIMENSION = 1536;
+
+	/**
+	 * float32 변환은 값을 손실 없이 복원하고 차원당 4바이트를 사용하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("float32 변환은 손실 없이 복원")
+	void float32_변환은_손실_없이_복원() {
+		float[] vector = randomUnitVector();
+
+		byte[] encoded = EmbeddingVectorCodec.encode(vector, Precision.FLOAT32);
+
+		assertThat(encoded).hasSize(1 + DIMENSION * 4);
+		assertThat(EmbeddingVectorCodec.decode(encoded)).containsExactly(vector);
+	}
+
+	/**
+	 * float16 변환은 크기를 절반으로 줄이고, 단위 벡터 성분 오차가 1e-3 이하인지 확인합니다.
+	 */
+	@Test
+	@DisplayName("float16 변환은 절반 크기로 근사 복원")
+	void float16_변환은_절반_크기로_근사_복원() {
+		float[] vector = randomUnitVector();
+
+		byte[] encoded = EmbeddingVectorCodec.encode(vector, Precision.FLOAT16);
+		float[] decoded = EmbeddingVectorCodec.decode(encoded);
+
+		assertThat(encoded).hasSize(1 + DIMENSION * 2);
+		assertThat(decoded).hasSize(DIMENSION);
+		for (int i = 0; i < DIMENSION; i++) {
+			assertThat(decoded[i]).isCloseTo(vector[i], within(1e-3f));
+		}
+	}
+
+	/**
+	 * 알 수 없는 정밀도 태그나 잘린 값은 예외로 거부하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("형식이 올바르지 않은 값은 거부")
+	void 형식이_올바르지_않은_값은_거부() {
+		assertThatThrownBy(() -> EmbeddingVectorCodec.decode(new byte[] {9, 0, 0, 0, 0}))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> EmbeddingVectorCodec.decode(new byte[] {1, 0, 0}))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static float[] randomUnitVector() {
+		Random random = new Random(42);
+		float[] vector = new float[DIMENSION];
+		double norm = 0;
+		for (int i = 0; i < DIMENSION; i++) {
+			vector[i] = (float) random.nextGaussian();
+			norm += vector[i] * vector[i];
+		}
+		float scale = (float) (1 / Math.sqrt(norm));
+		for (int i = 0; i < DIMENSION; i++) {
+			vector[i] *= scale;
+		}
+		return vector;
+	}
+}
@@ -0,0 +1,149 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.embedding.EmbeddingPort;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSearchRepositoryPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchMode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * HybridNewsSearcher의 단위 테스트 클래스입니다.
+ * kNN 검색이 BM25 검색 완료를 기다리지 않고 시작되며, 임베딩이나 kNN 검색이 실패하면 BM25 결과만으로 응답하는지 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("하이브리드 뉴스 검색 테스트")
+class HybridNewsSearcherTest {
+
+	private final FakeRepositoryPort repository = new FakeRepositoryPort();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	/**
+	 * BM25 응답이 오기 전에 kNN 검색이 이미 요청되고, 두 결과가 모두 도착하면 RRF로 결합되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("kNN 검색은 BM25 완료를 기다리지 않고 시작")
+	void kNN_검색은_BM25_완료를_기다리지_않고_시작() {
+		HybridNewsSearcher searcher = createSearcher(text -> new float[] {0.1f, 0.2f});
+
+		CompletableFuture<NewsSearchResultAggregate> result = searcher.search(hybridSearch());
+
+		assertThat(repository.lexical).isNotDone();
+		assertThat(repository.vectorCalls).isEqualTo(1);
+
+		repository.semantic.complete(results("KM3", "KM1"));
+		repository.lexical.complete(aggregate(results("KM1", "KM2")));
+
+		assertThat(result.join().getNewsSearchResultList())
+			.extracting(NewsSearchResult::getNewsId)
+			.containsExactly("KM1", "KM3", "KM2");
+		assertThat(result.join().getTotalHits()).isEqualTo(2L);
+	}
+
+	/**
+	 * 임베딩이 실패하면 kNN 검색을 요청하지 않고 BM25 결과 순서 그대로 응답하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("임베딩 실패 시 BM25 결과만으로 응답")
+	void 임베딩_실패_시_BM25_결과만으로_응답() {
+		HybridNewsSearcher searcher = createSearcher(text -> {
+			throw new IllegalStateException("임베딩 실패");
+		});
+
+		CompletableFuture<NewsSearchResultAggregate> result = searcher.search(hybridSearch());
+		repository.lexical.complete(aggregate(results("KM1", "KM2")));
+
+		assertThat(result.join().getNewsSearchResultList())
+			.extracting(NewsSearchResult::getNewsId)
+			.containsExactly("KM1", "KM2");
+		assertThat(repository.vectorCalls).isZero();
+	}
+
+	/**
+	 * kNN 검색이 시간 초과로 실패해도 BM25 결과 순서 그대로 응답하고, knn 사유로 강등 횟수를 기록하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("kNN 검색 실패 시 BM25 결과만으로 응답")
+	void kNN_검색_실패_시_BM25_결과만으로_응답() {
+		HybridNewsSearcher searcher = createSearcher(text -> new float[] {0.1f, 0.2f});
+
+		CompletableFuture<NewsSearchResultAggregate> result = searcher.search(hybridSearch());
+		repository.semantic.completeExceptionally(new SearchException(SearchErrorCode.ES_SEARCH_TIMEOUT));
+		repository.lexical.complete(aggregate(results("KM1", "KM2")));
+
+		assertThat(result.join().getNewsSearchResultList())
+			.extracting(NewsSearchResult::getNewsId)
+			.containsExactly("KM1", "KM2");
+		assertThat(meterRegistry.counter("news_search_hybrid_degraded", "reason", "knn").count()).isEqualTo(1.0);
+	}
+
+	private HybridNewsSearcher createSearcher(EmbeddingPort embeddingPort) {
+		return new HybridNewsSearcher(repository, embeddingPort, Runnable::run, new NewsSearchProperties(),
+			meterRegistry);
+	}
+
+	private static NewsSearch hybridSearch() {
+		return new NewsSearch("반도체", 0, 10, null, false, SearchMode.HYBRID);
+	}
+
+	private static List<NewsSearchResult> results(String... newsIds) {
+		return Arrays.stream(newsIds)
+			.map(newsId -> NewsSearchResult.builder().newsId(newsId).build())
+			.toList();
+	}
+
+	private static NewsSearchResultAggregate aggregate(List<NewsSearchResult> results) {
+		return NewsSearchResultAggregate.builder()
+			.newsSearchResultList(results)
+			.totalHits((long) results.size())
+			.build();
+	}
+
+	/**
+	 * BM25·kNN 검색에 테스트가 직접 완료시키는 future를 돌려주는 가짜 저장소
+	 */
+	private static class FakeRepositoryPort implements NewsSearchRepositoryPort {
+		private final CompletableFuture<NewsSearchResultAggregate> lexical = new CompletableFuture<>();
+		private final CompletableFuture<List<NewsSearchResult>> semantic = new CompletableFuture<>();
+		private int vectorCalls;
+
+		@Override
+		public CompletableFuture<NewsSearchResultAggregate> searchByMatch(NewsSearch newsSearch) {
+			return lexical;
+		}
+
+		@Override
+		public CompletableFuture<List<NewsSearchResult>> searchByNewsId(NewsSimilarSearch newsSimilarSearch) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<List<NewsSearchResult>> findByNewsIds(List<String> newsIds) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<List<NewsSearchResult>> searchByVector(float[] queryVector, int k,
+			NewsFilter filter) {
+			vectorCalls++;
+			return semantic;
+		}
+	}
+}
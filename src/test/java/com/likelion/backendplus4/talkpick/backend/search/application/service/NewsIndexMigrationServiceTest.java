@@ -0,0 +1,296 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.event.NewsIngestedEvent;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.in.NewsReindexUseCase;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexMigrationStatePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexableNewsSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsIndexAdminPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexMigration;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.ReindexStatus;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexOptions;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NewsIndexMigrationService의 단위 테스트 클래스입니다.
+ * 교체 시작·재개, 다중 노드 이중 쓰기 범위 선점, 교체 완료 시 따라잡기와 별칭 전환 순서를 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("검색 인덱스 교체 서비스 테스트")
+class NewsIndexMigrationServiceTest {
+
+	private final List<String> events = new ArrayList<>();
+	private final FakeSourcePort sourcePort = new FakeSourcePort();
+	private final FakeIndexAdminPort indexAdminPort = new FakeIndexAdminPort();
+	private final FakeMigrationStatePort migrationStatePort = new FakeMigrationStatePort();
+	private final FakeReindexUseCase reindexUseCase = new FakeReindexUseCase();
+	private final FakeBulkIndexPort bulkIndexPort = new FakeBulkIndexPort();
+
+	/**
+	 * 기존 버전 중 가장 큰 번호 다음 버전으로 인덱스를 만들고, 시작 시점의 최신 기사까지 처음부터 재색인하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("다음 버전 인덱스를 만들고 처음부터 재색인 시작")
+	void 다음_버전_인덱스를_만들고_처음부터_재색인_시작() {
+		indexAdminPort.versionedIndices = List.of("news_index_v1", "news_index_v3", "news_index_vtmp");
+		sourcePort.maxArticleId = 100L;
+
+		createService().start();
+
+		IndexMigration migration = migrationStatePort.migration;
+		assertThat(migration.getTargetIndex()).isEqualTo("news_index_v4");
+		assertThat(migration.getSourceIndex()).isEqualTo("news_index_v3");
+		assertThat(migration.getBackfillTargetArticleId()).isEqualTo(100L);
+		assertThat(migration.getMirroredArticleId()).isEqualTo(100L);
+		assertThat(events).containsExactly("create news_index_v4", "reindex reset=true news_index_v4");
+	}
+
+	/**
+	 * 진행 중인 교체가 있으면 새 인덱스를 만들지 않고 기존 대상 인덱스의 재색인을 체크포인트부터 이어가는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("진행 중인 교체가 있으면 체크포인트부터 재색인 재개")
+	void 진행_중인_교체가_있으면_체크포인트부터_재색인_재개() {
+		migrationStatePort.save(migration(100L, 100L));
+
+		createService().start();
+
+		assertThat(events).containsExactly("reindex reset=false news_index_v4");
+		assertThat(migrationStatePort.migration.getTargetIndex()).isEqualTo("news_index_v4");
+	}
+
+	/**
+	 * 재색인이 진행 중이면 교체를 시작하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("재색인 진행 중에는 교체 시작 거부")
+	void 재색인_진행_중에는_교체_시작_거부() {
+		reindexUseCase.running = true;
+
+		assertThatThrownBy(() -> createService().start())
+			.isInstanceOf(SearchException.class)
+			.extracting(e -> ((SearchException) e).getErrorCode())
+			.isEqualTo(SearchErrorCode.REINDEX_IN_PROGRESS);
+		assertThat(events).isEmpty();
+	}
+
+	/**
+	 * 여러 노드가 같은 수집 이벤트를 받아도 범위를 먼저 선점한 노드만 새 인덱스에 색인하고,
+	 * 다음 이벤트는 선점된 위치 다음부터 색인하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("같은 수집 이벤트는 범위를 선점한 노드만 이중 쓰기")
+	void 같은_수집_이벤트는_범위를_선점한_노드만_이중_쓰기() {
+		migrationStatePort.save(migration(100L, 100L));
+		NewsIndexMigrationService nodeA = createService();
+		NewsIndexMigrationService nodeB = createService();
+
+		nodeA.mirrorNewArticles(new NewsIngestedEvent(103L));
+		nodeB.mirrorNewArticles(new NewsIngestedEvent(103L));
+		nodeB.mirrorNewArticles(new NewsIngestedEvent(105L));
+
+		assertThat(events).containsExactly("bulk news_index_v4 [101, 102, 103]", "bulk news_index_v4 [104, 105]");
+		assertThat(migrationStatePort.migration.getMirroredArticleId()).isEqualTo(105L);
+	}
+
+	/**
+	 * 새 인덱스 재색인이 시작 시점의 최신 기사까지 끝나지 않았으면 교체를 완료하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("재색인이 끝나지 않았으면 교체 완료 거부")
+	void 재색인이_끝나지_않았으면_교체_완료_거부() {
+		migrationStatePort.save(migration(100L, 100L));
+		reindexUseCase.checkpoint = 99L;
+
+		assertThatThrownBy(() -> createService().complete())
+			.isInstanceOf(SearchException.class)
+			.extracting(e -> ((SearchException) e).getErrorCode())
+			.isEqualTo(SearchErrorCode.INDEX_MIGRATION_NOT_READY);
+		assertThat(migrationStatePort.migration).isNotNull();
+	}
+
+	/**
+	 * 교체 완료 시 재색인 이후 기사를 따라잡고, refresh를 되돌린 뒤 별칭을 옮기고,
+	 * 별칭 전환 중 수집된 기사를 한 번 더 반영한 다음 교체 상태를 지우는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("따라잡기 후 별칭 전환, 전환 중 수집분 재반영 후 완료")
+	void 따라잡기_후_별칭_전환_전환_중_수집분_재반영_후_완료() {
+		migrationStatePort.save(migration(100L, 100L));
+		reindexUseCase.checkpoint = 100L;
+		sourcePort.maxArticleId = 102L;
+		indexAdminPort.onSwitch = () -> sourcePort.maxArticleId = 104L;
+
+		createService().complete();
+
+		assertThat(events).containsExactly(
+			"bulk news_index_v4 [101, 102]",
+			"finish news_index_v4",
+			"switch news_index -> news_index_v4",
+			"bulk news_index_v4 [103, 104]");
+		assertThat(migrationStatePort.migration).isNull();
+	}
+
+	private NewsIndexMigrationService createService() {
+		return new NewsIndexMigrationService(indexAdminPort, migrationStatePort, reindexUseCase, sourcePort,
+			bulkIndexPort, new SimpleMeterRegistry(), "news_index", "news_index_v");
+	}
+
+	private static IndexMigration migration(long backfillTarget, long mirrored) {
+		return IndexMigration.builder()
+			.targetIndex("news_index_v4")
+			.sourceIndex("news_index_v3")
+			.backfillTargetArticleId(backfillTarget)
+			.mirroredArticleId(mirrored)
+			.build();
+	}
+
+	private static class FakeSourcePort implements IndexableNewsSourcePort {
+		private long maxArticleId;
+
+		@Override
+		public long findMaxArticleId() {
+			return maxArticleId;
+		}
+
+		@Override
+		public void forEachInRange(long fromId, long toId, Consumer<IndexableNews> consumer) {
+			for (long id = fromId + 1; id <= toId; id++) {
+				consumer.accept(IndexableNews.builder().articleId(id).newsId("KM" + id).build());
+			}
+		}
+	}
+
+	private class FakeIndexAdminPort implements NewsIndexAdminPort {
+		private List<String> versionedIndices = List.of("news_index_v3");
+		private final List<String> aliasedIndices = List.of("news_index_v3");
+		private Runnable onSwitch = () -> {
+		};
+
+		@Override
+		public List<String> resolveIndices(String name) {
+			return aliasedIndices;
+		}
+
+		@Override
+		public List<String> findIndicesByPrefix(String prefix) {
+			return versionedIndices;
+		}
+
+		@Override
+		public long countSearchableDocuments(String name) {
+			return 0L;
+		}
+
+		@Override
+		public void createIndex(String indexName) {
+			events.add("create " + indexName);
+		}
+
+		@Override
+		public void createIndex(String indexName, VectorIndexOptions vectorOptions) {
+			createIndex(indexName);
+		}
+
+		@Override
+		public void deleteIndex(String indexName) {
+		}
+
+		@Override
+		public void finishBulkLoad(String indexName) {
+			events.add("finish " + indexName);
+		}
+
+		@Override
+		public void switchAlias(String alias, String targetIndex) {
+			events.add("switch " + alias + " -> " + targetIndex);
+			onSwitch.run();
+		}
+	}
+
+	/**
+	 * 이중 쓰기 범위 선점을 Redis 스크립트와 같은 compare-and-set으로 처리하는 가짜 교체 상태 포트
+	 */
+	private static class FakeMigrationStatePort implements IndexMigrationStatePort {
+		private IndexMigration migration;
+
+		@Override
+		public Optional<IndexMigration> find() {
+			return Optional.ofNullable(migration);
+		}
+
+		@Override
+		public void save(IndexMigration migration) {
+			this.migration = migration;
+		}
+
+		@Override
+		public void clear() {
+			migration = null;
+		}
+
+		@Override
+		public boolean claimMirrorRange(long from, long to) {
+			if (migration == null || migration.getMirroredArticleId() != from) {
+				return false;
+			}
+			migration = migration.toBuilder().mirroredArticleId(to).build();
+			return true;
+		}
+	}
+
+	private class FakeReindexUseCase implements NewsReindexUseCase {
+		private boolean running;
+		private long checkpoint;
+
+		@Override
+		public boolean start(boolean reset) {
+			return start(reset, "news_index");
+		}
+
+		@Override
+		public boolean start(boolean reset, String indexName) {
+			events.add("reindex reset=" + reset + " " + indexName);
+			return true;
+		}
+
+		@Override
+		public ReindexStatus status() {
+			return ReindexStatus.builder().running(running).checkpoint(checkpoint).build();
+		}
+	}
+
+	private class FakeBulkIndexPort implements NewsBulkIndexPort {
+		@Override
+		public BulkIndexSession open(String indexName, BulkIndexListener listener) {
+			List<Long> ids = new ArrayList<>();
+			return new BulkIndexSession() {
+				@Override
+				public void add(IndexableNews news) {
+					ids.add(news.getArticleId());
+					listener.onIndexed(news.getArticleId());
+				}
+
+				@Override
+				public void close() {
+					events.add("bulk " + indexName + " " + ids);
+				}
+			};
+		}
+	}
+}
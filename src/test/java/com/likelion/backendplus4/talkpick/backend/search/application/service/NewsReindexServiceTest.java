@@ -0,0 +1,215 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.IndexableNewsSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsBulkIndexPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.ReindexCheckpointPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.IndexableNews;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NewsReindexService의 단위 테스트 클래스입니다.
+ * 벌크 응답이 순서 없이 도착해도 체크포인트가 확정된 위치까지만 전진하고, 재시작 시 이어서 색인하는지 확인합니다.
+ * 색인에 실패한 기사 이후로는 체크포인트가 전진하지 않고, 실행 잠금을 범위마다 연장하는지도 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("뉴스 재색인 서비스 테스트")
+class NewsReindexServiceTest {
+
+	private static final long MAX_ARTICLE_ID = 25L;
+
+	private final FakeCheckpointPort checkpointPort = new FakeCheckpointPort();
+	private final FakeBulkIndexPort bulkIndexPort = new FakeBulkIndexPort();
+
+	/**
+	 * 범위마다 역순으로 결과가 확정되어도 체크포인트는 단조 증가하며, 마지막에는 최신 기사 ID에 도달하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("순서 없는 벌크 응답에도 체크포인트는 확정 위치까지만 전진")
+	void 순서_없는_벌크_응답에도_체크포인트는_확정_위치까지만_전진() throws InterruptedException {
+		NewsReindexService service = createService();
+
+		assertThat(service.start(false)).isTrue();
+		awaitCompletion(service);
+
+		assertThat(bulkIndexPort.indexedIds).hasSize((int) MAX_ARTICLE_ID);
+		assertThat(checkpointPort.saved).isSorted().last().isEqualTo(MAX_ARTICLE_ID);
+		assertThat(service.status().getIndexed()).isEqualTo(MAX_ARTICLE_ID);
+	}
+
+	/**
+	 * 저장된 체크포인트 다음 기사부터만 색인하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("재시작 시 체크포인트 다음 기사부터 색인")
+	void 재시작_시_체크포인트_다음_기사부터_색인() throws InterruptedException {
+		checkpointPort.saveCheckpoint(20L);
+		NewsReindexService service = createService();
+
+		service.start(false);
+		awaitCompletion(service);
+
+		assertThat(bulkIndexPort.indexedIds).containsExactlyInAnyOrder(21L, 22L, 23L, 24L, 25L);
+	}
+
+	/**
+	 * 색인에 실패한 기사가 있으면 체크포인트는 첫 실패 직전에 머물고, 다음 실행에서 실패한 기사부터 다시 색인하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("색인 실패 기사 직전에서 체크포인트 고정 후 다음 실행에서 재시도")
+	void 색인_실패_기사_직전에서_체크포인트_고정_후_다음_실행에서_재시도() throws InterruptedException {
+		bulkIndexPort.failingIds.addAll(Set.of(7L, 18L));
+		NewsReindexService service = createService();
+
+		service.start(false);
+		awaitCompletion(service);
+
+		assertThat(checkpointPort.checkpoint).isEqualTo(6L);
+		assertThat(service.status().getFailed()).isEqualTo(2L);
+
+		bulkIndexPort.failingIds.clear();
+		bulkIndexPort.indexedIds.clear();
+		service.start(false);
+		awaitCompletion(service);
+
+		assertThat(bulkIndexPort.indexedIds).hasSize((int) (MAX_ARTICLE_ID - 6)).contains(7L, 18L);
+		assertThat(checkpointPort.checkpoint).isEqualTo(MAX_ARTICLE_ID);
+	}
+
+	/**
+	 * 범위마다 잠금을 연장하고, 연장에 실패하면 남은 범위를 색인하지 않고 멈추는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("범위마다 잠금을 연장하고 잠금을 잃으면 중단")
+	void 범위마다_잠금을_연장하고_잠금을_잃으면_중단() throws InterruptedException {
+		checkpointPort.renewableTimes = 2;
+		NewsReindexService service = createService();
+
+		service.start(false);
+		awaitCompletion(service);
+
+		assertThat(checkpointPort.renewals).isEqualTo(3);
+		assertThat(bulkIndexPort.indexedIds).hasSize(20).doesNotContain(21L);
+		assertThat(checkpointPort.checkpoint).isLessThanOrEqualTo(20L);
+	}
+
+	private NewsReindexService createService() {
+		NewsSearchProperties properties = new NewsSearchProperties();
+		properties.getReindex().setRangeSize(10);
+		return new NewsReindexService(new FakeSourcePort(), bulkIndexPort, checkpointPort, properties,
+			new SimpleMeterRegistry(), "news_index");
+	}
+
+	private void awaitCompletion(NewsReindexService service) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (service.status().isRunning() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(service.status().isRunning()).isFalse();
+	}
+
+	private static class FakeSourcePort implements IndexableNewsSourcePort {
+		@Override
+		public long findMaxArticleId() {
+			return MAX_ARTICLE_ID;
+		}
+
+		@Override
+		public void forEachInRange(long fromId, long toId, Consumer<IndexableNews> consumer) {
+			for (long id = fromId + 1; id <= toId; id++) {
+				consumer.accept(IndexableNews.builder().articleId(id).newsId("KM" + id).build());
+			}
+		}
+	}
+
+	/**
+	 * 문서를 3건씩 모았다가 역순으로 완료 처리하고, 세션 종료 시 남은 문서를 완료 처리하는 가짜 벌크 포트
+	 * failingIds에 든 기사는 실패로 처리한다.
+	 */
+	private static class FakeBulkIndexPort implements NewsBulkIndexPort {
+		private final List<Long> indexedIds = new ArrayList<>();
+		private final List<Long> failingIds = new ArrayList<>();
+
+		@Override
+		public BulkIndexSession open(String indexName, BulkIndexListener listener) {
+			List<Long> pending = new ArrayList<>();
+			return new BulkIndexSession() {
+				@Override
+				public void add(IndexableNews news) {
+					pending.add(news.getArticleId());
+					if (pending.size() == 3) {
+						flush();
+					}
+				}
+
+				@Override
+				public void close() {
+					flush();
+				}
+
+				private void flush() {
+					for (int i = pending.size() - 1; i >= 0; i--) {
+						long articleId = pending.get(i);
+						if (failingIds.contains(articleId)) {
+							listener.onFailed(articleId, "mapper_parsing_exception");
+						} else {
+							indexedIds.add(articleId);
+							listener.onIndexed(articleId);
+						}
+					}
+					pending.clear();
+				}
+			};
+		}
+	}
+
+	private static class FakeCheckpointPort implements ReindexCheckpointPort {
+		private final List<Long> saved = new ArrayList<>();
+		private long checkpoint;
+		private int renewableTimes = Integer.MAX_VALUE;
+		private int renewals;
+
+		@Override
+		public long findCheckpoint() {
+			return checkpoint;
+		}
+
+		@Override
+		public void saveCheckpoint(long articleId) {
+			checkpoint = articleId;
+			saved.add(articleId);
+		}
+
+		@Override
+		public void clearCheckpoint() {
+			checkpoint = 0L;
+		}
+
+		@Override
+		public boolean tryLock(Duration ttl) {
+			return true;
+		}
+
+		@Override
+		public boolean renewLock(Duration ttl) {
+			return renewals++ < renewableTimes;
+		}
+
+		@Override
+		public void unlock() {
+		}
+	}
+}
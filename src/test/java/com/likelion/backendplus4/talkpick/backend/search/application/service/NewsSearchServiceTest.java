@@ -0,0 +1,207 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSearchRepositoryPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.PopularQueryPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.SimilarNewsListPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.support.QueryCacheMetrics;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SimilarNeighbor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NewsSearchService의 단위 테스트 클래스입니다.
+ * 유사 뉴스 결과 캐시와 같은 키 동시 요청의 단일 조회를 확인하고,
+ * 호출자마다 복사본을 받아 한 요청의 취소가 공유 조회에 영향을 주지 않는지 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("뉴스 검색 서비스 테스트")
+class NewsSearchServiceTest {
+
+	private static final List<NewsSearchResult> RESULTS = List.of(
+		NewsSearchResult.builder().newsId("KM2").title("두 번째 기사").build());
+
+	private final FakeRepositoryPort repository = new FakeRepositoryPort();
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("newsSearch", "similarNews");
+	private final NewsSearchService service = createService();
+
+	/**
+	 * 조회가 끝난 결과는 캐시에 저장되어 같은 키의 다음 요청은 저장소를 다시 조회하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("조회가 끝난 유사 뉴스는 캐시에서 응답")
+	void 조회가_끝난_유사_뉴스는_캐시에서_응답() {
+		NewsSimilarSearch search = new NewsSimilarSearch("KM1", 0, 10);
+
+		CompletableFuture<List<NewsSearchResult>> first = service.searchSimilarByNewsId(search);
+		repository.pending.complete(RESULTS);
+		CompletableFuture<List<NewsSearchResult>> second = service.searchSimilarByNewsId(search);
+
+		assertThat(first.join()).isEqualTo(RESULTS);
+		assertThat(second.join()).isEqualTo(RESULTS);
+		assertThat(repository.calls).hasValue(1);
+		assertThat(cacheManager.getCache("similarNews").get(search.cacheKey())).isNotNull();
+	}
+
+	/**
+	 * 같은 키로 진행 중인 조회가 있으면 저장소를 한 번만 조회하고 결과를 함께 받는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("같은 키 동시 요청은 저장소를 한 번만 조회")
+	void 같은_키_동시_요청은_저장소를_한_번만_조회() {
+		NewsSimilarSearch search = new NewsSimilarSearch("KM1", 0, 10);
+
+		CompletableFuture<List<NewsSearchResult>> first = service.searchSimilarByNewsId(search);
+		CompletableFuture<List<NewsSearchResult>> second = service.searchSimilarByNewsId(search);
+
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+		repository.pending.complete(RESULTS);
+
+		assertThat(first.join()).isEqualTo(RESULTS);
+		assertThat(second.join()).isEqualTo(RESULTS);
+		assertThat(repository.calls).hasValue(1);
+	}
+
+	/**
+	 * 같은 키를 기다리는 요청 하나가 취소되어도 공유 조회와 다른 요청은 취소되지 않고 결과를 받는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("한 요청의 취소는 공유 조회와 다른 요청에 전파되지 않음")
+	void 한_요청의_취소는_공유_조회와_다른_요청에_전파되지_않음() {
+		NewsSimilarSearch search = new NewsSimilarSearch("KM1", 0, 10);
+
+		CompletableFuture<List<NewsSearchResult>> first = service.searchSimilarByNewsId(search);
+		CompletableFuture<List<NewsSearchResult>> second = service.searchSimilarByNewsId(search);
+		first.cancel(true);
+		repository.pending.complete(RESULTS);
+
+		assertThat(first).isCancelled();
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.join()).isEqualTo(RESULTS);
+		assertThat(cacheManager.getCache("similarNews").get(search.cacheKey())).isNotNull();
+	}
+
+	/**
+	 * 진행 중인 조회가 실패하면 결과를 캐시하지 않아 다음 요청이 다시 조회하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("실패한 조회는 캐시하지 않고 다음 요청에서 다시 조회")
+	void 실패한_조회는_캐시하지_않고_다음_요청에서_다시_조회() {
+		NewsSimilarSearch search = new NewsSimilarSearch("KM1", 0, 10);
+
+		CompletableFuture<List<NewsSearchResult>> failed = service.searchSimilarByNewsId(search);
+		repository.pending.completeExceptionally(new IllegalStateException("검색 실패"));
+		assertThat(failed).isCompletedExceptionally();
+
+		repository.pending = new CompletableFuture<>();
+		CompletableFuture<List<NewsSearchResult>> retried = service.searchSimilarByNewsId(search);
+		repository.pending.complete(RESULTS);
+
+		assertThat(retried.join()).isEqualTo(RESULTS);
+		assertThat(repository.calls).hasValue(2);
+	}
+
+	private NewsSearchService createService() {
+		FakePopularQueryPort popularQueryPort = new FakePopularQueryPort();
+		return new NewsSearchService(repository, new FakeSimilarNewsListPort(), popularQueryPort,
+			new NewsSearchProperties(), cacheManager,
+			new QueryCacheMetrics(new SimpleMeterRegistry(), popularQueryPort, 20), null);
+	}
+
+	/**
+	 * 유사 뉴스 조회 호출 수를 세고, 테스트가 직접 완료시키는 future를 돌려주는 가짜 저장소
+	 */
+	private static class FakeRepositoryPort implements NewsSearchRepositoryPort {
+		private final AtomicInteger calls = new AtomicInteger();
+		private CompletableFuture<List<NewsSearchResult>> pending = new CompletableFuture<>();
+
+		@Override
+		public CompletableFuture<NewsSearchResultAggregate> searchByMatch(NewsSearch newsSearch) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<List<NewsSearchResult>> searchByNewsId(NewsSimilarSearch newsSimilarSearch) {
+			calls.incrementAndGet();
+			return pending;
+		}
+
+		@Override
+		public CompletableFuture<List<NewsSearchResult>> findByNewsIds(List<String> newsIds) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<List<NewsSearchResult>> searchByVector(float[] queryVector, int k,
+			NewsFilter filter) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static class FakeSimilarNewsListPort implements SimilarNewsListPort {
+		@Override
+		public void replaceAll(Map<String, List<SimilarNeighbor>> neighbors, Duration ttl) {
+		}
+
+		@Override
+		public void mergeAll(Map<String, List<SimilarNeighbor>> neighbors, int maxSize, Duration ttl) {
+		}
+
+		@Override
+		public List<String> findNeighborIds(String newsId, int offset, int count) {
+			return List.of();
+		}
+
+		@Override
+		public long findCheckpoint() {
+			return 0L;
+		}
+
+		@Override
+		public void saveCheckpoint(long articleId) {
+		}
+
+		@Override
+		public boolean tryLock(Duration ttl) {
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+		}
+	}
+
+	private static class FakePopularQueryPort implements PopularQueryPort {
+		@Override
+		public void increment(String query) {
+		}
+
+		@Override
+		public Map<String, Long> findTopQueries(int limit) {
+			return Map.of();
+		}
+
+		@Override
+		public void retainTop(int count) {
+		}
+	}
+}
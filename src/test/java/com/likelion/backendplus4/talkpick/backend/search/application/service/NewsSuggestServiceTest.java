@@ -0,0 +1,76 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsSuggestSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.PopularQueryPort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSuggest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NewsSuggestService가 인덱스를 재구축할 때 최소 검색 횟수 미만 검색어를 후보에서 제외하는지 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("검색어 자동완성 서비스 테스트")
+class NewsSuggestServiceTest {
+
+	/**
+	 * 최소 검색 횟수 이상인 인기 검색어와 기사 제목만 자동완성 후보가 되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("최소 검색 횟수 미만 검색어는 자동완성 후보에서 제외")
+	void 최소_검색_횟수_미만_검색어는_자동완성_후보에서_제외() {
+		NewsSearchProperties properties = new NewsSearchProperties();
+		properties.getSuggest().setPopularQueryMinCount(3);
+		properties.getSuggest().setFallbackEnabled(false);
+		Map<String, Long> popular = new LinkedHashMap<>();
+		popular.put("경제 전망", 5L);
+		popular.put("경제 전먕", 1L);
+		popular.put("경제 성장률", 3L);
+		NewsSuggestService service = new NewsSuggestService(new FakeSuggestSourcePort(List.of("경제 뉴스 제목")),
+			new FakePopularQueryPort(popular), properties, new SimpleMeterRegistry());
+
+		service.rebuildIndex();
+
+		assertThat(service.suggest(new NewsSuggest("경제", 10)))
+			.contains("경제 전망", "경제 성장률", "경제 뉴스 제목")
+			.doesNotContain("경제 전먕");
+	}
+
+	private record FakeSuggestSourcePort(List<String> titles) implements NewsSuggestSourcePort {
+		@Override
+		public List<String> findRecentTitles(int limit) {
+			return titles;
+		}
+
+		@Override
+		public List<String> findTitlesByPrefix(String prefix, int size) {
+			return List.of();
+		}
+	}
+
+	private record FakePopularQueryPort(Map<String, Long> counts) implements PopularQueryPort {
+		@Override
+		public void increment(String query) {
+		}
+
+		@Override
+		public Map<String, Long> findTopQueries(int limit) {
+			return counts;
+		}
+
+		@Override
+		public void retainTop(int count) {
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * QueryNormalizer의 단위 테스트 클래스입니다.
+ * 표기만 다른 검색어가 같은 캐시 키로 정규화되는지 확인합니다.
+ *
+ * @since 2025-06-05
+ */
+@DisplayName("검색어 정규화 테스트")
+class QueryNormalizerTest {
+
+	/**
+	 * 전각 문자, 연속 공백, 대소문자 차이가 제거되는지 확인합니다.
+	 *
+	 * @param raw      입력 검색어
+	 * @param expected 정규화 결과
+	 */
+	@DisplayName("표기만 다른 검색어는 같은 형태로 정규화")
+	@ParameterizedTest(name = "[{0}] -> [{1}]")
+	@CsvSource(delimiter = '|', value = {
+		"'  삼성전자   주가 '|삼성전자 주가",
+		"ＡＩ 반도체|ai 반도체",
+		"'Samsung\tElectronics'|samsung electronics",
+		"경제|경제"
+	})
+	void 표기만_다른_검색어는_같은_형태로_정규화(String raw, String expected) {
+		assertThat(QueryNormalizer.normalize(raw)).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,60 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResult;
+
+/**
+ * ReciprocalRankFusion의 단위 테스트 클래스입니다.
+ * 두 검색 결과에 함께 등장한 뉴스가 한쪽에만 등장한 뉴스보다 앞서는지 확인합니다.
+ *
+ * @since 2025-06-05
+ */
+@DisplayName("RRF 결합 테스트")
+class ReciprocalRankFusionTest {
+
+	private static final int RANK_CONSTANT = 60;
+
+	/**
+	 * 양쪽 목록에 모두 있는 뉴스가 상위로 올라오고, 중복 없이 결합되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("양쪽 검색에 모두 등장한 뉴스가 상위")
+	void 양쪽_검색에_모두_등장한_뉴스가_상위() {
+		List<NewsSearchResult> lexical = results("A", "B", "C");
+		List<NewsSearchResult> semantic = results("C", "D", "B");
+
+		List<String> fused = ReciprocalRankFusion.fuse(List.of(lexical, semantic), RANK_CONSTANT).stream()
+			.map(NewsSearchResult::getNewsId)
+			.toList();
+
+		assertThat(fused).containsExactly("C", "B", "A", "D");
+	}
+
+	/**
+	 * 같은 뉴스는 먼저 전달된 목록(BM25)의 결과 객체를 유지하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("중복 뉴스는 먼저 전달된 목록의 결과를 사용")
+	void 중복_뉴스는_먼저_전달된_목록의_결과를_사용() {
+		NewsSearchResult lexicalHit = NewsSearchResult.builder().newsId("A").content("스니펫").build();
+		NewsSearchResult semanticHit = NewsSearchResult.builder().newsId("A").content("앞부분").build();
+
+		List<NewsSearchResult> fused = ReciprocalRankFusion.fuse(
+			List.of(List.of(lexicalHit), List.of(semanticHit)), RANK_CONSTANT);
+
+		assertThat(fused).containsExactly(lexicalHit);
+	}
+
+	private static List<NewsSearchResult> results(String... newsIds) {
+		return Arrays.stream(newsIds)
+			.map(id -> NewsSearchResult.builder().newsId(id).build())
+			.toList();
+	}
+}
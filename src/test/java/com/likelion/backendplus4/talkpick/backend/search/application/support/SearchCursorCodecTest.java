@@ -0,0 +1,77 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchCursor;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+
+/**
+ * SearchCursorCodec의 단위 테스트 클래스입니다.
+ * 인코딩한 커서를 디코딩하면 정렬 값과 point-in-time ID가 그대로 복원되고, 잘못된 커서는 INVALID_CURSOR로 거부되는지 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("검색 커서 인코딩 테스트")
+class SearchCursorCodecTest {
+
+	/**
+	 * (_score, publishedAt, newsId.keyword) 정렬 값과 point-in-time ID가 왕복 후 그대로 복원되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("정렬 값과 point-in-time ID가 왕복 후 그대로 복원")
+	void 정렬_값과_point_in_time_ID가_왕복_후_그대로_복원() {
+		SearchCursor cursor = new SearchCursor(List.of(12.5, 1_717_632_000_000L, "KM123"), "pit-id==");
+
+		SearchCursor decoded = SearchCursorCodec.decode(SearchCursorCodec.encode(cursor));
+
+		assertThat(decoded.getSortValues()).containsExactly(12.5, 1_717_632_000_000L, "KM123");
+		assertThat(decoded.getPointInTimeId()).isEqualTo("pit-id==");
+	}
+
+	/**
+	 * point-in-time을 쓰지 않는 커서는 point-in-time ID 없이 복원되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("point-in-time이 없는 커서는 ID 없이 복원")
+	void point_in_time이_없는_커서는_ID_없이_복원() {
+		SearchCursor decoded = SearchCursorCodec.decode(
+			SearchCursorCodec.encode(new SearchCursor(List.of(3.0, 1L, "DA1"), null)));
+
+		assertThat(decoded.getSortValues()).containsExactly(3.0, 1, "DA1");
+		assertThat(decoded.getPointInTimeId()).isNull();
+	}
+
+	/**
+	 * 커서가 없으면 인코딩·디코딩 모두 null을 반환하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("커서가 없으면 null")
+	void 커서가_없으면_null() {
+		assertThat(SearchCursorCodec.encode(null)).isNull();
+		assertThat(SearchCursorCodec.decode(null)).isNull();
+		assertThat(SearchCursorCodec.decode("  ")).isNull();
+	}
+
+	/**
+	 * Base64가 아니거나, JSON이 아니거나, 정렬 값이 비어 있는 커서는 INVALID_CURSOR로 거부되는지 확인합니다.
+	 *
+	 * @param value 잘못된 커서 문자열
+	 */
+	@DisplayName("잘못된 커서는 INVALID_CURSOR")
+	@ParameterizedTest(name = "[{0}]")
+	@ValueSource(strings = {"!!not-base64!!", "bm90LWpzb24", "eyJzIjpbXX0"})
+	void 잘못된_커서는_INVALID_CURSOR(String value) {
+		assertThatThrownBy(() -> SearchCursorCodec.decode(value))
+			.isInstanceOf(SearchException.class)
+			.extracting(e -> ((SearchException) e).getErrorCode())
+			.isEqualTo(SearchErrorCode.INVALID_CURSOR);
+	}
+}
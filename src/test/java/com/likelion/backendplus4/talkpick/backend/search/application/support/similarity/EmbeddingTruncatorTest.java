@@ -0,0 +1,40 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EmbeddingTruncator의 단위 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("임베딩 차원 절단 테스트")
+class EmbeddingTruncatorTest {
+
+	/**
+	 * 앞쪽 차원만 남기고 단위 벡터로 다시 정규화하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("앞쪽 차원만 남기고 다시 정규화")
+	void 앞쪽_차원만_남기고_다시_정규화() {
+		float[] truncated = EmbeddingTruncator.truncate(new float[] {3f, 4f, 12f, 5f}, 2);
+
+		assertThat(truncated).containsExactly(new float[] {0.6f, 0.8f}, Offset.offset(1e-6f));
+	}
+
+	/**
+	 * 원본 차원이 목표 차원 이하이면 원본을 그대로 반환하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("목표 차원 이하이면 원본 유지")
+	void 목표_차원_이하이면_원본_유지() {
+		float[] vector = {0.1f, 0.2f};
+
+		assertThat(EmbeddingTruncator.truncate(vector, 2)).isSameAs(vector);
+		assertThat(EmbeddingTruncator.truncate(vector, -1)).isSameAs(vector);
+		assertThat(EmbeddingTruncator.truncate(null, 2)).isNull();
+	}
+}
@@ -0,0 +1,114 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.similarity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 내적 커널과 TopKNeighborSearcher의 단위 테스트 클래스입니다.
+ * SIMD 커널이 스칼라 커널과 같은 결과를 내는지, 이웃 계산이 정확한지 확인합니다.
+ *
+ * @since 2025-06-03
+ */
+@DisplayName("유사 뉴스 top-K 이웃 계산 테스트")
+class TopKNeighborSearcherTest {
+
+	private static final int DIMENSION = 37;
+
+	private ForkJoinPool pool;
+
+	@BeforeEach
+	void setUp() {
+		pool = new ForkJoinPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * 벡터 길이가 SIMD 레인 수의 배수가 아니어도 두 커널의 결과가 일치하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("Vector API 커널과 스칼라 커널 결과 일치")
+	void Vector_커널과_스칼라_커널_결과_일치() {
+		SplittableRandom random = new SplittableRandom(7);
+		float[] a = randomVector(random, DIMENSION + 3);
+		float[] b = randomVector(random, DIMENSION + 3);
+
+		float scalar = new ScalarDotProductKernel().dot(a, 3, b, 3, DIMENSION);
+		float vector = DotProductKernels.preferred().dot(a, 3, b, 3, DIMENSION);
+
+		assertThat(vector).isCloseTo(scalar, within(1e-4f));
+	}
+
+	/**
+	 * 자기 자신을 제외한 가장 가까운 이웃이 유사도 내림차순으로 반환되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("자기 자신을 제외한 top-K 이웃 반환")
+	void 자기_자신을_제외한_topK_이웃_반환() {
+		VectorSlab slab = new VectorSlab(2, 1);
+		slab.add(new float[] {1f, 0f});
+		slab.add(new float[] {0.9f, 0.1f});
+		slab.add(new float[] {0f, 1f});
+		slab.add(new float[] {0.7f, 0.7f});
+		TopKNeighborSearcher searcher = new TopKNeighborSearcher(new ScalarDotProductKernel(), pool);
+
+		TopKNeighborSearcher.Neighbors[] result = searcher.search(slab, new int[] {0}, 2);
+
+		assertThat(result[0].rows()).containsExactly(1, 3);
+		assertThat(result[0].scores()[0]).isGreaterThan(result[0].scores()[1]);
+	}
+
+	/**
+	 * 병렬 계산 결과가 단순 전수 비교 결과와 같은지 확인합니다.
+	 */
+	@Test
+	@DisplayName("병렬 계산 결과와 전수 비교 결과 일치")
+	void 병렬_계산_결과와_전수_비교_결과_일치() {
+		SplittableRandom random = new SplittableRandom(11);
+		VectorSlab slab = new VectorSlab(DIMENSION, 4);
+		int rows = 200;
+		for (int i = 0; i < rows; i++) {
+			slab.add(randomVector(random, DIMENSION));
+		}
+		int[] queries = new int[rows];
+		for (int i = 0; i < rows; i++) {
+			queries[i] = i;
+		}
+		TopKNeighborSearcher searcher = new TopKNeighborSearcher(DotProductKernels.preferred(), pool);
+
+		TopKNeighborSearcher.Neighbors[] result = searcher.search(slab, queries, 5);
+
+		DotProductKernel kernel = new ScalarDotProductKernel();
+		for (int query = 0; query < rows; query++) {
+			int best = -1;
+			float bestScore = Float.NEGATIVE_INFINITY;
+			for (int row = 0; row < rows; row++) {
+				float score = kernel.dot(slab.data(), slab.offset(query), slab.data(), slab.offset(row), DIMENSION);
+				if (row != query && score > bestScore) {
+					best = row;
+					bestScore = score;
+				}
+			}
+			assertThat(result[query].rows()).hasSize(5);
+			assertThat(result[query].rows()[0]).isEqualTo(best);
+		}
+	}
+
+	private float[] randomVector(SplittableRandom random, int dimension) {
+		float[] vector = new float[dimension];
+		for (int i = 0; i < dimension; i++) {
+			vector[i] = (float) random.nextDouble(-1, 1);
+		}
+		return vector;
+	}
+}
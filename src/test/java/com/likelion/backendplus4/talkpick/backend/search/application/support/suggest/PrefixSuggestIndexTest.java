@@ -0,0 +1,90 @@
+package com.likelion.backendplus4.talkpick.backend.search.application.support.suggest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PrefixSuggestIndex의 단위 테스트 클래스입니다.
+ * 자모 단위 접두사 일치, 가중치 순 정렬, 로컬 조회 지연 시간을 확인합니다.
+ *
+ * @since 2025-06-05
+ */
+@DisplayName("자동완성 접두사 인덱스 테스트")
+class PrefixSuggestIndexTest {
+
+	/**
+	 * 음절이 완성되지 않은 접두사("뉴ㅅ", "경제저")도 후보와 일치하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("입력 중인 음절도 자모 단위로 일치")
+	void 입력_중인_음절도_자모_단위로_일치() {
+		PrefixSuggestIndex index = PrefixSuggestIndex.build(Map.of(
+			"뉴스", 0L,
+			"경제정책", 0L,
+			"닭고기 가격", 0L,
+			"정치", 0L
+		));
+
+		assertThat(index.suggest("뉴ㅅ", 10)).containsExactly("뉴스");
+		assertThat(index.suggest("경제저", 10)).containsExactly("경제정책");
+		assertThat(index.suggest("달", 10)).containsExactly("닭고기 가격");
+		assertThat(index.suggest("ㅈ", 10)).containsExactly("정치");
+		assertThat(index.suggest("야구", 10)).isEmpty();
+	}
+
+	/**
+	 * 인기 검색어는 검색 횟수 내림차순, 같으면 짧은 후보 순으로 반환되고 size를 넘지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("가중치 내림차순으로 상위 N건 반환")
+	void 가중치_내림차순으로_상위_N건_반환() {
+		PrefixSuggestIndex index = PrefixSuggestIndex.build(Map.of(
+			"삼성전자", 30L,
+			"삼성전자 주가", 50L,
+			"삼성 라이온즈", 10L,
+			"삼성", 0L,
+			"삼겹살", 100L
+		));
+
+		assertThat(index.suggest("삼성", 3)).containsExactly("삼성전자 주가", "삼성전자", "삼성 라이온즈");
+		assertThat(index.suggest("SAMSUNG", 3)).isEmpty();
+	}
+
+	/**
+	 * 제목 10,000건, 인기 검색어 1,000건 규모에서 짧은 접두사 조회의 p99가 5ms 이내인지 확인합니다.
+	 * 운영 중 요청은 JIT 컴파일 이후에 처리되므로 측정 전에 충분히 예열합니다.
+	 */
+	@Test
+	@DisplayName("로컬 조회 p99 5ms 이내")
+	void 로컬_조회_p99_5ms_이내() {
+		Map<String, Long> candidates = new HashMap<>();
+		String[] heads = {"경제", "정치", "사회", "국제", "문화", "스포츠", "연예", "과학", "날씨", "부동산"};
+		for (int i = 0; i < 11_000; i++) {
+			candidates.put(heads[i % heads.length] + " 속보 " + i + "번째 기사", i < 1_000 ? (long) i : 0L);
+		}
+		PrefixSuggestIndex index = PrefixSuggestIndex.build(candidates);
+		String[] prefixes = {"ㄱ", "경", "경제", "정치 ㅅ", "스포", "부동산 속보 1"};
+
+		for (int i = 0; i < 20_000; i++) {
+			index.suggest(prefixes[i % prefixes.length], 10);
+		}
+
+		int iterations = 2_000;
+		long[] nanos = new long[iterations];
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			index.suggest(prefixes[i % prefixes.length], 10);
+			nanos[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+		long p99 = nanos[(int) (iterations * 0.99) - 1];
+
+		assertThat(p99).as("p99=%dns", p99).isLessThan(5_000_000L);
+	}
+}
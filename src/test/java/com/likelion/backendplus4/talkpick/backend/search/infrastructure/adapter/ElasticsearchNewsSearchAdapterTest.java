@@ -0,0 +1,226 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.AggregationsContainer;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ReactiveSearchHits;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearchResultAggregate;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchCursor;
+import com.likelion.backendplus4.talkpick.backend.search.exception.SearchException;
+import com.likelion.backendplus4.talkpick.backend.search.exception.error.SearchErrorCode;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.mapper.NewsSearchDocumentMapper;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.query.NewsSearchQueryFactory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ElasticsearchNewsSearchAdapter의 단위 테스트 클래스입니다.
+ * 커서 검색에서 다음 커서를 만들고, 마지막 페이지에서 point-in-time을 닫는지 확인합니다.
+ * 요청 제한 시간이 지나면 ES_SEARCH_TIMEOUT으로 실패하고 진행 중인 요청을 취소하는지도 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("Elasticsearch 뉴스 검색 어댑터 테스트")
+class ElasticsearchNewsSearchAdapterTest {
+
+	private static final String PIT_ID = "pit-1";
+
+	private final FakeOperations operations = new FakeOperations();
+	private final NewsSearchProperties properties = new NewsSearchProperties();
+
+	/**
+	 * point-in-time을 요청한 첫 페이지가 가득 차면 point-in-time ID를 담은 다음 커서를 만들고 닫지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("가득 찬 페이지는 point-in-time을 유지한 다음 커서 반환")
+	void 가득_찬_페이지는_point_in_time을_유지한_다음_커서_반환() {
+		operations.results.add(new FakeSearchHits(List.of(hit("KM1"), hit("KM2")), PIT_ID));
+
+		NewsSearchResultAggregate result = createAdapter()
+			.searchByMatch(new NewsSearch("경제", 0, 2, null, true))
+			.join();
+
+		assertThat(operations.openedCount).isEqualTo(1);
+		assertThat(result.getNextCursor().getPointInTimeId()).isEqualTo(PIT_ID);
+		assertThat(result.getNextCursor().getSortValues()).containsExactly(1.0, 1L, "KM2");
+		assertThat(operations.closedIds).isEmpty();
+	}
+
+	/**
+	 * 커서로 이어서 조회한 페이지가 요청 크기보다 작으면 다음 커서 없이 point-in-time을 닫는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("마지막 페이지에서 point-in-time을 닫음")
+	void 마지막_페이지에서_point_in_time을_닫음() {
+		operations.results.add(new FakeSearchHits(List.of(hit("KM3")), PIT_ID));
+		SearchCursor cursor = new SearchCursor(List.of(1.0, 1L, "KM2"), PIT_ID);
+
+		NewsSearchResultAggregate result = createAdapter()
+			.searchByMatch(new NewsSearch("경제", 0, 2, cursor, false))
+			.join();
+
+		assertThat(result.getNextCursor()).isNull();
+		assertThat(result.getNewsSearchResultList()).hasSize(1);
+		assertThat(operations.openedCount).isZero();
+		assertThat(operations.closedIds).containsExactly(PIT_ID);
+	}
+
+	/**
+	 * point-in-time 없이 조회한 마지막 페이지는 닫을 point-in-time이 없으므로 닫기 요청을 보내지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("point-in-time 없는 마지막 페이지는 닫기 요청 없음")
+	void point_in_time_없는_마지막_페이지는_닫기_요청_없음() {
+		operations.results.add(new FakeSearchHits(List.of(hit("KM1")), null));
+
+		NewsSearchResultAggregate result = createAdapter()
+			.searchByMatch(new NewsSearch("경제", 0, 2))
+			.join();
+
+		assertThat(result.getNextCursor()).isNull();
+		assertThat(operations.closedIds).isEmpty();
+	}
+
+	/**
+	 * Elasticsearch가 제한 시간 안에 응답하지 않으면 ES_SEARCH_TIMEOUT으로 실패하고 요청 구독을 취소하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("요청 제한 시간 초과 시 ES_SEARCH_TIMEOUT으로 실패하고 요청 취소")
+	void 요청_제한_시간_초과_시_ES_SEARCH_TIMEOUT으로_실패하고_요청_취소() {
+		properties.getAsync().setRequestTimeout(Duration.ofMillis(50));
+		operations.respond = false;
+
+		assertThatThrownBy(() -> createAdapter().searchByMatch(new NewsSearch("경제", 0, 2)).join())
+			.isInstanceOf(CompletionException.class)
+			.cause()
+			.isInstanceOf(SearchException.class)
+			.extracting(e -> ((SearchException) e).getErrorCode())
+			.isEqualTo(SearchErrorCode.ES_SEARCH_TIMEOUT);
+		assertThat(operations.cancelled).isTrue();
+	}
+
+	private ElasticsearchNewsSearchAdapter createAdapter() {
+		return new ElasticsearchNewsSearchAdapter(operations.proxy(), new NewsSearchDocumentMapper(),
+			new NewsSearchQueryFactory(properties), properties, null, "news_index");
+	}
+
+	private static SearchHit<NewsSearchDocument> hit(String newsId) {
+		NewsSearchDocument doc = new NewsSearchDocument();
+		doc.setNewsId(newsId);
+		doc.setTitle(newsId + " 제목");
+		return new SearchHit<>("news_index_v1", newsId, null, 1.0f, new Object[] {1.0, 1L, newsId},
+			Map.of(), Map.of(), null, null, List.of(), doc);
+	}
+
+	/**
+	 * 검색·point-in-time 요청만 처리하는 가짜 리액티브 템플릿
+	 * 검색 요청에는 미리 넣어 둔 결과를 순서대로 돌려주고, point-in-time 열기·닫기 요청을 기록한다.
+	 * respond가 false면 검색 요청에 응답하지 않고, 구독이 취소되었는지 기록한다.
+	 */
+	private static class FakeOperations {
+		private final Deque<Object> results = new ArrayDeque<>();
+		private final List<String> closedIds = new ArrayList<>();
+		private int openedCount;
+		private boolean respond = true;
+		private volatile boolean cancelled;
+
+		private ReactiveElasticsearchOperations proxy() {
+			return (ReactiveElasticsearchOperations) Proxy.newProxyInstance(
+				ReactiveElasticsearchOperations.class.getClassLoader(),
+				new Class<?>[] {ReactiveElasticsearchOperations.class},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "searchForHits" -> respond
+						? Mono.just(results.removeFirst())
+						: Mono.never().doOnCancel(() -> cancelled = true);
+					case "openPointInTime" -> {
+						openedCount++;
+						yield Mono.just(PIT_ID);
+					}
+					case "closePointInTime" -> {
+						closedIds.add((String) args[0]);
+						yield Mono.just(true);
+					}
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+		}
+	}
+
+	private record FakeSearchHits(List<SearchHit<NewsSearchDocument>> hits, String pointInTimeId)
+		implements ReactiveSearchHits<NewsSearchDocument> {
+
+		@Override
+		public AggregationsContainer<?> getAggregations() {
+			return null;
+		}
+
+		@Override
+		public float getMaxScore() {
+			return 1.0f;
+		}
+
+		@Override
+		public Duration getExecutionDuration() {
+			return Duration.ZERO;
+		}
+
+		@Override
+		public Flux<SearchHit<NewsSearchDocument>> getSearchHits() {
+			return Flux.fromIterable(hits);
+		}
+
+		@Override
+		public long getTotalHits() {
+			return hits.size();
+		}
+
+		@Override
+		public TotalHitsRelation getTotalHitsRelation() {
+			return TotalHitsRelation.EQUAL_TO;
+		}
+
+		@Override
+		public boolean hasAggregations() {
+			return false;
+		}
+
+		@Override
+		public boolean hasSearchHits() {
+			return !hits.isEmpty();
+		}
+
+		@Override
+		public Suggest getSuggest() {
+			return null;
+		}
+
+		@Override
+		public boolean hasSuggest() {
+			return false;
+		}
+
+		@Override
+		public String getPointInTimeId() {
+			return pointInTimeId;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties.SimilarSearchMode;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.query.NewsSearchQueryFactory;
+
+/**
+ * 유사 뉴스 검색의 kNN(HNSW) 방식과 script_score 전수 비교 방식의 recall@k 및 지연 시간을 비교하는 테스트 클래스입니다.
+ * 실제 Elasticsearch 인덱스가 필요하므로 ELS_URI 환경 변수가 설정된 경우에만 실행됩니다.
+ *
+ * @since 2025-06-02
+ */
+@DisplayName("유사 뉴스 kNN / script_score recall 비교 테스트")
+@EnabledIfEnvironmentVariable(named = "ELS_URI", matches = ".+")
+class SimilarSearchRecallComparisonTest {
+
+	private static final String INDEX_NAME = System.getenv().getOrDefault("NEWS_INDEX_NAME", "news_index");
+	private static final int SAMPLE_SIZE = 50;
+	private static final int K = 10;
+	private static final double MIN_RECALL = 0.9;
+
+	private ElasticsearchOperations ops;
+	private NewsSearchQueryFactory queryFactory;
+
+	/**
+	 * 각 테스트 실행 전 ELS_URI로 Elasticsearch 클라이언트와 쿼리 팩토리를 초기화합니다.
+	 */
+	@BeforeEach
+	void setUp() {
+		URI uri = URI.create(System.getenv("ELS_URI"));
+		ClientConfiguration configuration = ClientConfiguration.builder()
+			.connectedTo(uri.getHost() + ":" + (uri.getPort() == -1 ? 9200 : uri.getPort()))
+			.build();
+		ops = new ElasticsearchTemplate(ElasticsearchClients.createImperative(configuration));
+		queryFactory = new NewsSearchQueryFactory(new NewsSearchProperties());
+	}
+
+	/**
+	 * 표본 기사마다 script_score 결과를 정답으로 두고 kNN 결과의 recall@k를 계산합니다.
+	 * 평균 recall이 기준치 이상이고, kNN 평균 지연 시간이 script_score보다 길지 않은지 확인합니다.
+	 */
+	@Test
+	@DisplayName("kNN recall@k 및 지연 시간 비교")
+	void kNN_recall_및_지연시간_비교() {
+		List<NewsSearchDocument> samples = fetchSamples();
+		assertThat(samples).isNotEmpty();
+
+		double recallSum = 0;
+		long scriptNanos = 0;
+		long knnNanos = 0;
+
+		for (NewsSearchDocument origin : samples) {
+			NewsSimilarSearch search = new NewsSimilarSearch(origin.getNewsId(), 0, K);
+
+			long start = System.nanoTime();
+			List<String> exact = searchIds(queryFactory.buildSimilarQuery(origin, search, SimilarSearchMode.SCRIPT));
+			scriptNanos += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			List<String> approximate = searchIds(queryFactory.buildSimilarQuery(origin, search, SimilarSearchMode.KNN));
+			knnNanos += System.nanoTime() - start;
+
+			recallSum += recall(exact, approximate);
+		}
+
+		double recall = recallSum / samples.size();
+		double scriptMillis = scriptNanos / 1_000_000.0 / samples.size();
+		double knnMillis = knnNanos / 1_000_000.0 / samples.size();
+		String report = String.format("recall@%d=%.3f, script=%.2fms, knn=%.2fms", K, recall, scriptMillis, knnMillis);
+
+		assertThat(recall).as(report).isGreaterThanOrEqualTo(MIN_RECALL);
+		assertThat(knnMillis).as(report).isLessThanOrEqualTo(scriptMillis);
+	}
+
+	private List<NewsSearchDocument> fetchSamples() {
+		NativeQuery query = NativeQuery.builder()
+			.withQuery(q -> q.exists(e -> e.field("summaryVector")))
+			.withPageable(PageRequest.of(0, SAMPLE_SIZE))
+			.build();
+		return ops.search(query, NewsSearchDocument.class, IndexCoordinates.of(INDEX_NAME))
+			.get()
+			.map(SearchHit::getContent)
+			.toList();
+	}
+
+	private List<String> searchIds(NativeQuery query) {
+		return ops.search(query, NewsSearchDocument.class, IndexCoordinates.of(INDEX_NAME))
+			.get()
+			.map(SearchHit::getId)
+			.toList();
+	}
+
+	private double recall(List<String> exact, List<String> approximate) {
+		if (exact.isEmpty()) {
+			return 1.0;
+		}
+		Set<String> found = new HashSet<>(approximate);
+		long hit = exact.stream().filter(found::contains).count();
+		return (double) hit / exact.size();
+	}
+}
@@ -0,0 +1,140 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties;
+import com.likelion.backendplus4.talkpick.backend.common.configuration.elasticsearch.properties.NewsSearchProperties.SimilarSearchMode;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsFilter;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsSimilarSearch;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.SearchMode;
+import com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.document.NewsSearchDocument;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+
+/**
+ * NewsSearchQueryFactory의 단위 테스트 클래스입니다.
+ * 검색 결과 경로에서 요약 벡터가 전송되지 않도록 소스 필터가 적용되는지 확인합니다.
+ *
+ * @since 2025-06-04
+ */
+@DisplayName("뉴스 검색 쿼리 팩토리 테스트")
+class NewsSearchQueryFactoryTest {
+
+	private static final String VECTOR_FIELD = "summaryVector";
+
+	private NewsSearchQueryFactory queryFactory;
+
+	@BeforeEach
+	void setUp() {
+		queryFactory = new NewsSearchQueryFactory(new NewsSearchProperties());
+	}
+
+	/**
+	 * 텍스트 검색, 유사 뉴스(kNN / script_score), ID 목록 조회 쿼리가 요약 벡터를 받지 않는지 확인합니다.
+	 *
+	 * @param name  검색 경로 이름
+	 * @param query 검사할 쿼리
+	 */
+	@DisplayName("결과 조회 쿼리는 요약 벡터를 전송받지 않음")
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("resultQueries")
+	void 결과_조회_쿼리는_요약_벡터를_전송받지_않음(String name, NativeQuery query) {
+		SourceFilter sourceFilter = query.getSourceFilter();
+
+		assertThat(sourceFilter).isNotNull();
+		assertThat(sourceFilter.getIncludes()).isNotEmpty().doesNotContain(VECTOR_FIELD, "content");
+		assertThat(sourceFilter.getExcludes()).contains(VECTOR_FIELD);
+		assertThat(query.getHighlightQuery()).isPresent();
+	}
+
+	/**
+	 * 유사 뉴스 기준 문서 조회는 벡터를 받되 본문은 받지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("기준 문서 조회는 벡터만 포함하고 본문은 제외")
+	void 기준_문서_조회는_벡터만_포함하고_본문은_제외() {
+		NativeQuery query = queryFactory.buildOriginQuery("KM1");
+
+		assertThat(query.getSourceFilter().getIncludes()).contains(VECTOR_FIELD).doesNotContain("content");
+	}
+
+	/**
+	 * 필터 조건이 점수 계산에 참여하지 않도록 bool.filter에 들어가고, 검색어 조건은 여전히 하나 이상 일치해야 하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("검색 필터는 bool filter 문맥에 적용")
+	void 검색_필터는_bool_filter_문맥에_적용() {
+		NewsFilter filter = new NewsFilter("economy", "km", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 6));
+		NewsSearch search = new NewsSearch("경제", 0, 10, null, false, SearchMode.TEXT, filter);
+
+		BoolQuery bool = queryFactory.buildMatchQuery(search, null).getQuery().bool();
+
+		assertThat(bool.filter()).hasSize(3);
+		assertThat(bool.filter().get(0).term().field()).isEqualTo("category.keyword");
+		assertThat(bool.filter().get(1).prefix().value()).isEqualTo("KM");
+		assertThat(bool.filter().get(2).isRange()).isTrue();
+		assertThat(bool.minimumShouldMatch()).isEqualTo("1");
+	}
+
+	/**
+	 * 언론사 필터는 동적 매핑 인덱스에서 text로 매핑된 newsId 대신 keyword 하위 필드에 접두사 조건을 거는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("언론사 필터는 newsId.keyword 접두사 조건으로 적용")
+	void 언론사_필터는_newsId_keyword_접두사_조건으로_적용() {
+		NewsFilter filter = new NewsFilter(null, "km", null, null);
+		NewsSearch search = new NewsSearch("경제", 0, 10, null, false, SearchMode.TEXT, filter);
+
+		BoolQuery bool = queryFactory.buildMatchQuery(search, null).getQuery().bool();
+		NativeQuery vectorQuery = queryFactory.buildVectorQuery(new float[] {0.1f, 0.2f}, 10, filter);
+
+		assertThat(bool.filter()).singleElement()
+			.satisfies(clause -> assertThat(clause.prefix().field()).isEqualTo("newsId.keyword"));
+		assertThat(vectorQuery.getKnnSearches().getFirst().filter()).singleElement()
+			.satisfies(clause -> assertThat(clause.prefix().field()).isEqualTo("newsId.keyword"));
+	}
+
+	/**
+	 * 벡터 검색에서는 같은 필터가 kNN 사전 필터로 적용되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("벡터 검색 필터는 kNN 사전 필터로 적용")
+	void 벡터_검색_필터는_kNN_사전_필터로_적용() {
+		NewsFilter filter = new NewsFilter("economy", null, null, null);
+
+		NativeQuery query = queryFactory.buildVectorQuery(new float[] {0.1f, 0.2f}, 10, filter);
+
+		assertThat(query.getKnnSearches()).singleElement()
+			.satisfies(knn -> assertThat(knn.filter()).hasSize(1));
+	}
+
+	static Stream<Arguments> resultQueries() {
+		NewsSearchQueryFactory factory = new NewsSearchQueryFactory(new NewsSearchProperties());
+		NewsSearchDocument origin = new NewsSearchDocument();
+		origin.setNewsId("KM1");
+		origin.setCategory("politics");
+		origin.setSummaryVector(new float[] {0.1f, 0.2f, 0.3f});
+		NewsSimilarSearch similarSearch = new NewsSimilarSearch("KM1", 0, 10);
+
+		return Stream.of(
+			Arguments.of("text", factory.buildMatchQuery(new NewsSearch("경제", 0, 10), null)),
+			Arguments.of("similar-knn", factory.buildSimilarQuery(origin, similarSearch, SimilarSearchMode.KNN)),
+			Arguments.of("similar-script", factory.buildSimilarQuery(origin, similarSearch, SimilarSearchMode.SCRIPT)),
+			Arguments.of("precomputed-ids", factory.buildIdsQuery(List.of("KM2", "DA3")))
+		);
+	}
+}
@@ -0,0 +1,86 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.adapter.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+/**
+ * RedisPopularQueryAdapter가 검색 횟수를 로컬에 모았다가 주기마다 반영하고, Redis 장애를 검색 경로로 전파하지 않는지 확인하는 테스트 클래스입니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("인기 검색어 Redis 어댑터 테스트")
+class RedisPopularQueryAdapterTest {
+
+	private final FakeRedisTemplate redisTemplate = new FakeRedisTemplate();
+	private final RedisPopularQueryAdapter adapter = new RedisPopularQueryAdapter(redisTemplate);
+
+	/**
+	 * 증가 호출은 Redis를 호출하지 않고, 반영 시 검색어마다 모인 횟수로 한 번씩만 ZINCRBY하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("검색 횟수는 모아서 검색어마다 한 번 반영")
+	void 검색_횟수는_모아서_검색어마다_한_번_반영() {
+		adapter.increment("경제");
+		adapter.increment("경제");
+		adapter.increment("정치");
+
+		assertThat(redisTemplate.calls).isZero();
+
+		adapter.flush();
+		adapter.flush();
+
+		assertThat(redisTemplate.scores).containsExactlyInAnyOrderEntriesOf(Map.of("경제", 2.0, "정치", 1.0));
+		assertThat(redisTemplate.calls).isEqualTo(2);
+	}
+
+	/**
+	 * Redis 장애 시 증가 호출은 예외 없이 끝나고, 반영도 예외를 던지지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("Redis 장애는 증가와 반영 모두 예외 없이 처리")
+	void Redis_장애는_증가와_반영_모두_예외_없이_처리() {
+		redisTemplate.failing = true;
+
+		assertThatCode(() -> {
+			adapter.increment("경제");
+			adapter.flush();
+		}).doesNotThrowAnyException();
+		assertThat(redisTemplate.scores).isEmpty();
+	}
+
+	/**
+	 * 점수 증가만 메모리 맵으로 처리하는 가짜 RedisTemplate
+	 * failing이 true면 Redis 장애처럼 예외를 던진다.
+	 */
+	private static class FakeRedisTemplate extends RedisTemplate<String, String> {
+		private final Map<String, Double> scores = new HashMap<>();
+		private int calls;
+		private boolean failing;
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ZSetOperations<String, String> opsForZSet() {
+			return (ZSetOperations<String, String>) Proxy.newProxyInstance(
+				ZSetOperations.class.getClassLoader(),
+				new Class<?>[] {ZSetOperations.class},
+				(proxy, method, args) -> {
+					if (!"incrementScore".equals(method.getName())) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					calls++;
+					if (failing) {
+						throw new IllegalStateException("Redis 연결 실패");
+					}
+					return scores.merge((String) args[1], ((Number) args[2]).doubleValue(), Double::sum);
+				});
+		}
+	}
+}
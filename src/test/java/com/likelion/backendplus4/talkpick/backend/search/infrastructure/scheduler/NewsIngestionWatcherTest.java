@@ -0,0 +1,121 @@
+package com.likelion.backendplus4.talkpick.backend.search.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.likelion.backendplus4.talkpick.backend.search.application.event.NewsIndexedEvent;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsIndexAdminPort;
+import com.likelion.backendplus4.talkpick.backend.search.application.port.out.NewsVectorSourcePort;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.NewsVector;
+import com.likelion.backendplus4.talkpick.backend.search.domain.model.VectorIndexOptions;
+
+/**
+ * NewsIngestionWatcher의 단위 테스트 클래스입니다.
+ * 검색 캐시 무효화 이벤트가 MySQL 적재가 아니라 검색 인덱스 반영을 기준으로 발행되는지 확인합니다.
+ *
+ * @since 2025-06-06
+ */
+@DisplayName("뉴스 수집·색인 감지 스케줄러 테스트")
+class NewsIngestionWatcherTest {
+
+	private final FakeIndexAdminPort indexAdminPort = new FakeIndexAdminPort();
+	private final List<Object> publishedEvents = new ArrayList<>();
+	private final NewsIngestionWatcher watcher = new NewsIngestionWatcher(
+		new FakeVectorSourcePort(), indexAdminPort, publishedEvents::add, "news_index");
+
+	/**
+	 * 첫 확인은 기준값만 기록하고, 검색 가능한 문서 수가 그대로면 이벤트를 발행하지 않는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("검색 가능한 문서가 그대로면 색인 이벤트를 발행하지 않음")
+	void 검색_가능한_문서가_그대로면_색인_이벤트를_발행하지_않음() {
+		watcher.detectIndexChanges();
+		watcher.detectIndexChanges();
+
+		assertThat(publishedEvents).isEmpty();
+	}
+
+	/**
+	 * 새 문서가 refresh되어 검색 가능한 문서 수가 바뀌면 색인 이벤트를 발행하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("검색 가능한 문서 수가 바뀌면 색인 이벤트 발행")
+	void 검색_가능한_문서_수가_바뀌면_색인_이벤트_발행() {
+		watcher.detectIndexChanges();
+		indexAdminPort.documentCount = 11L;
+		watcher.detectIndexChanges();
+
+		assertThat(publishedEvents).containsExactly(new NewsIndexedEvent(List.of("news_index_v1"), 11L));
+	}
+
+	/**
+	 * 문서 수가 같아도 읽기 별칭이 새 인덱스로 옮겨지면 색인 이벤트를 발행하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("읽기 별칭이 새 인덱스로 옮겨지면 색인 이벤트 발행")
+	void 읽기_별칭이_새_인덱스로_옮겨지면_색인_이벤트_발행() {
+		watcher.detectIndexChanges();
+		indexAdminPort.indices = List.of("news_index_v2");
+		watcher.detectIndexChanges();
+
+		assertThat(publishedEvents).containsExactly(new NewsIndexedEvent(List.of("news_index_v2"), 10L));
+	}
+
+	private static class FakeVectorSourcePort implements NewsVectorSourcePort {
+		@Override
+		public List<NewsVector> findVectorsAfter(long lastArticleId, LocalDateTime since, int limit) {
+			return List.of();
+		}
+
+		@Override
+		public long findLatestArticleId() {
+			return 0L;
+		}
+	}
+
+	private static class FakeIndexAdminPort implements NewsIndexAdminPort {
+		private List<String> indices = List.of("news_index_v1");
+		private long documentCount = 10L;
+
+		@Override
+		public List<String> resolveIndices(String name) {
+			return indices;
+		}
+
+		@Override
+		public List<String> findIndicesByPrefix(String prefix) {
+			return indices;
+		}
+
+		@Override
+		public long countSearchableDocuments(String name) {
+			return documentCount;
+		}
+
+		@Override
+		public void createIndex(String indexName) {
+		}
+
+		@Override
+		public void createIndex(String indexName, VectorIndexOptions vectorOptions) {
+		}
+
+		@Override
+		public void deleteIndex(String indexName) {
+		}
+
+		@Override
+		public void finishBulkLoad(String indexName) {
+		}
+
+		@Override
+		public void switchAlias(String alias, String targetIndex) {
+		}
+	}
+}